@@ -0,0 +1,53 @@
+package com.example.intelligent_inventory_prediction_system.benchmark;
+
+import com.example.intelligent_inventory_prediction_system.config.HibernateQueryPlanConfig;
+import com.example.intelligent_inventory_prediction_system.mapper.response.InventoryResponseMapper;
+import com.example.intelligent_inventory_prediction_system.model.Product;
+import com.example.intelligent_inventory_prediction_system.repository.ProductRepository;
+import com.example.intelligent_inventory_prediction_system.service.executor.CompiledQueryCache;
+import com.example.intelligent_inventory_prediction_system.service.executor.InventoryQueryExecutor;
+import com.example.intelligent_inventory_prediction_system.service.executor.ProductQueryExecutor;
+import com.example.intelligent_inventory_prediction_system.service.executor.QueryOperationMetrics;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Minimal persistence context for round-trip benchmarks: repositories, mappers and query executors over an
+ * in-memory H2 database, without the web layer or the {@code .env} bootstrap of the real application.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EntityScan(basePackageClasses = Product.class)
+@EnableJpaRepositories(basePackageClasses = ProductRepository.class)
+@ComponentScan(basePackageClasses = InventoryResponseMapper.class)
+@Import({
+        HibernateQueryPlanConfig.class,
+        CompiledQueryCache.class,
+        ProductQueryExecutor.class,
+        InventoryQueryExecutor.class,
+        QueryOperationMetrics.class,
+        ShardedInventoryStore.class
+})
+public class BenchmarkApplication {
+
+    public static ConfigurableApplicationContext start(String databaseName) {
+        return new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.open-in-view=false",
+                        "logging.level.root=WARN"
+                )
+                .run();
+    }
+}
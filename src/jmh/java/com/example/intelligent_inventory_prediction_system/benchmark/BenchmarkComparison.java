@@ -0,0 +1,87 @@
+package com.example.intelligent_inventory_prediction_system.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files and exits with status 1 when any benchmark regressed by more than the
+ * threshold (percent, default 10). Throughput modes regress when the score drops, time modes when it grows.
+ *
+ * <pre>mvn -Pbenchmark exec:java@compare -Djmh.baseline=benchmarks/baseline.json -Djmh.threshold=10</pre>
+ */
+public final class BenchmarkComparison {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <current.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+
+        Map<String, Result> baseline = read(Path.of(args[0]));
+        Map<String, Result> current = read(Path.of(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-70s %14s %14s %9s%n", "benchmark", "baseline", "current", "change");
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result before = baseline.get(entry.getKey());
+            Result after = entry.getValue();
+            if (before == null) {
+                System.out.printf("%-70s %14s %14.3f %9s%n", entry.getKey(), "-", after.score(), "new");
+                continue;
+            }
+            double change = (after.score() - before.score()) / before.score() * 100.0;
+            boolean regressed = after.higherIsBetter() ? change < -threshold : change > threshold;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-70s %14.3f %14.3f %+8.1f%%%s%n", entry.getKey(), before.score(), after.score(),
+                    change, regressed ? "  REGRESSION" : "");
+        }
+
+        System.out.printf("%d regression(s) above %.1f%%%n", regressions, threshold);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Result> read(Path file) throws IOException {
+        JsonNode root = new ObjectMapper().readTree(file.toFile());
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : root) {
+            String key = shortName(run.path("benchmark").asText()) + paramsOf(run.path("params"));
+            JsonNode metric = run.path("primaryMetric");
+            results.put(key, new Result(metric.path("score").asDouble(), "thrpt".equals(run.path("mode").asText())));
+        }
+        return results;
+    }
+
+    private static String shortName(String benchmark) {
+        int methodDot = benchmark.lastIndexOf('.');
+        int classDot = benchmark.lastIndexOf('.', methodDot - 1);
+        return benchmark.substring(classDot + 1);
+    }
+
+    private static String paramsOf(JsonNode params) {
+        if (params.isMissingNode() || params.isEmpty()) {
+            return "";
+        }
+        Map<String, String> sorted = new TreeMap<>();
+        params.fields().forEachRemaining(field -> sorted.put(field.getKey(), field.getValue().asText()));
+        return sorted.toString();
+    }
+
+    private record Result(double score, boolean higherIsBetter) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.intelligent_inventory_prediction_system.benchmark;
+
+import com.example.intelligent_inventory_prediction_system.dto.response.InventoryResponseDTO;
+import com.example.intelligent_inventory_prediction_system.dto.response.ProductResponseDTO;
+import com.example.intelligent_inventory_prediction_system.dto.search.InventorySearchCriteria;
+import com.example.intelligent_inventory_prediction_system.dto.search.ProductSearchCriteria;
+import com.example.intelligent_inventory_prediction_system.repository.specification.InventorySpecs;
+import com.example.intelligent_inventory_prediction_system.repository.specification.ProductSpecs;
+import com.example.intelligent_inventory_prediction_system.service.executor.InventoryQueryExecutor;
+import com.example.intelligent_inventory_prediction_system.service.executor.ProductQueryExecutor;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ExecutorRoundTripBenchmark {
+
+    private static final int CATEGORY_COUNT = 50;
+    private static final int BATCH_SIZE = 5_000;
+
+    @Param({"100000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private ProductQueryExecutor productQueryExecutor;
+    private InventoryQueryExecutor inventoryQueryExecutor;
+    private ProductSearchCriteria productCriteria;
+    private InventorySearchCriteria inventoryCriteria;
+    private PageRequest pageRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("roundtrip" + rows);
+        productQueryExecutor = context.getBean(ProductQueryExecutor.class);
+        inventoryQueryExecutor = context.getBean(InventoryQueryExecutor.class);
+        seed(context.getBean(JdbcTemplate.class));
+
+        productCriteria = ProductSearchCriteria.builder()
+                .category("Category-7")
+                .minPrice(100.0)
+                .maxPrice(200.0)
+                .build();
+        inventoryCriteria = InventorySearchCriteria.builder()
+                .minStock(10)
+                .maxStock(12)
+                .build();
+        pageRequest = PageRequest.of(rows / 40, 20);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ProductResponseDTO> productSearch() {
+        return productQueryExecutor.executeSpecificationQuery(ProductSpecs.matchesCriteria(productCriteria), "benchmark");
+    }
+
+    @Benchmark
+    public List<InventoryResponseDTO> inventoryStockRange() {
+        return inventoryQueryExecutor.executeSpecificationQuery(InventorySpecs.matchesCriteria(inventoryCriteria), "benchmark");
+    }
+
+    @Benchmark
+    public Page<ProductResponseDTO> productPage() {
+        return productQueryExecutor.executePagedQuery(pageRequest, "benchmark");
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        SplittableRandom random = new SplittableRandom(42);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> products = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> inventories = new ArrayList<>(BATCH_SIZE);
+
+        for (int i = 1; i <= rows; i++) {
+            products.add(new Object[]{
+                    "Product-" + i,
+                    "Category-" + random.nextInt(CATEGORY_COUNT),
+                    "Description of product " + i,
+                    Math.round(random.nextDouble(1.0, 2_000.0) * 100) / 100.0,
+                    random.nextInt(10) == 0 ? 1 : 0
+            });
+            inventories.add(new Object[]{(long) i, random.nextInt(500), now});
+
+            if (products.size() == BATCH_SIZE || i == rows) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO product (name, category, description, price, status) VALUES (?, ?, ?, ?, ?)",
+                        products);
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO inventory (product_id, current_stock, last_updated) VALUES (?, ?, ?)",
+                        inventories);
+                products.clear();
+                inventories.clear();
+            }
+        }
+    }
+}
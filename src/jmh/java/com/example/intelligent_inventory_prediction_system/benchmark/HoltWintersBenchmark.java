@@ -0,0 +1,102 @@
+package com.example.intelligent_inventory_prediction_system.benchmark;
+
+import com.example.intelligent_inventory_prediction_system.service.forecast.ForecastExecutor;
+import com.example.intelligent_inventory_prediction_system.service.forecast.HoltWintersFitter;
+import com.example.intelligent_inventory_prediction_system.service.forecast.HoltWintersModel;
+import com.example.intelligent_inventory_prediction_system.service.forecast.SeasonalityDetector;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holt-Winters fitting on two years of daily demand per series, with weekly and yearly seasons, trend and noise.
+ * {@code fitAll} fits {@code seriesCount} series on all cores in one shot and must finish within the timeout;
+ * {@code fitOne} and {@code detectPeriod} are the single-threaded cost per series. To keep the heap small the batch
+ * cycles through 10k distinct series.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Timeout(time = 10, timeUnit = TimeUnit.MINUTES)
+public class HoltWintersBenchmark {
+
+    private static final int DISTINCT_SERIES = 10_000;
+
+    @Param({"100000"})
+    private int seriesCount;
+
+    @Param({"730"})
+    private int points;
+
+    private ForecastExecutor forecastExecutor;
+    private HoltWintersFitter fitter;
+    private List<double[]> batch;
+    private double[] single;
+
+    @Setup
+    public void setUp() {
+        forecastExecutor = new ForecastExecutor(0);
+        fitter = new HoltWintersFitter(forecastExecutor, 365, 0.3, 150);
+        Random random = new Random(42);
+        List<double[]> distinct = new ArrayList<>(DISTINCT_SERIES);
+        for (int i = 0; i < DISTINCT_SERIES; i++) {
+            distinct.add(series(random));
+        }
+        batch = new ArrayList<>(seriesCount);
+        for (int i = 0; i < seriesCount; i++) {
+            batch.add(distinct.get(i % DISTINCT_SERIES));
+        }
+        single = distinct.get(0);
+        System.out.printf("%nFitting %d series of %d points on %d cores%n", seriesCount, points,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() {
+        forecastExecutor.shutdown();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public List<HoltWintersModel> fitAll() {
+        return fitter.fitAll(batch);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public HoltWintersModel fitOne() {
+        return fitter.fit(single);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public void detectPeriod(Blackhole blackhole) {
+        blackhole.consume(SeasonalityDetector.detectPeriod(single, 365, 0.3));
+    }
+
+    private double[] series(Random random) {
+        double level = 20 + random.nextDouble() * 200;
+        double slope = (random.nextDouble() - 0.3) * 0.1;
+        double weekly = random.nextDouble() * 0.4;
+        double yearly = random.nextDouble() * 0.5;
+        double noise = 0.05 + random.nextDouble() * 0.2;
+        double[] series = new double[points];
+        for (int t = 0; t < points; t++) {
+            double seasonFactor = 1 + weekly * Math.sin(2 * Math.PI * t / 7) + yearly * Math.sin(2 * Math.PI * t / 365);
+            series[t] = Math.max(0, (level + slope * t) * seasonFactor * (1 + noise * random.nextGaussian()));
+        }
+        return series;
+    }
+}
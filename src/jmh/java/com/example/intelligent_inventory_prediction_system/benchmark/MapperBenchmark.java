@@ -0,0 +1,70 @@
+package com.example.intelligent_inventory_prediction_system.benchmark;
+
+import com.example.intelligent_inventory_prediction_system.dto.response.InventoryResponseDTO;
+import com.example.intelligent_inventory_prediction_system.dto.response.ProductResponseDTO;
+import com.example.intelligent_inventory_prediction_system.mapper.response.InventoryResponseMapper;
+import com.example.intelligent_inventory_prediction_system.mapper.response.ProductResponseMapper;
+import com.example.intelligent_inventory_prediction_system.model.Inventory;
+import com.example.intelligent_inventory_prediction_system.model.Product;
+import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private ProductResponseMapper productResponseMapper;
+    private InventoryResponseMapper inventoryResponseMapper;
+    private List<Product> products;
+    private List<Inventory> inventories;
+
+    @Setup
+    public void setUp() {
+        productResponseMapper = Mappers.getMapper(ProductResponseMapper.class);
+        inventoryResponseMapper = Mappers.getMapper(InventoryResponseMapper.class);
+        products = new ArrayList<>(size);
+        inventories = new ArrayList<>(size);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < size; i++) {
+            Product product = new Product();
+            product.setId((long) i + 1);
+            product.setName("Product " + i);
+            product.setCategory("Category " + (i % 50));
+            product.setDescription("Description for product " + i);
+            product.setPrice(10.0 + i % 1000);
+            product.setStatus(i % 5 == 0 ? ProductStatus.NOT_AVAILABLE : ProductStatus.AVAILABLE);
+            products.add(product);
+
+            Inventory inventory = new Inventory();
+            inventory.setId((long) i + 1);
+            inventory.setProduct(product);
+            inventory.setCurrentStock(i % 500);
+            inventory.setLastUpdated(now);
+            inventories.add(inventory);
+        }
+    }
+
+    @Benchmark
+    public List<ProductResponseDTO> productResponseDTOList() {
+        return productResponseMapper.toProductResponseDTOList(products);
+    }
+
+    @Benchmark
+    public List<InventoryResponseDTO> inventoryResponseDTOList() {
+        return inventoryResponseMapper.toInventoryResponseDTOList(inventories);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.intelligent_inventory_prediction_system.benchmark;
+
+import com.example.intelligent_inventory_prediction_system.dto.search.ProductSearchCriteria;
+import com.example.intelligent_inventory_prediction_system.model.Product;
+import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
+import com.example.intelligent_inventory_prediction_system.repository.specification.ProductSpecs;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpecificationAssemblyBenchmark {
+
+    private ProductSearchCriteria criteria;
+
+    @Setup
+    public void setUp() {
+        criteria = ProductSearchCriteria.builder()
+                .keyword("laptop")
+                .category("Electronics")
+                .status(ProductStatus.AVAILABLE)
+                .minPrice(100.0)
+                .maxPrice(2000.0)
+                .build();
+    }
+
+    @Benchmark
+    public Specification<Product> compiledShape() {
+        return ProductSpecs.matchesCriteria(criteria);
+    }
+
+    @Benchmark
+    public Specification<Product> streamReducedSpecifications() {
+        List<Specification<Product>> specifications = new ArrayList<>();
+        specifications.add(ProductSpecs.searchByKeyword(criteria.getKeyword()));
+        specifications.add(ProductSpecs.hasCategory(criteria.getCategory()));
+        specifications.add(ProductSpecs.hasStatus(criteria.getStatus().name()));
+        specifications.add(ProductSpecs.hasPriceBetween(criteria.getMinPrice(), criteria.getMaxPrice()));
+        return specifications.stream().reduce(Specification.allOf(), Specification::and);
+    }
+}
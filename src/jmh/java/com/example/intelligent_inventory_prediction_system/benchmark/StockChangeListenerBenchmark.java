@@ -0,0 +1,117 @@
+package com.example.intelligent_inventory_prediction_system.benchmark;
+
+import com.example.intelligent_inventory_prediction_system.service.alert.LowStockAlertEngine;
+import com.example.intelligent_inventory_prediction_system.service.stock.StockChange;
+import com.example.intelligent_inventory_prediction_system.service.stock.StockTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-update cost of the in-process stock consumers on a populated catalogue. Stock moves are small deltas
+ * around a threshold of 20, so a share of updates cross it and enqueue an alert. {@code alertEngineShortfallMove}
+ * only updates inventories that stay below the threshold, so every call moves an entry in the shortfall index, and
+ * {@code stockTableBulkLoad} times loading the whole catalogue into an empty table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StockChangeListenerBenchmark {
+
+    private static final int THRESHOLD = 20;
+    private static final int UPDATES = 1 << 16;
+
+    @Param({"100000", "1000000"})
+    public int skus;
+
+    private StockTable stockTable;
+    private LowStockAlertEngine alertEngine;
+    private StockChange[] updates;
+    private StockChange[] shortfallUpdates;
+    private long[] catalogueIds;
+    private int[] catalogueStock;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        stockTable = new StockTable(skus);
+        alertEngine = new LowStockAlertEngine(null, null, List.of(), new SimpleMeterRegistry(), 1_000, 10_000);
+        int[] stock = new int[skus + 1];
+        for (int id = 1; id <= skus; id++) {
+            stock[id] = random.nextInt(200);
+            stockTable.put(id, stock[id]);
+            alertEngine.onStockChanged(new StockChange(id, stock[id], THRESHOLD));
+        }
+        catalogueIds = new long[skus];
+        catalogueStock = new int[skus];
+        for (int id = 1; id <= skus; id++) {
+            catalogueIds[id - 1] = id;
+            catalogueStock[id - 1] = stock[id];
+        }
+        long[] belowThreshold = alertEngine.findBelowThresholdIds();
+        shortfallUpdates = new StockChange[UPDATES];
+        for (int i = 0; i < UPDATES; i++) {
+            long id = belowThreshold[random.nextInt(belowThreshold.length)];
+            shortfallUpdates[i] = new StockChange(id, random.nextInt(THRESHOLD), THRESHOLD);
+        }
+        updates = new StockChange[UPDATES];
+        for (int i = 0; i < UPDATES; i++) {
+            int id = 1 + random.nextInt(skus);
+            stock[id] = Math.max(0, stock[id] + random.nextInt(-10, 11));
+            updates[i] = new StockChange(id, stock[id], THRESHOLD);
+        }
+        alertEngine.flush();
+    }
+
+    @TearDown(Level.Iteration)
+    public void drainAlerts() {
+        alertEngine.flush();
+    }
+
+    @Benchmark
+    public void stockTablePut() {
+        StockChange change = next();
+        stockTable.put(change.inventoryId(), change.currentStock());
+    }
+
+    @Benchmark
+    public void alertEngineUpdate() {
+        alertEngine.onStockChanged(next());
+    }
+
+    @Benchmark
+    public void alertEngineShortfallMove() {
+        alertEngine.onStockChanged(shortfallUpdates[advance()]);
+    }
+
+    @Benchmark
+    public int stockTableGet() {
+        return stockTable.get(next().inventoryId());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public StockTable stockTableBulkLoad() {
+        StockTable table = new StockTable();
+        table.putAllIfAbsent(catalogueIds, catalogueStock, skus);
+        return table;
+    }
+
+    private StockChange next() {
+        return updates[advance()];
+    }
+
+    private int advance() {
+        int current = cursor;
+        cursor = (cursor + 1) & (UPDATES - 1);
+        return current;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.intelligent_inventory_prediction_system.benchmark;
+
+import com.example.intelligent_inventory_prediction_system.dto.request.ProductRequestDTO;
+import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
+import com.example.intelligent_inventory_prediction_system.validator.ProductValidator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    private ProductValidator productValidator;
+    private ProductRequestDTO request;
+
+    @Setup
+    public void setUp() {
+        productValidator = new ProductValidator();
+        request = new ProductRequestDTO();
+        request.setName("Gaming Laptop");
+        request.setDescription("A".repeat(500));
+        request.setCategory("Electronics");
+        request.setPrice(1499.99);
+        request.setStatus(ProductStatus.AVAILABLE);
+    }
+
+    @Benchmark
+    public void validateCreateRequest(Blackhole blackhole) {
+        productValidator.validateCreateRequest(request);
+        blackhole.consume(request);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.intelligent_inventory_prediction_system.benchmark;
+
+import com.example.intelligent_inventory_prediction_system.config.ProtobufResponseHttpMessageConverter;
+import com.example.intelligent_inventory_prediction_system.dto.response.InventoryResponseDTO;
+import com.example.intelligent_inventory_prediction_system.dto.response.ProductResponseDTO;
+import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialization cost of a product and inventory list response per wire format, with and without gzip. The encoded
+ * sizes, i.e. bytes on the wire, are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    private static final Type PRODUCT_LIST = new ParameterizedTypeReference<List<ProductResponseDTO>>() {
+    }.getType();
+    private static final Type INVENTORY_LIST = new ParameterizedTypeReference<List<InventoryResponseDTO>>() {
+    }.getType();
+    private static final MediaType PROTOBUF = MediaType.parseMediaType("application/x-protobuf");
+
+    @Param({"json", "smile", "cbor", "protobuf"})
+    private String format;
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private ObjectMapper mapper;
+    private ProtobufResponseHttpMessageConverter protobufConverter;
+    private List<ProductResponseDTO> products;
+    private List<InventoryResponseDTO> inventories;
+
+    @Setup
+    public void setUp() {
+        mapper = switch (format) {
+            case "smile" -> new SmileMapper();
+            case "cbor" -> new CBORMapper();
+            default -> new ObjectMapper();
+        };
+        mapper.registerModule(new JavaTimeModule());
+        protobufConverter = new ProtobufResponseHttpMessageConverter();
+
+        products = new ArrayList<>(size);
+        inventories = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < size; i++) {
+            ProductResponseDTO product = new ProductResponseDTO();
+            product.setId((long) i + 1);
+            product.setName("Product " + i);
+            product.setCategory("Category " + (i % 50));
+            product.setDescription("Description for product " + i);
+            product.setPrice(10.0 + i % 1000);
+            product.setStatus(i % 5 == 0 ? ProductStatus.NOT_AVAILABLE : ProductStatus.AVAILABLE);
+            products.add(product);
+
+            InventoryResponseDTO inventory = new InventoryResponseDTO();
+            inventory.setId((long) i + 1);
+            inventory.setProductId((long) i + 1);
+            inventory.setCurrentStock(i % 500);
+            inventory.setReorderThreshold(20);
+            inventory.setLastUpdated(now.minusMinutes(i));
+            inventories.add(inventory);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void reportSizes() {
+        byte[] productBytes = encode(products, PRODUCT_LIST);
+        byte[] inventoryBytes = encode(inventories, INVENTORY_LIST);
+        System.out.printf("%n[wire] %s, %d items: products %d B (gzip %d B), inventories %d B (gzip %d B)%n",
+                format, size, productBytes.length, gzip(productBytes).length,
+                inventoryBytes.length, gzip(inventoryBytes).length);
+    }
+
+    @Benchmark
+    public byte[] products() {
+        return encode(products, PRODUCT_LIST);
+    }
+
+    @Benchmark
+    public byte[] inventories() {
+        return encode(inventories, INVENTORY_LIST);
+    }
+
+    @Benchmark
+    public byte[] productsGzip() {
+        return gzip(encode(products, PRODUCT_LIST));
+    }
+
+    private byte[] encode(Object body, Type type) {
+        try {
+            if ("protobuf".equals(format)) {
+                MockHttpOutputMessage message = new MockHttpOutputMessage();
+                protobufConverter.write(body, type, PROTOBUF, message);
+                return message.getBodyAsBytes();
+            }
+            return mapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
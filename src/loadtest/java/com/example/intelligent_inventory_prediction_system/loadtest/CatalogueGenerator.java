@@ -0,0 +1,136 @@
+package com.example.intelligent_inventory_prediction_system.loadtest;
+
+import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+import static com.example.intelligent_inventory_prediction_system.constants.InventoryConstant.MAX_STOCK;
+
+/**
+ * Deterministic synthetic catalogue: the same seed and size always produce the same rows, so product ids
+ * 1..N line up between the seeding run and any later run against the same database.
+ * <p>
+ * Categories follow a Zipf distribution, prices are log-normal around a per-category median and stock
+ * levels are log-normal with a fixed share of out-of-stock SKUs.
+ */
+public class CatalogueGenerator {
+
+    private static final String[] CATEGORIES = {
+            "Grocery", "Household", "Electronics", "Apparel", "Beauty", "Toys", "Sports", "Books", "Garden",
+            "Automotive", "Pet Supplies", "Office", "Kitchen", "Health", "Baby", "Footwear", "Jewelry",
+            "Furniture", "Tools", "Music", "Video Games", "Outdoor", "Stationery", "Crafts", "Lighting",
+            "Bedding", "Bath", "Luggage", "Watches", "Cameras", "Phones", "Computers", "Audio", "Storage",
+            "Cleaning", "Snacks", "Beverages", "Frozen", "Dairy", "Bakery"
+    };
+    private static final double[] MEDIAN_PRICES = {
+            4, 9, 249, 35, 18, 25, 45, 15, 30, 40, 20, 12, 28, 14, 22, 65, 120, 320, 55, 19, 59, 75, 6, 16,
+            38, 60, 140, 180, 450, 699, 899, 120, 70, 11, 3, 5, 7, 4, 3, 4
+    };
+    private static final String[] WORDS = {
+            "premium", "durable", "compact", "lightweight", "classic", "eco", "wireless", "family", "pack",
+            "organic", "stainless", "portable", "deluxe", "everyday", "ultra", "smart", "soft", "heavy-duty"
+    };
+    private static final double ZIPF_EXPONENT = 1.1;
+    private static final double PRICE_SIGMA = 0.6;
+    private static final double STOCK_MEDIAN = 120;
+    private static final double STOCK_SIGMA = 1.2;
+    private static final double OUT_OF_STOCK_SHARE = 0.06;
+    private static final double NOT_AVAILABLE_SHARE = 0.08;
+    // product.description is a default varchar(255) column
+    private static final int MAX_DESCRIPTION_LENGTH = 240;
+
+    public record Row(long productId, String name, String category, String description, double price,
+                      ProductStatus status, int stock) {
+    }
+
+    private final long seed;
+    private final double[] categoryCdf;
+
+    public CatalogueGenerator(long seed) {
+        this.seed = seed;
+        this.categoryCdf = zipfCdf(CATEGORIES.length);
+    }
+
+    public void generate(int count, Consumer<Row> sink) {
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 1; i <= count; i++) {
+            sink.accept(next(i, random));
+        }
+    }
+
+    public String categoryName(int rank) {
+        return CATEGORIES[rank % CATEGORIES.length];
+    }
+
+    public int categoryCount() {
+        return CATEGORIES.length;
+    }
+
+    private Row next(long id, SplittableRandom random) {
+        int category = sampleCategory(random);
+        double median = MEDIAN_PRICES[category];
+        double price = Math.max(0.5, Math.round(median * Math.exp(PRICE_SIGMA * gaussian(random)) * 100) / 100.0);
+        ProductStatus status = random.nextDouble() < NOT_AVAILABLE_SHARE
+                ? ProductStatus.NOT_AVAILABLE
+                : ProductStatus.AVAILABLE;
+        int stock = random.nextDouble() < OUT_OF_STOCK_SHARE
+                ? 0
+                : (int) Math.min(MAX_STOCK, Math.round(STOCK_MEDIAN * Math.exp(STOCK_SIGMA * gaussian(random))));
+
+        String adjective = WORDS[random.nextInt(WORDS.length)];
+        String name = capitalize(adjective) + " " + CATEGORIES[category] + " " + id;
+        return new Row(id, name, CATEGORIES[category], description(random, name), price, status, stock);
+    }
+
+    private int sampleCategory(SplittableRandom random) {
+        double u = random.nextDouble();
+        int low = 0;
+        int high = categoryCdf.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (categoryCdf[mid] < u) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String description(SplittableRandom random, String name) {
+        int words = 5 + random.nextInt(30);
+        StringBuilder description = new StringBuilder(name.length() + words * 10).append(name).append(':');
+        for (int i = 0; i < words; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            if (description.length() + word.length() + 1 > MAX_DESCRIPTION_LENGTH) {
+                break;
+            }
+            description.append(' ').append(word);
+        }
+        return description.toString();
+    }
+
+    private static double[] zipfCdf(int size) {
+        double[] cdf = new double[size];
+        double total = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            total += 1.0 / Math.pow(rank, ZIPF_EXPONENT);
+            cdf[rank - 1] = total;
+        }
+        for (int i = 0; i < size; i++) {
+            cdf[i] /= total;
+        }
+        return cdf;
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
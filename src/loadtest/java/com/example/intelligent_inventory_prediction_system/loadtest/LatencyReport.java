@@ -0,0 +1,96 @@
+package com.example.intelligent_inventory_prediction_system.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms in microseconds plus error counts. Histograms are written in the
+ * standard {@code .hgrm} percentile format so runs can be plotted and compared with HdrHistogram tooling.
+ */
+public class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final String TOTAL = "total";
+
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long latencyNanos, boolean success) {
+        long micros = Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        histogram(endpoint).recordValue(micros);
+        histogram(TOTAL).recordValue(micros);
+        if (!success) {
+            errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+            errors.computeIfAbsent(TOTAL, key -> new LongAdder()).increment();
+        }
+    }
+
+    public long totalCount() {
+        return histogram(TOTAL).getTotalCount();
+    }
+
+    public long errorCount() {
+        LongAdder total = errors.get(TOTAL);
+        return total == null ? 0 : total.sum();
+    }
+
+    public void print(PrintStream out, long elapsedNanos) {
+        double seconds = Math.max(1e-9, elapsedNanos / 1e9);
+        out.printf("%-30s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<String, Histogram> entry : sorted().entrySet()) {
+            Histogram histogram = entry.getValue();
+            LongAdder endpointErrors = errors.get(entry.getKey());
+            out.printf("%-30s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(),
+                    histogram.getTotalCount(),
+                    endpointErrors == null ? 0 : endpointErrors.sum(),
+                    histogram.getTotalCount() / seconds,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+    }
+
+    public void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<String, Histogram> entry : sorted().entrySet()) {
+            Path file = directory.resolve(entry.getKey() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private Map<String, Histogram> sorted() {
+        Map<String, Histogram> byName = new TreeMap<>(histograms);
+        Histogram total = byName.remove(TOTAL);
+        Map<String, Histogram> sorted = new LinkedHashMap<>(byName);
+        if (total != null) {
+            sorted.put(TOTAL, total);
+        }
+        return sorted;
+    }
+
+    private Histogram histogram(String endpoint) {
+        return histograms.computeIfAbsent(endpoint, key -> new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.intelligent_inventory_prediction_system.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a {@link RequestMix} with either workload model:
+ * <ul>
+ *     <li>closed - a fixed number of users, each sending the next request only after the previous response
+ *     and an optional think time; throughput adapts to the server.</li>
+ *     <li>open - requests arrive on a fixed schedule regardless of how the server is doing. Latency is measured
+ *     from the intended send time, so a stalled server shows up in the percentiles instead of silently
+ *     lowering the request rate (coordinated omission).</li>
+ * </ul>
+ * Samples taken during the warm-up period are discarded.
+ */
+public class LoadDriver {
+
+    private static final int MAX_IN_FLIGHT = 4_096;
+
+    private final HttpClient client;
+    private final RequestMix mix;
+    private final long seed;
+
+    public LoadDriver(RequestMix mix, long seed) {
+        this.mix = mix;
+        this.seed = seed;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors())))
+                .build();
+    }
+
+    public LatencyReport runClosed(int users, Duration thinkTime, Duration warmup, Duration duration) throws InterruptedException {
+        LatencyReport report = new LatencyReport();
+        long recordFrom = System.nanoTime() + warmup.toNanos();
+        long deadline = recordFrom + duration.toNanos();
+
+        List<Thread> threads = new ArrayList<>(users);
+        for (int user = 0; user < users; user++) {
+            SplittableRandom random = new SplittableRandom(seed + user);
+            Thread thread = new Thread(() -> {
+                while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                    RequestMix.Endpoint endpoint = mix.next(random);
+                    HttpRequest request = mix.request(endpoint, random);
+                    long start = System.nanoTime();
+                    boolean success = send(request);
+                    if (start >= recordFrom) {
+                        report.record(endpoint.name(), System.nanoTime() - start, success);
+                    }
+                    if (!thinkTime.isZero()) {
+                        LockSupport.parkNanos(thinkTime.toNanos());
+                    }
+                }
+            }, "load-user-" + user);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return report;
+    }
+
+    public LatencyReport runOpen(double requestsPerSecond, Duration warmup, Duration duration) throws InterruptedException {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("Arrival rate must be positive");
+        }
+        LatencyReport report = new LatencyReport();
+        SplittableRandom random = new SplittableRandom(seed);
+        Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        long start = System.nanoTime();
+        long recordFrom = start + warmup.toNanos();
+        long deadline = recordFrom + duration.toNanos();
+
+        for (long i = 0; ; i++) {
+            long intendedStart = start + i * intervalNanos;
+            if (intendedStart >= deadline) {
+                break;
+            }
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            inFlight.acquire();
+            RequestMix.Endpoint endpoint = mix.next(random);
+            HttpRequest request = mix.request(endpoint, random);
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        inFlight.release();
+                        if (intendedStart >= recordFrom) {
+                            report.record(endpoint.name(), System.nanoTime() - intendedStart,
+                                    failure == null && isSuccess(response.statusCode()));
+                        }
+                    });
+        }
+        inFlight.acquire(MAX_IN_FLIGHT);
+        return report;
+    }
+
+    public void shutdown() {
+        client.executor().ifPresent(executor -> ((ExecutorService) executor).shutdownNow());
+    }
+
+    private boolean send(HttpRequest request) {
+        try {
+            return isSuccess(client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static boolean isSuccess(int status) {
+        return status >= 200 && status < 400;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.intelligent_inventory_prediction_system.loadtest;
+
+import com.example.intelligent_inventory_prediction_system.IntelligentInventoryPredictionSystemApplication;
+import com.example.intelligent_inventory_prediction_system.config.EnvConfig;
+import com.example.intelligent_inventory_prediction_system.service.change.ChangeLog;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The full web application on a throwaway database (in-memory H2 by default, or any JDBC URL such as a local
+ * PostgreSQL container), with authentication switched off so the load driver measures the service rather than
+ * the security chain. The schema is created on start and dropped on shutdown.
+ * <p>
+ * The catalogue is seeded once the context has started but before it reports ready, so the stock table, the low
+ * stock alert engine and the product filter, which load on ready, see every seeded row.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EntityScan(basePackageClasses = IntelligentInventoryPredictionSystemApplication.class)
+@EnableJpaRepositories(basePackageClasses = IntelligentInventoryPredictionSystemApplication.class)
+@ComponentScan(
+        basePackageClasses = IntelligentInventoryPredictionSystemApplication.class,
+        excludeFilters = {
+                @ComponentScan.Filter(type = FilterType.CUSTOM, classes = TypeExcludeFilter.class),
+                @ComponentScan.Filter(type = FilterType.CUSTOM, classes = AutoConfigurationExcludeFilter.class),
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                        classes = {IntelligentInventoryPredictionSystemApplication.class, EnvConfig.class}),
+                @ComponentScan.Filter(type = FilterType.REGEX,
+                        pattern = "com\\.example\\.intelligent_inventory_prediction_system\\.benchmark\\..*")
+        }
+)
+public class LoadTestApplication {
+
+    private static final int BATCH_SIZE = 5_000;
+
+    @Bean
+    SecurityFilterChain loadTestSecurity(HttpSecurity http) throws Exception {
+        return http
+                .csrf(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(requests -> requests.anyRequest().permitAll())
+                .build();
+    }
+
+    static final String DEFAULT_JDBC_URL = "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    public static ConfigurableApplicationContext start(int port, String jdbcUrl, String username, String password,
+                                                       CatalogueGenerator generator, int products) {
+        return new SpringApplicationBuilder(LoadTestApplication.class)
+                .listeners((ApplicationListener<ApplicationStartedEvent>) event -> {
+                    long start = System.nanoTime();
+                    seed(event.getApplicationContext(), generator, products);
+                    System.out.printf("Seeded %d products in %d ms%n", products,
+                            (System.nanoTime() - start) / 1_000_000);
+                })
+                .properties(
+                        "server.port=" + port,
+                        "spring.main.banner-mode=off",
+                        "spring.datasource.url=" + jdbcUrl,
+                        "spring.datasource.username=" + username,
+                        "spring.datasource.password=" + password,
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.open-in-view=false",
+                        "logging.level.root=WARN"
+                )
+                .run();
+    }
+
+    // Rows get change sequence values like any other write, so the change feeds start out complete.
+    static void seed(ConfigurableApplicationContext context, CatalogueGenerator generator, int products) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        ChangeLog changeLog = context.getBean(ChangeLog.class);
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        List<CatalogueGenerator.Row> rows = new ArrayList<>(BATCH_SIZE);
+
+        generator.generate(products, row -> {
+            rows.add(row);
+            if (rows.size() == BATCH_SIZE) {
+                transactionTemplate.executeWithoutResult(status -> flush(jdbcTemplate, changeLog, rows));
+            }
+        });
+        transactionTemplate.executeWithoutResult(status -> flush(jdbcTemplate, changeLog, rows));
+    }
+
+    private static void flush(JdbcTemplate jdbcTemplate, ChangeLog changeLog, List<CatalogueGenerator.Row> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        long changeSeq = changeLog.next(rows.size() * 2);
+        List<Object[]> productRows = new ArrayList<>(rows.size());
+        List<Object[]> inventoryRows = new ArrayList<>(rows.size());
+        for (CatalogueGenerator.Row row : rows) {
+            productRows.add(new Object[]{row.name(), row.category(), row.description(), row.price(),
+                    row.status().ordinal(), changeSeq++});
+            inventoryRows.add(new Object[]{row.productId(), row.stock(), changeSeq++});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO product (name, category, description, price, status, change_seq) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", productRows);
+        jdbcTemplate.batchUpdate("INSERT INTO inventory (product_id, current_stock, last_updated, change_seq) "
+                + "VALUES (?, ?, CURRENT_TIMESTAMP, ?)", inventoryRows);
+        rows.clear();
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.intelligent_inventory_prediction_system.loadtest;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Entry point for the load-test profile. Without {@code --target} it boots the application on an in-memory
+ * H2 database (or the database given by {@code --jdbc-url}), seeds it from {@link CatalogueGenerator} and drives it locally; with a target URL it assumes
+ * the catalogue was already seeded with the same {@code --seed} and {@code --products}.
+ * <pre>
+ * mvn -Ploadtest test-compile exec:java@loadtest -Dexec.args="--mode open --rate 500 --duration 60"
+ * </pre>
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String mode = options.getOrDefault("mode", "closed");
+        int products = Integer.parseInt(options.getOrDefault("products", "100000"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        Path output = Path.of(options.getOrDefault("output", "target/loadtest"));
+
+        CatalogueGenerator generator = new CatalogueGenerator(seed);
+        ConfigurableApplicationContext context = null;
+        LoadDriver driver = null;
+        try {
+            String target = options.get("target");
+            if (target == null) {
+                int port = Integer.parseInt(options.getOrDefault("port", "18080"));
+                context = LoadTestApplication.start(port,
+                        options.getOrDefault("jdbc-url", LoadTestApplication.DEFAULT_JDBC_URL),
+                        options.getOrDefault("jdbc-user", "sa"),
+                        options.getOrDefault("jdbc-password", ""),
+                        generator, products);
+                target = "http://localhost:" + port;
+            }
+
+            driver = new LoadDriver(RequestMix.standard(target, products, generator), seed);
+            long start = System.nanoTime();
+            LatencyReport report = switch (mode) {
+                case "closed" -> driver.runClosed(
+                        Integer.parseInt(options.getOrDefault("users", "32")),
+                        Duration.ofMillis(Long.parseLong(options.getOrDefault("think-ms", "0"))),
+                        warmup, duration);
+                case "open" -> driver.runOpen(
+                        Double.parseDouble(options.getOrDefault("rate", "200")),
+                        warmup, duration);
+                default -> throw new IllegalArgumentException("Unknown mode: " + mode + " (expected closed or open)");
+            };
+            long elapsed = System.nanoTime() - start - warmup.toNanos();
+
+            System.out.printf("%n%s workload against %s, %d products, %ds measured%n", mode, target, products, duration.toSeconds());
+            report.print(System.out, elapsed);
+            report.write(output);
+            System.out.println("Histograms written to " + output.toAbsolutePath());
+        } finally {
+            if (driver != null) {
+                driver.shutdown();
+            }
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --name value pairs but got: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.intelligent_inventory_prediction_system.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.BiFunction;
+
+/**
+ * Weighted mix of requests over the product, inventory and search controllers. Ids are drawn from the
+ * 1..N range produced by {@link CatalogueGenerator}, skewed towards a hot set the way real traffic is.
+ */
+public class RequestMix {
+
+    private static final double HOT_SET_SHARE = 0.05;
+    private static final double HOT_SET_TRAFFIC = 0.8;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String[] KEYWORDS = {"premium", "wireless", "organic", "compact", "smart", "eco"};
+
+    public record Endpoint(String name, int weight, BiFunction<SplittableRandom, String, HttpRequest> factory) {
+    }
+
+    private final String baseUrl;
+    private final int catalogueSize;
+    private final CatalogueGenerator generator;
+    private final List<Endpoint> endpoints = new ArrayList<>();
+    private int[] cumulativeWeights = new int[0];
+    private int totalWeight;
+
+    public RequestMix(String baseUrl, int catalogueSize, CatalogueGenerator generator) {
+        this.baseUrl = baseUrl;
+        this.catalogueSize = catalogueSize;
+        this.generator = generator;
+    }
+
+    public static RequestMix standard(String baseUrl, int catalogueSize, CatalogueGenerator generator) {
+        RequestMix mix = new RequestMix(baseUrl, catalogueSize, generator);
+        mix.add("inventory.get", 30, (random, url) -> get(url + "/api/v1/inventories/" + mix.skewedId(random)));
+        mix.add("inventory.stock-patch", 15, (random, url) -> HttpRequest.newBuilder(
+                        URI.create(url + "/api/v1/inventories/" + mix.skewedId(random) + "/stock?stockLevel=" + random.nextInt(1_000)))
+                .timeout(REQUEST_TIMEOUT)
+                .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                .build());
+        mix.add("inventory.paged", 5, (random, url) -> get(url + "/api/v1/inventories/paged?page=" + random.nextInt(50) + "&size=20"));
+        mix.add("product.get", 15, (random, url) -> get(url + "/api/products/" + mix.skewedId(random)));
+        mix.add("product.page", 5, (random, url) -> get(url + "/api/products?page=" + random.nextInt(50) + "&size=10"));
+        mix.add("product-search.keyword", 5, (random, url) -> get(url + "/api/products/search/keyword?value="
+                + encode(KEYWORDS[random.nextInt(KEYWORDS.length)] + " " + mix.generator.categoryName(random.nextInt(3)))));
+        mix.add("product-search.category", 8, (random, url) -> get(url + "/api/products/search/category?value="
+                + encode(mix.generator.categoryName(random.nextInt(mix.generator.categoryCount())))));
+        mix.add("product-search.price-range", 4, (random, url) -> {
+            int min = random.nextInt(500);
+            return get(url + "/api/products/search/price-range?min=" + min + "&max=" + (min + 5));
+        });
+        mix.add("product-search.advanced", 3, (random, url) -> HttpRequest.newBuilder(URI.create(url + "/api/products/search/advanced"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .method("GET", HttpRequest.BodyPublishers.ofString("{\"category\":\""
+                        + mix.generator.categoryName(random.nextInt(10)) + "\",\"minPrice\":10,\"maxPrice\":50,\"availability\":true}"))
+                .build());
+        mix.add("inventory-search.stock-range", 5, (random, url) -> {
+            int min = random.nextInt(20);
+            return get(url + "/api/inventory/search/stock-range?minStock=" + min + "&maxStock=" + (min + 2));
+        });
+        mix.add("inventory-search.product", 4, (random, url) -> get(url + "/api/inventory/search/product/" + mix.skewedId(random)));
+        mix.add("inventory-search.advanced", 1, (random, url) -> HttpRequest.newBuilder(URI.create(url + "/api/inventory/search/advanced"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"productId\":" + mix.skewedId(random) + ",\"minStock\":0}"))
+                .build());
+        return mix;
+    }
+
+    public void add(String name, int weight, BiFunction<SplittableRandom, String, HttpRequest> factory) {
+        endpoints.add(new Endpoint(name, weight, factory));
+        totalWeight += weight;
+        cumulativeWeights = new int[endpoints.size()];
+        int running = 0;
+        for (int i = 0; i < endpoints.size(); i++) {
+            running += endpoints.get(i).weight();
+            cumulativeWeights[i] = running;
+        }
+    }
+
+    public Endpoint next(SplittableRandom random) {
+        int ticket = random.nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i]) {
+                return endpoints.get(i);
+            }
+        }
+        return endpoints.get(endpoints.size() - 1);
+    }
+
+    public HttpRequest request(Endpoint endpoint, SplittableRandom random) {
+        return endpoint.factory().apply(random, baseUrl);
+    }
+
+    public List<Endpoint> endpoints() {
+        return List.copyOf(endpoints);
+    }
+
+    long skewedId(SplittableRandom random) {
+        long hotSetSize = Math.max(1, (long) (catalogueSize * HOT_SET_SHARE));
+        if (random.nextDouble() < HOT_SET_TRAFFIC) {
+            return 1 + random.nextLong(hotSetSize);
+        }
+        return 1 + random.nextLong(catalogueSize);
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).timeout(REQUEST_TIMEOUT).GET().build();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
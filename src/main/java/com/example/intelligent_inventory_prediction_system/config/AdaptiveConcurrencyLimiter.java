@@ -0,0 +1,114 @@
+package com.example.intelligent_inventory_prediction_system.config;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * One AIMD concurrency limit shared by all endpoint groups, since they all draw on the same connection pool. A group
+ * is admitted while the requests in flight stay under its {@link EndpointGroup#getShare() share} of the limit.
+ * <p>
+ * Each group keeps its own latency baseline, a minimum that drifts slowly upwards so a lasting change in the
+ * workload is learned. A completion slower than {@code tolerance} times its group's baseline means the database is
+ * queueing: the limit is cut by {@code backoffRatio}, at most once per such latency so one burst of slow responses
+ * counts once. Otherwise, while at least half of the limit is in use, it grows by one per limit's worth of
+ * completions.
+ */
+final class AdaptiveConcurrencyLimiter {
+
+    // Below this, latency doubles on noise alone.
+    private static final long MIN_CONGESTED_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int BASELINE_DRIFT_SHIFT = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double tolerance;
+    private final LongSupplier nanoClock;
+    private final Map<EndpointGroup, GroupState> groups = new EnumMap<>(EndpointGroup.class);
+    // Guarded by this.
+    private double limit;
+    private int inFlight;
+    private long lastDecreaseNanos;
+    private boolean decreased;
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio, double tolerance,
+                               LongSupplier nanoClock) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= initial <= max");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1 || tolerance <= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be in (0, 1) and latency tolerance above 1");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.tolerance = tolerance;
+        this.nanoClock = nanoClock;
+        for (EndpointGroup group : EndpointGroup.values()) {
+            groups.put(group, new GroupState());
+        }
+    }
+
+    synchronized boolean tryAcquire(EndpointGroup group) {
+        GroupState state = groups.get(group);
+        if (inFlight >= Math.max(1, (int) (limit * group.getShare()))) {
+            state.rejected++;
+            return false;
+        }
+        inFlight++;
+        state.inFlight++;
+        return true;
+    }
+
+    synchronized void release(EndpointGroup group, long latencyNanos) {
+        GroupState state = groups.get(group);
+        inFlight--;
+        state.inFlight--;
+        long baseline = state.baselineNanos;
+        if (baseline == 0 || latencyNanos < baseline) {
+            state.baselineNanos = latencyNanos;
+        } else {
+            state.baselineNanos = baseline + ((latencyNanos - baseline) >> BASELINE_DRIFT_SHIFT);
+        }
+
+        if (baseline > 0 && latencyNanos >= MIN_CONGESTED_NANOS && latencyNanos > baseline * tolerance) {
+            long now = nanoClock.getAsLong();
+            if (!decreased || now - lastDecreaseNanos >= latencyNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+                lastDecreaseNanos = now;
+                decreased = true;
+            }
+        } else if ((inFlight + 1) * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    synchronized double getLimit() {
+        return limit;
+    }
+
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    synchronized int getInFlight(EndpointGroup group) {
+        return groups.get(group).inFlight;
+    }
+
+    synchronized long getRejected(EndpointGroup group) {
+        return groups.get(group).rejected;
+    }
+
+    synchronized double getBaselineMillis(EndpointGroup group) {
+        return groups.get(group).baselineNanos / 1_000_000.0;
+    }
+
+    private static final class GroupState {
+        private int inFlight;
+        private long rejected;
+        private long baselineNanos;
+    }
+}
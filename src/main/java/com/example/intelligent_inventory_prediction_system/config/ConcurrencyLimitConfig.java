@@ -0,0 +1,60 @@
+package com.example.intelligent_inventory_prediction_system.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "inventory.limits.enabled", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(
+            @Value("${inventory.limits.initial:20}") int initialLimit,
+            @Value("${inventory.limits.min:4}") int minLimit,
+            @Value("${inventory.limits.max:200}") int maxLimit,
+            @Value("${inventory.limits.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${inventory.limits.latency-tolerance:2.0}") double tolerance
+    ) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, backoffRatio, tolerance,
+                System::nanoTime);
+    }
+
+    @Bean
+    public ConcurrencyLimitFilter concurrencyLimitFilter(
+            AdaptiveConcurrencyLimiter limiter,
+            ObjectMapper objectMapper,
+            @Value("${inventory.limits.retry-after-seconds:1}") long retryAfterSeconds
+    ) {
+        return new ConcurrencyLimitFilter(limiter, objectMapper, retryAfterSeconds, System::nanoTime);
+    }
+
+    @Bean
+    public MeterBinder concurrencyLimitMetrics(AdaptiveConcurrencyLimiter limiter) {
+        return registry -> {
+            Gauge.builder("inventory.limits.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("Adaptive concurrency limit shared by the endpoint groups")
+                    .register(registry);
+            for (EndpointGroup group : EndpointGroup.values()) {
+                Gauge.builder("inventory.limits.in.flight", limiter, l -> l.getInFlight(group))
+                        .description("Requests of the group being served")
+                        .tag("group", group.tag())
+                        .register(registry);
+                FunctionCounter.builder("inventory.limits.rejected", limiter, l -> l.getRejected(group))
+                        .description("Requests of the group shed with 503")
+                        .tag("group", group.tag())
+                        .register(registry);
+                Gauge.builder("inventory.limits.latency.baseline", limiter, l -> l.getBaselineMillis(group))
+                        .description("Uncongested latency learned for the group")
+                        .baseUnit("milliseconds")
+                        .tag("group", group.tag())
+                        .register(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.intelligent_inventory_prediction_system.config;
+
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * The endpoint classes the concurrency limiter tells apart. {@code share} is the fraction of the adaptive limit a
+ * group may fill: stock writes can use all of it, while searches are turned away once the other groups hold the
+ * rest, so searches are shed first and stock writes last.
+ */
+enum EndpointGroup {
+
+    STOCK_WRITES(1.0, Set.of("PATCH", "POST"),
+            List.of("/api/v1/inventories/*/stock", "/api/v1/inventories/*/stock/updates")),
+    CRUD_READS(0.9, Set.of("GET"), List.of("/api/v1/inventories/**", "/api/products/**")),
+    INVENTORY_SEARCH(0.7, Set.of("GET", "POST"), List.of("/api/inventory/search/**")),
+    PRODUCT_SEARCH(0.7, Set.of("GET", "POST"), List.of("/api/products/search/**"));
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    // Searches first: their paths also match the broader read patterns.
+    private static final List<EndpointGroup> MATCH_ORDER =
+            List.of(PRODUCT_SEARCH, INVENTORY_SEARCH, STOCK_WRITES, CRUD_READS);
+
+    private final double share;
+    private final Set<String> methods;
+    private final List<String> pathPatterns;
+
+    EndpointGroup(double share, Set<String> methods, List<String> pathPatterns) {
+        this.share = share;
+        this.methods = methods;
+        this.pathPatterns = pathPatterns;
+    }
+
+    double getShare() {
+        return share;
+    }
+
+    String tag() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    /**
+     * The group of a request, or {@code null} for requests the limiter leaves alone.
+     */
+    static EndpointGroup classify(String method, String path) {
+        for (EndpointGroup group : MATCH_ORDER) {
+            if (group.methods.contains(method)
+                    && group.pathPatterns.stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path))) {
+                return group;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.intelligent_inventory_prediction_system.config;
+
+import com.example.intelligent_inventory_prediction_system.service.diagnostics.InventoryFlightRecorder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code /actuator/flightrecording?minutes=N} downloads the last N minutes of the continuous flight recording,
+ * ready to open in JDK Mission Control.
+ */
+@Component
+@RequiredArgsConstructor
+@WebEndpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+
+    private final InventoryFlightRecorder inventoryFlightRecorder;
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump(@Nullable Integer minutes) {
+        if (!inventoryFlightRecorder.isRecording()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        }
+        if (minutes != null && minutes <= 0) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        return new WebEndpointResponse<>(new FileSystemResource(inventoryFlightRecorder.dump(minutes)));
+    }
+}
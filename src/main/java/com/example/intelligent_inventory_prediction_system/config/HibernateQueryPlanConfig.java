@@ -0,0 +1,36 @@
+package com.example.intelligent_inventory_prediction_system.config;
+
+import com.example.intelligent_inventory_prediction_system.repository.specification.InventorySpecs;
+import com.example.intelligent_inventory_prediction_system.repository.specification.ProductSpecs;
+import org.hibernate.cfg.QuerySettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HibernateQueryPlanConfig {
+
+    static final int SEARCH_SHAPE_COUNT = ProductSpecs.SEARCH_SHAPE_COUNT + InventorySpecs.SEARCH_SHAPE_COUNT;
+
+    @Bean
+    public HibernatePropertiesCustomizer queryPlanCacheCustomizer(
+            @Value("${inventory.query.plan-cache.headroom:1024}") int headroom,
+            @Value("${inventory.query.plan-cache.max-size:0}") int maxSize
+    ) {
+        int planCacheSize = resolvePlanCacheSize(headroom, maxSize);
+        return properties -> {
+            properties.put(QuerySettings.QUERY_PLAN_CACHE_ENABLED, true);
+            properties.put(QuerySettings.QUERY_PLAN_CACHE_MAX_SIZE, planCacheSize);
+            properties.put(QuerySettings.CRITERIA_COPY_TREE, false);
+            properties.putIfAbsent(QuerySettings.IN_CLAUSE_PARAMETER_PADDING, true);
+        };
+    }
+
+    static int resolvePlanCacheSize(int headroom, int maxSize) {
+        if (maxSize > 0) {
+            return maxSize;
+        }
+        return SEARCH_SHAPE_COUNT + headroom;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.intelligent_inventory_prediction_system.config;
+
+import com.example.intelligent_inventory_prediction_system.service.idempotency.IdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyFilter idempotencyFilter(
+            IdempotencyStore idempotencyStore,
+            ObjectMapper objectMapper,
+            @Value("${inventory.idempotency.paths:/api/v1/inventories,/api/v1/inventories/*/stock,"
+                    + "/api/v1/inventories/*/stock/updates,/api/products}") List<String> paths
+    ) {
+        return new IdempotencyFilter(idempotencyStore, objectMapper, paths);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.intelligent_inventory_prediction_system.config;
+
+import com.example.intelligent_inventory_prediction_system.service.shard.InventoryReshardService;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code /actuator/inventoryshards}: bucket and row counts per shard and the moves in progress. POST with
+ * {@code bucket} and {@code shard} moves one bucket online; POST without them rebalances the buckets evenly.
+ */
+@Component
+@Endpoint(id = "inventoryshards")
+public class InventoryShardsEndpoint {
+
+    private final ShardedInventoryStore shardedInventoryStore;
+    private final InventoryReshardService inventoryReshardService;
+
+    public InventoryShardsEndpoint(ShardedInventoryStore shardedInventoryStore,
+                                   InventoryReshardService inventoryReshardService) {
+        this.shardedInventoryStore = shardedInventoryStore;
+        this.inventoryReshardService = inventoryReshardService;
+    }
+
+    @ReadOperation
+    public Map<String, Object> shards() {
+        return shardedInventoryStore.describe();
+    }
+
+    @WriteOperation
+    public List<InventoryReshardService.BucketMove> move(@Nullable Integer bucket, @Nullable Integer shard) {
+        if (bucket == null && shard == null) {
+            return inventoryReshardService.rebalance();
+        }
+        if (bucket == null || shard == null) {
+            throw new IllegalArgumentException("Moving a bucket needs both bucket and shard");
+        }
+        return List.of(inventoryReshardService.moveBucket(bucket, shard));
+    }
+}
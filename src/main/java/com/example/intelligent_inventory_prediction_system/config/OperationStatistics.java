@@ -0,0 +1,106 @@
+package com.example.intelligent_inventory_prediction_system.config;
+
+import com.example.intelligent_inventory_prediction_system.service.executor.QueryOperation;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.model.domain.NavigableRole;
+import org.hibernate.stat.internal.StatisticsImpl;
+
+/**
+ * Hibernate's session factory wide statistics, additionally attributing each event to the {@link QueryOperation}
+ * open on the current thread.
+ */
+class OperationStatistics extends StatisticsImpl {
+
+    OperationStatistics(SessionFactoryImplementor sessionFactory) {
+        super(sessionFactory);
+    }
+
+    @Override
+    public void prepareStatement() {
+        super.prepareStatement();
+        QueryOperation operation = QueryOperation.current();
+        if (operation != null) {
+            operation.statementPrepared();
+        }
+    }
+
+    @Override
+    public void queryExecuted(String hql, int rows, long time) {
+        super.queryExecuted(hql, rows, time);
+        QueryOperation operation = QueryOperation.current();
+        if (operation != null) {
+            operation.queryExecuted();
+        }
+    }
+
+    @Override
+    public void loadEntity(String entityName) {
+        super.loadEntity(entityName);
+        entityLoaded();
+    }
+
+    @Override
+    public void fetchEntity(String entityName) {
+        super.fetchEntity(entityName);
+        entityLoaded();
+    }
+
+    @Override
+    public void entityCacheHit(NavigableRole entityName, String regionName) {
+        super.entityCacheHit(entityName, regionName);
+        cacheAccessed(true);
+    }
+
+    @Override
+    public void entityCacheMiss(NavigableRole entityName, String regionName) {
+        super.entityCacheMiss(entityName, regionName);
+        cacheAccessed(false);
+    }
+
+    @Override
+    public void collectionCacheHit(NavigableRole collectionRole, String regionName) {
+        super.collectionCacheHit(collectionRole, regionName);
+        cacheAccessed(true);
+    }
+
+    @Override
+    public void collectionCacheMiss(NavigableRole collectionRole, String regionName) {
+        super.collectionCacheMiss(collectionRole, regionName);
+        cacheAccessed(false);
+    }
+
+    @Override
+    public void queryCacheHit(String hql, String regionName) {
+        super.queryCacheHit(hql, regionName);
+        cacheAccessed(true);
+    }
+
+    @Override
+    public void queryCacheMiss(String hql, String regionName) {
+        super.queryCacheMiss(hql, regionName);
+        cacheAccessed(false);
+    }
+
+    @Override
+    public void flush() {
+        super.flush();
+        QueryOperation operation = QueryOperation.current();
+        if (operation != null) {
+            operation.flushed();
+        }
+    }
+
+    private static void entityLoaded() {
+        QueryOperation operation = QueryOperation.current();
+        if (operation != null) {
+            operation.entityLoaded();
+        }
+    }
+
+    private static void cacheAccessed(boolean hit) {
+        QueryOperation operation = QueryOperation.current();
+        if (operation != null) {
+            operation.cacheAccessed(hit);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.example.intelligent_inventory_prediction_system.config;
+
+import com.example.intelligent_inventory_prediction_system.dto.projection.InventoryField;
+import com.example.intelligent_inventory_prediction_system.dto.projection.ProductField;
+import com.example.intelligent_inventory_prediction_system.dto.projection.ProjectedRow;
+import com.example.intelligent_inventory_prediction_system.dto.response.InventoryResponseDTO;
+import com.example.intelligent_inventory_prediction_system.dto.response.ProductResponseDTO;
+import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+
+import static com.example.intelligent_inventory_prediction_system.constants.MediaTypes.APPLICATION_PROTOBUF_VALUE;
+
+/**
+ * Writes product and inventory responses, single or as lists and pages, in the protobuf wire format described by
+ * {@code proto/inventory.proto}. Encoding is done directly with {@link CodedOutputStream}, so no generated classes
+ * or copies of the DTOs are involved; clients generate their readers from the schema. Partial responses
+ * ({@code fields=}) use the same messages with the unselected fields left out.
+ */
+public class ProtobufResponseHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private static final int ITEMS = 1;
+    private static final int TOTAL_ELEMENTS = 2;
+    private static final int PAGE = 3;
+    private static final int SIZE = 4;
+
+    public ProtobufResponseHttpMessageConverter() {
+        super(MediaType.parseMediaType(APPLICATION_PROTOBUF_VALUE));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == ProductResponseDTO.class || clazz == InventoryResponseDTO.class || clazz == ProjectedRow.class;
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        Class<?> elementType = elementType(type);
+        // Handlers returning ResponseEntity<?> do not declare the element type; the items are checked when written.
+        return canWrite(mediaType) && (supports(clazz) || supports(elementType) || elementType == Object.class
+                && (Collection.class.isAssignableFrom(clazz) || Page.class.isAssignableFrom(clazz)));
+    }
+
+    @Override
+    protected void writeInternal(Object body, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        CodedOutputStream out = CodedOutputStream.newInstance(outputMessage.getBody());
+        if (body instanceof ProjectedRow row) {
+            body = toResponse(row);
+        }
+        if (body instanceof ProductResponseDTO product) {
+            writeProductFields(out, product);
+        } else if (body instanceof InventoryResponseDTO inventory) {
+            writeInventoryFields(out, inventory);
+        } else if (body instanceof Page<?> page) {
+            writeItems(out, page.getContent());
+            out.writeInt64(TOTAL_ELEMENTS, page.getTotalElements());
+            out.writeInt32(PAGE, page.getNumber());
+            out.writeInt32(SIZE, page.getSize());
+        } else {
+            writeItems(out, (Collection<?>) body);
+        }
+        out.flush();
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) {
+        return readInternal(Object.class, inputMessage);
+    }
+
+    private static Class<?> elementType(@Nullable Type type) {
+        if (type instanceof ParameterizedType parameterized
+                && parameterized.getRawType() instanceof Class<?> raw
+                && (Collection.class.isAssignableFrom(raw) || Page.class.isAssignableFrom(raw))
+                && parameterized.getActualTypeArguments()[0] instanceof Class<?> element) {
+            return element;
+        }
+        return Object.class;
+    }
+
+    private static void writeItems(CodedOutputStream out, Collection<?> items) throws IOException {
+        for (Object item : items) {
+            if (item instanceof ProjectedRow row) {
+                item = toResponse(row);
+            }
+            if (item instanceof ProductResponseDTO product) {
+                out.writeTag(ITEMS, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                out.writeUInt32NoTag(productSize(product));
+                writeProductFields(out, product);
+            } else if (item instanceof InventoryResponseDTO inventory) {
+                out.writeTag(ITEMS, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                out.writeUInt32NoTag(inventorySize(inventory));
+                writeInventoryFields(out, inventory);
+            } else {
+                throw new HttpMessageNotWritableException("Cannot write " + item.getClass().getName() + " as protobuf");
+            }
+        }
+    }
+
+    /**
+     * Fills only the selected fields, which the encoders then skip as absent.
+     */
+    private static Object toResponse(ProjectedRow row) {
+        if (row.getSelection().get(0) instanceof ProductField) {
+            ProductResponseDTO product = new ProductResponseDTO();
+            for (Object field : row.getSelection().getFields()) {
+                Object value = row.get((ProductField) field);
+                switch ((ProductField) field) {
+                    case ID -> product.setId((Long) value);
+                    case NAME -> product.setName((String) value);
+                    case CATEGORY -> product.setCategory((String) value);
+                    case DESCRIPTION -> product.setDescription((String) value);
+                    case PRICE -> product.setPrice((Double) value);
+                    case STATUS -> product.setStatus((ProductStatus) value);
+                }
+            }
+            return product;
+        }
+        InventoryResponseDTO inventory = new InventoryResponseDTO();
+        for (Object field : row.getSelection().getFields()) {
+            Object value = row.get((InventoryField) field);
+            switch ((InventoryField) field) {
+                case ID -> inventory.setId((Long) value);
+                case PRODUCT_ID -> inventory.setProductId((Long) value);
+                case CURRENT_STOCK -> inventory.setCurrentStock((Integer) value);
+                case REORDER_THRESHOLD -> inventory.setReorderThreshold((Integer) value);
+                case LAST_UPDATED -> inventory.setLastUpdated((LocalDateTime) value);
+            }
+        }
+        return inventory;
+    }
+
+    private static void writeProductFields(CodedOutputStream out, ProductResponseDTO product) throws IOException {
+        if (product.getId() != null) {
+            out.writeInt64(1, product.getId());
+        }
+        if (product.getName() != null) {
+            out.writeString(2, product.getName());
+        }
+        if (product.getCategory() != null) {
+            out.writeString(3, product.getCategory());
+        }
+        if (product.getDescription() != null) {
+            out.writeString(4, product.getDescription());
+        }
+        if (product.getPrice() != null) {
+            out.writeDouble(5, product.getPrice());
+        }
+        if (product.getStatus() != null) {
+            out.writeString(6, product.getStatus().name());
+        }
+    }
+
+    private static int productSize(ProductResponseDTO product) {
+        int size = 0;
+        if (product.getId() != null) {
+            size += CodedOutputStream.computeInt64Size(1, product.getId());
+        }
+        if (product.getName() != null) {
+            size += CodedOutputStream.computeStringSize(2, product.getName());
+        }
+        if (product.getCategory() != null) {
+            size += CodedOutputStream.computeStringSize(3, product.getCategory());
+        }
+        if (product.getDescription() != null) {
+            size += CodedOutputStream.computeStringSize(4, product.getDescription());
+        }
+        if (product.getPrice() != null) {
+            size += CodedOutputStream.computeDoubleSize(5, product.getPrice());
+        }
+        if (product.getStatus() != null) {
+            size += CodedOutputStream.computeStringSize(6, product.getStatus().name());
+        }
+        return size;
+    }
+
+    private static void writeInventoryFields(CodedOutputStream out, InventoryResponseDTO inventory) throws IOException {
+        if (inventory.getId() != null) {
+            out.writeInt64(1, inventory.getId());
+        }
+        if (inventory.getProductId() != null) {
+            out.writeInt64(2, inventory.getProductId());
+        }
+        if (inventory.getCurrentStock() != null) {
+            out.writeInt32(3, inventory.getCurrentStock());
+        }
+        if (inventory.getReorderThreshold() != null) {
+            out.writeInt32(4, inventory.getReorderThreshold());
+        }
+        if (inventory.getLastUpdated() != null) {
+            out.writeInt64(5, epochMillis(inventory));
+        }
+    }
+
+    private static int inventorySize(InventoryResponseDTO inventory) {
+        int size = 0;
+        if (inventory.getId() != null) {
+            size += CodedOutputStream.computeInt64Size(1, inventory.getId());
+        }
+        if (inventory.getProductId() != null) {
+            size += CodedOutputStream.computeInt64Size(2, inventory.getProductId());
+        }
+        if (inventory.getCurrentStock() != null) {
+            size += CodedOutputStream.computeInt32Size(3, inventory.getCurrentStock());
+        }
+        if (inventory.getReorderThreshold() != null) {
+            size += CodedOutputStream.computeInt32Size(4, inventory.getReorderThreshold());
+        }
+        if (inventory.getLastUpdated() != null) {
+            size += CodedOutputStream.computeInt64Size(5, epochMillis(inventory));
+        }
+        return size;
+    }
+
+    private static long epochMillis(InventoryResponseDTO inventory) {
+        return inventory.getLastUpdated().toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.intelligent_inventory_prediction_system.config;
+
+import com.example.intelligent_inventory_prediction_system.service.executor.QueryOperation;
+import com.example.intelligent_inventory_prediction_system.service.executor.SlowQueryLog;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+@Slf4j
+@Configuration
+public class QueryInstrumentationConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer statisticsCustomizer(
+            @Value("${inventory.query.statistics.enabled:true}") boolean statisticsEnabled
+    ) {
+        return properties -> {
+            properties.put(StatisticsSettings.GENERATE_STATISTICS, statisticsEnabled);
+            properties.put(StatisticsSettings.STATS_BUILDER, (StatisticsFactory) OperationStatistics::new);
+            properties.putIfAbsent(JdbcSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                QueryOperation operation = QueryOperation.current();
+                if (operation != null) {
+                    operation.sqlInspected(sql);
+                }
+                return sql;
+            });
+        };
+    }
+
+    @Bean
+    public MeterBinder hibernateStatisticsMetrics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> {
+            counter(registry, statistics, "inventory.hibernate.statements.prepared", Statistics::getPrepareStatementCount);
+            counter(registry, statistics, "inventory.hibernate.queries.executed", Statistics::getQueryExecutionCount);
+            counter(registry, statistics, "inventory.hibernate.entities.loaded", Statistics::getEntityLoadCount);
+            counter(registry, statistics, "inventory.hibernate.entities.fetched", Statistics::getEntityFetchCount);
+            counter(registry, statistics, "inventory.hibernate.cache.hits", Statistics::getSecondLevelCacheHitCount);
+            counter(registry, statistics, "inventory.hibernate.cache.misses", Statistics::getSecondLevelCacheMissCount);
+            counter(registry, statistics, "inventory.hibernate.cache.puts", Statistics::getSecondLevelCachePutCount);
+            counter(registry, statistics, "inventory.hibernate.flushes.total", Statistics::getFlushCount);
+            counter(registry, statistics, "inventory.hibernate.sessions.opened", Statistics::getSessionOpenCount);
+            counter(registry, statistics, "inventory.hibernate.query.plan.cache.misses", Statistics::getQueryPlanCacheMissCount);
+        };
+    }
+
+    // Static so the post-processor doesn't pull this configuration, and the beans it needs, in early.
+    @Bean
+    public static BeanPostProcessor slowQueryDataSourcePostProcessor(Environment environment,
+                                                                     ObjectProvider<SlowQueryLog> slowQueryLog) {
+        long thresholdMillis = environment.getProperty("inventory.query.slow.threshold-ms", Long.class, 0L);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (thresholdMillis <= 0 || !(bean instanceof DataSource dataSource)
+                        || bean instanceof SlowQueryDataSource) {
+                    return bean;
+                }
+                log.info("Logging statements slower than {} ms on data source '{}'", thresholdMillis, beanName);
+                return new SlowQueryDataSource(dataSource, TimeUnit.MILLISECONDS.toNanos(thresholdMillis),
+                        slowQueryLog::getObject);
+            }
+        };
+    }
+
+    private static void counter(MeterRegistry registry, Statistics statistics,
+                                String name, ToDoubleFunction<Statistics> value) {
+        FunctionCounter.builder(name, statistics, value)
+                .description("Hibernate session factory statistic")
+                .register(registry);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.intelligent_inventory_prediction_system.config;
+
+import com.example.intelligent_inventory_prediction_system.service.executor.QueryOperationMetrics;
+import com.example.intelligent_inventory_prediction_system.service.executor.SlowQueryLog;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code /actuator/querystats}: Hibernate's session factory statistics, the same counters broken down by executor
+ * operation, and the most recent slow queries. DELETE resets the Hibernate counters and the slow query list.
+ */
+@Component
+@Endpoint(id = "querystats")
+public class QueryStatisticsEndpoint {
+
+    private final Statistics statistics;
+    private final QueryOperationMetrics queryOperationMetrics;
+    private final SlowQueryLog slowQueryLog;
+
+    public QueryStatisticsEndpoint(EntityManagerFactory entityManagerFactory,
+                                   QueryOperationMetrics queryOperationMetrics,
+                                   SlowQueryLog slowQueryLog) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.queryOperationMetrics = queryOperationMetrics;
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @ReadOperation
+    public Map<String, Object> queryStatistics() {
+        Map<String, Object> hibernate = new LinkedHashMap<>();
+        hibernate.put("enabled", statistics.isStatisticsEnabled());
+        hibernate.put("statementsPrepared", statistics.getPrepareStatementCount());
+        hibernate.put("queriesExecuted", statistics.getQueryExecutionCount());
+        hibernate.put("queryExecutionMaxTimeMillis", statistics.getQueryExecutionMaxTime());
+        hibernate.put("slowestQuery", statistics.getQueryExecutionMaxTimeQueryString());
+        hibernate.put("entitiesLoaded", statistics.getEntityLoadCount());
+        hibernate.put("entitiesFetched", statistics.getEntityFetchCount());
+        hibernate.put("secondLevelCacheHits", statistics.getSecondLevelCacheHitCount());
+        hibernate.put("secondLevelCacheMisses", statistics.getSecondLevelCacheMissCount());
+        hibernate.put("secondLevelCachePuts", statistics.getSecondLevelCachePutCount());
+        hibernate.put("queryPlanCacheHits", statistics.getQueryPlanCacheHitCount());
+        hibernate.put("queryPlanCacheMisses", statistics.getQueryPlanCacheMissCount());
+        hibernate.put("flushes", statistics.getFlushCount());
+        hibernate.put("sessionsOpened", statistics.getSessionOpenCount());
+        hibernate.put("transactions", statistics.getTransactionCount());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("hibernate", hibernate);
+        result.put("operations", queryOperationMetrics.snapshot());
+        result.put("slowQueries", slowQueryLog.recent());
+        return result;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statistics.clear();
+        slowQueryLog.clear();
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.intelligent_inventory_prediction_system.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The read-only side of the routing: hands out a connection from a healthy replica whose replication lag is within
+ * bounds, choosing between two random candidates by their smoothed probe latency, and falls back to the primary when
+ * the thread is pinned to it or no replica qualifies. A replica that fails to hand out a connection is taken out
+ * until the next successful health check.
+ */
+@Slf4j
+class ReplicaPool extends AbstractDataSource implements Closeable {
+
+    // Zero when the standby has replayed everything it received, so an idle primary doesn't read as lag.
+    private static final String POSTGRES_LAG_QUERY = """
+            SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END""";
+    private static final double LATENCY_SMOOTHING = 0.3;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final List<Replica> replicas;
+    private final DataSource primary;
+    private final long maxLagMillis;
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder primaryReads = new LongAdder();
+
+    ReplicaPool(List<Replica> replicas, DataSource primary, long maxLagMillis) {
+        this.replicas = List.copyOf(replicas);
+        this.primary = primary;
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!ReplicaRouting.isPinnedToPrimary()) {
+            List<Replica> candidates = candidates();
+            while (!candidates.isEmpty()) {
+                Replica replica = choose(candidates);
+                try {
+                    Connection connection = replica.dataSource().getConnection();
+                    replicaReads.increment();
+                    return connection;
+                } catch (SQLException e) {
+                    log.warn("Replica '{}' failed to hand out a connection, excluding it until the next health check: {}",
+                            replica.name(), e.getMessage());
+                    replica.healthy = false;
+                    candidates.remove(replica);
+                }
+            }
+        }
+        primaryReads.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new UnsupportedOperationException("Replica connections use the configured replica credentials");
+    }
+
+    /**
+     * Probes every replica once: connection round trip for the latency estimate and, on PostgreSQL, the replay lag.
+     */
+    void checkReplicas() {
+        for (Replica replica : replicas) {
+            long start = System.nanoTime();
+            try (Connection connection = replica.dataSource().getConnection()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("Connection validation failed");
+                }
+                replica.lagMillis = replicationLag(connection);
+                replica.recordLatency(System.nanoTime() - start);
+                if (!replica.healthy) {
+                    log.info("Replica '{}' is healthy again", replica.name());
+                }
+                replica.healthy = true;
+            } catch (SQLException e) {
+                if (replica.healthy) {
+                    log.warn("Replica '{}' failed its health check: {}", replica.name(), e.getMessage());
+                }
+                replica.healthy = false;
+            }
+        }
+    }
+
+    List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    long getReplicaReads() {
+        return replicaReads.sum();
+    }
+
+    long getPrimaryReads() {
+        return primaryReads.sum();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Replica replica : replicas) {
+            if (replica.dataSource() instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private List<Replica> candidates() {
+        List<Replica> candidates = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            if (replica.healthy && replica.lagMillis <= maxLagMillis) {
+                candidates.add(replica);
+            }
+        }
+        return candidates;
+    }
+
+    // Power of two choices: close to least-latency routing without piling every read onto one replica.
+    private static Replica choose(List<Replica> candidates) {
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        Replica a = candidates.get(first);
+        Replica b = candidates.get(second);
+        return a.latencyNanos <= b.latencyNanos ? a : b;
+    }
+
+    private static long replicationLag(Connection connection) throws SQLException {
+        if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+            return 0;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(POSTGRES_LAG_QUERY)) {
+            return resultSet.next() ? resultSet.getLong(1) : 0;
+        }
+    }
+
+    static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        volatile boolean healthy = true;
+        volatile double latencyNanos;
+        volatile long lagMillis;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        String name() {
+            return name;
+        }
+
+        DataSource dataSource() {
+            return dataSource;
+        }
+
+        void recordLatency(long nanos) {
+            latencyNanos = latencyNanos == 0 ? nanos : latencyNanos + LATENCY_SMOOTHING * (nanos - latencyNanos);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.intelligent_inventory_prediction_system.config;
+
+/**
+ * Read-your-writes pinning for the current thread: until the deadline passes, read-only transactions keep using
+ * the primary because the replicas may not have replayed the write yet.
+ */
+final class ReplicaRouting {
+
+    private static final ThreadLocal<Long> PRIMARY_UNTIL = new ThreadLocal<>();
+
+    private ReplicaRouting() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    static void pinToPrimaryUntil(long epochMillis) {
+        Long current = PRIMARY_UNTIL.get();
+        if (current == null || current < epochMillis) {
+            PRIMARY_UNTIL.set(epochMillis);
+        }
+    }
+
+    static boolean isPinnedToPrimary() {
+        Long until = PRIMARY_UNTIL.get();
+        if (until == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() >= until) {
+            PRIMARY_UNTIL.remove();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Carries the calling thread's pin over to {@code task}, for work handed to another thread.
+     */
+    static Runnable propagate(Runnable task) {
+        Long until = PRIMARY_UNTIL.get();
+        if (until == null) {
+            return task;
+        }
+        return () -> {
+            pinToPrimaryUntil(until);
+            try {
+                task.run();
+            } finally {
+                clear();
+            }
+        };
+    }
+
+    static void clear() {
+        PRIMARY_UNTIL.remove();
+    }
+}
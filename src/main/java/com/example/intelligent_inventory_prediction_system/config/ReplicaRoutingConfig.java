@@ -0,0 +1,143 @@
+package com.example.intelligent_inventory_prediction_system.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Configuration
+public class ReplicaRoutingConfig {
+
+    private static final String REPLICA_URLS = "inventory.datasource.replica.urls";
+
+    // Static for the same reason as the slow query post-processor; ordered so the routing sits under that wrapper.
+    @Bean
+    public static BeanPostProcessor replicaRoutingPostProcessor(Environment environment) {
+        return new ReplicaRoutingPostProcessor(environment);
+    }
+
+    @Bean
+    @ConditionalOnProperty(REPLICA_URLS)
+    public ReadYourWritesFilter readYourWritesFilter(Environment environment) {
+        return new ReadYourWritesFilter(maxLagMillis(environment));
+    }
+
+    // Query workers and other pools pick this up, so reads they run for a request still see its writes.
+    @Bean
+    public TaskDecorator readYourWritesTaskDecorator() {
+        return ReplicaRouting::propagate;
+    }
+
+    @Bean
+    public MeterBinder replicaRoutingMetrics(ObjectProvider<DataSource> dataSource) {
+        return registry -> {
+            ReplicaPool pool = replicaPool(dataSource.getIfUnique());
+            if (pool == null) {
+                return;
+            }
+            FunctionCounter.builder("inventory.datasource.reads", pool, ReplicaPool::getReplicaReads)
+                    .description("Read-only connections handed out")
+                    .tag("target", "replica")
+                    .register(registry);
+            FunctionCounter.builder("inventory.datasource.reads", pool, ReplicaPool::getPrimaryReads)
+                    .description("Read-only connections handed out")
+                    .tag("target", "primary")
+                    .register(registry);
+            for (ReplicaPool.Replica replica : pool.getReplicas()) {
+                Gauge.builder("inventory.datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                        .tag("replica", replica.name())
+                        .register(registry);
+                Gauge.builder("inventory.datasource.replica.latency", replica, r -> r.latencyNanos / 1_000_000.0)
+                        .description("Smoothed health probe round trip")
+                        .baseUnit("milliseconds")
+                        .tag("replica", replica.name())
+                        .register(registry);
+                Gauge.builder("inventory.datasource.replica.lag", replica, r -> r.lagMillis)
+                        .description("Replication replay lag reported by the replica")
+                        .baseUnit("milliseconds")
+                        .tag("replica", replica.name())
+                        .register(registry);
+            }
+        };
+    }
+
+    private static ReplicaPool replicaPool(DataSource dataSource) {
+        try {
+            if (dataSource != null && dataSource.isWrapperFor(ReplicaRoutingDataSource.class)) {
+                return dataSource.unwrap(ReplicaRoutingDataSource.class).getReplicaPool();
+            }
+        } catch (SQLException e) {
+            log.debug("Could not unwrap the routing data source", e);
+        }
+        return null;
+    }
+
+    private static long maxLagMillis(Environment environment) {
+        return environment.getProperty("inventory.datasource.replica.max-lag-ms", Long.class, 1000L);
+    }
+
+    private static final class ReplicaRoutingPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Environment environment;
+
+        ReplicaRoutingPostProcessor(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            String urls = environment.getProperty(REPLICA_URLS, "");
+            if (!StringUtils.hasText(urls) || !"dataSource".equals(beanName)
+                    || !(bean instanceof DataSource primary) || bean instanceof ReplicaRoutingDataSource) {
+                return bean;
+            }
+            List<ReplicaPool.Replica> replicas = new ArrayList<>();
+            for (String url : StringUtils.commaDelimitedListToStringArray(urls)) {
+                replicas.add(new ReplicaPool.Replica("replica-" + replicas.size(), replicaDataSource(url.trim(), replicas.size())));
+            }
+            long maxLagMillis = maxLagMillis(environment);
+            long checkIntervalMillis = environment.getProperty(
+                    "inventory.datasource.replica.check-interval-ms", Long.class, 5000L);
+            log.info("Routing read-only transactions to {} replica(s), max lag {} ms", replicas.size(), maxLagMillis);
+            return new ReplicaRoutingDataSource(primary, new ReplicaPool(replicas, primary, maxLagMillis),
+                    maxLagMillis, checkIntervalMillis);
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        private HikariDataSource replicaDataSource(String url, int index) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + index);
+            dataSource.setJdbcUrl(url);
+            dataSource.setUsername(environment.getProperty("inventory.datasource.replica.username",
+                    environment.getProperty("spring.datasource.username", "")));
+            dataSource.setPassword(environment.getProperty("inventory.datasource.replica.password",
+                    environment.getProperty("spring.datasource.password", "")));
+            dataSource.setMaximumPoolSize(environment.getProperty(
+                    "inventory.datasource.replica.pool-size", Integer.class, 10));
+            dataSource.setReadOnly(true);
+            // Don't block startup on a replica that is down; the health check takes it out instead.
+            dataSource.setInitializationFailTimeout(-1);
+            return dataSource;
+        }
+    }
+}
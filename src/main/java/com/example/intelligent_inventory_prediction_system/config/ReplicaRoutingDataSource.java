@@ -0,0 +1,80 @@
+package com.example.intelligent_inventory_prediction_system.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to the {@link ReplicaPool} and everything else to the primary.
+ * The physical connection is only fetched at the first statement, once the transaction manager has marked the
+ * connection read-only, which is what lets the read-only flag pick the pool. Opening a read-write transaction pins
+ * the thread to the primary for the lag window, so a read right after a write sees it.
+ */
+class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final DataSource primary;
+    private final ReplicaPool replicaPool;
+    private final ScheduledExecutorService healthChecker;
+
+    ReplicaRoutingDataSource(DataSource primary, ReplicaPool replicaPool, long maxLagMillis, long checkIntervalMillis) {
+        super(new WriteTrackingDataSource(primary, maxLagMillis));
+        this.primary = primary;
+        this.replicaPool = replicaPool;
+        setReadOnlyDataSource(replicaPool);
+        replicaPool.checkReplicas();
+        if (checkIntervalMillis > 0) {
+            healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "replica-health");
+                thread.setDaemon(true);
+                return thread;
+            });
+            healthChecker.scheduleWithFixedDelay(replicaPool::checkReplicas,
+                    checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            healthChecker = null;
+        }
+    }
+
+    ReplicaPool getReplicaPool() {
+        return replicaPool;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        replicaPool.close();
+        if (primary instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static final class WriteTrackingDataSource extends DelegatingDataSource {
+
+        private final long maxLagMillis;
+
+        WriteTrackingDataSource(DataSource primary, long maxLagMillis) {
+            super(primary);
+            this.maxLagMillis = maxLagMillis;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (TransactionSynchronizationManager.isActualTransactionActive()
+                    && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                ReplicaRouting.pinToPrimaryUntil(System.currentTimeMillis() + maxLagMillis);
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.intelligent_inventory_prediction_system.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+import static com.example.intelligent_inventory_prediction_system.constants.MediaTypes.APPLICATION_PROTOBUF_VALUE;
+import static com.example.intelligent_inventory_prediction_system.constants.MediaTypes.APPLICATION_SMILE_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_CBOR_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+/**
+ * Response encodings beyond plain JSON. CBOR and Smile come from the Jackson converters Spring MVC registers when
+ * their data formats are on the classpath; protobuf is added here. All of them, and JSON, are gzip-compressed by
+ * the servlet container once a response reaches {@code inventory.compression.min-response-bytes}.
+ */
+@Configuration
+public class WireFormatConfig implements WebMvcConfigurer {
+
+    // Last, so clients that accept anything keep getting JSON.
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new ProtobufResponseHttpMessageConverter());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "inventory.compression.enabled", havingValue = "true", matchIfMissing = true)
+    public WebServerFactoryCustomizer<ConfigurableServletWebServerFactory> responseCompressionCustomizer(
+            @Value("${inventory.compression.min-response-bytes:2048}") long minResponseBytes
+    ) {
+        return factory -> {
+            Compression compression = new Compression();
+            compression.setEnabled(true);
+            compression.setMinResponseSize(DataSize.ofBytes(minResponseBytes));
+            compression.setMimeTypes(new String[]{APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE,
+                    APPLICATION_SMILE_VALUE, APPLICATION_PROTOBUF_VALUE, "application/problem+json", "text/csv",
+                    "text/plain", "text/html"});
+            factory.setCompression(compression);
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.intelligent_inventory_prediction_system.constants;
+
+public final class ImportConstants {
+
+    public static final int IMPORT_BATCH_SIZE = 5_000;
+
+    public static final String IMPORT_JOB_NOT_FOUND_MESSAGE = "Import job not found with id: ";
+    public static final String IMPORT_EMPTY_INPUT_MESSAGE = "CSV input is empty";
+    public static final String IMPORT_MISSING_COLUMNS_MESSAGE = "CSV header is missing required columns: ";
+    public static final String IMPORT_TYPE_MISMATCH_MESSAGE = "Import job %s was started as a %s import";
+    public static final String IMPORT_PRICE_REQUIRED_MESSAGE = "Product price is required";
+    public static final String IMPORT_INVALID_NUMBER_MESSAGE = "Invalid number in column %s: %s";
+    public static final String IMPORT_INVALID_STATUS_MESSAGE = "Invalid product status: ";
+    public static final String IMPORT_DUPLICATE_INVENTORY_MESSAGE = "Inventory already exists for product id: ";
+    public static final String IMPORT_INVALID_DATE_MESSAGE = "Invalid date, expected yyyy-MM-dd: ";
+    public static final String IMPORT_INVALID_QUANTITY_MESSAGE = "Demand quantity must be zero or more: ";
+    public static final String IMPORT_INVENTORIES_DISABLED_MESSAGE =
+            "Inventory CSV import is disabled by inventory.import.inventories.enabled=false";
+    public static final String IMPORT_INVENTORIES_SHARDED_MESSAGE = "Inventory CSV import writes the primary inventory "
+            + "table and cannot be combined with inventory sharding; set inventory.import.inventories.enabled=false";
+
+    private ImportConstants() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+}
@@ -5,6 +5,10 @@ public final class InventoryConstant {
     public static final int MIN_STOCK = 0;
     public static final int MAX_STOCK = 1_000_000;
 
+    public static final int MAX_FORECAST_HORIZON_DAYS = 366;
+    // Format byte and horizon varint, then three varints of at most ten bytes a day.
+    public static final int MAX_PACKED_QUANTILES_BYTES = 4 + 30 * MAX_FORECAST_HORIZON_DAYS;
+
     public static final String INVENTORY_NOT_FOUND_MESSAGE = "Inventory not found with id: ";
     public static final String INVENTORY_REQUEST_NULL_MESSAGE = "Inventory request cannot be null";
     public static final String PRODUCT_ID_NULL_MESSAGE = "Product ID cannot be null";
@@ -12,6 +16,11 @@ public final class InventoryConstant {
     public static final String STOCK_LEVEL_NULL_MESSAGE = "Stock level cannot be null";
     public static final String STOCK_LEVEL_NEGATIVE_MESSAGE = "Stock level cannot be negative";
     public static final String STOCK_LEVEL_EXCEEDS_MAX_MESSAGE = "Stock level exceeds maximum allowed: " + MAX_STOCK;
+    public static final String REORDER_THRESHOLD_NEGATIVE_MESSAGE = "Reorder threshold cannot be negative";
+    public static final String FORECAST_DISABLED_MESSAGE = "Forecasting is disabled by inventory.forecast.enabled=false";
+    public static final String FORECAST_SHARDED_MESSAGE = "Forecasting reads the primary inventory table and cannot be "
+            + "combined with inventory sharding; set inventory.forecast.enabled=false";
+    public static final String REORDER_THRESHOLD_EXCEEDS_MAX_MESSAGE = "Reorder threshold exceeds maximum allowed: " + MAX_STOCK;
 
     private InventoryConstant() {
         throw new UnsupportedOperationException("Utility class");
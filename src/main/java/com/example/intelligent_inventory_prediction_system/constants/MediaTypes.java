@@ -0,0 +1,11 @@
+package com.example.intelligent_inventory_prediction_system.constants;
+
+public final class MediaTypes {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final String APPLICATION_PROTOBUF_VALUE = "application/x-protobuf";
+
+    private MediaTypes() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+}
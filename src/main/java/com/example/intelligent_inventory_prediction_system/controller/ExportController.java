@@ -0,0 +1,70 @@
+package com.example.intelligent_inventory_prediction_system.controller;
+
+import com.example.intelligent_inventory_prediction_system.dto.response.ExportSnapshotResponseDTO;
+import com.example.intelligent_inventory_prediction_system.service.export.ExportDataset;
+import com.example.intelligent_inventory_prediction_system.service.export.ExportFormat;
+import com.example.intelligent_inventory_prediction_system.service.export.ExportSnapshotService;
+import com.example.intelligent_inventory_prediction_system.service.export.SnapshotFileSender;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+@Tag(name = "Bulk Export", description = "Snapshot files of the catalogue and stock levels")
+public class ExportController {
+
+    private final ExportSnapshotService exportSnapshotService;
+    private final SnapshotFileSender snapshotFileSender;
+
+    @GetMapping("/{dataset}")
+    @Operation(
+            summary = "Download a snapshot",
+            description = "Serves the latest products or inventories snapshot as CSV or the columnar binary format. "
+                    + "Supports If-None-Match against the content hash ETag and single byte Range requests."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Full snapshot"),
+            @ApiResponse(responseCode = "206", description = "Requested byte range"),
+            @ApiResponse(responseCode = "304", description = "Snapshot unchanged since the given ETag"),
+            @ApiResponse(responseCode = "416", description = "Range not satisfiable")
+    })
+    public void download(
+            @Parameter(description = "products or inventories") @PathVariable String dataset,
+            @Parameter(description = "csv or columnar") @RequestParam(defaultValue = "csv") String format,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        log.info("Received export request for {} as {}", dataset, format);
+        snapshotFileSender.send(
+                exportSnapshotService.getSnapshot(ExportDataset.fromName(dataset), ExportFormat.fromName(format)),
+                request, response);
+    }
+
+    @PostMapping(value = "/{dataset}/refresh", produces = APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Regenerate a snapshot",
+            description = "Regenerates the snapshot now; the file and ETag only change when the content hash does"
+    )
+    public ResponseEntity<ExportSnapshotResponseDTO> refresh(
+            @Parameter(description = "products or inventories") @PathVariable String dataset,
+            @Parameter(description = "csv or columnar") @RequestParam(defaultValue = "csv") String format
+    ) {
+        return ResponseEntity.ok(exportSnapshotService.refreshSnapshot(
+                ExportDataset.fromName(dataset), ExportFormat.fromName(format)));
+    }
+}
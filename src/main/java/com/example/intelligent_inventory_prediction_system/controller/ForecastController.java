@@ -0,0 +1,116 @@
+package com.example.intelligent_inventory_prediction_system.controller;
+
+import com.example.intelligent_inventory_prediction_system.dto.response.BacktestResponseDTO;
+import com.example.intelligent_inventory_prediction_system.dto.response.BatchJobResponseDTO;
+import com.example.intelligent_inventory_prediction_system.dto.response.ForecastAccuracyResponseDTO;
+import com.example.intelligent_inventory_prediction_system.dto.response.ModelSelectionResponseDTO;
+import com.example.intelligent_inventory_prediction_system.dto.response.ModelSelectionRunResponseDTO;
+import com.example.intelligent_inventory_prediction_system.service.ForecastService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/forecast")
+@RequiredArgsConstructor
+@Tag(name = "Forecasting", description = "Backtests and per-inventory selection of the demand forecasting models")
+public class ForecastController {
+
+    private final ForecastService forecastService;
+
+    @PostMapping(value = "/backtests", produces = APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Run a backtest",
+            description = "Evaluates every forecasting model on rolling windows of each product's demand history "
+                    + "and replaces the stored accuracy summaries. Waits for a backtest already running."
+    )
+    public ResponseEntity<BacktestResponseDTO> runBacktest() {
+        log.info("Received backtest request");
+        return ResponseEntity.ok(forecastService.runBacktest());
+    }
+
+    @GetMapping(value = "/accuracy", produces = APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Get forecast accuracy",
+            description = "MAPE, sMAPE, MASE and bias (%) of each model from the last backtest, per product or pooled "
+                    + "per category"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Accuracy summaries, empty before the first backtest"),
+            @ApiResponse(responseCode = "400", description = "Unknown scope")
+    })
+    public ResponseEntity<List<ForecastAccuracyResponseDTO>> getAccuracy(
+            @Parameter(description = "product or category") @RequestParam(defaultValue = "category") String scope,
+            @Parameter(description = "Product id or category name; all when omitted") @RequestParam(required = false)
+            String key
+    ) {
+        return ResponseEntity.ok(forecastService.findAccuracy(scope, key));
+    }
+
+    @PostMapping(value = "/selections", produces = APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Run model selection",
+            description = "Classifies each inventory's demand by ADI/CV² and backtests the models suited to it for "
+                    + "inventories whose pattern changed, that have no model yet or whose choice is stale. Waits for "
+                    + "a selection already running."
+    )
+    public ResponseEntity<ModelSelectionRunResponseDTO> runModelSelection() {
+        log.info("Received model selection request");
+        return ResponseEntity.ok(forecastService.runModelSelection());
+    }
+
+    @GetMapping(value = "/selections/{inventoryId}", produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get an inventory's model", description = "Demand pattern and forecasting model chosen for "
+            + "the inventory, with the model's backtest mean absolute error")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Selected model"),
+            @ApiResponse(responseCode = "404", description = "No model selected for the inventory yet")
+    })
+    public ResponseEntity<ModelSelectionResponseDTO> getModelSelection(@PathVariable Long inventoryId) {
+        return ResponseEntity.ok(forecastService.findModelSelection(inventoryId));
+    }
+
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Start the forecast batch",
+            description = "Forecasts every inventory with its selected model in the background, resuming the last "
+                    + "run if it did not complete. Does nothing while a run is in progress."
+    )
+    @ApiResponse(responseCode = "202", description = "Run started or already in progress")
+    public ResponseEntity<Void> startForecastBatch() {
+        log.info("Received forecast batch request");
+        forecastService.startForecastBatch();
+        return ResponseEntity.accepted().build();
+    }
+
+    @PostMapping("/batch/stop")
+    @Operation(summary = "Stop the forecast batch", description = "Stops the run in progress after its current "
+            + "chunk; the next run resumes from there")
+    @ApiResponse(responseCode = "202", description = "Stop requested")
+    public ResponseEntity<Void> stopForecastBatch() {
+        forecastService.stopForecastBatch();
+        return ResponseEntity.accepted().build();
+    }
+
+    @GetMapping(value = "/batch", produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get forecast batch progress", description = "Checkpoint of the last or current run, with "
+            + "the inventories per second and seconds left while it runs")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Batch progress"),
+            @ApiResponse(responseCode = "404", description = "The batch has not run yet")
+    })
+    public ResponseEntity<BatchJobResponseDTO> getForecastBatch() {
+        return ResponseEntity.ok(forecastService.findForecastBatch());
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.intelligent_inventory_prediction_system.controller;
+
+import com.example.intelligent_inventory_prediction_system.dto.response.ImportJobResponseDTO;
+import com.example.intelligent_inventory_prediction_system.service.importer.CsvImportService;
+import com.example.intelligent_inventory_prediction_system.service.importer.ImportType;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_OCTET_STREAM_VALUE;
+import static org.springframework.http.MediaType.TEXT_PLAIN_VALUE;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/import")
+@RequiredArgsConstructor
+@Tag(name = "Bulk Import", description = "Streaming CSV import of products, opening stock and demand history")
+public class ImportController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final CsvImportService csvImportService;
+
+    @PostMapping(value = "/products",
+            consumes = {TEXT_CSV_VALUE, TEXT_PLAIN_VALUE, APPLICATION_OCTET_STREAM_VALUE},
+            produces = APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Import products from CSV",
+            description = "Streams a CSV body with the columns name, description, category, price and status. "
+                    + "Pass the jobId of a failed import to resume after its last committed row."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Import finished; rejected rows are listed in the job report"),
+            @ApiResponse(responseCode = "400", description = "Malformed CSV or missing columns"),
+            @ApiResponse(responseCode = "404", description = "Unknown job id")
+    })
+    public ResponseEntity<ImportJobResponseDTO> importProducts(
+            HttpServletRequest request,
+            @Parameter(description = "Job id to resume") @RequestParam(required = false) String jobId
+    ) throws IOException {
+        log.info("Received product import request (jobId={}, {} bytes)", jobId, request.getContentLengthLong());
+        return ResponseEntity.ok(csvImportService.importCsv(
+                ImportType.PRODUCTS, request.getInputStream(), request.getContentLengthLong(), jobId));
+    }
+
+    @PostMapping(value = "/inventories",
+            consumes = {TEXT_CSV_VALUE, TEXT_PLAIN_VALUE, APPLICATION_OCTET_STREAM_VALUE},
+            produces = APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Import opening stock from CSV",
+            description = "Streams a CSV body with the columns productId, currentStock and optionally "
+                    + "reorderThreshold. Pass the jobId of a failed import to resume after its last committed row."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Import finished; rejected rows are listed in the job report"),
+            @ApiResponse(responseCode = "400", description = "Malformed CSV or missing columns"),
+            @ApiResponse(responseCode = "404", description = "Unknown job id")
+    })
+    public ResponseEntity<ImportJobResponseDTO> importInventories(
+            HttpServletRequest request,
+            @Parameter(description = "Job id to resume") @RequestParam(required = false) String jobId
+    ) throws IOException {
+        log.info("Received inventory import request (jobId={}, {} bytes)", jobId, request.getContentLengthLong());
+        return ResponseEntity.ok(csvImportService.importCsv(
+                ImportType.INVENTORIES, request.getInputStream(), request.getContentLengthLong(), jobId));
+    }
+
+    @PostMapping(value = "/demand",
+            consumes = {TEXT_CSV_VALUE, TEXT_PLAIN_VALUE, APPLICATION_OCTET_STREAM_VALUE},
+            produces = APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Import demand history from CSV",
+            description = "Streams a CSV body with the columns productId, date (yyyy-MM-dd) and quantity. Rows for "
+                    + "the same product and day add up. Pass the jobId of a failed import to resume after its last "
+                    + "committed row."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Import finished; rejected rows are listed in the job report"),
+            @ApiResponse(responseCode = "400", description = "Malformed CSV or missing columns"),
+            @ApiResponse(responseCode = "404", description = "Unknown job id")
+    })
+    public ResponseEntity<ImportJobResponseDTO> importDemand(
+            HttpServletRequest request,
+            @Parameter(description = "Job id to resume") @RequestParam(required = false) String jobId
+    ) throws IOException {
+        log.info("Received demand import request (jobId={}, {} bytes)", jobId, request.getContentLengthLong());
+        return ResponseEntity.ok(csvImportService.importCsv(
+                ImportType.DEMAND, request.getInputStream(), request.getContentLengthLong(), jobId));
+    }
+
+    @PostMapping(value = "/jobs", produces = APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Create an import job",
+            description = "Reserves a job id up front so that an upload interrupted mid-stream can be resumed with it"
+    )
+    public ResponseEntity<ImportJobResponseDTO> createJob(
+            @Parameter(description = "products, inventories or demand") @RequestParam String type
+    ) {
+        ImportType importType;
+        try {
+            importType = ImportType.valueOf(type.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown import type: " + type);
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(csvImportService.createJob(importType));
+    }
+
+    @GetMapping(value = "/jobs/{jobId}", produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get import progress", description = "Rows read, imported and rejected so far")
+    public ResponseEntity<ImportJobResponseDTO> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(csvImportService.getJob(jobId));
+    }
+
+    @GetMapping(value = "/jobs/{jobId}/rejected", produces = TEXT_CSV_VALUE)
+    @Operation(
+            summary = "Download rejected rows",
+            description = "CSV of the rejected input rows, prefixed with their line number and rejection reason"
+    )
+    public ResponseEntity<Resource> getRejectedRows(@PathVariable String jobId) {
+        return ResponseEntity.ok(new FileSystemResource(csvImportService.getRejectedRows(jobId)));
+    }
+}
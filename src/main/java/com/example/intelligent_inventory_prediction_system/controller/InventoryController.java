@@ -1,8 +1,17 @@
 package com.example.intelligent_inventory_prediction_system.controller;
 
+import com.example.intelligent_inventory_prediction_system.dto.projection.FieldSelection;
+import com.example.intelligent_inventory_prediction_system.dto.projection.InventoryField;
+import com.example.intelligent_inventory_prediction_system.dto.projection.ProjectedRow;
 import com.example.intelligent_inventory_prediction_system.dto.request.InventoryRequestDTO;
+import com.example.intelligent_inventory_prediction_system.dto.response.ChangeFeedResponseDTO;
 import com.example.intelligent_inventory_prediction_system.dto.response.InventoryResponseDTO;
+import com.example.intelligent_inventory_prediction_system.dto.response.StockLevelResponseDTO;
+import com.example.intelligent_inventory_prediction_system.dto.response.StockUpdateResponseDTO;
 import com.example.intelligent_inventory_prediction_system.service.InventoryService;
+import com.example.intelligent_inventory_prediction_system.service.StockUpdateService;
+import com.example.intelligent_inventory_prediction_system.service.stock.InventoryVersion;
+import com.example.intelligent_inventory_prediction_system.service.stock.VersionedInventory;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -10,6 +19,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
@@ -17,13 +27,21 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.TreeMap;
 
+import static com.example.intelligent_inventory_prediction_system.constants.MediaTypes.APPLICATION_PROTOBUF_VALUE;
+import static com.example.intelligent_inventory_prediction_system.constants.MediaTypes.APPLICATION_SMILE_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_CBOR_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 @Slf4j
@@ -34,9 +52,13 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 @Tag(name = "Inventory Management", description = "APIs for managing inventory stock levels")
 public class InventoryController {
 
+    private static final String FIELDS_DESCRIPTION = "Comma-separated response fields to select; all fields when omitted";
+    private static final String CHANGE_TOKEN_DESCRIPTION = "nextToken of the previous response; the whole feed from the start when omitted";
+
     private final InventoryService inventoryService;
+    private final StockUpdateService stockUpdateService;
 
-    @GetMapping(produces = APPLICATION_JSON_VALUE)
+    @GetMapping(produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_PROTOBUF_VALUE})
     @Operation(
             summary = "Get all inventories",
             description = "Retrieve a list of all inventory records without pagination"
@@ -46,14 +68,24 @@ public class InventoryController {
             description = "Successfully retrieved inventory list",
             content = @Content(schema = @Schema(implementation = InventoryResponseDTO.class))
     )
-    public ResponseEntity<List<InventoryResponseDTO>> getAllInventories() {
+    public ResponseEntity<?> getAllInventories(
+            @Parameter(description = FIELDS_DESCRIPTION, example = "id,productId,currentStock")
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest
+    ) {
         log.info("Received request to fetch all inventories");
+        if (isCollectionNotModified(webRequest)) {
+            return null;
+        }
+        if (fields != null) {
+            return ResponseEntity.ok(inventoryService.findAllInventories(InventoryField.parse(fields)));
+        }
         List<InventoryResponseDTO> inventories = inventoryService.findAllInventories();
         log.debug("Retrieved {} inventories", inventories.size());
         return ResponseEntity.ok(inventories);
     }
 
-    @GetMapping(value = "/paged", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/paged", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_PROTOBUF_VALUE})
     @Operation(
             summary = "Get paginated inventories",
             description = "Retrieve inventory records with pagination support"
@@ -62,10 +94,19 @@ public class InventoryController {
             responseCode = "200",
             description = "Successfully retrieved paginated inventory list"
     )
-    public ResponseEntity<Page<InventoryResponseDTO>> getInventoriesPageable(
-            @PageableDefault(size = 20, sort = "id") Pageable pageable
+    public ResponseEntity<?> getInventoriesPageable(
+            @PageableDefault(size = 20, sort = "id") Pageable pageable,
+            @Parameter(description = FIELDS_DESCRIPTION, example = "id,productId,currentStock")
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest
     ) {
         log.info("Received request to fetch inventories with pagination: {}", pageable);
+        if (isCollectionNotModified(webRequest)) {
+            return null;
+        }
+        if (fields != null) {
+            return ResponseEntity.ok(inventoryService.findAllInventories(pageable, InventoryField.parse(fields)));
+        }
         Page<InventoryResponseDTO> inventoryPage = inventoryService.findAllInventories(pageable);
         log.debug("Retrieved page {} of {} with {} items",
                 inventoryPage.getNumber(),
@@ -74,7 +115,35 @@ public class InventoryController {
         return ResponseEntity.ok(inventoryPage);
     }
 
-    @GetMapping(value = "/{id}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/changes", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    @Operation(
+            summary = "Get inventory changes",
+            description = "Retrieve the inventories created or updated and the ids removed since a change token, "
+                    + "in change order; follow nextToken while hasMore is set"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved inventory changes"
+            ),
+            @ApiResponse(
+                    responseCode = "410",
+                    description = "The token is older than the retained removals; sync again without a token"
+            )
+    })
+    public ResponseEntity<ChangeFeedResponseDTO<InventoryResponseDTO>> getInventoryChanges(
+            @Parameter(description = CHANGE_TOKEN_DESCRIPTION)
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum number of changes to return", example = "500")
+            @RequestParam(defaultValue = "500") int limit
+    ) {
+        log.info("Received request to fetch inventory changes since: {}", since);
+        ChangeFeedResponseDTO<InventoryResponseDTO> changes = inventoryService.findInventoryChanges(since, limit);
+        log.debug("Retrieved {} changed and {} removed inventories", changes.getChanged().size(), changes.getRemoved().size());
+        return ResponseEntity.ok(changes);
+    }
+
+    @GetMapping(value = "/{id}", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_PROTOBUF_VALUE})
     @Operation(
             summary = "Get inventory by ID",
             description = "Retrieve a specific inventory record by its unique identifier"
@@ -90,13 +159,55 @@ public class InventoryController {
                     description = "Inventory not found"
             )
     })
-    public ResponseEntity<InventoryResponseDTO> getInventoryById(
+    public ResponseEntity<?> getInventoryById(
             @Parameter(description = "Inventory ID", required = true, example = "1")
-            @PathVariable @Min(1) Long id
+            @PathVariable @Min(1) Long id,
+            @Parameter(description = FIELDS_DESCRIPTION, example = "id,productId,currentStock")
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest
     ) {
         log.info("Received request to fetch inventory with id: {}", id);
-        InventoryResponseDTO inventory = inventoryService.findInventoryById(id);
-        return ResponseEntity.ok(inventory);
+        FieldSelection<InventoryField> selection = fields == null ? null : InventoryField.parse(fields);
+        if (selection != null) {
+            VersionedInventory<ProjectedRow> stock = inventoryService.findStockProjectionById(id, selection);
+            if (stock != null) {
+                return validators(ResponseEntity.ok(), stock.version(), webRequest).body(stock.body());
+            }
+        }
+        InventoryVersion cached = inventoryService.findCachedInventoryVersion(id);
+        if (cached != null && isNotModified(webRequest, etag(cached.tag(), webRequest), cached.lastModified())) {
+            log.debug("Inventory {} not modified", id);
+            return validators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), cached, webRequest).build();
+        }
+        VersionedInventory<?> inventory = selection != null
+                ? inventoryService.findVersionedInventoryById(id, selection)
+                : inventoryService.findVersionedInventoryById(id);
+        // Validators of the row the body was built from; a matching If-None-Match still gets a 304 here.
+        return validators(ResponseEntity.ok(), inventory.version(), webRequest).body(inventory.body());
+    }
+
+    @GetMapping(value = "/{id}/stock", produces = APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Get stock level",
+            description = "Retrieve only the current stock level of an inventory record, served from memory when possible"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved stock level",
+                    content = @Content(schema = @Schema(implementation = StockLevelResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Inventory not found"
+            )
+    })
+    public ResponseEntity<StockLevelResponseDTO> getStockLevel(
+            @Parameter(description = "Inventory ID", required = true, example = "1")
+            @PathVariable @Min(1) Long id
+    ) {
+        log.debug("Received request to fetch stock level for inventory id: {}", id);
+        return ResponseEntity.ok(inventoryService.findStockLevel(id));
     }
 
     @PostMapping(consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
@@ -182,6 +293,42 @@ public class InventoryController {
         return ResponseEntity.ok(updatedInventory);
     }
 
+    @PostMapping(value = "/{id}/stock/updates", produces = APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Submit stock update",
+            description = "Set the stock level or add a delta to it. With write-behind enabled the update is "
+                    + "acknowledged once durable and written to the database within milliseconds"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Stock update applied",
+                    content = @Content(schema = @Schema(implementation = StockUpdateResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Stock update buffered",
+                    content = @Content(schema = @Schema(implementation = StockUpdateResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Inventory not found"
+            )
+    })
+    public ResponseEntity<StockUpdateResponseDTO> submitStockUpdate(
+            @Parameter(description = "Inventory ID", required = true, example = "1")
+            @PathVariable @Min(1) Long id,
+            @Parameter(description = "New stock level", example = "150")
+            @RequestParam(required = false) @Min(0) Integer stockLevel,
+            @Parameter(description = "Amount to add to the stock level, negative to remove", example = "-3")
+            @RequestParam(required = false) Integer delta
+    ) {
+        log.debug("Received stock update for inventory id: {} (stockLevel: {}, delta: {})", id, stockLevel, delta);
+        StockUpdateResponseDTO response = stockUpdateService.submit(id, stockLevel, delta);
+        HttpStatus status = StockUpdateService.MODE_BUFFERED.equals(response.getMode()) ? HttpStatus.ACCEPTED : HttpStatus.OK;
+        return ResponseEntity.status(status).body(response);
+    }
+
     @DeleteMapping("/{id}")
     @Operation(
             summary = "Delete inventory",
@@ -206,4 +353,37 @@ public class InventoryController {
         log.info("Successfully deleted inventory with id: {}", id);
         return ResponseEntity.noContent().build();
     }
+
+    private boolean isCollectionNotModified(WebRequest webRequest) {
+        String version = inventoryService.findCollectionVersion();
+        return version != null && webRequest.checkNotModified(etag(version, webRequest));
+    }
+
+    // Checked against the request alone, so a stale cached version leaves no validators behind on the full response.
+    private static boolean isNotModified(WebRequest webRequest, String etag, long lastModified) {
+        HttpServletRequest request = webRequest instanceof NativeWebRequest nativeRequest
+                ? nativeRequest.getNativeRequest(HttpServletRequest.class) : null;
+        return request != null && new ServletWebRequest(request).checkNotModified(etag, lastModified);
+    }
+
+    private static ResponseEntity.BodyBuilder validators(ResponseEntity.BodyBuilder response, InventoryVersion version,
+                                                         WebRequest webRequest) {
+        if (version != null) {
+            response.eTag(etag(version.tag(), webRequest));
+            if (version.lastModified() >= 0) {
+                response.lastModified(version.lastModified());
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Strong ETag of one representation: other pages, field selections and encodings of the same data differ.
+     */
+    private static String etag(String version, WebRequest webRequest) {
+        StringBuilder variant = new StringBuilder(String.valueOf(webRequest.getHeader(HttpHeaders.ACCEPT)));
+        new TreeMap<>(webRequest.getParameterMap()).forEach((name, values) ->
+                variant.append('&').append(name).append('=').append(String.join(",", values)));
+        return "\"" + version + "-" + Integer.toHexString(variant.toString().hashCode()) + "\"";
+    }
 }
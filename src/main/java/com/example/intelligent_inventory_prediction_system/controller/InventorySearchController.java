@@ -1,5 +1,6 @@
 package com.example.intelligent_inventory_prediction_system.controller;
 
+import com.example.intelligent_inventory_prediction_system.dto.projection.InventoryField;
 import com.example.intelligent_inventory_prediction_system.dto.response.InventoryResponseDTO;
 import com.example.intelligent_inventory_prediction_system.dto.search.InventorySearchCriteria;
 import com.example.intelligent_inventory_prediction_system.service.InventorySearchService;
@@ -17,6 +18,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -25,6 +27,8 @@ import java.util.List;
 @Tag(name = "Inventory Search", description = "Advanced search operations for inventory management")
 public class InventorySearchController {
 
+    private static final String FIELDS_DESCRIPTION = "Comma-separated response fields to select; all fields when omitted";
+
     private final InventorySearchService inventorySearchService;
 
     @PostMapping("/advanced")
@@ -42,14 +46,31 @@ public class InventorySearchController {
                     responseCode = "400",
                     description = "Invalid search criteria provided",
                     content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Too many searches queued; retry after the Retry-After delay",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "504",
+                    description = "The search did not complete within its deadline",
+                    content = @Content
             )
     })
-    public ResponseEntity<List<InventoryResponseDTO>> searchInventories(
-            @RequestBody InventorySearchCriteria criteria) {
+    public CompletableFuture<ResponseEntity<?>> searchInventories(
+            @RequestBody InventorySearchCriteria criteria,
+            @Parameter(description = FIELDS_DESCRIPTION, example = "id,productId,currentStock")
+            @RequestParam(required = false) String fields) {
         log.debug("Received advanced inventory search request with criteria: {}", criteria);
-        List<InventoryResponseDTO> inventoryList = inventorySearchService.searchInventories(criteria);
-        log.info("Returned {} inventory records for advanced search.", inventoryList.size());
-        return new ResponseEntity<>(inventoryList, HttpStatus.OK);
+        if (fields != null) {
+            return inventorySearchService.searchInventoriesAsync(criteria, InventoryField.parse(fields))
+                    .thenApply(ResponseEntity::ok);
+        }
+        return inventorySearchService.searchInventoriesAsync(criteria).thenApply(inventoryList -> {
+            log.info("Returned {} inventory records for advanced search.", inventoryList.size());
+            return new ResponseEntity<>(inventoryList, HttpStatus.OK);
+        });
     }
 
     @GetMapping("/product/{productId}")
@@ -69,10 +90,15 @@ public class InventorySearchController {
                     content = @Content
             )
     })
-    public ResponseEntity<List<InventoryResponseDTO>> findByProductId(
+    public ResponseEntity<?> findByProductId(
             @Parameter(description = "Product ID to search for", required = true)
-            @PathVariable Long productId) {
+            @PathVariable Long productId,
+            @Parameter(description = FIELDS_DESCRIPTION, example = "id,productId,currentStock")
+            @RequestParam(required = false) String fields) {
         log.debug("Received search by product ID request: {}", productId);
+        if (fields != null) {
+            return ResponseEntity.ok(inventorySearchService.findByProductId(productId, InventoryField.parse(fields)));
+        }
         List<InventoryResponseDTO> inventoryList = inventorySearchService.findByProductId(productId);
         log.info("Returned {} inventory records for product ID: {}", inventoryList.size(), productId);
         return new ResponseEntity<>(inventoryList, HttpStatus.OK);
@@ -95,12 +121,17 @@ public class InventorySearchController {
                     content = @Content
             )
     })
-    public ResponseEntity<List<InventoryResponseDTO>> findByStockRange(
+    public ResponseEntity<?> findByStockRange(
             @Parameter(description = "Minimum stock level (optional)", example = "5")
             @RequestParam(required = false) Integer minStock,
             @Parameter(description = "Maximum stock level (optional)", example = "100")
-            @RequestParam(required = false) Integer maxStock) {
+            @RequestParam(required = false) Integer maxStock,
+            @Parameter(description = FIELDS_DESCRIPTION, example = "id,productId,currentStock")
+            @RequestParam(required = false) String fields) {
         log.debug("Received stock range search request: minStock={}, maxStock={}", minStock, maxStock);
+        if (fields != null) {
+            return ResponseEntity.ok(inventorySearchService.findByStockRange(minStock, maxStock, InventoryField.parse(fields)));
+        }
         List<InventoryResponseDTO> inventoryList = inventorySearchService.findByStockRange(minStock, maxStock);
         log.info("Returned {} inventory records for stock range {}-{}.", inventoryList.size(), minStock, maxStock);
         return new ResponseEntity<>(inventoryList, HttpStatus.OK);
@@ -123,12 +154,39 @@ public class InventorySearchController {
                     content = @Content
             )
     })
-    public ResponseEntity<List<InventoryResponseDTO>> findByMinimumStock(
+    public ResponseEntity<?> findByMinimumStock(
             @Parameter(description = "Minimum stock threshold (exclusive)", required = true, example = "10")
-            @RequestParam Integer minStock) {
+            @RequestParam Integer minStock,
+            @Parameter(description = FIELDS_DESCRIPTION, example = "id,productId,currentStock")
+            @RequestParam(required = false) String fields) {
         log.debug("Received minimum stock search request: minStock={}", minStock);
+        if (fields != null) {
+            return ResponseEntity.ok(inventorySearchService.findByMinimumStock(minStock, InventoryField.parse(fields)));
+        }
         List<InventoryResponseDTO> inventoryList = inventorySearchService.findByMinimumStock(minStock);
         log.info("Returned {} inventory records with stock greater than {}.", inventoryList.size(), minStock);
         return new ResponseEntity<>(inventoryList, HttpStatus.OK);
     }
+
+    @GetMapping("/below-threshold")
+    @Operation(
+            summary = "Find inventory below reorder threshold",
+            description = "Retrieve inventory records whose current stock is below their reorder threshold"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved inventory below reorder threshold",
+            content = @Content(schema = @Schema(implementation = InventoryResponseDTO.class))
+    )
+    public ResponseEntity<?> findBelowReorderThreshold(
+            @Parameter(description = FIELDS_DESCRIPTION, example = "id,productId,currentStock")
+            @RequestParam(required = false) String fields) {
+        log.debug("Received below reorder threshold search request");
+        if (fields != null) {
+            return ResponseEntity.ok(inventorySearchService.findBelowReorderThreshold(InventoryField.parse(fields)));
+        }
+        List<InventoryResponseDTO> inventoryList = inventorySearchService.findBelowReorderThreshold();
+        log.info("Returned {} inventory records below their reorder threshold.", inventoryList.size());
+        return new ResponseEntity<>(inventoryList, HttpStatus.OK);
+    }
 }
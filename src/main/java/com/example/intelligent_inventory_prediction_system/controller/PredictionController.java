@@ -0,0 +1,92 @@
+package com.example.intelligent_inventory_prediction_system.controller;
+
+import com.example.intelligent_inventory_prediction_system.dto.request.PredictionQueryRequestDTO;
+import com.example.intelligent_inventory_prediction_system.dto.response.InventoryPredictionResponseDTO;
+import com.example.intelligent_inventory_prediction_system.service.PredictionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/forecast/predictions")
+@RequiredArgsConstructor
+@Tag(name = "Predictions", description = "Daily demand quantiles forecast per inventory")
+public class PredictionController {
+
+    private final PredictionService predictionService;
+
+    @PostMapping(value = "/{inventoryId}", produces = APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Forecast an inventory",
+            description = "Forecasts P10/P50/P90 daily demand from the day after the inventory's last demand with "
+                    + "its selected model and replaces the stored prediction"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "New prediction"),
+            @ApiResponse(responseCode = "400", description = "Unknown inventory"),
+            @ApiResponse(responseCode = "404", description = "No demand history for the inventory")
+    })
+    public ResponseEntity<InventoryPredictionResponseDTO> predict(@PathVariable Long inventoryId) {
+        log.info("Received prediction request for inventory {}", inventoryId);
+        return ResponseEntity.ok(predictionService.predict(inventoryId));
+    }
+
+    @GetMapping(value = "/{inventoryId}", produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get an inventory's prediction")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Stored prediction"),
+            @ApiResponse(responseCode = "404", description = "Inventory not forecast yet")
+    })
+    public ResponseEntity<InventoryPredictionResponseDTO> getPrediction(@PathVariable Long inventoryId) {
+        return ResponseEntity.ok(predictionService.findPrediction(inventoryId));
+    }
+
+    @GetMapping(produces = APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Stream predictions of an inventory ID range",
+            description = "Streams a JSON array of the stored predictions of inventories with IDs in the range, in "
+                    + "ID order, read in keyset chunks"
+    )
+    public ResponseEntity<StreamingResponseBody> getPredictionRange(
+            @Parameter(description = "First inventory ID, inclusive") @RequestParam long fromInventoryId,
+            @Parameter(description = "Last inventory ID, inclusive") @RequestParam long toInventoryId
+    ) {
+        predictionService.checkRange(fromInventoryId, toInventoryId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> predictionService.writeRange(fromInventoryId, toInventoryId, out));
+    }
+
+    @PostMapping(value = "/query", produces = APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Stream predictions of many inventories",
+            description = "Streams a JSON array of the stored predictions of up to "
+                    + "inventory.forecast.predictions.max-ids inventories in ID order; inventories without a "
+                    + "prediction are left out"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Predictions"),
+            @ApiResponse(responseCode = "400", description = "No or too many inventory IDs")
+    })
+    public ResponseEntity<StreamingResponseBody> queryPredictions(@Valid @RequestBody PredictionQueryRequestDTO request) {
+        List<Long> inventoryIds = predictionService.checkInventoryIds(request.getInventoryIds());
+        log.info("Received prediction query for {} inventories", inventoryIds.size());
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> predictionService.writeByIds(inventoryIds, out));
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.intelligent_inventory_prediction_system.controller;
 
+import com.example.intelligent_inventory_prediction_system.dto.projection.ProductField;
 import com.example.intelligent_inventory_prediction_system.dto.request.ProductRequestDTO;
+import com.example.intelligent_inventory_prediction_system.dto.response.ChangeFeedResponseDTO;
 import com.example.intelligent_inventory_prediction_system.dto.response.ProductResponseDTO;
 import com.example.intelligent_inventory_prediction_system.exception.ResourceNotFoundException;
 import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
@@ -31,6 +33,9 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 @Tag(name = "Product Management", description = "APIs for managing product catalog and inventory")
 public class ProductController {
 
+    private static final String FIELDS_DESCRIPTION = "Comma-separated response fields to select; all fields when omitted";
+    private static final String CHANGE_TOKEN_DESCRIPTION = "nextToken of the previous response; the whole feed from the start when omitted";
+
     private static final int DEFAULT_PAGE_SIZE = 10;
     private final ProductService productService;
 
@@ -44,15 +49,48 @@ public class ProductController {
             description = "Successfully retrieved products",
             content = @Content(schema = @Schema(implementation = Page.class))
     )
-    public ResponseEntity<Page<ProductResponseDTO>> getAllProducts(
-            @PageableDefault(size = DEFAULT_PAGE_SIZE) Pageable pageable
+    public ResponseEntity<?> getAllProducts(
+            @PageableDefault(size = DEFAULT_PAGE_SIZE) Pageable pageable,
+            @Parameter(description = FIELDS_DESCRIPTION, example = "id,name,price")
+            @RequestParam(required = false) String fields
     ) {
         log.debug("getAllProducts page: {}", pageable.getPageNumber());
+        if (fields != null) {
+            return ResponseEntity.ok(productService.findAllProducts(pageable, ProductField.parse(fields)));
+        }
         Page<ProductResponseDTO> allProducts = productService.findAllProducts(pageable);
         log.info("getAllProducts returned {} items", allProducts.getContent().size());
         return ResponseEntity.ok(allProducts);
     }
 
+    @GetMapping(value = "/changes", produces = APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Get product changes",
+            description = "Retrieve the products created or updated and the ids removed since a change token, "
+                    + "in change order; follow nextToken while hasMore is set"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved product changes"
+            ),
+            @ApiResponse(
+                    responseCode = "410",
+                    description = "The token is older than the retained removals; sync again without a token"
+            )
+    })
+    public ResponseEntity<ChangeFeedResponseDTO<ProductResponseDTO>> getProductChanges(
+            @Parameter(description = CHANGE_TOKEN_DESCRIPTION)
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum number of changes to return", example = "500")
+            @RequestParam(defaultValue = "500") int limit
+    ) {
+        log.debug("getProductChanges since: {}", since);
+        ChangeFeedResponseDTO<ProductResponseDTO> changes = productService.findProductChanges(since, limit);
+        log.info("getProductChanges returned {} changed and {} removed", changes.getChanged().size(), changes.getRemoved().size());
+        return ResponseEntity.ok(changes);
+    }
+
     @GetMapping(value = "/{id}", produces = APPLICATION_JSON_VALUE)
     @Operation(
             summary = "Get product by ID",
@@ -69,11 +107,16 @@ public class ProductController {
                     description = "Product not found with the given ID"
             )
     })
-    public ResponseEntity<ProductResponseDTO> getProductById(
+    public ResponseEntity<?> getProductById(
             @Parameter(description = "Product ID", required = true, example = "1")
-            @PathVariable Long id
+            @PathVariable Long id,
+            @Parameter(description = FIELDS_DESCRIPTION, example = "id,name,price")
+            @RequestParam(required = false) String fields
     ) {
         log.debug("getProductById: {}", id);
+        if (fields != null) {
+            return ResponseEntity.ok(productService.findProductById(id, ProductField.parse(fields)));
+        }
         ProductResponseDTO responseDTO = productService.findProductById(id);
 
         if (responseDTO == null) {
@@ -1,5 +1,6 @@
 package com.example.intelligent_inventory_prediction_system.controller;
 
+import com.example.intelligent_inventory_prediction_system.dto.projection.ProductField;
 import com.example.intelligent_inventory_prediction_system.dto.response.ProductResponseDTO;
 import com.example.intelligent_inventory_prediction_system.dto.search.ProductSearchCriteria;
 import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
@@ -17,7 +18,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import static com.example.intelligent_inventory_prediction_system.constants.MediaTypes.APPLICATION_PROTOBUF_VALUE;
+import static com.example.intelligent_inventory_prediction_system.constants.MediaTypes.APPLICATION_SMILE_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_CBOR_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 @Slf4j
@@ -27,9 +32,11 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 @Tag(name = "Product Search", description = "Advanced search and filtering APIs for products")
 public class ProductSearchController {
 
+    private static final String FIELDS_DESCRIPTION = "Comma-separated response fields to select; all fields when omitted";
+
     private final ProductSearchService productSearchService;
 
-    @GetMapping(value = "/advanced", consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/advanced", consumes = APPLICATION_JSON_VALUE, produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_PROTOBUF_VALUE})
     @Operation(
             summary = "Advanced product search",
             description = "Search products using complex criteria with multiple filters"
@@ -39,16 +46,23 @@ public class ProductSearchController {
             description = "Successfully retrieved matching products",
             content = @Content(schema = @Schema(implementation = ProductResponseDTO.class))
     )
-    public ResponseEntity<List<ProductResponseDTO>> searchProducts(
-            @RequestBody ProductSearchCriteria criteria
+    public CompletableFuture<ResponseEntity<?>> searchProducts(
+            @RequestBody ProductSearchCriteria criteria,
+            @Parameter(description = FIELDS_DESCRIPTION, example = "id,name,price")
+            @RequestParam(required = false) String fields
     ) {
         log.debug("Received advanced search request with criteria: {}", criteria);
-        List<ProductResponseDTO> products = productSearchService.searchProducts(criteria);
-        log.info("Returned {} products for advanced search", products.size());
-        return ResponseEntity.ok(products);
+        if (fields != null) {
+            return productSearchService.searchProductsAsync(criteria, ProductField.parse(fields))
+                    .thenApply(ResponseEntity::ok);
+        }
+        return productSearchService.searchProductsAsync(criteria).thenApply(products -> {
+            log.info("Returned {} products for advanced search", products.size());
+            return ResponseEntity.ok(products);
+        });
     }
 
-    @GetMapping(value = "/keyword", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/keyword", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_PROTOBUF_VALUE})
     @Operation(
             summary = "Search by keyword",
             description = "Search products by keyword in name, description, or category"
@@ -57,17 +71,24 @@ public class ProductSearchController {
             responseCode = "200",
             description = "Successfully retrieved matching products"
     )
-    public ResponseEntity<List<ProductResponseDTO>> findByKeyword(
+    public CompletableFuture<ResponseEntity<?>> findByKeyword(
             @Parameter(description = "Search keyword", required = true, example = "laptop")
-            @RequestParam("value") String keyword
+            @RequestParam("value") String keyword,
+            @Parameter(description = FIELDS_DESCRIPTION, example = "id,name,price")
+            @RequestParam(required = false) String fields
     ) {
         log.debug("Received search by keyword request: {}", keyword);
-        List<ProductResponseDTO> products = productSearchService.findByKeyword(keyword);
-        log.info("Returned {} products for keyword '{}'", products.size(), keyword);
-        return ResponseEntity.ok(products);
+        if (fields != null) {
+            return productSearchService.findByKeywordAsync(keyword, ProductField.parse(fields))
+                    .thenApply(ResponseEntity::ok);
+        }
+        return productSearchService.findByKeywordAsync(keyword).thenApply(products -> {
+            log.info("Returned {} products for keyword '{}'", products.size(), keyword);
+            return ResponseEntity.ok(products);
+        });
     }
 
-    @GetMapping(value = "/name", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/name", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_PROTOBUF_VALUE})
     @Operation(
             summary = "Search by product name",
             description = "Find products matching a specific name (case-insensitive)"
@@ -76,17 +97,22 @@ public class ProductSearchController {
             responseCode = "200",
             description = "Successfully retrieved matching products"
     )
-    public ResponseEntity<List<ProductResponseDTO>> findByName(
+    public ResponseEntity<?> findByName(
             @Parameter(description = "Product name", required = true, example = "iPhone 15")
-            @RequestParam("value") String name
+            @RequestParam("value") String name,
+            @Parameter(description = FIELDS_DESCRIPTION, example = "id,name,price")
+            @RequestParam(required = false) String fields
     ) {
         log.debug("Received search by name request: {}", name);
+        if (fields != null) {
+            return ResponseEntity.ok(productSearchService.findByName(name, ProductField.parse(fields)));
+        }
         List<ProductResponseDTO> products = productSearchService.findByName(name);
         log.info("Returned {} products for name '{}'", products.size(), name);
         return ResponseEntity.ok(products);
     }
 
-    @GetMapping(value = "/category", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/category", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_PROTOBUF_VALUE})
     @Operation(
             summary = "Search by category",
             description = "Retrieve all products in a specific category"
@@ -95,17 +121,22 @@ public class ProductSearchController {
             responseCode = "200",
             description = "Successfully retrieved products in category"
     )
-    public ResponseEntity<List<ProductResponseDTO>> findByCategory(
+    public ResponseEntity<?> findByCategory(
             @Parameter(description = "Category name", required = true, example = "Electronics")
-            @RequestParam("value") String category
+            @RequestParam("value") String category,
+            @Parameter(description = FIELDS_DESCRIPTION, example = "id,name,price")
+            @RequestParam(required = false) String fields
     ) {
         log.debug("Received search by category request: {}", category);
+        if (fields != null) {
+            return ResponseEntity.ok(productSearchService.findByCategory(category, ProductField.parse(fields)));
+        }
         List<ProductResponseDTO> products = productSearchService.findByCategory(category);
         log.info("Returned {} products for category '{}'", products.size(), category);
         return ResponseEntity.ok(products);
     }
 
-    @GetMapping(value = "/price-range", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/price-range", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_PROTOBUF_VALUE})
     @Operation(
             summary = "Search by price range",
             description = "Find products within a specific price range (min and max inclusive)"
@@ -114,19 +145,24 @@ public class ProductSearchController {
             responseCode = "200",
             description = "Successfully retrieved products in price range"
     )
-    public ResponseEntity<List<ProductResponseDTO>> findByPriceRange(
+    public ResponseEntity<?> findByPriceRange(
             @Parameter(description = "Minimum price", example = "100.0")
             @RequestParam(required = false) Double min,
             @Parameter(description = "Maximum price", example = "500.0")
-            @RequestParam(required = false) Double max
+            @RequestParam(required = false) Double max,
+            @Parameter(description = FIELDS_DESCRIPTION, example = "id,name,price")
+            @RequestParam(required = false) String fields
     ) {
         log.debug("Received search by price range request: min={}, max={}", min, max);
+        if (fields != null) {
+            return ResponseEntity.ok(productSearchService.findByPriceRange(min, max, ProductField.parse(fields)));
+        }
         List<ProductResponseDTO> products = productSearchService.findByPriceRange(min, max);
         log.info("Returned {} products for price range {}-{}", products.size(), min, max);
         return ResponseEntity.ok(products);
     }
 
-    @GetMapping(value = "/status", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/status", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_PROTOBUF_VALUE})
     @Operation(
             summary = "Search by product status",
             description = "Filter products by their current status (ACTIVE, INACTIVE, etc.)"
@@ -135,17 +171,22 @@ public class ProductSearchController {
             responseCode = "200",
             description = "Successfully retrieved products with specified status"
     )
-    public ResponseEntity<List<ProductResponseDTO>> findByStatus(
+    public ResponseEntity<?> findByStatus(
             @Parameter(description = "Product status", required = true, example = "ACTIVE")
-            @RequestParam("value") ProductStatus status
+            @RequestParam("value") ProductStatus status,
+            @Parameter(description = FIELDS_DESCRIPTION, example = "id,name,price")
+            @RequestParam(required = false) String fields
     ) {
         log.debug("Received search by status request: {}", status);
+        if (fields != null) {
+            return ResponseEntity.ok(productSearchService.findByStatus(status, ProductField.parse(fields)));
+        }
         List<ProductResponseDTO> products = productSearchService.findByStatus(status);
         log.info("Returned {} products for status '{}'", products.size(), status);
         return ResponseEntity.ok(products);
     }
 
-    @GetMapping(value = "/available-above", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/available-above", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_PROTOBUF_VALUE})
     @Operation(
             summary = "Find available products above price",
             description = "Get all available (in-stock) products priced above a minimum value"
@@ -154,17 +195,22 @@ public class ProductSearchController {
             responseCode = "200",
             description = "Successfully retrieved available products"
     )
-    public ResponseEntity<List<ProductResponseDTO>> findAvailableProductsAbovePrice(
+    public ResponseEntity<?> findAvailableProductsAbovePrice(
             @Parameter(description = "Minimum price threshold", required = true, example = "200.0")
-            @RequestParam("price") Double minPrice
+            @RequestParam("price") Double minPrice,
+            @Parameter(description = FIELDS_DESCRIPTION, example = "id,name,price")
+            @RequestParam(required = false) String fields
     ) {
         log.debug("Received search for available products above price: {}", minPrice);
+        if (fields != null) {
+            return ResponseEntity.ok(productSearchService.findAvailableProductsAbovePrice(minPrice, ProductField.parse(fields)));
+        }
         List<ProductResponseDTO> products = productSearchService.findAvailableProductsAbovePrice(minPrice);
         log.info("Returned {} available products above price {}", products.size(), minPrice);
         return ResponseEntity.ok(products);
     }
 
-    @GetMapping(value = "/active", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/active", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_PROTOBUF_VALUE})
     @Operation(
             summary = "Get all active products",
             description = "Retrieve all products with ACTIVE status"
@@ -173,8 +219,14 @@ public class ProductSearchController {
             responseCode = "200",
             description = "Successfully retrieved active products"
     )
-    public ResponseEntity<List<ProductResponseDTO>> findActiveProducts() {
+    public ResponseEntity<?> findActiveProducts(
+            @Parameter(description = FIELDS_DESCRIPTION, example = "id,name,price")
+            @RequestParam(required = false) String fields
+    ) {
         log.debug("Received search for active products");
+        if (fields != null) {
+            return ResponseEntity.ok(productSearchService.findActiveProducts(ProductField.parse(fields)));
+        }
         List<ProductResponseDTO> products = productSearchService.findActiveProducts();
         log.info("Returned {} active products", products.size());
         return ResponseEntity.ok(products);
@@ -0,0 +1,63 @@
+package com.example.intelligent_inventory_prediction_system.dto.projection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The fields requested with {@code fields=}, in request order and without duplicates.
+ */
+public final class FieldSelection<F extends Enum<F> & ProjectedField> {
+
+    private final List<F> fields;
+
+    private FieldSelection(List<F> fields) {
+        this.fields = List.copyOf(fields);
+    }
+
+    public static <F extends Enum<F> & ProjectedField> FieldSelection<F> parse(String fields, Class<F> type) {
+        if (fields == null || fields.isBlank()) {
+            throw new IllegalArgumentException("fields must name at least one field");
+        }
+        F[] universe = type.getEnumConstants();
+        EnumSet<F> seen = EnumSet.noneOf(type);
+        List<F> selected = new ArrayList<>(universe.length);
+        for (String token : fields.split(",")) {
+            String name = token.strip();
+            if (name.isEmpty()) {
+                continue;
+            }
+            F field = Arrays.stream(universe)
+                    .filter(candidate -> candidate.getName().equals(name))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown field '" + name + "', expected any of "
+                            + Arrays.stream(universe).map(ProjectedField::getName).collect(Collectors.joining(", "))));
+            if (seen.add(field)) {
+                selected.add(field);
+            }
+        }
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("fields must name at least one field");
+        }
+        return new FieldSelection<>(selected);
+    }
+
+    public List<F> getFields() {
+        return fields;
+    }
+
+    public F get(int index) {
+        return fields.get(index);
+    }
+
+    public int size() {
+        return fields.size();
+    }
+
+    @Override
+    public String toString() {
+        return fields.stream().map(ProjectedField::getName).collect(Collectors.joining(","));
+    }
+}
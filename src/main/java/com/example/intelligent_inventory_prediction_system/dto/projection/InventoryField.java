@@ -0,0 +1,63 @@
+package com.example.intelligent_inventory_prediction_system.dto.projection;
+
+import com.example.intelligent_inventory_prediction_system.model.Inventory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * Selectable fields of {@code InventoryResponseDTO}. {@code productId} reads the foreign key column, so selecting it
+ * does not join the product table.
+ */
+public enum InventoryField implements ProjectedField {
+    ID("id", "id", Inventory::getId, ValueWriters.LONG),
+    PRODUCT_ID("productId", "product.id",
+            inventory -> inventory.getProduct() == null ? null : inventory.getProduct().getId(), ValueWriters.LONG),
+    CURRENT_STOCK("currentStock", "currentStock", Inventory::getCurrentStock, ValueWriters.INT),
+    REORDER_THRESHOLD("reorderThreshold", "reorderThreshold", Inventory::getReorderThreshold, ValueWriters.INT),
+    LAST_UPDATED("lastUpdated", "lastUpdated", Inventory::getLastUpdated, ValueWriters.DATE_TIME);
+
+    private final String name;
+    private final String attributePath;
+    private final Function<Inventory, Object> accessor;
+    private final ValueWriters.ValueWriter writer;
+
+    InventoryField(String name, String attributePath, Function<Inventory, Object> accessor,
+                   ValueWriters.ValueWriter writer) {
+        this.name = name;
+        this.attributePath = attributePath;
+        this.accessor = accessor;
+        this.writer = writer;
+    }
+
+    public static FieldSelection<InventoryField> parse(String fields) {
+        return FieldSelection.parse(fields, InventoryField.class);
+    }
+
+    /**
+     * Projects an already loaded entity, for sources that cannot narrow their select list (the sharded store).
+     */
+    public static ProjectedRow project(Inventory inventory, FieldSelection<InventoryField> selection) {
+        Object[] values = new Object[selection.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = selection.get(i).accessor.apply(inventory);
+        }
+        return new ProjectedRow(selection, values);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getAttributePath() {
+        return attributePath;
+    }
+
+    @Override
+    public void write(JsonGenerator generator, Object value) throws IOException {
+        writer.write(generator, value);
+    }
+}
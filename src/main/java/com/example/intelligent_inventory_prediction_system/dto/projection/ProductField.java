@@ -0,0 +1,46 @@
+package com.example.intelligent_inventory_prediction_system.dto.projection;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * Selectable fields of {@code ProductResponseDTO}.
+ */
+public enum ProductField implements ProjectedField {
+    ID("id", "id", ValueWriters.LONG),
+    NAME("name", "name", ValueWriters.STRING),
+    CATEGORY("category", "category", ValueWriters.STRING),
+    DESCRIPTION("description", "description", ValueWriters.STRING),
+    PRICE("price", "price", ValueWriters.DOUBLE),
+    STATUS("status", "status", ValueWriters.ENUM);
+
+    private final String name;
+    private final String attributePath;
+    private final ValueWriters.ValueWriter writer;
+
+    ProductField(String name, String attributePath, ValueWriters.ValueWriter writer) {
+        this.name = name;
+        this.attributePath = attributePath;
+        this.writer = writer;
+    }
+
+    public static FieldSelection<ProductField> parse(String fields) {
+        return FieldSelection.parse(fields, ProductField.class);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getAttributePath() {
+        return attributePath;
+    }
+
+    @Override
+    public void write(JsonGenerator generator, Object value) throws IOException {
+        writer.write(generator, value);
+    }
+}
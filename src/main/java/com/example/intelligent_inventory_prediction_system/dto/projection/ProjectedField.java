@@ -0,0 +1,21 @@
+package com.example.intelligent_inventory_prediction_system.dto.projection;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * A response field that can be selected with {@code fields=}: its name in the response, the entity attribute it is
+ * read from, and how to write its value without going through bean introspection.
+ */
+public interface ProjectedField {
+
+    String getName();
+
+    /**
+     * Dotted attribute path on the entity, e.g. {@code product.id}.
+     */
+    String getAttributePath();
+
+    void write(JsonGenerator generator, Object value) throws IOException;
+}
@@ -0,0 +1,69 @@
+package com.example.intelligent_inventory_prediction_system.dto.projection;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+
+/**
+ * One row of a partial response: the selected column values in selection order. It writes itself straight to the
+ * generator, so JSON, CBOR and Smile responses skip bean introspection of a DTO that would be mostly empty.
+ */
+public final class ProjectedRow implements JsonSerializable {
+
+    private final FieldSelection<?> selection;
+    private final Object[] values;
+
+    public ProjectedRow(FieldSelection<?> selection, Object[] values) {
+        if (values.length != selection.size()) {
+            throw new IllegalArgumentException("Expected " + selection.size() + " values but got " + values.length);
+        }
+        this.selection = selection;
+        this.values = values;
+    }
+
+    public FieldSelection<?> getSelection() {
+        return selection;
+    }
+
+    public Object get(ProjectedField field) {
+        for (int i = 0; i < values.length; i++) {
+            if (selection.get(i) == field) {
+                return values[i];
+            }
+        }
+        throw new IllegalArgumentException("Field " + field.getName() + " was not selected");
+    }
+
+    @Override
+    public void serialize(JsonGenerator generator, SerializerProvider serializers) throws IOException {
+        generator.writeStartObject(this, values.length);
+        for (int i = 0; i < values.length; i++) {
+            ProjectedField field = selection.get(i);
+            generator.writeFieldName(field.getName());
+            if (values[i] == null) {
+                generator.writeNull();
+            } else {
+                field.write(generator, values[i]);
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator generator, SerializerProvider serializers, TypeSerializer typeSerializer)
+            throws IOException {
+        serialize(generator, serializers);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("{");
+        for (int i = 0; i < values.length; i++) {
+            text.append(i == 0 ? "" : ", ").append(selection.get(i).getName()).append('=').append(values[i]);
+        }
+        return text.append('}').toString();
+    }
+}
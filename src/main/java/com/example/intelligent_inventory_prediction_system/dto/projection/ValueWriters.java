@@ -0,0 +1,30 @@
+package com.example.intelligent_inventory_prediction_system.dto.projection;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writers for the handful of value types the projected fields carry, matching what Jackson writes for the DTOs.
+ */
+final class ValueWriters {
+
+    @FunctionalInterface
+    interface ValueWriter {
+        void write(JsonGenerator generator, Object value) throws IOException;
+    }
+
+    static final ValueWriter LONG = (generator, value) -> generator.writeNumber(((Number) value).longValue());
+    static final ValueWriter INT = (generator, value) -> generator.writeNumber(((Number) value).intValue());
+    static final ValueWriter DOUBLE = (generator, value) -> generator.writeNumber(((Number) value).doubleValue());
+    static final ValueWriter STRING = (generator, value) -> generator.writeString((String) value);
+    static final ValueWriter ENUM = (generator, value) -> generator.writeString(((Enum<?>) value).name());
+    static final ValueWriter DATE_TIME = (generator, value) ->
+            generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format((LocalDateTime) value));
+
+    private ValueWriters() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+}
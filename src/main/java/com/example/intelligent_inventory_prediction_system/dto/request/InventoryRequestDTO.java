@@ -16,5 +16,8 @@ public class InventoryRequestDTO {
     @Min(value = 0, message = "Current stock cannot be negative")
     private Integer currentStock;
 
+    @Min(value = 0, message = "Reorder threshold cannot be negative")
+    private Integer reorderThreshold;
+
     private LocalDateTime lastUpdated;
 }
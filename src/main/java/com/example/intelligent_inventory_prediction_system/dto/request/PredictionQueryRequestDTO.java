@@ -0,0 +1,13 @@
+package com.example.intelligent_inventory_prediction_system.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class PredictionQueryRequestDTO {
+
+    @NotEmpty(message = "At least one inventory ID is required")
+    private List<Long> inventoryIds;
+}
@@ -0,0 +1,19 @@
+package com.example.intelligent_inventory_prediction_system.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BacktestResponseDTO {
+    private int productsEvaluated;
+    private int productsSkipped;
+    private int productsFailed;
+    private int categories;
+    private List<String> models;
+    private int horizon;
+    private int folds;
+    private long durationMillis;
+}
@@ -0,0 +1,23 @@
+package com.example.intelligent_inventory_prediction_system.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchJobResponseDTO {
+    private String job;
+    private String status;
+    private long lastKey;
+    private long processed;
+    private long failed;
+    private Double itemsPerSecond;
+    private Long etaSeconds;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private String error;
+}
@@ -0,0 +1,15 @@
+package com.example.intelligent_inventory_prediction_system.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ChangeFeedResponseDTO<T> {
+    private List<T> changed;
+    private List<Long> removed;
+    private String nextToken;
+    private boolean hasMore;
+}
@@ -0,0 +1,19 @@
+package com.example.intelligent_inventory_prediction_system.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Builder
+public class ExportSnapshotResponseDTO {
+    private String dataset;
+    private String format;
+    private String hash;
+    private long sizeBytes;
+    private long rowCount;
+    private Instant generatedAt;
+    private Instant checkedAt;
+    private boolean changed;
+}
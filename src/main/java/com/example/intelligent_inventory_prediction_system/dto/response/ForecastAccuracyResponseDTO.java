@@ -0,0 +1,23 @@
+package com.example.intelligent_inventory_prediction_system.dto.response;
+
+import com.example.intelligent_inventory_prediction_system.model.AccuracyScope;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ForecastAccuracyResponseDTO {
+    private AccuracyScope scope;
+    private String scopeKey;
+    private String model;
+    private Integer folds;
+    private Integer horizon;
+    private Long points;
+    private Double mape;
+    private Double smape;
+    private Double mase;
+    private Double bias;
+    private LocalDateTime evaluatedAt;
+}
@@ -0,0 +1,26 @@
+package com.example.intelligent_inventory_prediction_system.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportJobResponseDTO {
+    private String jobId;
+    private String type;
+    private String status;
+    private long rowsRead;
+    private long rowsImported;
+    private long rowsRejected;
+    private long committedRows;
+    private long bytesRead;
+    private Long totalBytes;
+    private Double percentComplete;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String error;
+}
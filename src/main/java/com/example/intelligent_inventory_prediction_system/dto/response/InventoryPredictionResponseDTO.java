@@ -1,10 +1,23 @@
 package com.example.intelligent_inventory_prediction_system.dto.response;
-import com.example.intelligent_inventory_prediction_system.model.Inventory;
+
+import lombok.Builder;
 import lombok.Data;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Daily demand quantiles from {@code startDate}; element {@code d} of each array is the day {@code startDate + d}.
+ */
 @Data
+@Builder
 public class InventoryPredictionResponseDTO {
-    private Long id; 
-    private Inventory inventory;
-    private Long predictedStock;
+    private Long inventoryId;
+    private LocalDate startDate;
+    private Integer horizonDays;
+    private String model;
+    private LocalDateTime generatedAt;
+    private long[] p10;
+    private long[] p50;
+    private long[] p90;
 }
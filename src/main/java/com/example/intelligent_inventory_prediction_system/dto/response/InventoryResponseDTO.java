@@ -10,6 +10,7 @@ public class InventoryResponseDTO {
     private Long id;
     private Long productId;
     private Integer currentStock;
+    private Integer reorderThreshold;
     private LocalDateTime lastUpdated;
 
 
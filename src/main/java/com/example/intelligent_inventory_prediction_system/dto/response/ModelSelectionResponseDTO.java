@@ -0,0 +1,19 @@
+package com.example.intelligent_inventory_prediction_system.dto.response;
+
+import com.example.intelligent_inventory_prediction_system.model.DemandPattern;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ModelSelectionResponseDTO {
+    private Long inventoryId;
+    private DemandPattern demandPattern;
+    private Double adi;
+    private Double cv2;
+    private String model;
+    private Double mae;
+    private LocalDateTime selectedAt;
+}
@@ -0,0 +1,16 @@
+package com.example.intelligent_inventory_prediction_system.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ModelSelectionRunResponseDTO {
+    private int inventories;
+    private int unchanged;
+    private int selected;
+    private int switched;
+    private int skipped;
+    private int failed;
+    private long durationMillis;
+}
@@ -0,0 +1,13 @@
+package com.example.intelligent_inventory_prediction_system.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockLevelResponseDTO {
+    private Long inventoryId;
+    private Integer currentStock;
+}
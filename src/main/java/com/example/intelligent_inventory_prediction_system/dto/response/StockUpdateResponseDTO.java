@@ -0,0 +1,16 @@
+package com.example.intelligent_inventory_prediction_system.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class StockUpdateResponseDTO {
+    private Long inventoryId;
+    private String mode;
+    private Integer stockLevel;
+    private Integer delta;
+    private Integer currentStock;
+}
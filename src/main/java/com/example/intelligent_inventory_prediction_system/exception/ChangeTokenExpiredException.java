@@ -0,0 +1,8 @@
+package com.example.intelligent_inventory_prediction_system.exception;
+
+public class ChangeTokenExpiredException extends RuntimeException {
+
+    public ChangeTokenExpiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.intelligent_inventory_prediction_system.exception;
+
+public class QueryDeadlineExceededException extends RuntimeException {
+
+    public QueryDeadlineExceededException(String message) {
+        super(message);
+    }
+
+    public QueryDeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -16,6 +16,7 @@ public interface InventoryRequestMapper {
     @Mapping(target = "product", ignore = true)
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "lastUpdated", ignore = true)
+    @Mapping(target = "changeSeq", ignore = true)
     Inventory toInventory(InventoryRequestDTO inventoryRequestDTO);
 
     @Mapping(source = "product.id", target = "productId")
@@ -23,6 +24,7 @@ public interface InventoryRequestMapper {
 
     @Mapping(target = "product", ignore = true)
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "changeSeq", ignore = true)
     Inventory updateInventory(InventoryRequestDTO dto, @MappingTarget Inventory inventory);
 
     List<InventoryRequestDTO> toInventoryRequestDTOList(List<Inventory> inventories);
@@ -3,12 +3,15 @@ package com.example.intelligent_inventory_prediction_system.mapper.request;
 import com.example.intelligent_inventory_prediction_system.dto.request.ProductRequestDTO;
 import com.example.intelligent_inventory_prediction_system.model.Product;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
 @Mapper(componentModel = "spring")
 public interface ProductRequestMapper {
+    @Mapping(target = "changeSeq", ignore = true)
     Product toProduct(ProductRequestDTO productRequestDTO);
     ProductRequestDTO toProductRequestDTO(Product product);
+    @Mapping(target = "changeSeq", ignore = true)
     Product updateProduct(ProductRequestDTO productRequestDTO, @MappingTarget Product product);
 
 }
@@ -0,0 +1,13 @@
+package com.example.intelligent_inventory_prediction_system.mapper.response;
+
+import com.example.intelligent_inventory_prediction_system.dto.response.ForecastAccuracyResponseDTO;
+import com.example.intelligent_inventory_prediction_system.model.ForecastAccuracy;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface ForecastAccuracyResponseMapper {
+    ForecastAccuracyResponseDTO toForecastAccuracyResponseDTO(ForecastAccuracy forecastAccuracy);
+    List<ForecastAccuracyResponseDTO> toForecastAccuracyResponseDTOList(List<ForecastAccuracy> forecastAccuracies);
+}
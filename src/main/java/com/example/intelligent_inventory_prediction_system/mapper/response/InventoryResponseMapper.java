@@ -14,6 +14,7 @@ public interface InventoryResponseMapper {
     InventoryResponseDTO toInventoryResponseDTO(Inventory inventory);
 
     @Mapping(source = "productId", target = "product.id")
+    @Mapping(target = "changeSeq", ignore = true)
     Inventory toInventory(InventoryResponseDTO inventoryResponseDTO);
 
     List<InventoryResponseDTO> toInventoryResponseDTOList(List<Inventory> inventories);
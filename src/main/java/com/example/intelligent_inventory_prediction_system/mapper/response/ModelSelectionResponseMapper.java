@@ -0,0 +1,12 @@
+package com.example.intelligent_inventory_prediction_system.mapper.response;
+
+import com.example.intelligent_inventory_prediction_system.dto.response.ModelSelectionResponseDTO;
+import com.example.intelligent_inventory_prediction_system.model.ModelSelection;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface ModelSelectionResponseMapper {
+    @Mapping(target = "inventoryId", source = "inventory.id")
+    ModelSelectionResponseDTO toModelSelectionResponseDTO(ModelSelection modelSelection);
+}
@@ -3,11 +3,13 @@ package com.example.intelligent_inventory_prediction_system.mapper.response;
 import com.example.intelligent_inventory_prediction_system.dto.response.ProductResponseDTO;
 import com.example.intelligent_inventory_prediction_system.model.Product;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import java.util.List;
 
 @Mapper(componentModel = "spring")
 public interface ProductResponseMapper {
+    @Mapping(target = "changeSeq", ignore = true)
     Product toProduct(ProductResponseDTO productResponseDTO);
     ProductResponseDTO toProductResponseDTO(Product product);
     List<ProductResponseDTO> toProductResponseDTOList(List<Product> products);
@@ -0,0 +1,6 @@
+package com.example.intelligent_inventory_prediction_system.model;
+
+public enum AccuracyScope {
+    PRODUCT,
+    CATEGORY
+}
@@ -0,0 +1,37 @@
+package com.example.intelligent_inventory_prediction_system.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a batch job's latest run: every key up to {@code lastKey} has been processed and its results written
+ * in the same transaction as this row, so a run that stopped or crashed resumes after it.
+ */
+@Entity
+@Data
+public class BatchCheckpoint {
+
+    public enum Status {
+        RUNNING,
+        STOPPED,
+        COMPLETED,
+        FAILED
+    }
+
+    @Id
+    private String job;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    private long lastKey;
+    private long processed;
+    private long failed;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+
+    @Column(length = 1000)
+    private String error;
+}
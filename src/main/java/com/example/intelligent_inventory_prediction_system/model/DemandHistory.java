@@ -0,0 +1,25 @@
+package com.example.intelligent_inventory_prediction_system.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * Units of a product demanded on a day. Several rows for the same product and day add up.
+ */
+@Entity
+@Data
+@Table(indexes = @Index(name = "demand_history_product_date_idx", columnList = "product_id, demand_date"))
+public class DemandHistory {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "product_id")
+    private Product product;
+
+    private LocalDate demandDate;
+    private Integer quantity;
+}
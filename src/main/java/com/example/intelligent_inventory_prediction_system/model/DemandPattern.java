@@ -0,0 +1,12 @@
+package com.example.intelligent_inventory_prediction_system.model;
+
+/**
+ * Syntetos-Boylan demand classes, by the average interval between demands (ADI) and the squared coefficient of
+ * variation of the demand sizes (CV²).
+ */
+public enum DemandPattern {
+    SMOOTH,
+    ERRATIC,
+    INTERMITTENT,
+    LUMPY
+}
@@ -0,0 +1,35 @@
+package com.example.intelligent_inventory_prediction_system.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Backtest accuracy of one forecasting model for a product, or pooled over the products of a category. Percentages
+ * are null when every actual in the evaluated windows was zero.
+ */
+@Entity
+@Data
+@Table(indexes = @Index(name = "forecast_accuracy_scope_idx", columnList = "scope, scope_key"))
+public class ForecastAccuracy {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private AccuracyScope scope;
+
+    @Column(name = "scope_key")
+    private String scopeKey;
+
+    private String model;
+    private Integer folds;
+    private Integer horizon;
+    private Long points;
+    private Double mape;
+    private Double smape;
+    private Double mase;
+    private Double bias;
+    private LocalDateTime evaluatedAt;
+}
@@ -8,6 +8,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Data
+@Table(indexes = @Index(name = "inventory_change_seq_idx", columnList = "change_seq"))
 public class Inventory {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -18,6 +19,10 @@ public class Inventory {
     private Product product;
 
     private Integer currentStock;
+    private Integer reorderThreshold;
     private LocalDateTime lastUpdated;
 
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
 }
@@ -1,15 +1,34 @@
 package com.example.intelligent_inventory_prediction_system.model;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static com.example.intelligent_inventory_prediction_system.constants.InventoryConstant.MAX_PACKED_QUANTILES_BYTES;
+
+/**
+ * The current demand forecast of an inventory: P10, P50 and P90 for each of {@code horizonDays} days from
+ * {@code startDate}, packed into {@code quantiles} by {@code QuantileForecast}. One row per inventory, replaced
+ * whenever the inventory is forecast again.
+ */
 @Entity
 @Data
+@Table(indexes = @Index(name = "inventory_prediction_inventory_idx", columnList = "inventory_id", unique = true))
 public class InventoryPrediction {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
-    @ManyToOne()
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "inventory_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Inventory inventory;
-    private Long predictedStock;
+    private LocalDate startDate;
+    private Integer horizonDays;
+    private String model;
+    @Column(length = MAX_PACKED_QUANTILES_BYTES)
+    private byte[] quantiles;
+    private LocalDateTime generatedAt;
 }
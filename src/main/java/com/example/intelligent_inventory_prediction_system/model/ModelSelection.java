@@ -0,0 +1,35 @@
+package com.example.intelligent_inventory_prediction_system.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * The forecasting model chosen for an inventory's predictions, with the demand pattern it was chosen for and its
+ * backtest error. The error is null when the history was too short to backtest.
+ */
+@Entity
+@Data
+@Table(indexes = @Index(name = "model_selection_inventory_idx", columnList = "inventory_id", unique = true))
+public class ModelSelection {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne
+    @JoinColumn(name = "inventory_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Inventory inventory;
+
+    @Enumerated(EnumType.STRING)
+    private DemandPattern demandPattern;
+
+    private Double adi;
+    private Double cv2;
+    private String model;
+    private Double mae;
+    private LocalDateTime selectedAt;
+}
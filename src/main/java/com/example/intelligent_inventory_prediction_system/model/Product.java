@@ -1,14 +1,18 @@
 package com.example.intelligent_inventory_prediction_system.model;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.Builder;
 import lombok.Data;
 
 
 @Entity
 @Data
+@Table(indexes = @Index(name = "product_change_seq_idx", columnList = "change_seq"))
 public class Product {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -18,4 +22,7 @@ public class Product {
     private String category;
     private String description;
     private ProductStatus status;
+
+    @Column(name = "change_seq")
+    private Long changeSeq;
 }
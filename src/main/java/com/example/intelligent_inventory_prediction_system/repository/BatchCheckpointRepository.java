@@ -0,0 +1,7 @@
+package com.example.intelligent_inventory_prediction_system.repository;
+
+import com.example.intelligent_inventory_prediction_system.model.BatchCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BatchCheckpointRepository extends JpaRepository<BatchCheckpoint, String> {
+}
@@ -0,0 +1,14 @@
+package com.example.intelligent_inventory_prediction_system.repository;
+
+import com.example.intelligent_inventory_prediction_system.model.AccuracyScope;
+import com.example.intelligent_inventory_prediction_system.model.ForecastAccuracy;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ForecastAccuracyRepository extends JpaRepository<ForecastAccuracy, Long> {
+
+    List<ForecastAccuracy> findByScopeOrderByScopeKeyAscModelAsc(AccuracyScope scope);
+
+    List<ForecastAccuracy> findByScopeAndScopeKeyOrderByModelAsc(AccuracyScope scope, String scopeKey);
+}
@@ -1,7 +1,29 @@
 package com.example.intelligent_inventory_prediction_system.repository;
 
 import com.example.intelligent_inventory_prediction_system.model.InventoryPrediction;
+import com.example.intelligent_inventory_prediction_system.repository.projection.PredictionRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Predictions are read as flat rows straight off the unique inventory_id index, without loading the inventory they
+ * belong to.
+ */
 public interface InventoryPredictionRepository extends JpaRepository<InventoryPrediction, Long> {
+
+    @Query("select new com.example.intelligent_inventory_prediction_system.repository.projection.PredictionRow("
+            + "p.inventory.id, p.startDate, p.horizonDays, p.model, p.quantiles, p.generatedAt) "
+            + "from InventoryPrediction p where p.inventory.id > :afterId and p.inventory.id <= :toId "
+            + "order by p.inventory.id")
+    List<PredictionRow> findRowsInRange(@Param("afterId") long afterId, @Param("toId") long toId, Limit limit);
+
+    @Query("select new com.example.intelligent_inventory_prediction_system.repository.projection.PredictionRow("
+            + "p.inventory.id, p.startDate, p.horizonDays, p.model, p.quantiles, p.generatedAt) "
+            + "from InventoryPrediction p where p.inventory.id in :inventoryIds order by p.inventory.id")
+    List<PredictionRow> findRowsByInventoryIds(@Param("inventoryIds") Collection<Long> inventoryIds);
 }
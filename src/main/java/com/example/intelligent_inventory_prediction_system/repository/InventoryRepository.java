@@ -1,9 +1,28 @@
 package com.example.intelligent_inventory_prediction_system.repository;
 
 import com.example.intelligent_inventory_prediction_system.model.Inventory;
+import com.example.intelligent_inventory_prediction_system.repository.projection.StockLevel;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 
 public interface InventoryRepository extends JpaRepository<Inventory, Long>  , JpaSpecificationExecutor<Inventory> {
+
+    @Query("select new com.example.intelligent_inventory_prediction_system.repository.projection.StockLevel(i.id, i.currentStock, i.reorderThreshold) "
+            + "from Inventory i where i.id > :afterId and i.currentStock is not null order by i.id")
+    List<StockLevel> findStockLevelsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("select i from Inventory i left join fetch i.product "
+            + "where i.changeSeq > :after and i.changeSeq <= :upTo order by i.changeSeq")
+    List<Inventory> findChangedBetween(@Param("after") long after, @Param("upTo") long upTo, Limit limit);
+
+    @Query("select i.id from Inventory i where i.id > :afterId order by i.id")
+    List<Long> findIdsAfter(@Param("afterId") long afterId, Limit limit);
+
+    long countByIdGreaterThan(Long id);
 }
@@ -0,0 +1,11 @@
+package com.example.intelligent_inventory_prediction_system.repository;
+
+import com.example.intelligent_inventory_prediction_system.model.ModelSelection;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface ModelSelectionRepository extends JpaRepository<ModelSelection, Long> {
+
+    Optional<ModelSelection> findByInventoryId(Long inventoryId);
+}
@@ -1,10 +1,18 @@
 package com.example.intelligent_inventory_prediction_system.repository;
 import com.example.intelligent_inventory_prediction_system.model.Product;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface ProductRepository extends JpaRepository<Product, Long> , JpaSpecificationExecutor<Product> {
 
+    @Query("select p from Product p where p.changeSeq > :after and p.changeSeq <= :upTo order by p.changeSeq")
+    List<Product> findChangedBetween(@Param("after") long after, @Param("upTo") long upTo, Limit limit);
+
+    @Query("select p.id from Product p where p.id > :afterId order by p.id")
+    List<Long> findIdsAfter(@Param("afterId") long afterId, Limit limit);
 }
@@ -0,0 +1,8 @@
+package com.example.intelligent_inventory_prediction_system.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record PredictionRow(Long inventoryId, LocalDate startDate, Integer horizonDays, String model,
+                            byte[] quantiles, LocalDateTime generatedAt) {
+}
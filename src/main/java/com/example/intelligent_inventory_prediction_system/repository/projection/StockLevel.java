@@ -0,0 +1,4 @@
+package com.example.intelligent_inventory_prediction_system.repository.projection;
+
+public record StockLevel(Long inventoryId, Integer currentStock, Integer reorderThreshold) {
+}
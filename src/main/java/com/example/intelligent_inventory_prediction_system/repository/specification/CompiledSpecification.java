@@ -0,0 +1,41 @@
+package com.example.intelligent_inventory_prediction_system.repository.specification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.Getter;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Arrays;
+
+/**
+ * A {@link Specification} backed by a shared {@link CriteriaTemplate} plus the argument values of one request.
+ * Executors that recognise it can reuse a precompiled query for the template; everyone else gets a regular
+ * predicate with the arguments inlined as literals.
+ */
+@Getter
+public final class CompiledSpecification<T> implements Specification<T> {
+
+    private final CriteriaTemplate<T> template;
+    private final Object[] arguments;
+
+    public CompiledSpecification(CriteriaTemplate<T> template, Object[] arguments) {
+        if (template.getArgumentCount() != arguments.length) {
+            throw new IllegalArgumentException("Template " + template.getShape() + " expects "
+                    + template.getArgumentCount() + " arguments but got " + arguments.length);
+        }
+        this.template = template;
+        this.arguments = arguments;
+    }
+
+    @Override
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        return template.toPredicate(root, criteriaBuilder, index -> criteriaBuilder.literal(arguments[index]));
+    }
+
+    @Override
+    public String toString() {
+        return template.getShape() + Arrays.toString(arguments);
+    }
+}
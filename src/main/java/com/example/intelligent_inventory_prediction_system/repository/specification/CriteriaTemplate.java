@@ -0,0 +1,58 @@
+package com.example.intelligent_inventory_prediction_system.repository.specification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Predicate definition for one criteria "shape" (the set of filters present), written once against
+ * abstract arguments so it can be rendered either with bound parameters or with inline literals.
+ */
+@Getter
+public final class CriteriaTemplate<T> {
+
+    @FunctionalInterface
+    public interface PredicateBuilder<T> {
+        Predicate build(Root<T> root, CriteriaBuilder criteriaBuilder, Arguments arguments);
+    }
+
+    @FunctionalInterface
+    public interface Arguments {
+        Expression<?> get(int index);
+
+        @SuppressWarnings("unchecked")
+        default <A> Expression<A> get(int index, Class<A> type) {
+            return (Expression<A>) get(index);
+        }
+    }
+
+    private final Class<T> domainClass;
+    private final String shape;
+    private final List<Class<?>> argumentTypes;
+    private final PredicateBuilder<T> predicateBuilder;
+
+    public CriteriaTemplate(Class<T> domainClass, String shape, List<Class<?>> argumentTypes,
+                            PredicateBuilder<T> predicateBuilder) {
+        this.domainClass = domainClass;
+        this.shape = shape;
+        this.argumentTypes = List.copyOf(argumentTypes);
+        this.predicateBuilder = predicateBuilder;
+    }
+
+    public int getArgumentCount() {
+        return argumentTypes.size();
+    }
+
+    public Predicate toPredicate(Root<T> root, CriteriaBuilder criteriaBuilder, Arguments arguments) {
+        return predicateBuilder.build(root, criteriaBuilder, arguments);
+    }
+
+    @Override
+    public String toString() {
+        return shape;
+    }
+}
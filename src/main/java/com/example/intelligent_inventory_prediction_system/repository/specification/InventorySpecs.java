@@ -1,12 +1,81 @@
 package com.example.intelligent_inventory_prediction_system.repository.specification;
 
+import com.example.intelligent_inventory_prediction_system.dto.search.InventorySearchCriteria;
 import com.example.intelligent_inventory_prediction_system.model.Inventory;
 import com.example.intelligent_inventory_prediction_system.model.Product;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class InventorySpecs {
 
+    private static final int PRODUCT_ID = 1;
+    private static final int MIN_STOCK = 1 << 1;
+    private static final int MAX_STOCK = 1 << 2;
+
+    public static final int SEARCH_SHAPE_COUNT = 1 << 3;
+
+    private static final Map<Integer, CriteriaTemplate<Inventory>> SEARCH_TEMPLATES = new ConcurrentHashMap<>();
+
+    public static CompiledSpecification<Inventory> matchesCriteria(InventorySearchCriteria criteria) {
+        int shape = 0;
+        List<Object> arguments = new ArrayList<>(3);
+
+        if (criteria.getProductId() != null) {
+            shape |= PRODUCT_ID;
+            arguments.add(criteria.getProductId());
+        }
+        if (criteria.getMinStock() != null) {
+            shape |= MIN_STOCK;
+            arguments.add(criteria.getMinStock());
+        }
+        if (criteria.getMaxStock() != null) {
+            shape |= MAX_STOCK;
+            arguments.add(criteria.getMaxStock());
+        }
+
+        CriteriaTemplate<Inventory> template = SEARCH_TEMPLATES.computeIfAbsent(shape, InventorySpecs::buildSearchTemplate);
+        return new CompiledSpecification<>(template, arguments.toArray());
+    }
+
+    private static CriteriaTemplate<Inventory> buildSearchTemplate(int shape) {
+        List<Class<?>> argumentTypes = new ArrayList<>(3);
+        if ((shape & PRODUCT_ID) != 0) argumentTypes.add(Long.class);
+        if ((shape & MIN_STOCK) != 0) argumentTypes.add(Integer.class);
+        if ((shape & MAX_STOCK) != 0) argumentTypes.add(Integer.class);
+
+        return new CriteriaTemplate<>(Inventory.class, "inventory-search:" + Integer.toBinaryString(shape), argumentTypes,
+                (root, criteriaBuilder, arguments) -> {
+                    List<Predicate> predicates = new ArrayList<>(3);
+                    int index = 0;
+
+                    if ((shape & PRODUCT_ID) != 0) {
+                        Join<Inventory, Product> productJoin = root.join("product");
+                        predicates.add(criteriaBuilder.equal(productJoin.get("id"), arguments.get(index++)));
+                    }
+                    if ((shape & MIN_STOCK) != 0) {
+                        predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("currentStock"),
+                                arguments.get(index++, Integer.class)));
+                    }
+                    if ((shape & MAX_STOCK) != 0) {
+                        predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("currentStock"),
+                                arguments.get(index++, Integer.class)));
+                    }
+
+                    return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+                });
+    }
+
+    public static Specification<Inventory> hasIdIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
     public static Specification<Inventory> hasProductId(Long productId) {
         return (root, query, cb) -> {
             if (productId == null) {
@@ -40,4 +109,8 @@ public class InventorySpecs {
             return cb.greaterThan(root.get("currentStock"), minStock);
         };
     }
+
+    public static Specification<Inventory> isBelowReorderThreshold() {
+        return (root, query, cb) -> cb.lessThan(root.get("currentStock"), root.get("reorderThreshold"));
+    }
 }
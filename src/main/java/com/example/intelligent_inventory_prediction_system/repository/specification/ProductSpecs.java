@@ -1,15 +1,143 @@
 package com.example.intelligent_inventory_prediction_system.repository.specification;
 
+import com.example.intelligent_inventory_prediction_system.dto.search.ProductSearchCriteria;
 import com.example.intelligent_inventory_prediction_system.model.Product;
 import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class ProductSpecs {
 
+    private static final int KEYWORD = 1;
+    private static final int NAME = 1 << 1;
+    private static final int CATEGORY = 1 << 2;
+    private static final int STATUS = 1 << 3;
+    private static final int MIN_PRICE = 1 << 4;
+    private static final int MAX_PRICE = 1 << 5;
+    private static final int AVAILABILITY = 1 << 6;
+    private static final int ACTIVE = 1 << 7;
+
+    public static final int SEARCH_SHAPE_COUNT = 1 << 8;
+
+    private static final Map<Integer, CriteriaTemplate<Product>> SEARCH_TEMPLATES = new ConcurrentHashMap<>();
+
+    private static final Specification<Product> AVAILABLE = (root, query, criteriaBuilder) ->
+            criteriaBuilder.equal(root.get("status"), ProductStatus.AVAILABLE);
+
+    private static final Specification<Product> NOT_AVAILABLE = (root, query, criteriaBuilder) ->
+            criteriaBuilder.equal(root.get("status"), ProductStatus.NOT_AVAILABLE);
+
     private ProductSpecs() {
     }
 
+    public static CompiledSpecification<Product> matchesCriteria(ProductSearchCriteria criteria) {
+        int shape = 0;
+        List<Object> arguments = new ArrayList<>(7);
+
+        if (StringUtils.hasText(criteria.getKeyword())) {
+            shape |= KEYWORD;
+            arguments.add(containsPattern(criteria.getKeyword()));
+        }
+        if (StringUtils.hasText(criteria.getName())) {
+            shape |= NAME;
+            arguments.add(containsPattern(criteria.getName()));
+        }
+        if (StringUtils.hasText(criteria.getCategory())) {
+            shape |= CATEGORY;
+            arguments.add(criteria.getCategory().toLowerCase());
+        }
+        if (criteria.getStatus() != null) {
+            shape |= STATUS;
+            arguments.add(criteria.getStatus());
+        }
+        if (criteria.getMinPrice() != null) {
+            shape |= MIN_PRICE;
+            arguments.add(criteria.getMinPrice());
+        }
+        if (criteria.getMaxPrice() != null) {
+            shape |= MAX_PRICE;
+            arguments.add(criteria.getMaxPrice());
+        }
+        if (criteria.getAvailability() != null) {
+            shape |= AVAILABILITY;
+            arguments.add(criteria.getAvailability() ? ProductStatus.AVAILABLE : ProductStatus.NOT_AVAILABLE);
+        }
+        if (Boolean.TRUE.equals(criteria.getActive())) {
+            shape |= ACTIVE;
+        }
+
+        CriteriaTemplate<Product> template = SEARCH_TEMPLATES.computeIfAbsent(shape, ProductSpecs::buildSearchTemplate);
+        return new CompiledSpecification<>(template, arguments.toArray());
+    }
+
+    private static CriteriaTemplate<Product> buildSearchTemplate(int shape) {
+        List<Class<?>> argumentTypes = new ArrayList<>(7);
+        if ((shape & KEYWORD) != 0) argumentTypes.add(String.class);
+        if ((shape & NAME) != 0) argumentTypes.add(String.class);
+        if ((shape & CATEGORY) != 0) argumentTypes.add(String.class);
+        if ((shape & STATUS) != 0) argumentTypes.add(ProductStatus.class);
+        if ((shape & MIN_PRICE) != 0) argumentTypes.add(Double.class);
+        if ((shape & MAX_PRICE) != 0) argumentTypes.add(Double.class);
+        if ((shape & AVAILABILITY) != 0) argumentTypes.add(ProductStatus.class);
+
+        return new CriteriaTemplate<>(Product.class, "product-search:" + Integer.toBinaryString(shape), argumentTypes,
+                (root, criteriaBuilder, arguments) -> {
+                    List<Predicate> predicates = new ArrayList<>(8);
+                    int index = 0;
+
+                    if ((shape & KEYWORD) != 0) {
+                        Expression<String> pattern = arguments.get(index++, String.class);
+                        predicates.add(criteriaBuilder.or(
+                                criteriaBuilder.like(criteriaBuilder.lower(root.get("name")), pattern),
+                                criteriaBuilder.like(criteriaBuilder.lower(root.get("description")), pattern),
+                                criteriaBuilder.like(criteriaBuilder.lower(root.get("category")), pattern)
+                        ));
+                    }
+                    if ((shape & NAME) != 0) {
+                        predicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.get("name")),
+                                arguments.get(index++, String.class)));
+                    }
+                    if ((shape & CATEGORY) != 0) {
+                        predicates.add(criteriaBuilder.equal(criteriaBuilder.lower(root.get("category")),
+                                arguments.get(index++, String.class)));
+                    }
+                    if ((shape & STATUS) != 0) {
+                        predicates.add(criteriaBuilder.equal(root.get("status"), arguments.get(index++)));
+                    }
+                    if ((shape & MIN_PRICE) != 0) {
+                        predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("price"),
+                                arguments.get(index++, Double.class)));
+                    }
+                    if ((shape & MAX_PRICE) != 0) {
+                        predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("price"),
+                                arguments.get(index++, Double.class)));
+                    }
+                    if ((shape & AVAILABILITY) != 0) {
+                        predicates.add(criteriaBuilder.equal(root.get("status"), arguments.get(index++)));
+                    }
+                    if ((shape & ACTIVE) != 0) {
+                        predicates.add(criteriaBuilder.equal(root.get("status"), ProductStatus.AVAILABLE));
+                    }
+
+                    return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+                });
+    }
+
+    private static String containsPattern(String value) {
+        return "%" + value.toLowerCase() + "%";
+    }
+
+    public static Specification<Product> hasId(Long id) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("id"), id);
+    }
+
     public static Specification<Product> hasName(String productName) {
         return (root, query, criteriaBuilder) -> {
             if (!StringUtils.hasText(productName)) {
@@ -81,8 +209,7 @@ public class ProductSpecs {
 
 
     public static Specification<Product> isAvailable() {
-        return (root, query, criteriaBuilder) ->
-                criteriaBuilder.equal(root.get("status"), ProductStatus.AVAILABLE);
+        return AVAILABLE;
     }
 
 
@@ -101,8 +228,7 @@ public class ProductSpecs {
 
 
     public static Specification<Product> isActive() {
-        return (root, query, criteriaBuilder) ->
-                criteriaBuilder.equal(root.get("status"), ProductStatus.AVAILABLE);
+        return AVAILABLE;
     }
 
 
@@ -138,8 +264,7 @@ public class ProductSpecs {
 
 
     public static Specification<Product> isNotAvailable() {
-        return (root, query, criteriaBuilder) ->
-                criteriaBuilder.equal(root.get("status"), ProductStatus.NOT_AVAILABLE);
+        return NOT_AVAILABLE;
     }
 
 
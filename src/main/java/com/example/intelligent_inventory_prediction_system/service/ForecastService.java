@@ -0,0 +1,121 @@
+package com.example.intelligent_inventory_prediction_system.service;
+
+import com.example.intelligent_inventory_prediction_system.dto.response.BacktestResponseDTO;
+import com.example.intelligent_inventory_prediction_system.dto.response.BatchJobResponseDTO;
+import com.example.intelligent_inventory_prediction_system.dto.response.ForecastAccuracyResponseDTO;
+import com.example.intelligent_inventory_prediction_system.dto.response.ModelSelectionResponseDTO;
+import com.example.intelligent_inventory_prediction_system.dto.response.ModelSelectionRunResponseDTO;
+import com.example.intelligent_inventory_prediction_system.exception.ResourceNotFoundException;
+import com.example.intelligent_inventory_prediction_system.mapper.response.ForecastAccuracyResponseMapper;
+import com.example.intelligent_inventory_prediction_system.mapper.response.ModelSelectionResponseMapper;
+import com.example.intelligent_inventory_prediction_system.model.AccuracyScope;
+import com.example.intelligent_inventory_prediction_system.repository.ForecastAccuracyRepository;
+import com.example.intelligent_inventory_prediction_system.repository.ModelSelectionRepository;
+import com.example.intelligent_inventory_prediction_system.service.forecast.BacktestEngine;
+import com.example.intelligent_inventory_prediction_system.service.batch.BatchProgress;
+import com.example.intelligent_inventory_prediction_system.service.forecast.BacktestResult;
+import com.example.intelligent_inventory_prediction_system.service.forecast.ForecastBatchJob;
+import com.example.intelligent_inventory_prediction_system.service.forecast.ModelSelector;
+import com.example.intelligent_inventory_prediction_system.service.forecast.SelectionResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ForecastService {
+
+    private final BacktestEngine backtestEngine;
+    private final ForecastAccuracyRepository forecastAccuracyRepository;
+    private final ForecastAccuracyResponseMapper forecastAccuracyResponseMapper;
+    private final ModelSelector modelSelector;
+    private final ModelSelectionRepository modelSelectionRepository;
+    private final ModelSelectionResponseMapper modelSelectionResponseMapper;
+    private final ForecastBatchJob forecastBatchJob;
+
+    // The engine reads and writes in transactions of its own; one around the whole run would pin a connection.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BacktestResponseDTO runBacktest() {
+        log.info("Starting forecast backtest");
+        BacktestResult result = backtestEngine.run();
+        return BacktestResponseDTO.builder()
+                .productsEvaluated(result.products())
+                .productsSkipped(result.skipped())
+                .productsFailed(result.failed())
+                .categories(result.categories())
+                .models(result.models())
+                .horizon(result.horizon())
+                .folds(result.folds())
+                .durationMillis(result.millis())
+                .build();
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ModelSelectionRunResponseDTO runModelSelection() {
+        log.info("Starting model selection");
+        SelectionResult result = modelSelector.run();
+        return ModelSelectionRunResponseDTO.builder()
+                .inventories(result.inventories())
+                .unchanged(result.unchanged())
+                .selected(result.selected())
+                .switched(result.switched())
+                .skipped(result.skipped())
+                .failed(result.failed())
+                .durationMillis(result.millis())
+                .build();
+    }
+
+    public ModelSelectionResponseDTO findModelSelection(Long inventoryId) {
+        return modelSelectionRepository.findByInventoryId(inventoryId)
+                .map(modelSelectionResponseMapper::toModelSelectionResponseDTO)
+                .orElseThrow(() -> new ResourceNotFoundException("No model selected for inventory: " + inventoryId));
+    }
+
+    public void startForecastBatch() {
+        log.info("Starting forecast batch");
+        forecastBatchJob.start();
+    }
+
+    public void stopForecastBatch() {
+        log.info("Stopping forecast batch");
+        forecastBatchJob.stop();
+    }
+
+    public BatchJobResponseDTO findForecastBatch() {
+        BatchProgress progress = forecastBatchJob.progress();
+        return BatchJobResponseDTO.builder()
+                .job(progress.job())
+                .status(progress.status().name())
+                .lastKey(progress.lastKey())
+                .processed(progress.processed())
+                .failed(progress.failed())
+                .itemsPerSecond(progress.itemsPerSecond())
+                .etaSeconds(progress.etaSeconds())
+                .startedAt(progress.startedAt())
+                .updatedAt(progress.updatedAt())
+                .error(progress.error())
+                .build();
+    }
+
+    public List<ForecastAccuracyResponseDTO> findAccuracy(String scope, String key) {
+        AccuracyScope accuracyScope = parseScope(scope);
+        return forecastAccuracyResponseMapper.toForecastAccuracyResponseDTOList(key == null
+                ? forecastAccuracyRepository.findByScopeOrderByScopeKeyAscModelAsc(accuracyScope)
+                : forecastAccuracyRepository.findByScopeAndScopeKeyOrderByModelAsc(accuracyScope, key));
+    }
+
+    private static AccuracyScope parseScope(String scope) {
+        try {
+            return AccuracyScope.valueOf(scope.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown accuracy scope: " + scope);
+        }
+    }
+}
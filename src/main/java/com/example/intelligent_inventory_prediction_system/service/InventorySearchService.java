@@ -1,18 +1,26 @@
 package com.example.intelligent_inventory_prediction_system.service;
 
+import com.example.intelligent_inventory_prediction_system.dto.projection.FieldSelection;
+import com.example.intelligent_inventory_prediction_system.dto.projection.InventoryField;
+import com.example.intelligent_inventory_prediction_system.dto.projection.ProjectedRow;
 import com.example.intelligent_inventory_prediction_system.dto.response.InventoryResponseDTO;
 import com.example.intelligent_inventory_prediction_system.dto.search.InventorySearchCriteria;
 import com.example.intelligent_inventory_prediction_system.model.Inventory;
 import com.example.intelligent_inventory_prediction_system.repository.specification.InventorySpecs;
+import com.example.intelligent_inventory_prediction_system.service.alert.LowStockAlertEngine;
 import com.example.intelligent_inventory_prediction_system.service.executor.InventoryQueryExecutor;
+import com.example.intelligent_inventory_prediction_system.service.shard.InventoryShardQuery;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
+import com.example.intelligent_inventory_prediction_system.service.stock.InventoryStockCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -21,49 +29,187 @@ import java.util.List;
 public class InventorySearchService {
 
     private final InventoryQueryExecutor queryExecutor;
+    private final InventoryStockCache inventoryStockCache;
+    private final LowStockAlertEngine lowStockAlertEngine;
+    private final ShardedInventoryStore shardedInventoryStore;
 
     public List<InventoryResponseDTO> searchInventories(InventorySearchCriteria criteria) {
         log.debug("Searching inventories with criteria: {}", criteria);
-        Specification<Inventory> specification = buildSearchSpecification(criteria);
-        return queryExecutor.executeSpecificationQuery(specification, "advanced search");
+        return fetch(bySearchCriteria(criteria));
+    }
+
+    public List<ProjectedRow> searchInventories(InventorySearchCriteria criteria, FieldSelection<InventoryField> selection) {
+        log.debug("Searching inventories with criteria: {} selecting {}", criteria, selection);
+        return project(bySearchCriteria(criteria), selection);
+    }
+
+    // Only queues the query, which runs in a transaction of its own on a query worker.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<List<InventoryResponseDTO>> searchInventoriesAsync(InventorySearchCriteria criteria) {
+        log.debug("Queueing inventory search with criteria: {}", criteria);
+        Lookup lookup = bySearchCriteria(criteria);
+        if (lookup.shardQuery() != null) {
+            return queryExecutor.executeShardQueryAsync(lookup.shardQuery(), lookup.operation());
+        }
+        return queryExecutor.executeSpecificationQueryAsync(lookup.specification(), lookup.operation());
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<List<ProjectedRow>> searchInventoriesAsync(InventorySearchCriteria criteria,
+                                                                        FieldSelection<InventoryField> selection) {
+        log.debug("Queueing inventory search with criteria: {} selecting {}", criteria, selection);
+        Lookup lookup = bySearchCriteria(criteria);
+        if (lookup.shardQuery() != null) {
+            return queryExecutor.executeShardProjectionQueryAsync(lookup.shardQuery(), selection, lookup.operation());
+        }
+        return queryExecutor.executeProjectionQueryAsync(lookup.specification(), selection, lookup.operation());
     }
 
     public List<InventoryResponseDTO> findByProductId(Long productId) {
-        Specification<Inventory> specification = InventorySpecs.hasProductId(productId);
-        return queryExecutor.executeSpecificationQuery(specification, "find by product id: " + productId);
+        return fetch(byProductId(productId));
+    }
+
+    public List<ProjectedRow> findByProductId(Long productId, FieldSelection<InventoryField> selection) {
+        return project(byProductId(productId), selection);
     }
 
     public List<InventoryResponseDTO> findByStockRange(Integer minStock, Integer maxStock) {
-        Specification<Inventory> specification = InventorySpecs.hasStockBetween(minStock, maxStock);
-        return queryExecutor.executeSpecificationQuery(specification,
-                String.format("find by stock range: %d - %d", minStock, maxStock));
+        return fetch(byStockRange(minStock, maxStock));
+    }
+
+    public List<ProjectedRow> findByStockRange(Integer minStock, Integer maxStock, FieldSelection<InventoryField> selection) {
+        return project(byStockRange(minStock, maxStock), selection);
     }
 
     public List<InventoryResponseDTO> findByMinimumStock(Integer minStock) {
-        Specification<Inventory> specification = InventorySpecs.hasStockGreaterThan(minStock);
-        return queryExecutor.executeSpecificationQuery(specification,
-                "find inventories with minimum stock: " + minStock);
+        return fetch(byMinimumStock(minStock));
     }
 
-    private Specification<Inventory> buildSearchSpecification(InventorySearchCriteria criteria) {
-        List<Specification<Inventory>> specifications = new ArrayList<>();
+    public List<ProjectedRow> findByMinimumStock(Integer minStock, FieldSelection<InventoryField> selection) {
+        return project(byMinimumStock(minStock), selection);
+    }
+
+    public List<InventoryResponseDTO> findBelowReorderThreshold() {
+        return fetch(belowReorderThreshold());
+    }
+
+    public List<ProjectedRow> findBelowReorderThreshold(FieldSelection<InventoryField> selection) {
+        return project(belowReorderThreshold(), selection);
+    }
+
+    private Lookup bySearchCriteria(InventorySearchCriteria criteria) {
+        String operation = "advanced search";
+        if (shardedInventoryStore.isEnabled()) {
+            return Lookup.sharded(InventoryShardQuery.matchesCriteria(criteria), operation);
+        }
+        return Lookup.specification(buildSearchSpecification(criteria), operation);
+    }
+
+    private Lookup byProductId(Long productId) {
+        String operation = "find by product id: " + productId;
+        if (shardedInventoryStore.isEnabled()) {
+            return Lookup.sharded(InventoryShardQuery.hasProductId(productId), operation);
+        }
+        return Lookup.specification(InventorySpecs.hasProductId(productId), operation);
+    }
+
+    private Lookup byStockRange(Integer minStock, Integer maxStock) {
+        String operation = String.format("find by stock range: %d - %d", minStock, maxStock);
+        if (shardedInventoryStore.isEnabled()) {
+            return Lookup.sharded(InventoryShardQuery.hasStockBetween(minStock, maxStock), operation);
+        }
+        long[] ids = canUseStockTable(minStock, maxStock)
+                ? inventoryStockCache.findIdsByStockRange(
+                        minStock == null ? Integer.MIN_VALUE : minStock,
+                        maxStock == null ? Integer.MAX_VALUE : maxStock)
+                : null;
+        if (ids != null) {
+            return Lookup.ids(ids, operation);
+        }
+        return Lookup.specification(InventorySpecs.hasStockBetween(minStock, maxStock), operation);
+    }
 
-        addProductIdFilter(specifications, criteria.getProductId());
-        addStockRangeFilter(specifications, criteria.getMinStock(), criteria.getMaxStock());
+    private Lookup byMinimumStock(Integer minStock) {
+        String operation = "find inventories with minimum stock: " + minStock;
+        if (shardedInventoryStore.isEnabled()) {
+            return Lookup.sharded(InventoryShardQuery.hasStockGreaterThan(minStock), operation);
+        }
+        long[] ids = canUseStockTable(minStock, null) && minStock < Integer.MAX_VALUE
+                ? inventoryStockCache.findIdsByStockRange(minStock + 1, Integer.MAX_VALUE)
+                : null;
+        if (ids != null) {
+            return Lookup.ids(ids, operation);
+        }
+        return Lookup.specification(InventorySpecs.hasStockGreaterThan(minStock), operation);
+    }
 
-        return specifications.stream()
-                .reduce(Specification.allOf(), Specification::and);
+    private Lookup belowReorderThreshold() {
+        String operation = "find inventories below reorder threshold";
+        if (shardedInventoryStore.isEnabled()) {
+            return Lookup.sharded(InventoryShardQuery.isBelowReorderThreshold(), operation);
+        }
+        if (lowStockAlertEngine.isLoaded()) {
+            return Lookup.orderedIds(lowStockAlertEngine.findBelowThresholdIds(), operation);
+        }
+        return Lookup.specification(InventorySpecs.isBelowReorderThreshold(), operation);
     }
 
-    private void addProductIdFilter(List<Specification<Inventory>> specs, Long productId) {
-        if (productId != null) {
-            specs.add(InventorySpecs.hasProductId(productId));
+    private List<InventoryResponseDTO> fetch(Lookup lookup) {
+        if (lookup.shardQuery() != null) {
+            return queryExecutor.executeShardQuery(lookup.shardQuery(), lookup.operation());
+        }
+        if (lookup.ids() != null && lookup.ordered()) {
+            return queryExecutor.executeOrderedIdQuery(lookup.ids(), lookup.operation());
+        }
+        if (lookup.ids() != null) {
+            return queryExecutor.executeIdQuery(lookup.ids(), lookup.operation());
+        }
+        return queryExecutor.executeSpecificationQuery(lookup.specification(), lookup.operation());
+    }
+
+    private List<ProjectedRow> project(Lookup lookup, FieldSelection<InventoryField> selection) {
+        if (lookup.shardQuery() != null) {
+            return queryExecutor.executeShardProjectionQuery(lookup.shardQuery(), selection, lookup.operation());
+        }
+        if (lookup.ids() != null && lookup.ordered()) {
+            return queryExecutor.executeOrderedIdProjectionQuery(lookup.ids(), selection, lookup.operation());
         }
+        if (lookup.ids() != null) {
+            return queryExecutor.executeIdProjectionQuery(lookup.ids(), selection, lookup.operation());
+        }
+        return queryExecutor.executeProjectionQuery(lookup.specification(), selection, lookup.operation());
+    }
+
+    // An unbounded range also matches rows without a stock level, which the table does not hold.
+    private boolean canUseStockTable(Integer minStock, Integer maxStock) {
+        return (minStock != null || maxStock != null) && inventoryStockCache.isLoaded();
     }
 
-    private void addStockRangeFilter(List<Specification<Inventory>> specs, Integer minStock, Integer maxStock) {
-        if (minStock != null || maxStock != null) {
-            specs.add(InventorySpecs.hasStockBetween(minStock, maxStock));
+    private Specification<Inventory> buildSearchSpecification(InventorySearchCriteria criteria) {
+        return InventorySpecs.matchesCriteria(criteria);
+    }
+
+    /**
+     * Where the rows of one search come from: the shards, an id list resolved in memory, or a specification. An
+     * ordered id list is returned in its own order rather than by id.
+     */
+    private record Lookup(InventoryShardQuery shardQuery, long[] ids, boolean ordered,
+                          Specification<Inventory> specification, String operation) {
+
+        static Lookup sharded(InventoryShardQuery query, String operation) {
+            return new Lookup(query, null, false, null, operation);
+        }
+
+        static Lookup ids(long[] ids, String operation) {
+            return new Lookup(null, ids, false, null, operation);
+        }
+
+        static Lookup orderedIds(long[] ids, String operation) {
+            return new Lookup(null, ids, true, null, operation);
+        }
+
+        static Lookup specification(Specification<Inventory> specification, String operation) {
+            return new Lookup(null, null, false, specification, operation);
         }
     }
 }
@@ -1,26 +1,51 @@
 package com.example.intelligent_inventory_prediction_system.service;
 
+import com.example.intelligent_inventory_prediction_system.dto.projection.FieldSelection;
+import com.example.intelligent_inventory_prediction_system.dto.projection.InventoryField;
+import com.example.intelligent_inventory_prediction_system.dto.projection.ProjectedRow;
 import com.example.intelligent_inventory_prediction_system.dto.request.InventoryRequestDTO;
+import com.example.intelligent_inventory_prediction_system.dto.response.ChangeFeedResponseDTO;
 import com.example.intelligent_inventory_prediction_system.dto.response.InventoryResponseDTO;
+import com.example.intelligent_inventory_prediction_system.dto.response.StockLevelResponseDTO;
 import com.example.intelligent_inventory_prediction_system.mapper.request.InventoryRequestMapper;
 import com.example.intelligent_inventory_prediction_system.mapper.response.InventoryResponseMapper;
 import com.example.intelligent_inventory_prediction_system.model.Inventory;
 import com.example.intelligent_inventory_prediction_system.model.Product;
 import com.example.intelligent_inventory_prediction_system.repository.InventoryRepository;
 import com.example.intelligent_inventory_prediction_system.repository.ProductRepository;
+import com.example.intelligent_inventory_prediction_system.service.catalog.ProductIdFilter;
+import com.example.intelligent_inventory_prediction_system.service.change.ChangeEntity;
+import com.example.intelligent_inventory_prediction_system.service.change.ChangeLog;
+import com.example.intelligent_inventory_prediction_system.service.diagnostics.DiagnosticEvents;
+import com.example.intelligent_inventory_prediction_system.service.diagnostics.StockUpdateEvent;
 import com.example.intelligent_inventory_prediction_system.service.executor.InventoryQueryExecutor;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardWriteOutbox;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
+import com.example.intelligent_inventory_prediction_system.service.stock.InventoryStockCache;
+import com.example.intelligent_inventory_prediction_system.service.stock.InventoryVersion;
+import com.example.intelligent_inventory_prediction_system.service.stock.InventoryVersionCache;
+import com.example.intelligent_inventory_prediction_system.service.stock.StockChangePublisher;
+import com.example.intelligent_inventory_prediction_system.service.stock.StockTable;
+import com.example.intelligent_inventory_prediction_system.service.stock.VersionedInventory;
 import com.example.intelligent_inventory_prediction_system.validator.InventoryValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 
 import static com.example.intelligent_inventory_prediction_system.constants.InventoryConstant.INVENTORY_NOT_FOUND_MESSAGE;
+import static com.example.intelligent_inventory_prediction_system.constants.InventoryConstant.MAX_STOCK;
+import static com.example.intelligent_inventory_prediction_system.constants.InventoryConstant.MIN_STOCK;
+import static com.example.intelligent_inventory_prediction_system.constants.InventoryConstant.STOCK_LEVEL_EXCEEDS_MAX_MESSAGE;
+import static com.example.intelligent_inventory_prediction_system.constants.InventoryConstant.STOCK_LEVEL_NEGATIVE_MESSAGE;
 import static com.example.intelligent_inventory_prediction_system.constants.ProductConstants.PRODUCT_NOT_FOUND_MESSAGE;
 
 @Slf4j
@@ -35,6 +60,13 @@ public class InventoryService {
     private final InventoryResponseMapper inventoryResponseMapper;
     private final InventoryValidator inventoryValidator;
     private final InventoryQueryExecutor queryExecutor;
+    private final InventoryStockCache inventoryStockCache;
+    private final StockChangePublisher stockChangePublisher;
+    private final ShardedInventoryStore shardedInventoryStore;
+    private final ShardWriteOutbox shardWriteOutbox;
+    private final InventoryVersionCache inventoryVersionCache;
+    private final ChangeLog changeLog;
+    private final ProductIdFilter productIdFilter;
 
     public List<InventoryResponseDTO> findAllInventories() {
         return queryExecutor.executeSimpleQuery("find all inventories");
@@ -44,11 +76,91 @@ public class InventoryService {
         return queryExecutor.executePagedQuery(pageable, "find all inventories with pagination");
     }
 
-    public InventoryResponseDTO findInventoryById(Long id) {
-        log.debug("Finding inventory by id: {}", id);
+    public List<ProjectedRow> findAllInventories(FieldSelection<InventoryField> selection) {
+        return queryExecutor.executeSimpleProjectionQuery(selection, "find all inventories");
+    }
+
+    public Page<ProjectedRow> findAllInventories(Pageable pageable, FieldSelection<InventoryField> selection) {
+        return queryExecutor.executePagedProjectionQuery(pageable, selection, "find all inventories with pagination");
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public StockLevelResponseDTO findStockLevel(Long id) {
+        log.debug("Finding stock level for inventory id: {}", id);
         inventoryValidator.validateId(id);
+        int stock = inventoryStockCache.findStock(id);
+        if (stock != StockTable.MISSING) {
+            return new StockLevelResponseDTO(id, stock);
+        }
         Inventory inventory = getInventoryByIdOrThrow(id);
-        return inventoryResponseMapper.toInventoryResponseDTO(inventory);
+        return new StockLevelResponseDTO(id, inventory.getCurrentStock());
+    }
+
+    /**
+     * Version of an inventory held by {@link InventoryVersionCache}, or {@code null} when it is not cached or ETags
+     * are disabled. Never touches the database, so a conditional request can be answered before anything is loaded.
+     */
+    public InventoryVersion findCachedInventoryVersion(Long id) {
+        inventoryValidator.validateId(id);
+        return inventoryVersionCache.isEnabled() ? inventoryVersionCache.find(id) : null;
+    }
+
+    /**
+     * The inventory together with the version of the row it was mapped from, which is also offered to the cache.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public VersionedInventory<InventoryResponseDTO> findVersionedInventoryById(Long id) {
+        log.debug("Finding versioned inventory by id: {}", id);
+        return loadVersioned(id, inventoryResponseMapper::toInventoryResponseDTO);
+    }
+
+    /**
+     * The selected id and stock level straight from the stock table, or {@code null} when {@code selection} asks for
+     * anything else or the table does not hold the inventory. The version covers just those two values.
+     */
+    public VersionedInventory<ProjectedRow> findStockProjectionById(Long id, FieldSelection<InventoryField> selection) {
+        inventoryValidator.validateId(id);
+        if (!selectsOnlyStock(selection) || !inventoryStockCache.isLoaded()) {
+            return null;
+        }
+        int stock = inventoryStockCache.findStock(id);
+        if (stock == StockTable.MISSING) {
+            return null;
+        }
+        Object[] values = new Object[selection.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = selection.get(i) == InventoryField.ID ? (Object) id : (Object) stock;
+        }
+        InventoryVersion version = inventoryVersionCache.isEnabled() ? InventoryVersion.ofStock(id, stock) : null;
+        return new VersionedInventory<>(new ProjectedRow(selection, values), version);
+    }
+
+    /**
+     * Projects the whole row in memory: its version needs every inventory column, so selecting fewer saves nothing.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public VersionedInventory<ProjectedRow> findVersionedInventoryById(Long id,
+                                                                       FieldSelection<InventoryField> selection) {
+        log.debug("Finding versioned inventory by id: {} selecting {}", id, selection);
+        return loadVersioned(id, inventory -> InventoryField.project(inventory, selection));
+    }
+
+    /**
+     * Version shared by every inventory list, or {@code null} when lists cannot be validated right now.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public String findCollectionVersion() {
+        return inventoryVersionCache.collectionVersion();
+    }
+
+    // Not read-only, so it runs on the primary: a replica may not have replayed everything below the watermark yet.
+    @Transactional
+    public ChangeFeedResponseDTO<InventoryResponseDTO> findInventoryChanges(String since, int limit) {
+        return changeLog.read(ChangeEntity.INVENTORY, since, limit,
+                (after, upTo, max) -> shardedInventoryStore.isEnabled()
+                        ? shardedInventoryStore.findChangedBetween(after, upTo, max)
+                        : inventoryRepository.findChangedBetween(after, upTo, Limit.of(max)),
+                Inventory::getChangeSeq, inventoryResponseMapper::toInventoryResponseDTO);
     }
 
     @Transactional
@@ -59,7 +171,7 @@ public class InventoryService {
 
         Inventory inventory = inventoryRequestMapper.toInventory(inventoryRequestDTO);
         inventory.setLastUpdated(LocalDateTime.now());
-        Inventory savedInventory = saveInventory(inventory);
+        Inventory savedInventory = saveInventory(inventory, "create", null);
 
         log.info("Inventory created successfully with id: {}", savedInventory.getId());
         return inventoryResponseMapper.toInventoryResponseDTO(savedInventory);
@@ -72,6 +184,7 @@ public class InventoryService {
         inventoryValidator.validateUpdateRequest(inventoryRequestDTO);
 
         Inventory existingInventory = getInventoryByIdOrThrow(id);
+        Integer previousStock = existingInventory.getCurrentStock();
 
         if (hasProductChanged(inventoryRequestDTO, existingInventory)) {
             verifyProductExists(inventoryRequestDTO.getProductId());
@@ -82,7 +195,7 @@ public class InventoryService {
 
         updateInventoryFields(existingInventory, inventoryRequestDTO);
         existingInventory.setLastUpdated(LocalDateTime.now());
-        Inventory savedInventory = saveInventory(existingInventory);
+        Inventory savedInventory = saveInventory(existingInventory, "update", previousStock);
 
         log.info("Inventory updated successfully with id: {}", id);
         return inventoryResponseMapper.toInventoryResponseDTO(savedInventory);
@@ -94,7 +207,13 @@ public class InventoryService {
         inventoryValidator.validateId(id);
         Inventory inventory = getInventoryByIdOrThrow(id);
 
-        inventoryRepository.deleteById(id);
+        long changeSeq = changeLog.recordRemoval(ChangeEntity.INVENTORY, id);
+        if (shardWriteOutbox.isEnabled()) {
+            shardWriteOutbox.deleteById(id, changeSeq);
+        } else {
+            inventoryRepository.deleteById(id);
+        }
+        stockChangePublisher.publishRemoval(id);
         log.info("Inventory deleted successfully with id: {}", id);
     }
 
@@ -108,21 +227,69 @@ public class InventoryService {
         }
 
         Inventory inventory = getInventoryByIdOrThrow(id);
+        Integer previousStock = inventory.getCurrentStock();
         inventory.setCurrentStock(newStockLevel);
         inventory.setLastUpdated(LocalDateTime.now());
-        Inventory savedInventory = saveInventory(inventory);
+        Inventory savedInventory = saveInventory(inventory, "stock-level", previousStock);
 
         log.info("Stock level updated successfully for inventory id: {}", id);
         return inventoryResponseMapper.toInventoryResponseDTO(savedInventory);
     }
 
+    @Transactional
+    public InventoryResponseDTO adjustStockLevel(Long id, Integer delta) {
+        log.debug("Adjusting stock level for inventory id: {} by: {}", id, delta);
+        inventoryValidator.validateId(id);
+
+        if (delta == null) {
+            throw new IllegalArgumentException("Stock delta cannot be null");
+        }
+
+        Inventory inventory = getInventoryByIdOrThrow(id);
+        Integer previousStock = inventory.getCurrentStock();
+        long adjusted = (long) (previousStock == null ? 0 : previousStock) + delta;
+        if (adjusted < MIN_STOCK) {
+            throw new IllegalArgumentException(STOCK_LEVEL_NEGATIVE_MESSAGE);
+        }
+        if (adjusted > MAX_STOCK) {
+            throw new IllegalArgumentException(STOCK_LEVEL_EXCEEDS_MAX_MESSAGE);
+        }
+        inventory.setCurrentStock((int) adjusted);
+        inventory.setLastUpdated(LocalDateTime.now());
+        Inventory savedInventory = saveInventory(inventory, "stock-adjust", previousStock);
+
+        log.info("Stock level adjusted successfully for inventory id: {}", id);
+        return inventoryResponseMapper.toInventoryResponseDTO(savedInventory);
+    }
+
+    private static boolean selectsOnlyStock(FieldSelection<InventoryField> selection) {
+        for (InventoryField field : selection.getFields()) {
+            if (field != InventoryField.ID && field != InventoryField.CURRENT_STOCK) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private <T> VersionedInventory<T> loadVersioned(Long id, Function<Inventory, T> mapper) {
+        inventoryValidator.validateId(id);
+        if (!inventoryVersionCache.isEnabled()) {
+            return new VersionedInventory<>(mapper.apply(getInventoryByIdOrThrow(id)), null);
+        }
+        Object token = inventoryVersionCache.token(id);
+        Inventory inventory = getInventoryByIdOrThrow(id);
+        InventoryVersion version = InventoryVersion.of(inventory);
+        inventoryVersionCache.store(id, token, version);
+        return new VersionedInventory<>(mapper.apply(inventory), version);
+    }
+
     private Inventory getInventoryByIdOrThrow(Long id) {
-        return inventoryRepository.findById(id)
+        return (shardedInventoryStore.isEnabled() ? shardedInventoryStore.findById(id) : inventoryRepository.findById(id))
                 .orElseThrow(() -> new IllegalArgumentException(INVENTORY_NOT_FOUND_MESSAGE + id));
     }
 
     private void verifyProductExists(Long productId) {
-        if (!productRepository.existsById(productId)) {
+        if (!productIdFilter.exists(productId, productRepository::existsById)) {
             throw new IllegalArgumentException(PRODUCT_NOT_FOUND_MESSAGE + productId);
         }
     }
@@ -136,9 +303,21 @@ public class InventoryService {
         if (request.getCurrentStock() != null) {
             inventory.setCurrentStock(request.getCurrentStock());
         }
+        if (request.getReorderThreshold() != null) {
+            inventory.setReorderThreshold(request.getReorderThreshold());
+        }
     }
 
-    private Inventory saveInventory(Inventory inventory) {
-        return inventoryRepository.save(inventory);
+    private Inventory saveInventory(Inventory inventory, String operation, Integer previousStock) {
+        StockUpdateEvent event = DiagnosticEvents.beginStockUpdate();
+        inventory.setChangeSeq(changeLog.next());
+        Inventory savedInventory = shardWriteOutbox.isEnabled()
+                ? shardWriteOutbox.save(inventory)
+                : inventoryRepository.save(inventory);
+        stockChangePublisher.publishStockChange(savedInventory.getId(), savedInventory.getCurrentStock(),
+                savedInventory.getReorderThreshold());
+        DiagnosticEvents.commitStockUpdate(event, savedInventory.getId(), operation, previousStock,
+                savedInventory.getCurrentStock());
+        return savedInventory;
     }
 }
@@ -0,0 +1,197 @@
+package com.example.intelligent_inventory_prediction_system.service;
+
+import com.example.intelligent_inventory_prediction_system.dto.response.InventoryPredictionResponseDTO;
+import com.example.intelligent_inventory_prediction_system.exception.ResourceNotFoundException;
+import com.example.intelligent_inventory_prediction_system.model.ModelSelection;
+import com.example.intelligent_inventory_prediction_system.repository.InventoryPredictionRepository;
+import com.example.intelligent_inventory_prediction_system.repository.InventoryRepository;
+import com.example.intelligent_inventory_prediction_system.repository.ModelSelectionRepository;
+import com.example.intelligent_inventory_prediction_system.repository.projection.PredictionRow;
+import com.example.intelligent_inventory_prediction_system.service.forecast.DemandSeriesReader;
+import com.example.intelligent_inventory_prediction_system.service.forecast.DemandSeriesReader.DailySeries;
+import com.example.intelligent_inventory_prediction_system.service.forecast.Forecaster;
+import com.example.intelligent_inventory_prediction_system.service.forecast.Prediction;
+import com.example.intelligent_inventory_prediction_system.service.forecast.PredictionWriter;
+import com.example.intelligent_inventory_prediction_system.service.forecast.Predictor;
+import com.example.intelligent_inventory_prediction_system.service.forecast.QuantileForecast;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.example.intelligent_inventory_prediction_system.constants.InventoryConstant.INVENTORY_NOT_FOUND_MESSAGE;
+
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class PredictionService {
+
+    static final int READ_CHUNK = 1000;
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryPredictionRepository inventoryPredictionRepository;
+    private final ModelSelectionRepository modelSelectionRepository;
+    private final DemandSeriesReader demandSeriesReader;
+    private final Predictor predictor;
+    private final PredictionWriter predictionWriter;
+    private final ObjectMapper objectMapper;
+    private final int maxIds;
+
+    public PredictionService(
+            InventoryRepository inventoryRepository,
+            InventoryPredictionRepository inventoryPredictionRepository,
+            ModelSelectionRepository modelSelectionRepository,
+            DemandSeriesReader demandSeriesReader,
+            Predictor predictor,
+            PredictionWriter predictionWriter,
+            ObjectMapper objectMapper,
+            @Value("${inventory.forecast.predictions.max-ids:10000}") int maxIds
+    ) {
+        this.inventoryRepository = inventoryRepository;
+        this.inventoryPredictionRepository = inventoryPredictionRepository;
+        this.modelSelectionRepository = modelSelectionRepository;
+        this.demandSeriesReader = demandSeriesReader;
+        this.predictor = predictor;
+        this.predictionWriter = predictionWriter;
+        this.objectMapper = objectMapper;
+        this.maxIds = maxIds;
+    }
+
+    /**
+     * Forecasts one inventory with its selected model, or the seasonal naive one before a model is selected, and
+     * replaces its stored prediction.
+     */
+    @Transactional
+    public InventoryPredictionResponseDTO predict(Long inventoryId) {
+        log.debug("Forecasting inventory with id: {}", inventoryId);
+        demandSeriesReader.checkInventoriesAvailable();
+        if (!inventoryRepository.existsById(inventoryId)) {
+            throw new IllegalArgumentException(INVENTORY_NOT_FOUND_MESSAGE + inventoryId);
+        }
+        List<DailySeries> history = new ArrayList<>(1);
+        demandSeriesReader.readInventories("WHERE i.id = ?", 1, history::addAll, inventoryId);
+        if (history.isEmpty()) {
+            throw new ResourceNotFoundException("No demand history for inventory: " + inventoryId);
+        }
+        DailySeries series = history.get(0);
+        Forecaster forecaster = predictor.resolve(modelSelectionRepository.findByInventoryId(inventoryId)
+                .map(ModelSelection::getModel).orElse(null));
+        Prediction prediction = new Prediction(inventoryId, series.lastDate().plusDays(1), forecaster.name(),
+                predictor.predict(series.values(), forecaster));
+        predictionWriter.replace(List.of(prediction));
+        log.info("Inventory {} forecast for {} days with {}", inventoryId, predictor.getHorizon(), forecaster.name());
+        return findPrediction(inventoryId);
+    }
+
+    public InventoryPredictionResponseDTO findPrediction(Long inventoryId) {
+        return inventoryPredictionRepository.findRowsByInventoryIds(List.of(inventoryId)).stream()
+                .findFirst()
+                .map(PredictionService::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("No prediction for inventory: " + inventoryId));
+    }
+
+    /**
+     * Sorted, distinct copy of the requested inventory ids, rejecting more than {@code max-ids}. Checked before the
+     * response starts streaming, so a bad request still gets a 400.
+     */
+    public List<Long> checkInventoryIds(List<Long> inventoryIds) {
+        List<Long> ids = inventoryIds.stream().filter(Objects::nonNull).distinct().sorted().toList();
+        if (ids.isEmpty() || ids.size() > maxIds) {
+            throw new IllegalArgumentException("Between 1 and " + maxIds + " inventory IDs can be requested at once");
+        }
+        return ids;
+    }
+
+    public void checkRange(long fromInventoryId, long toInventoryId) {
+        if (fromInventoryId < 1 || toInventoryId < fromInventoryId) {
+            throw new IllegalArgumentException("Inventory ID range must be positive and not reversed");
+        }
+    }
+
+    /**
+     * Writes the predictions of the inventories with ids from {@code fromInventoryId} to {@code toInventoryId} as a
+     * JSON array, reading them in keyset chunks so neither the heap nor a connection is held for the whole range.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeRange(long fromInventoryId, long toInventoryId, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            long afterId = fromInventoryId - 1;
+            List<PredictionRow> rows;
+            do {
+                rows = inventoryPredictionRepository.findRowsInRange(afterId, toInventoryId, Limit.of(READ_CHUNK));
+                for (PredictionRow row : rows) {
+                    write(generator, row);
+                }
+                if (!rows.isEmpty()) {
+                    afterId = rows.get(rows.size() - 1).inventoryId();
+                }
+                generator.flush();
+            } while (rows.size() == READ_CHUNK);
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * Writes the predictions of {@code inventoryIds}, as returned by {@link #checkInventoryIds}, as a JSON array in id
+     * order. Inventories without a prediction are left out.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeByIds(List<Long> inventoryIds, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            for (int from = 0; from < inventoryIds.size(); from += READ_CHUNK) {
+                List<Long> chunk = inventoryIds.subList(from, Math.min(from + READ_CHUNK, inventoryIds.size()));
+                for (PredictionRow row : inventoryPredictionRepository.findRowsByInventoryIds(chunk)) {
+                    write(generator, row);
+                }
+                generator.flush();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    // Same fields as InventoryPredictionResponseDTO, written without building one per row.
+    private static void write(JsonGenerator generator, PredictionRow row) throws IOException {
+        QuantileForecast quantiles = QuantileForecast.unpack(row.quantiles());
+        generator.writeStartObject();
+        generator.writeNumberField("inventoryId", row.inventoryId());
+        generator.writePOJOField("startDate", row.startDate());
+        generator.writeNumberField("horizonDays", row.horizonDays());
+        generator.writeStringField("model", row.model());
+        generator.writePOJOField("generatedAt", row.generatedAt());
+        writeArray(generator, "p10", quantiles.p10());
+        writeArray(generator, "p50", quantiles.p50());
+        writeArray(generator, "p90", quantiles.p90());
+        generator.writeEndObject();
+    }
+
+    private static void writeArray(JsonGenerator generator, String name, long[] values) throws IOException {
+        generator.writeFieldName(name);
+        generator.writeArray(values, 0, values.length);
+    }
+
+    private static InventoryPredictionResponseDTO toResponse(PredictionRow row) {
+        QuantileForecast quantiles = QuantileForecast.unpack(row.quantiles());
+        return InventoryPredictionResponseDTO.builder()
+                .inventoryId(row.inventoryId())
+                .startDate(row.startDate())
+                .horizonDays(row.horizonDays())
+                .model(row.model())
+                .generatedAt(row.generatedAt())
+                .p10(quantiles.p10())
+                .p50(quantiles.p50())
+                .p90(quantiles.p90())
+                .build();
+    }
+}
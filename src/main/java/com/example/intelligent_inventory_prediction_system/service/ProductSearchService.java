@@ -1,5 +1,8 @@
 package com.example.intelligent_inventory_prediction_system.service;
 
+import com.example.intelligent_inventory_prediction_system.dto.projection.FieldSelection;
+import com.example.intelligent_inventory_prediction_system.dto.projection.ProductField;
+import com.example.intelligent_inventory_prediction_system.dto.projection.ProjectedRow;
 import com.example.intelligent_inventory_prediction_system.dto.response.ProductResponseDTO;
 import com.example.intelligent_inventory_prediction_system.dto.search.ProductSearchCriteria;
 import com.example.intelligent_inventory_prediction_system.model.Product;
@@ -10,11 +13,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.StringUtils;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -75,60 +78,76 @@ public class ProductSearchService {
         return  queryExecutor.executeSpecificationQuery(specification, "find by status: " + status);
     }
 
-    private Specification<Product> buildSearchSpecification(ProductSearchCriteria criteria) {
-        List<Specification<Product>> specifications = new ArrayList<>();
+    public List<ProjectedRow> searchProducts(ProductSearchCriteria criteria, FieldSelection<ProductField> selection) {
+        log.debug("Searching products with criteria: {} selecting {}", criteria, selection);
+        return queryExecutor.executeProjectionQuery(buildSearchSpecification(criteria), selection, "advanced search");
+    }
+
+    public List<ProjectedRow> findByName(String name, FieldSelection<ProductField> selection) {
+        return queryExecutor.executeProjectionQuery(ProductSpecs.hasName(name), selection, "find by name: " + name);
+    }
+
+    public List<ProjectedRow> findByCategory(String category, FieldSelection<ProductField> selection) {
+        return queryExecutor.executeProjectionQuery(ProductSpecs.hasCategory(category), selection,
+                "find by category: " + category);
+    }
+
+    public List<ProjectedRow> findByKeyword(String keyword, FieldSelection<ProductField> selection) {
+        return queryExecutor.executeProjectionQuery(ProductSpecs.searchByKeyword(keyword), selection,
+                "search by keyword: " + keyword);
+    }
 
-        addKeywordFilter(specifications, criteria.getKeyword());
-        addNameFilter(specifications, criteria.getName());
-        addCategoryFilter(specifications, criteria.getCategory());
-        addStatusFilter(specifications, criteria.getStatus());
-        addPriceRangeFilter(specifications, criteria.getMinPrice(), criteria.getMaxPrice());
-        addAvailabilityFilter(specifications, criteria.getAvailability());
-        addActiveFilter(specifications, criteria.getActive());
+    public List<ProjectedRow> findActiveProducts(FieldSelection<ProductField> selection) {
+        return queryExecutor.executeProjectionQuery(ProductSpecs.isActiveAndAvailable(), selection,
+                "find active products");
+    }
 
-        return specifications.stream()
-                .reduce(Specification.allOf(), Specification::and);
+    public List<ProjectedRow> findByPriceRange(Double minPrice, Double maxPrice, FieldSelection<ProductField> selection) {
+        return queryExecutor.executeProjectionQuery(ProductSpecs.hasPriceBetween(minPrice, maxPrice), selection,
+                String.format("find by price range: %s - %s", minPrice, maxPrice));
     }
 
-    private void addKeywordFilter(List<Specification<Product>> specs, String keyword) {
-        if (StringUtils.hasText(keyword)) {
-            specs.add(ProductSpecs.searchByKeyword(keyword));
-        }
+    public List<ProjectedRow> findAvailableProductsAbovePrice(Double minPrice, FieldSelection<ProductField> selection) {
+        Specification<Product> specification = ProductSpecs.isAvailable()
+                .and(ProductSpecs.hasPriceGreaterThan(minPrice));
+        return queryExecutor.executeProjectionQuery(specification, selection,
+                "find available products above price: " + minPrice);
     }
 
-    private void addNameFilter(List<Specification<Product>> specs, String name) {
-        if (StringUtils.hasText(name)) {
-            specs.add(ProductSpecs.hasName(name));
-        }
+    public List<ProjectedRow> findByStatus(ProductStatus status, FieldSelection<ProductField> selection) {
+        return queryExecutor.executeProjectionQuery(ProductSpecs.hasStatus(status.name()), selection,
+                "find by status: " + status);
     }
 
-    private void addCategoryFilter(List<Specification<Product>> specs, String category) {
-        if (StringUtils.hasText(category)) {
-            specs.add(ProductSpecs.hasCategory(category));
-        }
+    // The async variants only queue the query, which runs in a transaction of its own on a query worker.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<List<ProductResponseDTO>> searchProductsAsync(ProductSearchCriteria criteria) {
+        log.debug("Queueing product search with criteria: {}", criteria);
+        return queryExecutor.executeSpecificationQueryAsync(buildSearchSpecification(criteria), "advanced search");
     }
 
-    private void addStatusFilter(List<Specification<Product>> specs, ProductStatus status) {
-        if (status != null) {
-            specs.add(ProductSpecs.hasStatus(status.name()));
-        }
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<List<ProjectedRow>> searchProductsAsync(ProductSearchCriteria criteria,
+                                                                     FieldSelection<ProductField> selection) {
+        log.debug("Queueing product search with criteria: {} selecting {}", criteria, selection);
+        return queryExecutor.executeProjectionQueryAsync(buildSearchSpecification(criteria), selection,
+                "advanced search");
     }
 
-    private void addPriceRangeFilter(List<Specification<Product>> specs, Double minPrice, Double maxPrice) {
-        if (minPrice != null || maxPrice != null) {
-            specs.add(ProductSpecs.hasPriceBetween(minPrice, maxPrice));
-        }
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<List<ProductResponseDTO>> findByKeywordAsync(String keyword) {
+        return queryExecutor.executeSpecificationQueryAsync(ProductSpecs.searchByKeyword(keyword),
+                "search by keyword: " + keyword);
     }
 
-    private void addAvailabilityFilter(List<Specification<Product>> specs, Boolean availability) {
-        if (availability != null) {
-            specs.add(ProductSpecs.hasAvailability(availability));
-        }
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<List<ProjectedRow>> findByKeywordAsync(String keyword,
+                                                                    FieldSelection<ProductField> selection) {
+        return queryExecutor.executeProjectionQueryAsync(ProductSpecs.searchByKeyword(keyword), selection,
+                "search by keyword: " + keyword);
     }
 
-    private void addActiveFilter(List<Specification<Product>> specs, Boolean active) {
-        if (Boolean.TRUE.equals(active)) {
-            specs.add(ProductSpecs.isActive());
-        }
+    private Specification<Product> buildSearchSpecification(ProductSearchCriteria criteria) {
+        return ProductSpecs.matchesCriteria(criteria);
     }
 }
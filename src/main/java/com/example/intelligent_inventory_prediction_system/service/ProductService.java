@@ -1,16 +1,25 @@
 package com.example.intelligent_inventory_prediction_system.service;
 
+import com.example.intelligent_inventory_prediction_system.dto.projection.FieldSelection;
+import com.example.intelligent_inventory_prediction_system.dto.projection.ProductField;
+import com.example.intelligent_inventory_prediction_system.dto.projection.ProjectedRow;
 import com.example.intelligent_inventory_prediction_system.dto.request.ProductRequestDTO;
+import com.example.intelligent_inventory_prediction_system.dto.response.ChangeFeedResponseDTO;
 import com.example.intelligent_inventory_prediction_system.dto.response.ProductResponseDTO;
 import com.example.intelligent_inventory_prediction_system.mapper.request.ProductRequestMapper;
 import com.example.intelligent_inventory_prediction_system.mapper.response.ProductResponseMapper;
 import com.example.intelligent_inventory_prediction_system.model.Product;
 import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
 import com.example.intelligent_inventory_prediction_system.repository.ProductRepository;
+import com.example.intelligent_inventory_prediction_system.repository.specification.ProductSpecs;
+import com.example.intelligent_inventory_prediction_system.service.catalog.ProductIdFilter;
+import com.example.intelligent_inventory_prediction_system.service.change.ChangeEntity;
+import com.example.intelligent_inventory_prediction_system.service.change.ChangeLog;
 import com.example.intelligent_inventory_prediction_system.service.executor.ProductQueryExecutor;
 import com.example.intelligent_inventory_prediction_system.validator.ProductValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -31,6 +40,8 @@ public class ProductService {
     private final ProductResponseMapper productResponseMapper;
     private final ProductValidator productValidator;
     private final ProductQueryExecutor queryExecutor;
+    private final ChangeLog changeLog;
+    private final ProductIdFilter productIdFilter;
 
     public List<ProductResponseDTO> findAllProducts() {
         return (List<ProductResponseDTO>) queryExecutor.executeSimpleQuery("find all products");
@@ -40,6 +51,10 @@ public class ProductService {
         return (Page<ProductResponseDTO>) queryExecutor.executePagedQuery(pageable, "find all products with pagination");
     }
 
+    public Page<ProjectedRow> findAllProducts(Pageable pageable, FieldSelection<ProductField> selection) {
+        return queryExecutor.executePagedProjectionQuery(pageable, selection, "find all products with pagination");
+    }
+
     public ProductResponseDTO findProductById(Long id) {
         log.debug("Finding product by id: {}", id);
         productValidator.validateId(id);
@@ -47,6 +62,23 @@ public class ProductService {
         return productResponseMapper.toProductResponseDTO(product);
     }
 
+    public ProjectedRow findProductById(Long id, FieldSelection<ProductField> selection) {
+        log.debug("Finding product by id: {} selecting {}", id, selection);
+        productValidator.validateId(id);
+        return queryExecutor.executeProjectionQuery(ProductSpecs.hasId(id), selection, "find product by id")
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(PRODUCT_NOT_FOUND_MESSAGE + id));
+    }
+
+    // Not read-only, so it runs on the primary: a replica may not have replayed everything below the watermark yet.
+    @Transactional
+    public ChangeFeedResponseDTO<ProductResponseDTO> findProductChanges(String since, int limit) {
+        return changeLog.read(ChangeEntity.PRODUCT, since, limit,
+                (after, upTo, max) -> productRepository.findChangedBetween(after, upTo, Limit.of(max)),
+                Product::getChangeSeq, productResponseMapper::toProductResponseDTO);
+    }
+
     @Transactional
     public ProductResponseDTO createProduct(ProductRequestDTO productRequestDTO) {
         log.debug("Creating new product: {}", productRequestDTO);
@@ -54,6 +86,7 @@ public class ProductService {
 
         Product product = productRequestMapper.toProduct(productRequestDTO);
         Product savedProduct = saveProduct(product);
+        productIdFilter.added(savedProduct.getId());
 
         log.info("Product created successfully with id: {}", savedProduct.getId());
         return productResponseMapper.toProductResponseDTO(savedProduct);
@@ -80,6 +113,8 @@ public class ProductService {
         Product product = getProductByIdOrThrow(id);
 
         productRepository.deleteById(id);
+        changeLog.recordRemoval(ChangeEntity.PRODUCT, id);
+        productIdFilter.removed(id);
         log.info("Product deleted successfully with id: {}", id);
     }
 
@@ -103,6 +138,7 @@ public class ProductService {
     }
 
     private Product saveProduct(Product product) {
+        product.setChangeSeq(changeLog.next());
         return productRepository.save(product);
     }
 }
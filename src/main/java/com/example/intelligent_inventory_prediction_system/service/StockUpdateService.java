@@ -0,0 +1,143 @@
+package com.example.intelligent_inventory_prediction_system.service;
+
+import com.example.intelligent_inventory_prediction_system.dto.response.InventoryResponseDTO;
+import com.example.intelligent_inventory_prediction_system.dto.response.StockUpdateResponseDTO;
+import com.example.intelligent_inventory_prediction_system.repository.InventoryRepository;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
+import com.example.intelligent_inventory_prediction_system.service.stock.BufferedStockUpdate;
+import com.example.intelligent_inventory_prediction_system.service.stock.InventoryStockCache;
+import com.example.intelligent_inventory_prediction_system.service.stock.StockTable;
+import com.example.intelligent_inventory_prediction_system.service.stock.StockWriteBehindBuffer;
+import com.example.intelligent_inventory_prediction_system.validator.InventoryValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import static com.example.intelligent_inventory_prediction_system.constants.InventoryConstant.INVENTORY_NOT_FOUND_MESSAGE;
+import static com.example.intelligent_inventory_prediction_system.constants.InventoryConstant.MAX_STOCK;
+import static com.example.intelligent_inventory_prediction_system.constants.InventoryConstant.MIN_STOCK;
+import static com.example.intelligent_inventory_prediction_system.constants.InventoryConstant.STOCK_LEVEL_EXCEEDS_MAX_MESSAGE;
+import static com.example.intelligent_inventory_prediction_system.constants.InventoryConstant.STOCK_LEVEL_NEGATIVE_MESSAGE;
+
+/**
+ * Entry point for high-frequency stock updates. With write-behind enabled an update is acknowledged as soon as
+ * it is durable in the {@link StockWriteBehindBuffer}'s log; otherwise it is applied straight away.
+ */
+@Slf4j
+@Service
+public class StockUpdateService {
+
+    public static final String MODE_BUFFERED = "buffered";
+    public static final String MODE_APPLIED = "applied";
+
+    private final InventoryService inventoryService;
+    private final InventoryValidator inventoryValidator;
+    private final InventoryRepository inventoryRepository;
+    private final InventoryStockCache inventoryStockCache;
+    private final StockWriteBehindBuffer stockWriteBehindBuffer;
+
+    public StockUpdateService(
+            InventoryService inventoryService,
+            InventoryValidator inventoryValidator,
+            InventoryRepository inventoryRepository,
+            InventoryStockCache inventoryStockCache,
+            StockWriteBehindBuffer stockWriteBehindBuffer,
+            ShardedInventoryStore shardedInventoryStore,
+            @Value("${inventory.stock.write-behind.enabled:false}") boolean writeBehindEnabled
+    ) {
+        // The buffer writes the single-database inventory table; sharded rows live elsewhere.
+        if (writeBehindEnabled && shardedInventoryStore.isEnabled()) {
+            throw new IllegalStateException("Stock write-behind cannot be combined with inventory sharding");
+        }
+        this.inventoryService = inventoryService;
+        this.inventoryValidator = inventoryValidator;
+        this.inventoryRepository = inventoryRepository;
+        this.inventoryStockCache = inventoryStockCache;
+        this.stockWriteBehindBuffer = stockWriteBehindBuffer;
+    }
+
+    /**
+     * Sets the stock level when {@code stockLevel} is given, or adds {@code delta} to it; exactly one is required.
+     */
+    public StockUpdateResponseDTO submit(Long id, Integer stockLevel, Integer delta) {
+        inventoryValidator.validateId(id);
+        BufferedStockUpdate update = toUpdate(stockLevel, delta);
+
+        if (!stockWriteBehindBuffer.isEnabled()) {
+            InventoryResponseDTO applied = update.absolute()
+                    ? inventoryService.updateStockLevel(id, stockLevel)
+                    : inventoryService.adjustStockLevel(id, delta);
+            return StockUpdateResponseDTO.builder()
+                    .inventoryId(id)
+                    .mode(MODE_APPLIED)
+                    .stockLevel(stockLevel)
+                    .delta(delta)
+                    .currentStock(applied.getCurrentStock())
+                    .build();
+        }
+
+        if (update.absolute()) {
+            verifyInventoryExists(id);
+        } else {
+            verifyDeltaInRange(id, delta);
+        }
+        stockWriteBehindBuffer.submit(id, update);
+        log.debug("Buffered stock update for inventory id: {}", id);
+        return StockUpdateResponseDTO.builder()
+                .inventoryId(id)
+                .mode(MODE_BUFFERED)
+                .stockLevel(stockLevel)
+                .delta(delta)
+                .build();
+    }
+
+    private static BufferedStockUpdate toUpdate(Integer stockLevel, Integer delta) {
+        if ((stockLevel == null) == (delta == null)) {
+            throw new IllegalArgumentException("Exactly one of stockLevel and delta must be given");
+        }
+        if (stockLevel != null) {
+            if (stockLevel < MIN_STOCK) {
+                throw new IllegalArgumentException(STOCK_LEVEL_NEGATIVE_MESSAGE);
+            }
+            if (stockLevel > MAX_STOCK) {
+                throw new IllegalArgumentException(STOCK_LEVEL_EXCEEDS_MAX_MESSAGE);
+            }
+            return BufferedStockUpdate.absolute(stockLevel);
+        }
+        if (Math.abs((long) delta) > MAX_STOCK) {
+            throw new IllegalArgumentException("Stock delta exceeds maximum allowed: " + MAX_STOCK);
+        }
+        return BufferedStockUpdate.delta(delta);
+    }
+
+    // Same check adjustStockLevel makes, against the last flushed level plus whatever is still buffered. Updates
+    // racing past it are clamped by the flush.
+    private void verifyDeltaInRange(Long id, int delta) {
+        int stock = inventoryStockCache.findStock(id);
+        if (stock == StockTable.MISSING) {
+            Integer current = inventoryRepository.findById(id)
+                    .orElseThrow(() -> new IllegalArgumentException(INVENTORY_NOT_FOUND_MESSAGE + id))
+                    .getCurrentStock();
+            stock = current == null ? 0 : current;
+        }
+        BufferedStockUpdate pending = stockWriteBehindBuffer.pending(id);
+        long adjusted = pending == null ? stock
+                : pending.absolute() ? pending.value() : (long) stock + pending.value();
+        adjusted += delta;
+        if (adjusted < MIN_STOCK) {
+            throw new IllegalArgumentException(STOCK_LEVEL_NEGATIVE_MESSAGE);
+        }
+        if (adjusted > MAX_STOCK) {
+            throw new IllegalArgumentException(STOCK_LEVEL_EXCEEDS_MAX_MESSAGE);
+        }
+    }
+
+    private void verifyInventoryExists(Long id) {
+        if (inventoryStockCache.findStock(id) != StockTable.MISSING) {
+            return;
+        }
+        if (!inventoryRepository.existsById(id)) {
+            throw new IllegalArgumentException(INVENTORY_NOT_FOUND_MESSAGE + id);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.intelligent_inventory_prediction_system.service.alert;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Bounded queue of the most recent alerts, for consumers that poll instead of receiving a push. Only registered
+ * when {@code inventory.alerts.queue.enabled} is true; when full, the oldest alert is dropped.
+ */
+@Component
+@ConditionalOnProperty(value = "inventory.alerts.queue.enabled", havingValue = "true")
+public class InMemoryAlertSink implements LowStockAlertSink {
+
+    private final BlockingQueue<LowStockAlert> alerts;
+
+    public InMemoryAlertSink(@Value("${inventory.alerts.queue.capacity:10000}") int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalStateException("inventory.alerts.queue.capacity must be positive but was " + capacity);
+        }
+        this.alerts = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public void publish(LowStockAlert alert) {
+        while (!alerts.offer(alert)) {
+            alerts.poll();
+        }
+    }
+
+    /**
+     * Alerts currently queued, oldest first, without removing them.
+     */
+    public List<LowStockAlert> peek() {
+        return new ArrayList<>(alerts);
+    }
+
+    /**
+     * Removes and returns the queued alerts, oldest first.
+     */
+    public List<LowStockAlert> drain() {
+        List<LowStockAlert> drained = new ArrayList<>(alerts.size());
+        alerts.drainTo(drained);
+        return drained;
+    }
+
+    public int size() {
+        return alerts.size();
+    }
+}
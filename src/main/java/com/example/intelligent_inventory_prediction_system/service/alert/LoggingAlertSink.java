@@ -0,0 +1,19 @@
+package com.example.intelligent_inventory_prediction_system.service.alert;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class LoggingAlertSink implements LowStockAlertSink {
+
+    @Override
+    public void publish(LowStockAlert alert) {
+        if (alert.type() == LowStockAlert.Type.BELOW_THRESHOLD) {
+            log.warn("Inventory {} is below its reorder threshold: stock {} < {}",
+                    alert.inventoryId(), alert.currentStock(), alert.reorderThreshold());
+        } else {
+            log.info("Inventory {} recovered above its reorder threshold: stock {}", alert.inventoryId(), alert.currentStock());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.intelligent_inventory_prediction_system.service.alert;
+
+import java.time.Instant;
+
+public record LowStockAlert(long inventoryId, Type type, int currentStock, int reorderThreshold, Instant raisedAt) {
+
+    public enum Type {
+        BELOW_THRESHOLD,
+        RECOVERED
+    }
+}
@@ -0,0 +1,243 @@
+package com.example.intelligent_inventory_prediction_system.service.alert;
+
+import com.example.intelligent_inventory_prediction_system.repository.InventoryRepository;
+import com.example.intelligent_inventory_prediction_system.repository.projection.StockLevel;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
+import com.example.intelligent_inventory_prediction_system.service.stock.StockChange;
+import com.example.intelligent_inventory_prediction_system.service.stock.StockChangeListener;
+import com.example.intelligent_inventory_prediction_system.service.stock.StockTable;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Indexes {@code reorderThreshold - currentStock} for the inventories whose stock is below their threshold in a
+ * {@link StockTable}, so "everything below threshold" is a scan proportional to the number of matches, an
+ * update for a healthy inventory costs a single hash probe and one below threshold an O(log n) index move.
+ * <p>
+ * The update path only touches the index and, on a threshold crossing, enqueues a transition. A dispatcher
+ * drains the queue every debounce window, keeps only the latest transition per inventory and emits it when it
+ * differs from what was last emitted, so flapping around the threshold and repeated crossings are suppressed.
+ */
+@Slf4j
+@Component
+public class LowStockAlertEngine implements StockChangeListener {
+
+    private final InventoryRepository inventoryRepository;
+    private final ShardedInventoryStore shardedInventoryStore;
+    private final List<LowStockAlertSink> sinks;
+    private final long debounceMillis;
+    private final int loadBatchSize;
+    private final StockTable shortfallIndex = new StockTable();
+    private final Queue<LowStockAlert> pending = new ConcurrentLinkedQueue<>();
+    private final Set<Long> alerted = new HashSet<>();
+    private final Counter belowCounter;
+    private final Counter recoveredCounter;
+    private final Counter suppressedCounter;
+    private ScheduledExecutorService dispatcher;
+    private volatile boolean loaded;
+
+    public LowStockAlertEngine(
+            InventoryRepository inventoryRepository,
+            ShardedInventoryStore shardedInventoryStore,
+            List<LowStockAlertSink> sinks,
+            MeterRegistry meterRegistry,
+            @Value("${inventory.alerts.debounce-ms:1000}") long debounceMillis,
+            @Value("${inventory.stock-table.load-batch-size:10000}") int loadBatchSize
+    ) {
+        this.inventoryRepository = inventoryRepository;
+        this.shardedInventoryStore = shardedInventoryStore;
+        this.sinks = List.copyOf(sinks);
+        this.debounceMillis = debounceMillis;
+        this.loadBatchSize = loadBatchSize;
+        this.belowCounter = Counter.builder("inventory.alerts.emitted")
+                .description("Low stock alerts emitted")
+                .tag("type", "below-threshold")
+                .register(meterRegistry);
+        this.recoveredCounter = Counter.builder("inventory.alerts.emitted")
+                .description("Low stock alerts emitted")
+                .tag("type", "recovered")
+                .register(meterRegistry);
+        this.suppressedCounter = Counter.builder("inventory.alerts.suppressed")
+                .description("Threshold crossings dropped by debouncing or deduplication")
+                .register(meterRegistry);
+        Gauge.builder("inventory.alerts.below.threshold", this, LowStockAlertEngine::countBelowThreshold)
+                .description("Inventories currently below their reorder threshold")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long[] ids = new long[loadBatchSize];
+        int[] shortfalls = new int[loadBatchSize];
+        int count = 0;
+        long afterId = 0;
+        List<StockLevel> batch;
+        do {
+            batch = findStockLevelsAfter(afterId);
+            for (StockLevel level : batch) {
+                afterId = level.inventoryId();
+                if (level.reorderThreshold() == null) {
+                    continue;
+                }
+                int shortfall = shortfall(level.currentStock(), level.reorderThreshold());
+                if (shortfall <= 0) {
+                    continue;
+                }
+                if (count == ids.length) {
+                    ids = Arrays.copyOf(ids, count * 2);
+                    shortfalls = Arrays.copyOf(shortfalls, count * 2);
+                }
+                ids[count] = level.inventoryId();
+                shortfalls[count++] = shortfall;
+            }
+        } while (batch.size() == loadBatchSize);
+        // Inventories already below threshold at startup are indexed without re-alerting; ones a concurrent write
+        // indexed first keep that write's alert.
+        long[] added = shortfallIndex.putAllIfAbsent(ids, shortfalls, count);
+        synchronized (alerted) {
+            for (long id : added) {
+                alerted.add(id);
+            }
+        }
+        loaded = true;
+        log.info("Low stock alert engine loaded, {} inventories below threshold", countBelowThreshold());
+
+        dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "low-stock-alerts");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher.scheduleWithFixedDelay(this::flush, debounceMillis, debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private List<StockLevel> findStockLevelsAfter(long afterId) {
+        return shardedInventoryStore.isEnabled()
+                ? shardedInventoryStore.findStockLevelsAfter(afterId, loadBatchSize)
+                : inventoryRepository.findStockLevelsAfter(afterId, Limit.of(loadBatchSize));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+        flush();
+    }
+
+    @Override
+    public void onStockChanged(StockChange change) {
+        if (change.currentStock() == null || change.reorderThreshold() == null) {
+            onInventoryRemoved(change.inventoryId());
+            return;
+        }
+        int shortfall = shortfall(change.currentStock(), change.reorderThreshold());
+        boolean wasBelow = shortfallIndex.contains(change.inventoryId());
+        if (shortfall > 0) {
+            shortfallIndex.put(change.inventoryId(), shortfall);
+            if (!wasBelow) {
+                enqueue(change, LowStockAlert.Type.BELOW_THRESHOLD);
+            }
+        } else if (wasBelow && shortfallIndex.remove(change.inventoryId())) {
+            enqueue(change, LowStockAlert.Type.RECOVERED);
+        }
+    }
+
+    // Untracked inventories are forgotten silently rather than reported as recovered.
+    @Override
+    public void onInventoryRemoved(long inventoryId) {
+        if (shortfallIndex.contains(inventoryId) && shortfallIndex.remove(inventoryId)) {
+            synchronized (alerted) {
+                alerted.remove(inventoryId);
+            }
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Inventories below their reorder threshold, most severe shortfall first.
+     */
+    public long[] findBelowThresholdIds() {
+        long[] ids = shortfallIndex.idsInRange(1, Integer.MAX_VALUE);
+        for (int i = 0, j = ids.length - 1; i < j; i++, j--) {
+            long id = ids[i];
+            ids[i] = ids[j];
+            ids[j] = id;
+        }
+        return ids;
+    }
+
+    public int countBelowThreshold() {
+        return shortfallIndex.size();
+    }
+
+    public synchronized void flush() {
+        Map<Long, LowStockAlert> latest = new LinkedHashMap<>();
+        int drained = 0;
+        LowStockAlert alert;
+        while ((alert = pending.poll()) != null) {
+            latest.put(alert.inventoryId(), alert);
+            drained++;
+        }
+        if (drained == 0) {
+            return;
+        }
+
+        int emitted = 0;
+        for (LowStockAlert candidate : latest.values()) {
+            boolean changed;
+            synchronized (alerted) {
+                changed = candidate.type() == LowStockAlert.Type.BELOW_THRESHOLD
+                        ? alerted.add(candidate.inventoryId())
+                        : alerted.remove(candidate.inventoryId());
+            }
+            if (changed) {
+                emit(candidate);
+                emitted++;
+            }
+        }
+        suppressedCounter.increment(drained - emitted);
+    }
+
+    private void emit(LowStockAlert alert) {
+        (alert.type() == LowStockAlert.Type.BELOW_THRESHOLD ? belowCounter : recoveredCounter).increment();
+        for (LowStockAlertSink sink : sinks) {
+            try {
+                sink.publish(alert);
+            } catch (RuntimeException e) {
+                log.error("Low stock alert sink {} failed for inventory id: {}", sink.getClass().getSimpleName(), alert.inventoryId(), e);
+            }
+        }
+    }
+
+    private void enqueue(StockChange change, LowStockAlert.Type type) {
+        pending.add(new LowStockAlert(change.inventoryId(), type, change.currentStock(), change.reorderThreshold(), Instant.now()));
+    }
+
+    private static int shortfall(int currentStock, int reorderThreshold) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) reorderThreshold - currentStock);
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.intelligent_inventory_prediction_system.service.alert;
+
+public interface LowStockAlertSink {
+
+    void publish(LowStockAlert alert);
+}
@@ -0,0 +1,59 @@
+package com.example.intelligent_inventory_prediction_system.service.alert;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Fire-and-forget JSON POST of each alert. Only registered when {@code inventory.alerts.webhook.url} is set;
+ * delivery failures are logged and not retried.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty("inventory.alerts.webhook.url")
+public class WebhookAlertSink implements LowStockAlertSink {
+
+    private final URI endpoint;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public WebhookAlertSink(@Value("${inventory.alerts.webhook.url}") String url, ObjectMapper objectMapper) {
+        this.endpoint = URI.create(url);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(LowStockAlert alert) {
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(alert);
+        } catch (JsonProcessingException e) {
+            log.error("Could not serialize low stock alert for inventory id: {}", alert.inventoryId(), e);
+            return;
+        }
+        HttpRequest request = HttpRequest.newBuilder(endpoint)
+                .timeout(Duration.ofSeconds(10))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    if (failure != null) {
+                        log.warn("Low stock webhook delivery failed for inventory id: {}", alert.inventoryId(), failure);
+                    } else if (response.statusCode() >= 300) {
+                        log.warn("Low stock webhook returned {} for inventory id: {}", response.statusCode(), alert.inventoryId());
+                    }
+                });
+    }
+}
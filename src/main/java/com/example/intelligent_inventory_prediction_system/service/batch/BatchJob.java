@@ -0,0 +1,42 @@
+package com.example.intelligent_inventory_prediction_system.service.batch;
+
+import java.util.List;
+
+/**
+ * A job the {@link BatchJobRunner} runs over positive, increasing keys in chunks. Each chunk is read after the
+ * checkpointed key, processed outside any transaction and written in one transaction with the new checkpoint.
+ *
+ * @param <I> an item read for one or more keys
+ * @param <R> the result written for an item
+ */
+public interface BatchJob<I, R> {
+
+    String name();
+
+    /**
+     * The items of up to {@code limit} keys after {@code afterKey}, or null once no key is left. Keys without an item
+     * still count towards the limit and move the checkpoint.
+     */
+    Chunk<I> read(long afterKey, int limit);
+
+    /**
+     * Results of a chunk's items. An item that fails is counted rather than failing the chunk.
+     */
+    Output<R> process(List<I> items);
+
+    /**
+     * Writes a chunk's results, inside the transaction that commits the checkpoint.
+     */
+    void write(List<R> results);
+
+    /**
+     * Keys left after {@code afterKey}, for the ETA.
+     */
+    long countAfter(long afterKey);
+
+    record Chunk<I>(List<I> items, int keys, long lastKey) {
+    }
+
+    record Output<R>(List<R> results, int failed) {
+    }
+}
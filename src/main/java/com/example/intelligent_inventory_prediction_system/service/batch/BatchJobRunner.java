@@ -0,0 +1,260 @@
+package com.example.intelligent_inventory_prediction_system.service.batch;
+
+import com.example.intelligent_inventory_prediction_system.exception.ResourceNotFoundException;
+import com.example.intelligent_inventory_prediction_system.model.BatchCheckpoint;
+import com.example.intelligent_inventory_prediction_system.repository.BatchCheckpointRepository;
+import com.example.intelligent_inventory_prediction_system.service.diagnostics.DiagnosticEvents;
+import com.example.intelligent_inventory_prediction_system.service.diagnostics.ForecastBatchEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs {@link BatchJob}s chunk by chunk from their {@link BatchCheckpoint}. A run that was stopped, failed or died
+ * with the process resumes after the last committed chunk; a completed one starts over from the first key. After
+ * each chunk the run pauses as its {@link BatchThrottle} asks, leaving CPU and connections to online requests.
+ * <p>
+ * Per job, {@code inventory.batch.items} and {@code inventory.batch.failures} count keys, and
+ * {@code inventory.batch.rate} and {@code inventory.batch.eta} give the keys per second and the seconds left of the
+ * run in progress.
+ */
+@Slf4j
+@Component
+public class BatchJobRunner {
+
+    private final BatchCheckpointRepository checkpointRepository;
+    private final TransactionTemplate chunkTransaction;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Run> runs = new ConcurrentHashMap<>();
+
+    public BatchJobRunner(
+            BatchCheckpointRepository checkpointRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.checkpointRepository = checkpointRepository;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Runs {@code job} until no key is left, {@link #stop} is called or a chunk fails, and returns its progress.
+     * Returns the progress at once if the job is already running.
+     */
+    public <I, R> BatchProgress run(BatchJob<I, R> job, int chunkSize, BatchThrottle throttle) {
+        Run run = runs.computeIfAbsent(job.name(), this::register);
+        if (run.running.compareAndSet(false, true)) {
+            try {
+                execute(job, run, chunkSize, throttle);
+            } finally {
+                run.active = false;
+                run.running.set(false);
+            }
+        }
+        return progress(job.name());
+    }
+
+    public boolean isRunning(String job) {
+        Run run = runs.get(job);
+        return run != null && run.running.get();
+    }
+
+    /**
+     * Asks a running job to stop after its current chunk; it resumes from there on its next run.
+     */
+    public void stop(String job) {
+        Run run = runs.get(job);
+        if (run != null && run.running.get()) {
+            run.stopRequested = true;
+        }
+    }
+
+    /**
+     * Whether {@code job} has never run, did not complete its last run or completed it more than {@code interval}
+     * ago.
+     */
+    public boolean isDue(String job, Duration interval) {
+        return checkpointRepository.findById(job)
+                .map(checkpoint -> checkpoint.getStatus() != BatchCheckpoint.Status.COMPLETED
+                        || checkpoint.getUpdatedAt().isBefore(LocalDateTime.now().minus(interval)))
+                .orElse(true);
+    }
+
+    public BatchProgress progress(String job) {
+        BatchCheckpoint checkpoint = checkpointRepository.findById(job)
+                .orElseThrow(() -> new ResourceNotFoundException("Batch job has not run yet: " + job));
+        Run run = runs.get(job);
+        Double rate = null;
+        Long eta = null;
+        if (run != null && run.active) {
+            double itemsPerSecond = run.itemsPerSecond();
+            double etaSeconds = run.etaSeconds();
+            rate = Double.isNaN(itemsPerSecond) ? null : itemsPerSecond;
+            eta = Double.isNaN(etaSeconds) ? null : Math.round(etaSeconds);
+        }
+        return new BatchProgress(job, checkpoint.getStatus(), checkpoint.getLastKey(), checkpoint.getProcessed(),
+                checkpoint.getFailed(), rate, eta, checkpoint.getStartedAt(), checkpoint.getUpdatedAt(),
+                checkpoint.getError());
+    }
+
+    private <I, R> void execute(BatchJob<I, R> job, Run run, int chunkSize, BatchThrottle throttle) {
+        BatchCheckpoint checkpoint = begin(job.name());
+        run.start(job.countAfter(checkpoint.getLastKey()));
+        try {
+            while (!run.stopRequested) {
+                long start = System.nanoTime();
+                ForecastBatchEvent event = DiagnosticEvents.beginForecastBatch();
+                BatchJob.Chunk<I> chunk = job.read(checkpoint.getLastKey(), chunkSize);
+                if (chunk == null) {
+                    finish(checkpoint, BatchCheckpoint.Status.COMPLETED, null);
+                    log.info("Batch job {} completed: {} keys, {} failed", job.name(), checkpoint.getProcessed(),
+                            checkpoint.getFailed());
+                    return;
+                }
+                BatchJob.Output<R> output = job.process(chunk.items());
+                BatchCheckpoint advanced = advance(checkpoint, chunk, output.failed());
+                checkpoint = chunkTransaction.execute(status -> {
+                    job.write(output.results());
+                    return checkpointRepository.save(advanced);
+                });
+                DiagnosticEvents.commitForecastBatch(event, job.name(), chunk.keys(), output.failed());
+                run.record(chunk.keys(), output.failed());
+                if (!pause(throttle.pauseNanos(chunk.keys(), System.nanoTime() - start))) {
+                    break;
+                }
+            }
+            finish(checkpoint, BatchCheckpoint.Status.STOPPED, null);
+            log.info("Batch job {} stopped after key {}", job.name(), checkpoint.getLastKey());
+        } catch (RuntimeException e) {
+            log.error("Batch job {} failed after key {}", job.name(), checkpoint.getLastKey(), e);
+            finish(checkpoint, BatchCheckpoint.Status.FAILED, String.valueOf(e.getMessage()));
+        }
+    }
+
+    private BatchCheckpoint begin(String job) {
+        LocalDateTime now = LocalDateTime.now();
+        BatchCheckpoint checkpoint = checkpointRepository.findById(job).orElse(null);
+        if (checkpoint == null || checkpoint.getStatus() == BatchCheckpoint.Status.COMPLETED) {
+            checkpoint = new BatchCheckpoint();
+            checkpoint.setJob(job);
+            checkpoint.setStartedAt(now);
+        } else {
+            log.info("Resuming batch job {} after key {}", job, checkpoint.getLastKey());
+        }
+        checkpoint.setStatus(BatchCheckpoint.Status.RUNNING);
+        checkpoint.setError(null);
+        checkpoint.setUpdatedAt(now);
+        return checkpointRepository.save(checkpoint);
+    }
+
+    private void finish(BatchCheckpoint checkpoint, BatchCheckpoint.Status status, String error) {
+        checkpoint.setStatus(status);
+        checkpoint.setError(error == null ? null : error.substring(0, Math.min(error.length(), 1000)));
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        checkpointRepository.save(checkpoint);
+    }
+
+    // A copy, so a chunk whose transaction rolls back leaves the committed checkpoint as it was.
+    private static BatchCheckpoint advance(BatchCheckpoint checkpoint, BatchJob.Chunk<?> chunk, int failed) {
+        BatchCheckpoint advanced = new BatchCheckpoint();
+        advanced.setJob(checkpoint.getJob());
+        advanced.setStatus(checkpoint.getStatus());
+        advanced.setLastKey(chunk.lastKey());
+        advanced.setProcessed(checkpoint.getProcessed() + chunk.keys());
+        advanced.setFailed(checkpoint.getFailed() + failed);
+        advanced.setStartedAt(checkpoint.getStartedAt());
+        advanced.setUpdatedAt(LocalDateTime.now());
+        return advanced;
+    }
+
+    // False when interrupted, which stops the run like stop() does.
+    private static boolean pause(long nanos) {
+        if (nanos <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Run register(String job) {
+        Run run = new Run(
+                Counter.builder("inventory.batch.items")
+                        .description("Keys processed by batch jobs")
+                        .tag("job", job)
+                        .register(meterRegistry),
+                Counter.builder("inventory.batch.failures")
+                        .description("Keys whose item failed in batch jobs")
+                        .tag("job", job)
+                        .register(meterRegistry));
+        Gauge.builder("inventory.batch.rate", run, Run::itemsPerSecond)
+                .description("Keys per second of the batch run in progress, pauses included")
+                .tag("job", job)
+                .register(meterRegistry);
+        Gauge.builder("inventory.batch.eta", run, Run::etaSeconds)
+                .description("Estimated time left of the batch run in progress")
+                .tag("job", job)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        return run;
+    }
+
+    /**
+     * One job's run in progress, if any.
+     */
+    private static final class Run {
+
+        private final AtomicBoolean running = new AtomicBoolean();
+        private final Counter items;
+        private final Counter failures;
+        private volatile boolean stopRequested;
+        private volatile boolean active;
+        private volatile long startNanos;
+        private volatile long remaining;
+        private volatile long done;
+
+        private Run(Counter items, Counter failures) {
+            this.items = items;
+            this.failures = failures;
+        }
+
+        private void start(long remaining) {
+            this.stopRequested = false;
+            this.startNanos = System.nanoTime();
+            this.remaining = remaining;
+            this.done = 0;
+            this.active = true;
+        }
+
+        private void record(int keys, int failed) {
+            done += keys;
+            items.increment(keys);
+            failures.increment(failed);
+        }
+
+        private double itemsPerSecond() {
+            long elapsed = System.nanoTime() - startNanos;
+            return active && done > 0 && elapsed > 0 ? done * 1e9 / elapsed : Double.NaN;
+        }
+
+        private double etaSeconds() {
+            double rate = itemsPerSecond();
+            return Double.isNaN(rate) ? Double.NaN : Math.max(0, remaining - done) / rate;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.intelligent_inventory_prediction_system.service.batch;
+
+import com.example.intelligent_inventory_prediction_system.model.BatchCheckpoint;
+
+import java.time.LocalDateTime;
+
+/**
+ * A job's checkpoint with the rate and ETA of the run in progress; both are null when no run is in progress.
+ */
+public record BatchProgress(String job, BatchCheckpoint.Status status, long lastKey, long processed, long failed,
+                            Double itemsPerSecond, Long etaSeconds, LocalDateTime startedAt,
+                            LocalDateTime updatedAt, String error) {
+}
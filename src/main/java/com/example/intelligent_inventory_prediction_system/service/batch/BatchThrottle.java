@@ -0,0 +1,23 @@
+package com.example.intelligent_inventory_prediction_system.service.batch;
+
+/**
+ * Pause after each chunk of a batch run. {@code dutyCycle} is the share of wall time the run may be busy, so a chunk
+ * that took longer because the database is loaded is followed by a longer pause; {@code maxItemsPerSecond} caps the
+ * rate outright, 0 for no cap.
+ */
+public record BatchThrottle(double dutyCycle, double maxItemsPerSecond) {
+
+    public BatchThrottle {
+        if (dutyCycle <= 0 || dutyCycle > 1 || maxItemsPerSecond < 0) {
+            throw new IllegalArgumentException("Duty cycle must be in (0, 1] and the rate cap not negative");
+        }
+    }
+
+    public long pauseNanos(int items, long busyNanos) {
+        long pause = (long) (busyNanos * (1 - dutyCycle) / dutyCycle);
+        if (maxItemsPerSecond > 0) {
+            pause = Math.max(pause, (long) (items / maxItemsPerSecond * 1e9) - busyNanos);
+        }
+        return pause;
+    }
+}
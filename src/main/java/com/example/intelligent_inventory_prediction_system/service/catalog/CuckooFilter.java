@@ -0,0 +1,209 @@
+package com.example.intelligent_inventory_prediction_system.service.catalog;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Approximate set of {@code long} keys that supports removal: a cuckoo filter with 16-bit fingerprints in buckets
+ * of four. A key is stored as a fingerprint in one of two buckets, the second derived from the first and the
+ * fingerprint alone, so entries can be moved between them without the key. {@link #mightContain} never misses a
+ * key that was put and not removed; it wrongly reports an absent key with probability about 8 / 65536 at full load.
+ * <p>
+ * Only remove keys that were put: removing an absent key may drop another key's identical fingerprint. When an
+ * insertion cannot find room after {@value #MAX_KICKS} relocations the last displaced fingerprint is kept aside, so
+ * nothing is lost, and the filter reports itself {@linkplain #isFull() full}; it has to be rebuilt larger.
+ * <p>
+ * Lookups use an optimistic read; writes take the lock.
+ */
+public final class CuckooFilter {
+
+    private static final int SLOTS_PER_BUCKET = 4;
+    private static final int MAX_KICKS = 500;
+    private static final int MAX_BUCKETS = 1 << 28;
+
+    private final StampedLock lock = new StampedLock();
+    private final short[] slots;
+    private final int bucketMask;
+    private int size;
+    private boolean hasVictim;
+    private int victimBucket;
+    private short victimFingerprint;
+    private long kickState = 0x9E3779B97F4A7C15L;
+
+    public CuckooFilter(int capacity) {
+        int buckets = 2;
+        while (buckets < MAX_BUCKETS && (long) buckets * SLOTS_PER_BUCKET < capacity) {
+            buckets <<= 1;
+        }
+        this.slots = new short[buckets * SLOTS_PER_BUCKET];
+        this.bucketMask = buckets - 1;
+    }
+
+    /**
+     * Adds {@code key} and returns false once the filter is full. A full filter still holds every key put into it.
+     */
+    public boolean put(long key) {
+        long hash = mix(key);
+        short fingerprint = fingerprint(hash);
+        int bucket = (int) hash & bucketMask;
+        long stamp = lock.writeLock();
+        try {
+            if (hasVictim) {
+                return false;
+            }
+            size++;
+            if (insertIntoBucket(bucket, fingerprint) || insertIntoBucket(alternate(bucket, fingerprint), fingerprint)) {
+                return true;
+            }
+            int current = nextKick() % 2 == 0 ? bucket : alternate(bucket, fingerprint);
+            short carried = fingerprint;
+            for (int kick = 0; kick < MAX_KICKS; kick++) {
+                int slot = current * SLOTS_PER_BUCKET + nextKick() % SLOTS_PER_BUCKET;
+                short displaced = slots[slot];
+                slots[slot] = carried;
+                carried = displaced;
+                current = alternate(current, carried);
+                if (insertIntoBucket(current, carried)) {
+                    return true;
+                }
+            }
+            hasVictim = true;
+            victimBucket = current;
+            victimFingerprint = carried;
+            return false;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean mightContain(long key) {
+        long hash = mix(key);
+        short fingerprint = fingerprint(hash);
+        int first = (int) hash & bucketMask;
+        int second = alternate(first, fingerprint);
+        long stamp = lock.tryOptimisticRead();
+        boolean found = contains(first, second, fingerprint);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                found = contains(first, second, fingerprint);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return found;
+    }
+
+    public boolean remove(long key) {
+        long hash = mix(key);
+        short fingerprint = fingerprint(hash);
+        int first = (int) hash & bucketMask;
+        int second = alternate(first, fingerprint);
+        long stamp = lock.writeLock();
+        try {
+            if (hasVictim && victimFingerprint == fingerprint && (victimBucket == first || victimBucket == second)) {
+                hasVictim = false;
+                size--;
+                return true;
+            }
+            if (!removeFromBucket(first, fingerprint) && !removeFromBucket(second, fingerprint)) {
+                return false;
+            }
+            size--;
+            // The freed slot may take the fingerprint that was left over when the filter filled up.
+            if (hasVictim && insertIntoBucket(victimBucket, victimFingerprint)) {
+                hasVictim = false;
+            }
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean isFull() {
+        long stamp = lock.readLock();
+        try {
+            return hasVictim;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    public long footprintBytes() {
+        return (long) slots.length * Short.BYTES;
+    }
+
+    private boolean contains(int first, int second, short fingerprint) {
+        return bucketContains(first, fingerprint) || bucketContains(second, fingerprint)
+                || (hasVictim && victimFingerprint == fingerprint && (victimBucket == first || victimBucket == second));
+    }
+
+    private boolean bucketContains(int bucket, short fingerprint) {
+        int base = bucket * SLOTS_PER_BUCKET;
+        for (int i = 0; i < SLOTS_PER_BUCKET; i++) {
+            if (slots[base + i] == fingerprint) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean insertIntoBucket(int bucket, short fingerprint) {
+        int base = bucket * SLOTS_PER_BUCKET;
+        for (int i = 0; i < SLOTS_PER_BUCKET; i++) {
+            if (slots[base + i] == 0) {
+                slots[base + i] = fingerprint;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean removeFromBucket(int bucket, short fingerprint) {
+        int base = bucket * SLOTS_PER_BUCKET;
+        for (int i = 0; i < SLOTS_PER_BUCKET; i++) {
+            if (slots[base + i] == fingerprint) {
+                slots[base + i] = 0;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Symmetric: the alternate of the alternate is the original bucket.
+    private int alternate(int bucket, short fingerprint) {
+        return (bucket ^ (int) mix(fingerprint)) & bucketMask;
+    }
+
+    private int nextKick() {
+        kickState ^= kickState << 13;
+        kickState ^= kickState >>> 7;
+        kickState ^= kickState << 17;
+        return (int) (kickState >>> 33);
+    }
+
+    // Zero marks an empty slot, so it is never a fingerprint.
+    private static short fingerprint(long hash) {
+        short fingerprint = (short) (hash >>> 48);
+        return fingerprint == 0 ? 1 : fingerprint;
+    }
+
+    private static long mix(long key) {
+        long hash = key + 0x9E3779B97F4A7C15L;
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+}
@@ -0,0 +1,311 @@
+package com.example.intelligent_inventory_prediction_system.service.catalog;
+
+import com.example.intelligent_inventory_prediction_system.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+
+/**
+ * {@link CuckooFilter} over every product id, so existence checks for ids that were never created are answered
+ * without the database. It is filled from an id-only scan once the application is ready and then kept up to date:
+ * ids are added as soon as the product row is written, and again after commit if a load started in between, and
+ * removed only after the deleting transaction commits. A rolled back insert or a delete racing a rebuild therefore
+ * leaves a stale id behind, which only costs a database round trip. The scan runs in read-write transactions so it
+ * reads the primary: a replica may not have replayed every committed product yet.
+ * <p>
+ * Products written by another instance never reach this filter, so a missing id would wrongly reject a product that
+ * exists. When replicas are configured or {@code inventory.product-filter.shared-database} says other instances
+ * write products, a filter miss is confirmed against the database and the id added if it turns up; only a single
+ * instance on a single database trusts the filter's misses. Until the filter is loaded, and while it is rebuilt after
+ * filling up, every check goes to the database.
+ */
+@Slf4j
+@Component
+public class ProductIdFilter {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate primaryTransaction;
+    private final boolean enabled;
+    private final boolean confirmMisses;
+    private final int loadBatchSize;
+    private final int minCapacity;
+    private final Object loadMonitor = new Object();
+    private final ExecutorService rebuilder;
+    private final Counter definiteMisses;
+    private final Counter confirmedHits;
+    private final Counter falsePositives;
+    private final Counter missed;
+    // Guarded by this: the filter a load is filling, which also takes the ids added meanwhile, and the number of
+    // loads started so far.
+    private CuckooFilter building;
+    private long generation;
+    private volatile CuckooFilter filter;
+
+    public ProductIdFilter(
+            ProductRepository productRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${inventory.product-filter.enabled:true}") boolean enabled,
+            @Value("${inventory.product-filter.load-batch-size:10000}") int loadBatchSize,
+            @Value("${inventory.product-filter.min-capacity:1024}") int minCapacity,
+            @Value("${inventory.product-filter.shared-database:false}") boolean sharedDatabase,
+            @Value("${inventory.datasource.replica.urls:}") String replicaUrls
+    ) {
+        this.productRepository = productRepository;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.confirmMisses = sharedDatabase || StringUtils.hasText(replicaUrls);
+        this.loadBatchSize = loadBatchSize;
+        this.minCapacity = minCapacity;
+        this.rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-filter-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.definiteMisses = lookups(meterRegistry, "absent");
+        this.confirmedHits = lookups(meterRegistry, "present");
+        this.falsePositives = lookups(meterRegistry, "false-positive");
+        this.missed = lookups(meterRegistry, "missed");
+        Gauge.builder("inventory.product.filter.false.positive.rate", this, ProductIdFilter::falsePositiveRate)
+                .description("Share of lookups for missing products that the filter let through to the database")
+                .register(meterRegistry);
+        Gauge.builder("inventory.product.filter.size", this, f -> f.filter == null ? 0 : f.filter.size())
+                .description("Product ids held in the existence filter")
+                .register(meterRegistry);
+        Gauge.builder("inventory.product.filter.bytes", this, f -> f.filter == null ? 0 : f.filter.footprintBytes())
+                .description("Heap used by the existence filter")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            log.info("Product existence filter disabled");
+            return;
+        }
+        synchronized (loadMonitor) {
+            long start = System.nanoTime();
+            long products = primaryTransaction.execute(status -> productRepository.count());
+            CuckooFilter next = new CuckooFilter((int) Math.min(MAX_CAPACITY, Math.max(minCapacity, products * 2)));
+            synchronized (this) {
+                building = next;
+                generation++;
+            }
+            long afterId = 0;
+            List<Long> batch;
+            do {
+                long after = afterId;
+                batch = primaryTransaction.execute(status ->
+                        productRepository.findIdsAfter(after, Limit.of(loadBatchSize)));
+                for (Long id : batch) {
+                    next.put(id);
+                }
+                if (!batch.isEmpty()) {
+                    afterId = batch.get(batch.size() - 1);
+                }
+            } while (batch.size() == loadBatchSize);
+
+            synchronized (this) {
+                building = null;
+                if (next.isFull()) {
+                    filter = null;
+                    log.warn("Product existence filter filled up while loading; rebuilding it larger");
+                    rebuilder.execute(this::load);
+                    return;
+                }
+                filter = next;
+            }
+            log.info("Loaded {} product ids into the existence filter in {} ms ({} bytes)", next.size(),
+                    (System.nanoTime() - start) / 1_000_000, next.footprintBytes());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isLoaded() {
+        return filter != null;
+    }
+
+    /**
+     * False only when the product certainly does not exist.
+     */
+    public boolean mightExist(long productId) {
+        CuckooFilter current = filter;
+        return current == null || current.mightContain(productId);
+    }
+
+    /**
+     * Whether the product exists, asking {@code database} only when the filter cannot rule it out or its misses have
+     * to be confirmed.
+     */
+    public boolean exists(long productId, LongPredicate database) {
+        boolean filtered = isLoaded();
+        if (!mightExist(productId)) {
+            if (confirmMisses && database.test(productId)) {
+                missed(productId);
+                return true;
+            }
+            definiteMisses.increment();
+            return false;
+        }
+        boolean found = database.test(productId);
+        if (filtered) {
+            (found ? confirmedHits : falsePositives).increment();
+        }
+        return found;
+    }
+
+    /**
+     * The subset of {@code productIds} that exist; unless misses have to be confirmed, {@code database} is given only
+     * the ids the filter cannot rule out and is not called at all when there are none.
+     */
+    public Set<Long> findExisting(Collection<Long> productIds, Function<List<Long>, Collection<Long>> database) {
+        boolean filtered = isLoaded();
+        List<Long> candidates = new ArrayList<>(productIds.size());
+        List<Long> ruledOut = new ArrayList<>();
+        for (Long id : productIds) {
+            (mightExist(id) ? candidates : ruledOut).add(id);
+        }
+        List<Long> queried = candidates;
+        if (confirmMisses && !ruledOut.isEmpty()) {
+            queried = new ArrayList<>(candidates);
+            queried.addAll(ruledOut);
+        }
+        if (queried.isEmpty()) {
+            definiteMisses.increment(ruledOut.size());
+            return Set.of();
+        }
+        Set<Long> found = new HashSet<>(database.apply(queried));
+        int foundMissed = 0;
+        if (confirmMisses) {
+            for (Long id : ruledOut) {
+                if (found.contains(id)) {
+                    missed(id);
+                    foundMissed++;
+                }
+            }
+        }
+        definiteMisses.increment(ruledOut.size() - foundMissed);
+        if (filtered) {
+            confirmedHits.increment(found.size() - foundMissed);
+            falsePositives.increment(candidates.size() - (found.size() - foundMissed));
+        }
+        return found;
+    }
+
+    /**
+     * Records a product row written by the current transaction. A load that starts before the transaction commits
+     * may scan past the row, so the id is added again after commit in that case.
+     */
+    public void added(long productId) {
+        if (!enabled) {
+            return;
+        }
+        long addedIn = add(productId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addAgainIfReloaded(productId, addedIn);
+                }
+            });
+        }
+    }
+
+    /**
+     * Records a product removed by the current transaction, once it commits.
+     */
+    public void removed(long productId) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remove(productId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remove(productId);
+            }
+        });
+    }
+
+    // A product the filter was missing, written by another instance or before the scan could see it.
+    private void missed(long productId) {
+        missed.increment();
+        log.debug("Product {} exists but was missing from the existence filter", productId);
+        add(productId);
+    }
+
+    private synchronized long add(long productId) {
+        if (building != null) {
+            building.put(productId);
+        }
+        CuckooFilter current = filter;
+        if (current != null && !current.put(productId)) {
+            filter = null;
+            log.warn("Product existence filter is full at {} ids; rebuilding it larger", current.size());
+            rebuilder.execute(this::load);
+        }
+        return generation;
+    }
+
+    private synchronized void addAgainIfReloaded(long productId, long addedIn) {
+        if (generation != addedIn) {
+            add(productId);
+        }
+    }
+
+    // A load that is running may or may not have scanned the row, so it keeps the id either way.
+    private synchronized void remove(long productId) {
+        CuckooFilter current = filter;
+        if (current != null) {
+            current.remove(productId);
+        }
+    }
+
+    private double falsePositiveRate() {
+        double negatives = definiteMisses.count() + falsePositives.count();
+        return negatives == 0 ? 0 : falsePositives.count() / negatives;
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("inventory.product.filter.lookups")
+                .description("Product existence checks by filter outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.intelligent_inventory_prediction_system.service.change;
+
+/**
+ * The tables whose rows are stamped with a change sequence and served by a change feed.
+ */
+public enum ChangeEntity {
+    PRODUCT("product"),
+    INVENTORY("inventory");
+
+    private final String table;
+
+    ChangeEntity(String table) {
+        this.table = table;
+    }
+
+    String getTable() {
+        return table;
+    }
+}
@@ -0,0 +1,447 @@
+package com.example.intelligent_inventory_prediction_system.service.change;
+
+import com.example.intelligent_inventory_prediction_system.dto.response.ChangeFeedResponseDTO;
+import com.example.intelligent_inventory_prediction_system.exception.ChangeTokenExpiredException;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardWriteOutbox;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Change sequence behind the product and inventory change feeds. Every write stamps its row with the next value of
+ * one sequence shared by both tables, and every removal leaves a tombstone under a value of its own, so a feed
+ * reads just the rows and tombstones after the caller's token through their {@code change_seq} indexes.
+ * <p>
+ * The sequence lives in the database, so any number of instances can write to it. Values are taken from the
+ * {@code change_counter} row in a short transaction of their own on a dedicated connection, which also records the
+ * first value in {@code change_in_flight} until the writing transaction completes. A feed never reads past the
+ * lowest value still in flight on any instance: a transaction that took a smaller value but commits after a larger
+ * one would otherwise fall behind a token that was already issued. An instance that dies mid-transaction cannot
+ * release its values, so entries older than {@code in-flight-timeout-minutes} are dropped. With sharding, writes
+ * still queued in the {@link ShardWriteOutbox} hold feeds back the same way, without a timeout.
+ * <p>
+ * Tombstones are kept for {@code tombstone-retention-hours}; resuming from a token older than that fails with
+ * {@link ChangeTokenExpiredException} and the caller has to sync from the start again.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class ChangeLog {
+
+    private static final String CREATE_TOMBSTONE_TABLE_SQL = "CREATE TABLE IF NOT EXISTS change_tombstone ("
+            + "entity VARCHAR(32) NOT NULL, change_seq BIGINT NOT NULL, entity_id BIGINT NOT NULL, "
+            + "removed_at BIGINT NOT NULL, PRIMARY KEY (entity, change_seq))";
+    private static final String CREATE_HORIZON_TABLE_SQL = "CREATE TABLE IF NOT EXISTS change_horizon ("
+            + "entity VARCHAR(32) PRIMARY KEY, change_seq BIGINT NOT NULL)";
+    private static final String CREATE_COUNTER_TABLE_SQL = "CREATE TABLE IF NOT EXISTS change_counter ("
+            + "id INT PRIMARY KEY, change_seq BIGINT NOT NULL)";
+    private static final String CREATE_IN_FLIGHT_TABLE_SQL = "CREATE TABLE IF NOT EXISTS change_in_flight ("
+            + "change_seq BIGINT PRIMARY KEY, taken_at BIGINT NOT NULL)";
+    private static final String ADVANCE_SQL = "UPDATE change_counter SET change_seq = change_seq + ? WHERE id = 1";
+    private static final String CURRENT_SQL = "SELECT change_seq FROM change_counter WHERE id = 1";
+    private static final String TRACK_SQL = "INSERT INTO change_in_flight (change_seq, taken_at) VALUES (?, ?)";
+    private static final String RELEASE_SQL = "DELETE FROM change_in_flight WHERE change_seq = ?";
+    // One statement, so the counter and the in-flight entries come from the same snapshot: taking values updates both
+    // in one commit.
+    private static final String WATERMARK_SQL = "SELECT COALESCE((SELECT MIN(change_seq) - 1 FROM change_in_flight), "
+            + "(SELECT change_seq FROM change_counter WHERE id = 1))";
+    private static final String SHARDED_WATERMARK_SQL = "SELECT COALESCE((SELECT MIN(change_seq) - 1 FROM ("
+            + "SELECT change_seq FROM change_in_flight UNION ALL SELECT change_seq FROM " + ShardWriteOutbox.TABLE
+            + ") pending), (SELECT change_seq FROM change_counter WHERE id = 1))";
+    private static final int BACKFILL_BATCH_SIZE = 1_000;
+    private static final int MAX_LIMIT = 1_000;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardedInventoryStore shardedInventoryStore;
+    private final String watermarkSql;
+    private final long retentionMillis;
+    private final long inFlightTimeoutMillis;
+    private final LongSupplier clock;
+    private ScheduledExecutorService purger;
+    // Guarded by this. Kept apart from the pool so taking values never waits for a connection a writer holds.
+    private Connection sequenceConnection;
+
+    @Autowired
+    public ChangeLog(
+            DataSource dataSource,
+            ShardedInventoryStore shardedInventoryStore,
+            ShardWriteOutbox shardWriteOutbox,
+            @Value("${inventory.changes.tombstone-retention-hours:168}") long retentionHours,
+            @Value("${inventory.changes.in-flight-timeout-minutes:10}") long inFlightTimeoutMinutes
+    ) {
+        this(dataSource, shardedInventoryStore, shardWriteOutbox, TimeUnit.HOURS.toMillis(retentionHours),
+                TimeUnit.MINUTES.toMillis(inFlightTimeoutMinutes), System::currentTimeMillis);
+    }
+
+    ChangeLog(DataSource dataSource, ShardedInventoryStore shardedInventoryStore, ShardWriteOutbox shardWriteOutbox,
+              long retentionMillis, long inFlightTimeoutMillis, LongSupplier clock) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.shardedInventoryStore = shardedInventoryStore;
+        this.watermarkSql = shardWriteOutbox.isEnabled() ? SHARDED_WATERMARK_SQL : WATERMARK_SQL;
+        this.retentionMillis = retentionMillis;
+        this.inFlightTimeoutMillis = inFlightTimeoutMillis;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        jdbcTemplate.execute(CREATE_TOMBSTONE_TABLE_SQL);
+        jdbcTemplate.execute(CREATE_HORIZON_TABLE_SQL);
+        jdbcTemplate.execute(CREATE_COUNTER_TABLE_SQL);
+        jdbcTemplate.execute(CREATE_IN_FLIGHT_TABLE_SQL);
+        long highest = Math.max(max("SELECT MAX(change_seq) FROM change_tombstone"),
+                max("SELECT MAX(change_seq) FROM change_horizon"));
+        for (ChangeEntity entity : ChangeEntity.values()) {
+            highest = Math.max(highest, max("SELECT MAX(change_seq) FROM " + entity.getTable()));
+        }
+        if (shardedInventoryStore.isEnabled()) {
+            highest = Math.max(highest, shardedInventoryStore.maxChangeSequence());
+        }
+        seedCounter(highest);
+        backfill();
+
+        purger = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "change-tombstone-purger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        purger.scheduleWithFixedDelay(this::purgeQuietly, 1, 60, TimeUnit.MINUTES);
+        purger.scheduleWithFixedDelay(this::dropAbandonedQuietly, 1, 1, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (purger != null) {
+            purger.shutdown();
+        }
+        synchronized (this) {
+            closeSequenceConnection();
+        }
+    }
+
+    public long next() {
+        return next(1);
+    }
+
+    /**
+     * Takes {@code count} consecutive values for the current transaction and returns the first. They are released
+     * when the transaction completes, committed or not.
+     */
+    public long next(int count) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Change sequence values can only be taken inside a transaction");
+        }
+        long first = take(count, true);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                release(first);
+            }
+        });
+        return first;
+    }
+
+    /**
+     * The highest value up to which every write, on any instance, has completed; feeds read no further.
+     */
+    public long watermark() {
+        return max(watermarkSql);
+    }
+
+    /**
+     * Leaves a tombstone for a removal in the current transaction and returns its change sequence.
+     */
+    public long recordRemoval(ChangeEntity entity, long entityId) {
+        long changeSeq = next();
+        jdbcTemplate.update("INSERT INTO change_tombstone (entity, change_seq, entity_id, removed_at) VALUES (?, ?, ?, ?)",
+                entity.name(), changeSeq, entityId, clock.getAsLong());
+        return changeSeq;
+    }
+
+    /**
+     * Reads the next page of the feed after {@code since}, or from the start without one: the rows {@code rows}
+     * finds in a sequence range, merged with the tombstones of that range in sequence order.
+     */
+    public <E, T> ChangeFeedResponseDTO<T> read(ChangeEntity entity, String since, int limit, ChangedRows<E> rows,
+                                                ToLongFunction<E> sequenceOf, Function<E, T> mapper) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        long after = since == null ? 0 : ChangeToken.decode(since);
+        long upTo = watermark();
+        List<E> changed = after < upTo ? rows.find(after, upTo, limit + 1) : List.of();
+        List<Tombstone> removed = after < upTo ? findRemovals(entity, after, upTo, limit + 1) : List.of();
+        // Checked after reading: a purge raises the horizon before deleting, so tombstones missing from the read
+        // above are always caught here.
+        if (since != null && after < horizon(entity)) {
+            throw new ChangeTokenExpiredException("Change token has expired; sync again without a token");
+        }
+
+        List<T> upserts = new ArrayList<>();
+        List<Long> removedIds = new ArrayList<>();
+        long last = after;
+        int row = 0;
+        int tombstone = 0;
+        while (upserts.size() + removedIds.size() < limit && (row < changed.size() || tombstone < removed.size())) {
+            if (tombstone == removed.size()
+                    || (row < changed.size() && sequenceOf.applyAsLong(changed.get(row)) < removed.get(tombstone).changeSeq())) {
+                E next = changed.get(row++);
+                last = sequenceOf.applyAsLong(next);
+                upserts.add(mapper.apply(next));
+            } else {
+                Tombstone next = removed.get(tombstone++);
+                last = next.changeSeq();
+                removedIds.add(next.entityId());
+            }
+        }
+        return ChangeFeedResponseDTO.<T>builder()
+                .changed(upserts)
+                .removed(removedIds)
+                .nextToken(ChangeToken.encode(last))
+                .hasMore(row < changed.size() || tombstone < removed.size())
+                .build();
+    }
+
+    /**
+     * Drops tombstones past their retention, first raising the horizon below which tokens are refused.
+     */
+    void purge() {
+        long cutoff = clock.getAsLong() - retentionMillis;
+        for (ChangeEntity entity : ChangeEntity.values()) {
+            Long purgedUpTo = jdbcTemplate.queryForObject(
+                    "SELECT MAX(change_seq) FROM change_tombstone WHERE entity = ? AND removed_at <= ?",
+                    Long.class, entity.name(), cutoff);
+            if (purgedUpTo == null) {
+                continue;
+            }
+            jdbcTemplate.update("UPDATE change_horizon SET change_seq = ? WHERE entity = ? AND change_seq < ?",
+                    purgedUpTo, entity.name(), purgedUpTo);
+            jdbcTemplate.update("INSERT INTO change_horizon (entity, change_seq) SELECT ?, ? "
+                    + "WHERE NOT EXISTS (SELECT 1 FROM change_horizon WHERE entity = ?)", entity.name(), purgedUpTo, entity.name());
+            int purged = jdbcTemplate.update("DELETE FROM change_tombstone WHERE entity = ? AND change_seq <= ?",
+                    entity.name(), purgedUpTo);
+            log.debug("Purged {} {} tombstones up to change {}", purged, entity, purgedUpTo);
+        }
+    }
+
+    /**
+     * Drops in-flight entries older than the timeout, left behind by an instance that stopped before its transaction
+     * completed, so they no longer hold every feed back.
+     */
+    void dropAbandoned() {
+        int dropped = jdbcTemplate.update("DELETE FROM change_in_flight WHERE taken_at < ?",
+                clock.getAsLong() - inFlightTimeoutMillis);
+        if (dropped > 0) {
+            log.warn("Dropped {} change sequence allocations whose transactions never completed", dropped);
+        }
+    }
+
+    private void purgeQuietly() {
+        try {
+            purge();
+        } catch (RuntimeException e) {
+            log.warn("Change tombstone purge failed", e);
+        }
+    }
+
+    private void dropAbandonedQuietly() {
+        try {
+            dropAbandoned();
+        } catch (RuntimeException e) {
+            log.warn("Dropping abandoned change sequence allocations failed", e);
+        }
+    }
+
+    private List<Tombstone> findRemovals(ChangeEntity entity, long after, long upTo, int limit) {
+        return jdbcTemplate.query("SELECT change_seq, entity_id FROM change_tombstone "
+                        + "WHERE entity = ? AND change_seq > ? AND change_seq <= ? ORDER BY change_seq LIMIT ?",
+                (resultSet, rowNum) -> new Tombstone(resultSet.getLong(1), resultSet.getLong(2)),
+                entity.name(), after, upTo, limit);
+    }
+
+    private long horizon(ChangeEntity entity) {
+        return jdbcTemplate.query("SELECT change_seq FROM change_horizon WHERE entity = ?",
+                        (resultSet, rowNum) -> resultSet.getLong(1), entity.name())
+                .stream().findFirst().orElse(0L);
+    }
+
+    // Another instance may have created the row meanwhile; either way it ends up at or above every stored value.
+    private void seedCounter(long highest) {
+        try {
+            jdbcTemplate.update("INSERT INTO change_counter (id, change_seq) SELECT 1, ? "
+                    + "WHERE NOT EXISTS (SELECT 1 FROM change_counter WHERE id = 1)", highest);
+        } catch (DuplicateKeyException e) {
+            log.debug("Change counter was created by another instance");
+        }
+        jdbcTemplate.update("UPDATE change_counter SET change_seq = ? WHERE id = 1 AND change_seq < ?",
+                highest, highest);
+    }
+
+    // Rows written before the column existed get values now, so the first sync from the start still sees them. A
+    // guard value is taken before the first of them and stays in flight throughout, which keeps feeds on every
+    // instance below the values handed out after it.
+    private void backfill() {
+        int backfilled = 0;
+        long guard = 0;
+        try {
+            for (ChangeEntity entity : ChangeEntity.values()) {
+                List<Long> ids;
+                do {
+                    ids = jdbcTemplate.queryForList("SELECT id FROM " + entity.getTable()
+                            + " WHERE change_seq IS NULL ORDER BY id LIMIT ?", Long.class, BACKFILL_BATCH_SIZE);
+                    if (ids.isEmpty()) {
+                        break;
+                    }
+                    if (guard == 0) {
+                        guard = take(1, true);
+                    }
+                    long changeSeq = take(ids.size(), false);
+                    List<Object[]> arguments = new ArrayList<>(ids.size());
+                    for (Long id : ids) {
+                        arguments.add(new Object[]{changeSeq++, id});
+                    }
+                    jdbcTemplate.batchUpdate("UPDATE " + entity.getTable() + " SET change_seq = ? WHERE id = ?",
+                            arguments);
+                    backfilled += ids.size();
+                } while (ids.size() == BACKFILL_BATCH_SIZE);
+            }
+            if (shardedInventoryStore.isEnabled()) {
+                if (guard == 0) {
+                    guard = take(1, true);
+                }
+                backfilled += shardedInventoryStore.assignChangeSequences(() -> take(1, false));
+            }
+        } finally {
+            if (guard != 0) {
+                release(guard);
+            }
+        }
+        if (backfilled > 0) {
+            log.info("Assigned change sequence values to {} existing rows", backfilled);
+        }
+    }
+
+    // Advances the counter by count and returns the first value, recording it in flight when track is set; committed
+    // before returning, so other instances see both at once.
+    private synchronized long take(int count, boolean track) {
+        try {
+            Connection connection = sequenceConnection();
+            try {
+                try (PreparedStatement statement = connection.prepareStatement(ADVANCE_SQL)) {
+                    statement.setInt(1, count);
+                    statement.executeUpdate();
+                }
+                long first;
+                try (PreparedStatement statement = connection.prepareStatement(CURRENT_SQL);
+                     ResultSet resultSet = statement.executeQuery()) {
+                    if (!resultSet.next()) {
+                        throw new IllegalStateException("Change counter row is missing");
+                    }
+                    first = resultSet.getLong(1) - count + 1;
+                }
+                if (track) {
+                    try (PreparedStatement statement = connection.prepareStatement(TRACK_SQL)) {
+                        statement.setLong(1, first);
+                        statement.setLong(2, clock.getAsLong());
+                        statement.executeUpdate();
+                    }
+                }
+                connection.commit();
+                return first;
+            } catch (SQLException | RuntimeException e) {
+                closeSequenceConnection();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw translate("Take change sequence values", e);
+        }
+    }
+
+    // Failures are only logged: dropAbandoned clears the entry once it times out.
+    private synchronized void release(long first) {
+        try {
+            Connection connection = sequenceConnection();
+            try (PreparedStatement statement = connection.prepareStatement(RELEASE_SQL)) {
+                statement.setLong(1, first);
+                statement.executeUpdate();
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                closeSequenceConnection();
+                throw e;
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.warn("Could not release change sequence value {}", first, e);
+        }
+    }
+
+    private Connection sequenceConnection() throws SQLException {
+        if (sequenceConnection == null) {
+            Connection connection = dataSource.getConnection();
+            connection.setAutoCommit(false);
+            sequenceConnection = connection;
+        }
+        return sequenceConnection;
+    }
+
+    // Closing rolls back whatever the failed statement left open; the next call opens a fresh connection.
+    private void closeSequenceConnection() {
+        if (sequenceConnection == null) {
+            return;
+        }
+        try {
+            sequenceConnection.rollback();
+            sequenceConnection.close();
+        } catch (SQLException e) {
+            log.debug("Could not close the change sequence connection cleanly", e);
+        }
+        sequenceConnection = null;
+    }
+
+    private DataAccessException translate(String task, SQLException e) {
+        DataAccessException translated = jdbcTemplate.getExceptionTranslator().translate(task, null, e);
+        return translated != null ? translated : new UncategorizedSQLException(task, null, e);
+    }
+
+    private long max(String sql) {
+        Long max = jdbcTemplate.queryForObject(sql, Long.class);
+        return max == null ? 0 : max;
+    }
+
+    /**
+     * Finds up to {@code limit} rows with a change sequence in {@code (after, upTo]}, in sequence order.
+     */
+    @FunctionalInterface
+    public interface ChangedRows<E> {
+        List<E> find(long after, long upTo, int limit);
+    }
+
+    private record Tombstone(long changeSeq, long entityId) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.intelligent_inventory_prediction_system.service.change;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token of the change feeds: the last change sequence the caller has applied.
+ */
+final class ChangeToken {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private ChangeToken() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    static String encode(long sequence) {
+        return ENCODER.encodeToString(ByteBuffer.allocate(Long.BYTES).putLong(sequence).array());
+    }
+
+    static long decode(String token) {
+        byte[] bytes;
+        try {
+            bytes = DECODER.decode(token.strip());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid change token: " + token);
+        }
+        long sequence = bytes.length == Long.BYTES ? ByteBuffer.wrap(bytes).getLong() : -1;
+        if (sequence < 0) {
+            throw new IllegalArgumentException("Invalid change token: " + token);
+        }
+        return sequence;
+    }
+}
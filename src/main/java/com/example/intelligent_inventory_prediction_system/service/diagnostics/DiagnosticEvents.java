@@ -0,0 +1,88 @@
+package com.example.intelligent_inventory_prediction_system.service.diagnostics;
+
+import com.example.intelligent_inventory_prediction_system.repository.specification.CompiledSpecification;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Begin/commit helpers for the inventory JFR events. Fields are only filled in when the event passed its
+ * threshold, so a disabled or below-threshold event costs two timestamp reads.
+ */
+public final class DiagnosticEvents {
+
+    private DiagnosticEvents() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static SearchEvent beginSearch() {
+        SearchEvent event = new SearchEvent();
+        event.begin();
+        return event;
+    }
+
+    public static void commitSearch(SearchEvent event, String entity, String operation, String shape, int rowCount) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.entity = entity;
+            event.operation = operation;
+            event.shape = shape;
+            event.rowCount = rowCount;
+            event.commit();
+        }
+    }
+
+    public static MapperConversionEvent beginConversion() {
+        MapperConversionEvent event = new MapperConversionEvent();
+        event.begin();
+        return event;
+    }
+
+    public static void commitConversion(MapperConversionEvent event, String mapper, int count) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.mapper = mapper;
+            event.count = count;
+            event.commit();
+        }
+    }
+
+    public static StockUpdateEvent beginStockUpdate() {
+        StockUpdateEvent event = new StockUpdateEvent();
+        event.begin();
+        return event;
+    }
+
+    public static void commitStockUpdate(StockUpdateEvent event, Long inventoryId, String operation,
+                                         Integer previousStock, Integer newStock) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.inventoryId = inventoryId == null ? -1 : inventoryId;
+            event.operation = operation;
+            event.previousStock = previousStock == null ? -1 : previousStock;
+            event.newStock = newStock == null ? -1 : newStock;
+            event.commit();
+        }
+    }
+
+    public static ForecastBatchEvent beginForecastBatch() {
+        ForecastBatchEvent event = new ForecastBatchEvent();
+        event.begin();
+        return event;
+    }
+
+    public static void commitForecastBatch(ForecastBatchEvent event, String job, int items, int failed) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.job = job;
+            event.items = items;
+            event.failed = failed;
+            event.commit();
+        }
+    }
+
+    public static String shapeOf(Specification<?> specification) {
+        if (specification instanceof CompiledSpecification<?> compiled) {
+            return compiled.getTemplate().getShape();
+        }
+        return "specification";
+    }
+}
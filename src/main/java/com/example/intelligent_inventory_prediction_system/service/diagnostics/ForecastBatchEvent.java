@@ -0,0 +1,21 @@
+package com.example.intelligent_inventory_prediction_system.service.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("inventory.ForecastBatch")
+@Label("Forecast Batch")
+@Category({"Inventory", "Forecast"})
+public class ForecastBatchEvent extends Event {
+
+    @Label("Job")
+    public String job;
+
+    @Label("Items")
+    public int items;
+
+    @Label("Failed Items")
+    public int failed;
+}
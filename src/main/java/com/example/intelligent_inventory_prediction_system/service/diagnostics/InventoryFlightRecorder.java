@@ -0,0 +1,139 @@
+package com.example.intelligent_inventory_prediction_system.service.diagnostics;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps a continuous, size and age bounded flight recording running with the JDK "default" settings plus the
+ * inventory events from {@code jfr/inventory.jfc}, so the last minutes before a stall can be dumped afterwards.
+ * Dumps go through the {@code JFR.dump} diagnostic command, the only JDK 17 API that can cut a recording to its
+ * last N minutes.
+ */
+@Slf4j
+@Component
+public class InventoryFlightRecorder {
+
+    static final String RECORDING_NAME = "inventory-continuous";
+    private static final String SETTINGS_RESOURCE = "jfr/inventory.jfc";
+
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final long maxSizeBytes;
+    private final Path dumpDirectory;
+    private volatile Recording recording;
+
+    public InventoryFlightRecorder(
+            @Value("${inventory.jfr.enabled:true}") boolean enabled,
+            @Value("${inventory.jfr.max-age-minutes:30}") long maxAgeMinutes,
+            @Value("${inventory.jfr.max-size-mb:256}") long maxSizeMb,
+            @Value("${inventory.jfr.dump-directory:${java.io.tmpdir}/inventory-jfr}") String dumpDirectory
+    ) {
+        this.enabled = enabled;
+        this.maxAge = Duration.ofMinutes(maxAgeMinutes);
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.dumpDirectory = Path.of(dumpDirectory);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || recording != null || !FlightRecorder.isAvailable()) {
+            return;
+        }
+        Recording continuous = new Recording(settings());
+        continuous.setName(RECORDING_NAME);
+        continuous.setToDisk(true);
+        continuous.setMaxAge(maxAge);
+        continuous.setMaxSize(maxSizeBytes);
+        continuous.start();
+        recording = continuous;
+        log.info("Started continuous flight recording (max age {}, max size {} MB)", maxAge, maxSizeBytes >> 20);
+    }
+
+    public boolean isRecording() {
+        return recording != null;
+    }
+
+    /**
+     * Writes the last {@code lastMinutes} of the continuous recording (everything retained when {@code null})
+     * to a new file and returns it. Earlier dumps are removed.
+     */
+    public Path dump(Integer lastMinutes) {
+        if (recording == null) {
+            throw new IllegalStateException("Continuous flight recording is not running");
+        }
+        if (lastMinutes != null && lastMinutes <= 0) {
+            throw new IllegalArgumentException("Dump window must be a positive number of minutes");
+        }
+        try {
+            Files.createDirectories(dumpDirectory);
+            deletePreviousDumps();
+            Path file = dumpDirectory.resolve("inventory-" + Instant.now().toEpochMilli() + ".jfr").toAbsolutePath();
+            String[] arguments = lastMinutes == null
+                    ? new String[]{"name=" + RECORDING_NAME, "filename=" + file}
+                    : new String[]{"name=" + RECORDING_NAME, "filename=" + file, "maxage=" + lastMinutes + "m"};
+            ManagementFactory.getPlatformMBeanServer().invoke(
+                    new ObjectName("com.sun.management:type=DiagnosticCommand"),
+                    "jfrDump",
+                    new Object[]{arguments},
+                    new String[]{String[].class.getName()});
+            log.info("Dumped flight recording to {} ({} bytes)", file, Files.size(file));
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not dump flight recording", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not dump flight recording: " + e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private void deletePreviousDumps() throws IOException {
+        try (var files = Files.newDirectoryStream(dumpDirectory, "inventory-*.jfr")) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    static Map<String, String> settings() {
+        try (Reader reader = new InputStreamReader(
+                new ClassPathResource(SETTINGS_RESOURCE).getInputStream(), StandardCharsets.UTF_8)) {
+            Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+            settings.putAll(Configuration.create(reader).getSettings());
+            return settings;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + SETTINGS_RESOURCE, e);
+        } catch (ParseException e) {
+            throw new IllegalStateException("Invalid flight recorder settings in " + SETTINGS_RESOURCE, e);
+        }
+    }
+}
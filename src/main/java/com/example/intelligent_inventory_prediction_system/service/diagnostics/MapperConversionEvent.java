@@ -0,0 +1,18 @@
+package com.example.intelligent_inventory_prediction_system.service.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("inventory.MapperConversion")
+@Label("Mapper Conversion")
+@Category({"Inventory", "Mapping"})
+public class MapperConversionEvent extends Event {
+
+    @Label("Mapper")
+    public String mapper;
+
+    @Label("Element Count")
+    public int count;
+}
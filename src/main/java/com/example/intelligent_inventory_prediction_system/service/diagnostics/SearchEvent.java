@@ -0,0 +1,27 @@
+package com.example.intelligent_inventory_prediction_system.service.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("inventory.Search")
+@Label("Search")
+@Category({"Inventory", "Query"})
+@Description("Query executor call, from building the query to the loaded entities")
+public class SearchEvent extends Event {
+
+    @Label("Entity")
+    public String entity;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Criteria Shape")
+    @Description("Filters present in the criteria, the query kind for non-criteria queries")
+    public String shape;
+
+    @Label("Row Count")
+    public int rowCount;
+}
@@ -0,0 +1,27 @@
+package com.example.intelligent_inventory_prediction_system.service.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("inventory.StockUpdate")
+@Label("Stock Update")
+@Category({"Inventory", "Stock"})
+@Description("Inventory row written by InventoryService, including the save and change publication")
+public class StockUpdateEvent extends Event {
+
+    @Label("Inventory ID")
+    public long inventoryId;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Previous Stock")
+    @Description("Stock before the update, -1 for new inventories")
+    public int previousStock;
+
+    @Label("New Stock")
+    public int newStock;
+}
@@ -0,0 +1,101 @@
+package com.example.intelligent_inventory_prediction_system.service.executor;
+
+import com.example.intelligent_inventory_prediction_system.repository.specification.CompiledSpecification;
+import com.example.intelligent_inventory_prediction_system.repository.specification.CriteriaTemplate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Root;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps one parameterised {@link CriteriaQuery} per {@link CriteriaTemplate}. Hibernate keys criteria plans by
+ * statement identity, so handing it the same instance on every request lets the query plan cache reuse the
+ * rendered SQL and parameter binders instead of re-translating the criteria tree.
+ */
+@Slf4j
+@Component
+public class CompiledQueryCache {
+
+    private final EntityManager entityManager;
+    private final Map<CriteriaTemplate<?>, CompiledQuery<?>> compiledQueries = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public CompiledQueryCache(EntityManager entityManager, MeterRegistry meterRegistry) {
+        this.entityManager = entityManager;
+        this.hitCounter = Counter.builder("inventory.query.compiled.requests")
+                .description("Criteria executions served by an already compiled query shape")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("inventory.query.compiled.requests")
+                .description("Criteria executions that had to compile a new query shape")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("inventory.query.compiled.shapes", compiledQueries, Map::size)
+                .description("Number of distinct compiled criteria shapes")
+                .register(meterRegistry);
+    }
+
+    public <T> List<T> execute(CompiledSpecification<T> specification) {
+        CompiledQuery<T> compiled = resolve(specification.getTemplate());
+        TypedQuery<T> query = entityManager.createQuery(compiled.criteriaQuery());
+        query.setHint(HibernateHints.HINT_QUERY_PLAN_CACHEABLE, true);
+
+        Object[] arguments = specification.getArguments();
+        for (int i = 0; i < arguments.length; i++) {
+            bind(query, compiled.parameters().get(i), arguments[i]);
+        }
+        return query.getResultList();
+    }
+
+    public int size() {
+        return compiledQueries.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompiledQuery<T> resolve(CriteriaTemplate<T> template) {
+        CompiledQuery<T> compiled = (CompiledQuery<T>) compiledQueries.get(template);
+        if (compiled != null) {
+            hitCounter.increment();
+            return compiled;
+        }
+        missCounter.increment();
+        return (CompiledQuery<T>) compiledQueries.computeIfAbsent(template, key -> compile(template));
+    }
+
+    private <T> CompiledQuery<T> compile(CriteriaTemplate<T> template) {
+        log.debug("Compiling criteria shape: {}", template.getShape());
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> criteriaQuery = criteriaBuilder.createQuery(template.getDomainClass());
+        Root<T> root = criteriaQuery.from(template.getDomainClass());
+
+        List<ParameterExpression<?>> parameters = new ArrayList<>(template.getArgumentCount());
+        for (int i = 0; i < template.getArgumentCount(); i++) {
+            parameters.add(criteriaBuilder.parameter(template.getArgumentTypes().get(i), "p" + i));
+        }
+
+        criteriaQuery.select(root).where(template.toPredicate(root, criteriaBuilder, parameters::get));
+        return new CompiledQuery<>(criteriaQuery, List.copyOf(parameters));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A> void bind(TypedQuery<?> query, ParameterExpression<A> parameter, Object value) {
+        query.setParameter(parameter, (A) value);
+    }
+
+    private record CompiledQuery<T>(CriteriaQuery<T> criteriaQuery, List<ParameterExpression<?>> parameters) {
+    }
+}
@@ -1,10 +1,20 @@
 package com.example.intelligent_inventory_prediction_system.service.executor;
 
+import com.example.intelligent_inventory_prediction_system.dto.projection.FieldSelection;
+import com.example.intelligent_inventory_prediction_system.dto.projection.InventoryField;
+import com.example.intelligent_inventory_prediction_system.dto.projection.ProjectedRow;
 import com.example.intelligent_inventory_prediction_system.dto.response.InventoryResponseDTO;
 import com.example.intelligent_inventory_prediction_system.dto.search.InventorySearchCriteria;
 import com.example.intelligent_inventory_prediction_system.mapper.response.InventoryResponseMapper;
 import com.example.intelligent_inventory_prediction_system.model.Inventory;
 import com.example.intelligent_inventory_prediction_system.repository.InventoryRepository;
+import com.example.intelligent_inventory_prediction_system.repository.specification.CompiledSpecification;
+import com.example.intelligent_inventory_prediction_system.repository.specification.InventorySpecs;
+import com.example.intelligent_inventory_prediction_system.service.diagnostics.DiagnosticEvents;
+import com.example.intelligent_inventory_prediction_system.service.diagnostics.MapperConversionEvent;
+import com.example.intelligent_inventory_prediction_system.service.diagnostics.SearchEvent;
+import com.example.intelligent_inventory_prediction_system.service.shard.InventoryShardQuery;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -12,36 +22,287 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class InventoryQueryExecutor {
 
+    private static final int ID_BATCH_SIZE = 1_000;
+    private static final String ENTITY = "Inventory";
+    private static final String MAPPER = "InventoryResponseMapper";
+
     private final InventoryRepository inventoryRepository;
     private final InventoryResponseMapper inventoryResponseMapper;
+    private final CompiledQueryCache compiledQueryCache;
+    private final QueryOperationMetrics queryOperationMetrics;
+    private final ShardedInventoryStore shardedInventoryStore;
+    private final ProjectionQueryExecutor projectionQueryExecutor;
+    private final QueryDispatcher queryDispatcher;
 
     public List<InventoryResponseDTO> executeSpecificationQuery(Specification<Inventory> specification, String operationDescription) {
-        log.debug("Executing query: {}", operationDescription);
-        List<Inventory> inventories = inventoryRepository.findAll(specification);
-        log.debug("Found {} inventories for operation: {}", inventories.size(), operationDescription);
-        return inventoryResponseMapper.toInventoryResponseDTOList(inventories);
+        try (QueryOperation ignored = queryOperationMetrics.begin(operationDescription)) {
+            log.debug("Executing query: {}", operationDescription);
+            SearchEvent search = DiagnosticEvents.beginSearch();
+            List<Inventory> inventories = findAll(specification);
+            DiagnosticEvents.commitSearch(search, ENTITY, operationDescription, DiagnosticEvents.shapeOf(specification), inventories.size());
+            log.debug("Found {} inventories for operation: {}", inventories.size(), operationDescription);
+            return toResponses(inventories);
+        }
     }
 
     public Page<InventoryResponseDTO> executePagedQuery(Pageable pageable, String operationDescription) {
-        log.debug("Executing paged query: {} with pagination: {}", operationDescription, pageable);
-        Page<Inventory> inventories = inventoryRepository.findAll(pageable);
-        log.debug("Found {} inventories for paged operation: {}", inventories.getTotalElements(), operationDescription);
-        return inventories.map(inventoryResponseMapper::toInventoryResponseDTO);
+        try (QueryOperation ignored = queryOperationMetrics.begin(operationDescription)) {
+            log.debug("Executing paged query: {} with pagination: {}", operationDescription, pageable);
+            SearchEvent search = DiagnosticEvents.beginSearch();
+            Page<Inventory> inventories = shardedInventoryStore.isEnabled()
+                    ? shardedInventoryStore.find(InventoryShardQuery.all(), pageable)
+                    : inventoryRepository.findAll(pageable);
+            DiagnosticEvents.commitSearch(search, ENTITY, operationDescription, "paged", inventories.getNumberOfElements());
+            log.debug("Found {} inventories for paged operation: {}", inventories.getTotalElements(), operationDescription);
+            MapperConversionEvent conversion = DiagnosticEvents.beginConversion();
+            Page<InventoryResponseDTO> page = inventories.map(inventoryResponseMapper::toInventoryResponseDTO);
+            DiagnosticEvents.commitConversion(conversion, MAPPER, page.getNumberOfElements());
+            return page;
+        }
     }
 
     public List<InventoryResponseDTO> executeSimpleQuery(String operationDescription) {
-        log.debug("Executing simple query: {}", operationDescription);
-        List<Inventory> inventories = inventoryRepository.findAll();
-        log.debug("Found {} inventories for operation: {}", inventories.size(), operationDescription);
-        return inventoryResponseMapper.toInventoryResponseDTOList(inventories);
+        try (QueryOperation ignored = queryOperationMetrics.begin(operationDescription)) {
+            log.debug("Executing simple query: {}", operationDescription);
+            SearchEvent search = DiagnosticEvents.beginSearch();
+            List<Inventory> inventories = shardedInventoryStore.isEnabled()
+                    ? shardedInventoryStore.find(InventoryShardQuery.all())
+                    : inventoryRepository.findAll();
+            DiagnosticEvents.commitSearch(search, ENTITY, operationDescription, "all", inventories.size());
+            log.debug("Found {} inventories for operation: {}", inventories.size(), operationDescription);
+            return toResponses(inventories);
+        }
+    }
+
+    public List<InventoryResponseDTO> executeIdQuery(long[] ids, String operationDescription) {
+        try (QueryOperation ignored = queryOperationMetrics.begin(operationDescription)) {
+            log.debug("Executing id query: {} for {} ids", operationDescription, ids.length);
+            SearchEvent search = DiagnosticEvents.beginSearch();
+            List<Inventory> inventories = findAllById(ids);
+            DiagnosticEvents.commitSearch(search, ENTITY, operationDescription, "id lookup", inventories.size());
+            log.debug("Found {} inventories for operation: {}", inventories.size(), operationDescription);
+            return toResponses(inventories);
+        }
+    }
+
+    /**
+     * Like {@link #executeIdQuery}, but keeps the order of {@code ids} instead of returning the rows by id.
+     */
+    public List<InventoryResponseDTO> executeOrderedIdQuery(long[] ids, String operationDescription) {
+        try (QueryOperation ignored = queryOperationMetrics.begin(operationDescription)) {
+            log.debug("Executing ordered id query: {} for {} ids", operationDescription, ids.length);
+            SearchEvent search = DiagnosticEvents.beginSearch();
+            List<Inventory> inventories = inGivenOrder(ids, findAllById(ids));
+            DiagnosticEvents.commitSearch(search, ENTITY, operationDescription, "ordered id lookup", inventories.size());
+            log.debug("Found {} inventories for operation: {}", inventories.size(), operationDescription);
+            return toResponses(inventories);
+        }
     }
 
+    public List<InventoryResponseDTO> executeShardQuery(InventoryShardQuery query, String operationDescription) {
+        try (QueryOperation ignored = queryOperationMetrics.begin(operationDescription)) {
+            log.debug("Executing sharded query: {} ({})", operationDescription, query);
+            SearchEvent search = DiagnosticEvents.beginSearch();
+            List<Inventory> inventories = shardedInventoryStore.find(query);
+            DiagnosticEvents.commitSearch(search, ENTITY, operationDescription, "sharded", inventories.size());
+            log.debug("Found {} inventories for operation: {}", inventories.size(), operationDescription);
+            return toResponses(inventories);
+        }
+    }
+
+    public List<ProjectedRow> executeProjectionQuery(Specification<Inventory> specification,
+                                                     FieldSelection<InventoryField> selection, String operationDescription) {
+        try (QueryOperation ignored = queryOperationMetrics.begin(operationDescription)) {
+            log.debug("Executing projection query: {} selecting {}", operationDescription, selection);
+            SearchEvent search = DiagnosticEvents.beginSearch();
+            List<ProjectedRow> rows = projectionQueryExecutor.select(Inventory.class, specification, selection);
+            DiagnosticEvents.commitSearch(search, ENTITY, operationDescription, "projection", rows.size());
+            log.debug("Found {} inventories for operation: {}", rows.size(), operationDescription);
+            return rows;
+        }
+    }
+
+    public List<ProjectedRow> executeSimpleProjectionQuery(FieldSelection<InventoryField> selection,
+                                                           String operationDescription) {
+        if (shardedInventoryStore.isEnabled()) {
+            return executeShardProjectionQuery(InventoryShardQuery.all(), selection, operationDescription);
+        }
+        return executeProjectionQuery(null, selection, operationDescription);
+    }
 
+    public Page<ProjectedRow> executePagedProjectionQuery(Pageable pageable, FieldSelection<InventoryField> selection,
+                                                          String operationDescription) {
+        try (QueryOperation ignored = queryOperationMetrics.begin(operationDescription)) {
+            log.debug("Executing paged projection query: {} selecting {} with pagination: {}",
+                    operationDescription, selection, pageable);
+            SearchEvent search = DiagnosticEvents.beginSearch();
+            Page<ProjectedRow> rows = shardedInventoryStore.isEnabled()
+                    ? shardedInventoryStore.find(InventoryShardQuery.all(), pageable)
+                            .map(inventory -> InventoryField.project(inventory, selection))
+                    : projectionQueryExecutor.select(Inventory.class, null, selection, pageable);
+            DiagnosticEvents.commitSearch(search, ENTITY, operationDescription, "paged projection",
+                    rows.getNumberOfElements());
+            log.debug("Found {} inventories for paged operation: {}", rows.getTotalElements(), operationDescription);
+            return rows;
+        }
+    }
+
+    public List<ProjectedRow> executeIdProjectionQuery(long[] ids, FieldSelection<InventoryField> selection,
+                                                       String operationDescription) {
+        try (QueryOperation ignored = queryOperationMetrics.begin(operationDescription)) {
+            log.debug("Executing id projection query: {} for {} ids selecting {}", operationDescription, ids.length,
+                    selection);
+            SearchEvent search = DiagnosticEvents.beginSearch();
+            List<ProjectedRow> rows = shardedInventoryStore.isEnabled()
+                    ? project(shardedInventoryStore.findAllById(ids), selection)
+                    : selectAllById(ids, selection);
+            DiagnosticEvents.commitSearch(search, ENTITY, operationDescription, "id projection", rows.size());
+            log.debug("Found {} inventories for operation: {}", rows.size(), operationDescription);
+            return rows;
+        }
+    }
+
+    /**
+     * Keeps the order of {@code ids}. A selection may leave out the id, so whole rows are loaded and the selection
+     * is applied afterwards.
+     */
+    public List<ProjectedRow> executeOrderedIdProjectionQuery(long[] ids, FieldSelection<InventoryField> selection,
+                                                              String operationDescription) {
+        try (QueryOperation ignored = queryOperationMetrics.begin(operationDescription)) {
+            log.debug("Executing ordered id projection query: {} for {} ids selecting {}", operationDescription,
+                    ids.length, selection);
+            SearchEvent search = DiagnosticEvents.beginSearch();
+            List<ProjectedRow> rows = project(inGivenOrder(ids, findAllById(ids)), selection);
+            DiagnosticEvents.commitSearch(search, ENTITY, operationDescription, "ordered id projection", rows.size());
+            log.debug("Found {} inventories for operation: {}", rows.size(), operationDescription);
+            return rows;
+        }
+    }
+
+    /**
+     * The shard store reads whole rows, so the selection is applied after loading; inventory rows are narrow.
+     */
+    public List<ProjectedRow> executeShardProjectionQuery(InventoryShardQuery query,
+                                                          FieldSelection<InventoryField> selection,
+                                                          String operationDescription) {
+        try (QueryOperation ignored = queryOperationMetrics.begin(operationDescription)) {
+            log.debug("Executing sharded projection query: {} ({}) selecting {}", operationDescription, query, selection);
+            SearchEvent search = DiagnosticEvents.beginSearch();
+            List<ProjectedRow> rows = project(shardedInventoryStore.find(query), selection);
+            DiagnosticEvents.commitSearch(search, ENTITY, operationDescription, "sharded projection", rows.size());
+            log.debug("Found {} inventories for operation: {}", rows.size(), operationDescription);
+            return rows;
+        }
+    }
+
+    public CompletableFuture<List<InventoryResponseDTO>> executeSpecificationQueryAsync(
+            Specification<Inventory> specification, String operationDescription) {
+        return queryDispatcher.submit(operationDescription,
+                () -> executeSpecificationQuery(specification, operationDescription));
+    }
+
+    public CompletableFuture<List<ProjectedRow>> executeProjectionQueryAsync(
+            Specification<Inventory> specification, FieldSelection<InventoryField> selection,
+            String operationDescription) {
+        return queryDispatcher.submit(operationDescription,
+                () -> executeProjectionQuery(specification, selection, operationDescription));
+    }
+
+    /**
+     * The shards are read on their own connections, outside the worker's transaction, so their statements get no
+     * JDBC timeout; the deadline still covers the time spent queued.
+     */
+    public CompletableFuture<List<InventoryResponseDTO>> executeShardQueryAsync(InventoryShardQuery query,
+                                                                              String operationDescription) {
+        return queryDispatcher.submit(operationDescription, () -> executeShardQuery(query, operationDescription));
+    }
+
+    public CompletableFuture<List<ProjectedRow>> executeShardProjectionQueryAsync(
+            InventoryShardQuery query, FieldSelection<InventoryField> selection, String operationDescription) {
+        return queryDispatcher.submit(operationDescription,
+                () -> executeShardProjectionQuery(query, selection, operationDescription));
+    }
+
+    private List<ProjectedRow> selectAllById(long[] ids, FieldSelection<InventoryField> selection) {
+        long[] sortedIds = ids.clone();
+        Arrays.sort(sortedIds);
+        List<ProjectedRow> rows = new ArrayList<>(sortedIds.length);
+        for (int from = 0; from < sortedIds.length; from += ID_BATCH_SIZE) {
+            int to = Math.min(sortedIds.length, from + ID_BATCH_SIZE);
+            List<Long> batch = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                batch.add(sortedIds[i]);
+            }
+            rows.addAll(projectionQueryExecutor.select(Inventory.class, InventorySpecs.hasIdIn(batch), selection));
+        }
+        return rows;
+    }
+
+    private static List<ProjectedRow> project(List<Inventory> inventories, FieldSelection<InventoryField> selection) {
+        List<ProjectedRow> rows = new ArrayList<>(inventories.size());
+        for (Inventory inventory : inventories) {
+            rows.add(InventoryField.project(inventory, selection));
+        }
+        return rows;
+    }
+
+    // Ids deleted since they were listed are skipped.
+    private static List<Inventory> inGivenOrder(long[] ids, List<Inventory> inventories) {
+        Map<Long, Inventory> byId = new HashMap<>(inventories.size() * 2);
+        for (Inventory inventory : inventories) {
+            byId.put(inventory.getId(), inventory);
+        }
+        List<Inventory> ordered = new ArrayList<>(inventories.size());
+        for (long id : ids) {
+            Inventory inventory = byId.get(id);
+            if (inventory != null) {
+                ordered.add(inventory);
+            }
+        }
+        return ordered;
+    }
+
+    private List<Inventory> findAllById(long[] ids) {
+        if (shardedInventoryStore.isEnabled()) {
+            return shardedInventoryStore.findAllById(ids);
+        }
+        long[] sortedIds = ids.clone();
+        Arrays.sort(sortedIds);
+        List<Inventory> inventories = new ArrayList<>(sortedIds.length);
+        for (int from = 0; from < sortedIds.length; from += ID_BATCH_SIZE) {
+            int to = Math.min(sortedIds.length, from + ID_BATCH_SIZE);
+            List<Long> batch = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                batch.add(sortedIds[i]);
+            }
+            inventories.addAll(inventoryRepository.findAllById(batch));
+        }
+        return inventories;
+    }
+
+    private List<InventoryResponseDTO> toResponses(List<Inventory> inventories) {
+        MapperConversionEvent conversion = DiagnosticEvents.beginConversion();
+        List<InventoryResponseDTO> responses = inventoryResponseMapper.toInventoryResponseDTOList(inventories);
+        DiagnosticEvents.commitConversion(conversion, MAPPER, inventories.size());
+        return responses;
+    }
+
+    private List<Inventory> findAll(Specification<Inventory> specification) {
+        if (specification instanceof CompiledSpecification<Inventory> compiled) {
+            return compiledQueryCache.execute(compiled);
+        }
+        return inventoryRepository.findAll(specification);
+    }
 }
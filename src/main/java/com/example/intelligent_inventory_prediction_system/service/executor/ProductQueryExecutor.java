@@ -1,9 +1,16 @@
 package com.example.intelligent_inventory_prediction_system.service.executor;
 
+import com.example.intelligent_inventory_prediction_system.dto.projection.FieldSelection;
+import com.example.intelligent_inventory_prediction_system.dto.projection.ProductField;
+import com.example.intelligent_inventory_prediction_system.dto.projection.ProjectedRow;
 import com.example.intelligent_inventory_prediction_system.dto.response.ProductResponseDTO;
 import com.example.intelligent_inventory_prediction_system.mapper.response.ProductResponseMapper;
 import com.example.intelligent_inventory_prediction_system.model.Product;
 import com.example.intelligent_inventory_prediction_system.repository.ProductRepository;
+import com.example.intelligent_inventory_prediction_system.repository.specification.CompiledSpecification;
+import com.example.intelligent_inventory_prediction_system.service.diagnostics.DiagnosticEvents;
+import com.example.intelligent_inventory_prediction_system.service.diagnostics.MapperConversionEvent;
+import com.example.intelligent_inventory_prediction_system.service.diagnostics.SearchEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -12,34 +19,108 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ProductQueryExecutor {
 
+    private static final String ENTITY = "Product";
+    private static final String MAPPER = "ProductResponseMapper";
+
     private final ProductRepository productRepository;
     private final ProductResponseMapper productResponseMapper;
+    private final CompiledQueryCache compiledQueryCache;
+    private final QueryOperationMetrics queryOperationMetrics;
+    private final ProjectionQueryExecutor projectionQueryExecutor;
+    private final QueryDispatcher queryDispatcher;
 
     public List<ProductResponseDTO> executeSpecificationQuery(Specification<Product> specification, String operationDescription) {
-        log.debug("Executing query: {}", operationDescription);
-        List<Product> products = productRepository.findAll(specification);
-        log.debug("Found {} products for operation: {}", products.size(), operationDescription);
-        return productResponseMapper.toProductResponseDTOList(products);
+        try (QueryOperation ignored = queryOperationMetrics.begin(operationDescription)) {
+            log.debug("Executing query: {}", operationDescription);
+            SearchEvent search = DiagnosticEvents.beginSearch();
+            List<Product> products = findAll(specification);
+            DiagnosticEvents.commitSearch(search, ENTITY, operationDescription, DiagnosticEvents.shapeOf(specification), products.size());
+            log.debug("Found {} products for operation: {}", products.size(), operationDescription);
+            return toResponses(products);
+        }
     }
 
     public Page<ProductResponseDTO> executePagedQuery(Pageable pageable, String operationDescription) {
-        log.debug("Executing paged query: {} with pagination: {}", operationDescription, pageable);
-        Page<Product> products = productRepository.findAll(pageable);
-        log.debug("Found {} products for paged operation: {}", products.getTotalElements(), operationDescription);
-        return products.map(productResponseMapper::toProductResponseDTO);
+        try (QueryOperation ignored = queryOperationMetrics.begin(operationDescription)) {
+            log.debug("Executing paged query: {} with pagination: {}", operationDescription, pageable);
+            SearchEvent search = DiagnosticEvents.beginSearch();
+            Page<Product> products = productRepository.findAll(pageable);
+            DiagnosticEvents.commitSearch(search, ENTITY, operationDescription, "paged", products.getNumberOfElements());
+            log.debug("Found {} products for paged operation: {}", products.getTotalElements(), operationDescription);
+            MapperConversionEvent conversion = DiagnosticEvents.beginConversion();
+            Page<ProductResponseDTO> page = products.map(productResponseMapper::toProductResponseDTO);
+            DiagnosticEvents.commitConversion(conversion, MAPPER, page.getNumberOfElements());
+            return page;
+        }
     }
 
     public List<ProductResponseDTO> executeSimpleQuery(String operationDescription) {
-        log.debug("Executing simple query: {}", operationDescription);
-        List<Product> products = productRepository.findAll();
-        log.debug("Found {} products for operation: {}", products.size(), operationDescription);
-        return productResponseMapper.toProductResponseDTOList(products);
+        try (QueryOperation ignored = queryOperationMetrics.begin(operationDescription)) {
+            log.debug("Executing simple query: {}", operationDescription);
+            SearchEvent search = DiagnosticEvents.beginSearch();
+            List<Product> products = productRepository.findAll();
+            DiagnosticEvents.commitSearch(search, ENTITY, operationDescription, "all", products.size());
+            log.debug("Found {} products for operation: {}", products.size(), operationDescription);
+            return toResponses(products);
+        }
+    }
+
+    public List<ProjectedRow> executeProjectionQuery(Specification<Product> specification,
+                                                     FieldSelection<ProductField> selection, String operationDescription) {
+        try (QueryOperation ignored = queryOperationMetrics.begin(operationDescription)) {
+            log.debug("Executing projection query: {} selecting {}", operationDescription, selection);
+            SearchEvent search = DiagnosticEvents.beginSearch();
+            List<ProjectedRow> rows = projectionQueryExecutor.select(Product.class, specification, selection);
+            DiagnosticEvents.commitSearch(search, ENTITY, operationDescription, "projection", rows.size());
+            log.debug("Found {} products for operation: {}", rows.size(), operationDescription);
+            return rows;
+        }
+    }
+
+    public Page<ProjectedRow> executePagedProjectionQuery(Pageable pageable, FieldSelection<ProductField> selection,
+                                                          String operationDescription) {
+        try (QueryOperation ignored = queryOperationMetrics.begin(operationDescription)) {
+            log.debug("Executing paged projection query: {} selecting {} with pagination: {}",
+                    operationDescription, selection, pageable);
+            SearchEvent search = DiagnosticEvents.beginSearch();
+            Page<ProjectedRow> rows = projectionQueryExecutor.select(Product.class, null, selection, pageable);
+            DiagnosticEvents.commitSearch(search, ENTITY, operationDescription, "paged projection",
+                    rows.getNumberOfElements());
+            log.debug("Found {} products for paged operation: {}", rows.getTotalElements(), operationDescription);
+            return rows;
+        }
+    }
+
+    public CompletableFuture<List<ProductResponseDTO>> executeSpecificationQueryAsync(
+            Specification<Product> specification, String operationDescription) {
+        return queryDispatcher.submit(operationDescription,
+                () -> executeSpecificationQuery(specification, operationDescription));
+    }
+
+    public CompletableFuture<List<ProjectedRow>> executeProjectionQueryAsync(
+            Specification<Product> specification, FieldSelection<ProductField> selection, String operationDescription) {
+        return queryDispatcher.submit(operationDescription,
+                () -> executeProjectionQuery(specification, selection, operationDescription));
     }
 
+    private List<ProductResponseDTO> toResponses(List<Product> products) {
+        MapperConversionEvent conversion = DiagnosticEvents.beginConversion();
+        List<ProductResponseDTO> responses = productResponseMapper.toProductResponseDTOList(products);
+        DiagnosticEvents.commitConversion(conversion, MAPPER, products.size());
+        return responses;
+    }
+
+    private List<Product> findAll(Specification<Product> specification) {
+        if (specification instanceof CompiledSpecification<Product> compiled) {
+            return compiledQueryCache.execute(compiled);
+        }
+        return productRepository.findAll(specification);
+    }
 }
@@ -0,0 +1,110 @@
+package com.example.intelligent_inventory_prediction_system.service.executor;
+
+import com.example.intelligent_inventory_prediction_system.dto.projection.FieldSelection;
+import com.example.intelligent_inventory_prediction_system.dto.projection.ProjectedField;
+import com.example.intelligent_inventory_prediction_system.dto.projection.ProjectedRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs a {@link Specification} with only the selected attributes in the select list, so unrequested columns such
+ * as a product description are never read from the database. A {@code null} specification selects every row.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectionQueryExecutor {
+
+    private final EntityManager entityManager;
+
+    public <T, F extends Enum<F> & ProjectedField> List<ProjectedRow> select(
+            Class<T> domainClass, Specification<T> specification, FieldSelection<F> selection) {
+        return toRows(createQuery(domainClass, specification, selection, Pageable.unpaged()).getResultList(), selection);
+    }
+
+    public <T, F extends Enum<F> & ProjectedField> Page<ProjectedRow> select(
+            Class<T> domainClass, Specification<T> specification, FieldSelection<F> selection, Pageable pageable) {
+        TypedQuery<Tuple> query = createQuery(domainClass, specification, selection, pageable);
+        if (pageable.isUnpaged()) {
+            List<ProjectedRow> rows = toRows(query.getResultList(), selection);
+            return new PageImpl<>(rows, pageable, rows.size());
+        }
+        query.setFirstResult(Math.toIntExact(pageable.getOffset()));
+        query.setMaxResults(pageable.getPageSize());
+        List<ProjectedRow> rows = toRows(query.getResultList(), selection);
+        if (rows.size() < pageable.getPageSize() && (pageable.getOffset() == 0 || !rows.isEmpty())) {
+            return new PageImpl<>(rows, pageable, pageable.getOffset() + rows.size());
+        }
+        return new PageImpl<>(rows, pageable, count(domainClass, specification));
+    }
+
+    private <T, F extends Enum<F> & ProjectedField> TypedQuery<Tuple> createQuery(
+            Class<T> domainClass, Specification<T> specification, FieldSelection<F> selection, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteriaQuery = criteriaBuilder.createTupleQuery();
+        Root<T> root = criteriaQuery.from(domainClass);
+
+        List<Selection<?>> columns = new ArrayList<>(selection.size());
+        for (F field : selection.getFields()) {
+            columns.add(path(root, field.getAttributePath()));
+        }
+        criteriaQuery.multiselect(columns);
+        restrict(criteriaQuery, root, criteriaBuilder, specification);
+        if (pageable.getSort().isSorted()) {
+            criteriaQuery.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+        }
+        return entityManager.createQuery(criteriaQuery);
+    }
+
+    private <T> long count(Class<T> domainClass, Specification<T> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> criteriaQuery = criteriaBuilder.createQuery(Long.class);
+        Root<T> root = criteriaQuery.from(domainClass);
+        criteriaQuery.select(criteriaBuilder.count(root));
+        restrict(criteriaQuery, root, criteriaBuilder, specification);
+        return entityManager.createQuery(criteriaQuery).getSingleResult();
+    }
+
+    private static <T> void restrict(CriteriaQuery<?> criteriaQuery, Root<T> root, CriteriaBuilder criteriaBuilder,
+                                     Specification<T> specification) {
+        if (specification == null) {
+            return;
+        }
+        Predicate predicate = specification.toPredicate(root, criteriaQuery, criteriaBuilder);
+        if (predicate != null) {
+            criteriaQuery.where(predicate);
+        }
+    }
+
+    private static Path<?> path(Root<?> root, String attributePath) {
+        Path<?> path = root;
+        for (String attribute : attributePath.split("\\.")) {
+            path = path.get(attribute);
+        }
+        return path;
+    }
+
+    private static List<ProjectedRow> toRows(List<Tuple> tuples, FieldSelection<?> selection) {
+        List<ProjectedRow> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            rows.add(new ProjectedRow(selection, tuple.toArray()));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.intelligent_inventory_prediction_system.service.executor;
+
+import com.example.intelligent_inventory_prediction_system.exception.QueryDeadlineExceededException;
+import com.example.intelligent_inventory_prediction_system.exception.QueryRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Runs executor queries off the request thread on a fixed pool with a bounded queue. A full queue fails the call at
+ * once with {@link QueryRejectedException} instead of parking it. Every call gets a deadline of {@code timeout-ms}
+ * from submission; time spent queued counts against it, and the rest becomes the timeout of the read-only
+ * transaction the query runs in, which Hibernate and {@code JdbcTemplate} apply to each statement as its JDBC query
+ * timeout. A call whose deadline passes fails with {@link QueryDeadlineExceededException}.
+ */
+@Slf4j
+@Component
+public class QueryDispatcher {
+
+    private final PlatformTransactionManager transactionManager;
+    private final ThreadPoolExecutor pool;
+    private final long timeoutMillis;
+    private final long retryAfterSeconds;
+    private final TaskDecorator taskDecorator;
+    private final LongSupplier clock;
+    private final Counter rejected;
+    private final Counter deadlineExceeded;
+    private final Timer queueWait;
+
+    @Autowired
+    public QueryDispatcher(
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            ObjectProvider<TaskDecorator> taskDecorators,
+            @Value("${inventory.query.async.threads:8}") int threads,
+            @Value("${inventory.query.async.queue-capacity:100}") int queueCapacity,
+            @Value("${inventory.query.async.timeout-ms:5000}") long timeoutMillis,
+            @Value("${inventory.query.async.retry-after-seconds:1}") long retryAfterSeconds
+    ) {
+        this(transactionManager, meterRegistry, compose(taskDecorators), threads, queueCapacity, timeoutMillis,
+                retryAfterSeconds, System::currentTimeMillis);
+    }
+
+    QueryDispatcher(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                    TaskDecorator taskDecorator, int threads, int queueCapacity, long timeoutMillis,
+                    long retryAfterSeconds, LongSupplier clock) {
+        if (threads < 1 || queueCapacity < 1 || timeoutMillis < 1) {
+            throw new IllegalArgumentException("Query threads, queue capacity and timeout must be positive");
+        }
+        this.transactionManager = transactionManager;
+        this.timeoutMillis = timeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.taskDecorator = taskDecorator;
+        this.clock = clock;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "query-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("inventory.query.async.queue.depth", pool, executor -> executor.getQueue().size())
+                .description("Queries waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("inventory.query.async.active", pool, ThreadPoolExecutor::getActiveCount)
+                .description("Queries running on a worker")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("inventory.query.async.rejected")
+                .description("Queries turned away because the queue was full")
+                .register(meterRegistry);
+        this.deadlineExceeded = Counter.builder("inventory.query.async.deadline.exceeded")
+                .description("Queries that ran out of time, queued or running")
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("inventory.query.async.queue.wait")
+                .description("Time a query waited for a worker")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Queues {@code query} and returns its result. {@code query} runs in a read-only transaction on a worker, so it
+     * must not rely on the caller's transaction or persistence context.
+     */
+    public <T> CompletableFuture<T> submit(String operationDescription, Supplier<T> query) {
+        long submittedAt = clock.getAsLong();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            pool.execute(taskDecorator.decorate(() -> run(operationDescription, query, submittedAt, result)));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.debug("Rejected query '{}': {} queued", operationDescription, pool.getQueue().size());
+            result.completeExceptionally(new QueryRejectedException(
+                    "Too many queries in progress; retry shortly", retryAfterSeconds));
+        }
+        return result;
+    }
+
+    int queueDepth() {
+        return pool.getQueue().size();
+    }
+
+    private <T> void run(String operationDescription, Supplier<T> query, long submittedAt,
+                         CompletableFuture<T> result) {
+        long startedAt = clock.getAsLong();
+        queueWait.record(startedAt - submittedAt, TimeUnit.MILLISECONDS);
+        if (result.isDone()) {
+            return;
+        }
+        long deadline = submittedAt + timeoutMillis;
+        long remainingMillis = deadline - startedAt;
+        if (remainingMillis <= 0) {
+            result.completeExceptionally(deadlineExceeded(operationDescription, null));
+            return;
+        }
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        // JDBC query timeouts are whole seconds, so the statement timeout rounds up and the deadline is rechecked.
+        transaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(remainingMillis + 999)));
+        try {
+            result.complete(transaction.execute(status -> query.get()));
+        } catch (QueryTimeoutException | TransactionTimedOutException e) {
+            result.completeExceptionally(deadlineExceeded(operationDescription, e));
+        } catch (RuntimeException e) {
+            result.completeExceptionally(clock.getAsLong() >= deadline ? deadlineExceeded(operationDescription, e) : e);
+        }
+    }
+
+    private QueryDeadlineExceededException deadlineExceeded(String operationDescription, Throwable cause) {
+        deadlineExceeded.increment();
+        log.warn("Query '{}' exceeded its {} ms deadline", operationDescription, timeoutMillis);
+        return new QueryDeadlineExceededException(
+                "Query did not complete within " + timeoutMillis + " ms", cause);
+    }
+
+    private static TaskDecorator compose(ObjectProvider<TaskDecorator> taskDecorators) {
+        return taskDecorators.orderedStream()
+                .reduce(task -> task, (outer, inner) -> task -> outer.decorate(inner.decorate(task)));
+    }
+}
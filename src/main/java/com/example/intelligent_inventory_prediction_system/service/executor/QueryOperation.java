@@ -0,0 +1,81 @@
+package com.example.intelligent_inventory_prediction_system.service.executor;
+
+/**
+ * Thread-bound scope around one executor call. Hibernate statistics callbacks and the statement inspector run on the
+ * calling thread, so whatever they observe while the scope is open is attributed to its operation. Scopes nest;
+ * the innermost one wins and the outer one is restored on close.
+ */
+public final class QueryOperation implements AutoCloseable {
+
+    private static final ThreadLocal<QueryOperation> CURRENT = new ThreadLocal<>();
+
+    private final String description;
+    private final QueryOperationMetrics metrics;
+    private final QueryOperation parent;
+    private final long startNanos = System.nanoTime();
+    long statements;
+    long queries;
+    long entityLoads;
+    long cacheHits;
+    long cacheMisses;
+    long flushes;
+    String lastSql;
+
+    private QueryOperation(String description, QueryOperationMetrics metrics, QueryOperation parent) {
+        this.description = description;
+        this.metrics = metrics;
+        this.parent = parent;
+    }
+
+    static QueryOperation open(String description, QueryOperationMetrics metrics) {
+        QueryOperation operation = new QueryOperation(description, metrics, CURRENT.get());
+        CURRENT.set(operation);
+        return operation;
+    }
+
+    public static QueryOperation current() {
+        return CURRENT.get();
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void statementPrepared() {
+        statements++;
+    }
+
+    public void queryExecuted() {
+        queries++;
+    }
+
+    public void entityLoaded() {
+        entityLoads++;
+    }
+
+    public void cacheAccessed(boolean hit) {
+        if (hit) {
+            cacheHits++;
+        } else {
+            cacheMisses++;
+        }
+    }
+
+    public void flushed() {
+        flushes++;
+    }
+
+    public void sqlInspected(String sql) {
+        lastSql = sql;
+    }
+
+    @Override
+    public void close() {
+        if (parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(parent);
+        }
+        metrics.record(this, System.nanoTime() - startNanos);
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.intelligent_inventory_prediction_system.service.executor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records what each executor operation did in Hibernate: statements prepared, queries, entity loads, second-level
+ * cache hits and misses, and flushes. Operation descriptions carry search values ("find by name: lamp"), so the
+ * metric tag only keeps the part before the first colon.
+ */
+@Component
+public class QueryOperationMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, OperationMeters> meters = new ConcurrentHashMap<>();
+
+    public QueryOperationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public QueryOperation begin(String operationDescription) {
+        return QueryOperation.open(operationDescription, this);
+    }
+
+    /**
+     * Per-operation totals since startup, keyed by operation tag.
+     */
+    public Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        meters.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> result.put(entry.getKey(), entry.getValue().summary()));
+        return result;
+    }
+
+    void record(QueryOperation operation, long elapsedNanos) {
+        meters.computeIfAbsent(operationTag(operation.getDescription()), OperationMeters::new)
+                .record(operation, elapsedNanos);
+    }
+
+    static String operationTag(String description) {
+        if (description == null) {
+            return "unknown";
+        }
+        int colon = description.indexOf(':');
+        String tag = colon < 0 ? description : description.substring(0, colon);
+        return tag.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private final class OperationMeters {
+
+        private final Timer duration;
+        private final DistributionSummary statementsPerCall;
+        private final Counter queries;
+        private final Counter entityLoads;
+        private final Counter cacheHits;
+        private final Counter cacheMisses;
+        private final Counter flushes;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0);
+        private volatile String lastSql;
+
+        private OperationMeters(String tag) {
+            this.duration = Timer.builder("inventory.query.operation.duration")
+                    .description("Executor operation time including mapping")
+                    .tag("operation", tag)
+                    .register(meterRegistry);
+            this.statementsPerCall = DistributionSummary.builder("inventory.query.operation.statements")
+                    .description("JDBC statements prepared per executor operation")
+                    .tag("operation", tag)
+                    .register(meterRegistry);
+            this.queries = counter("inventory.hibernate.queries", "HQL and criteria queries executed", tag);
+            this.entityLoads = counter("inventory.hibernate.entity.loads", "Entities loaded", tag);
+            this.cacheHits = Counter.builder("inventory.hibernate.second.level.cache")
+                    .description("Second-level cache lookups")
+                    .tag("operation", tag)
+                    .tag("result", "hit")
+                    .register(meterRegistry);
+            this.cacheMisses = Counter.builder("inventory.hibernate.second.level.cache")
+                    .description("Second-level cache lookups")
+                    .tag("operation", tag)
+                    .tag("result", "miss")
+                    .register(meterRegistry);
+            this.flushes = counter("inventory.hibernate.flushes", "Session flushes", tag);
+        }
+
+        private Counter counter(String name, String description, String tag) {
+            return Counter.builder(name).description(description).tag("operation", tag).register(meterRegistry);
+        }
+
+        private void record(QueryOperation operation, long elapsedNanos) {
+            duration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            statementsPerCall.record(operation.statements);
+            queries.increment(operation.queries);
+            entityLoads.increment(operation.entityLoads);
+            cacheHits.increment(operation.cacheHits);
+            cacheMisses.increment(operation.cacheMisses);
+            flushes.increment(operation.flushes);
+            calls.increment();
+            statements.add(operation.statements);
+            maxStatements.accumulate(operation.statements);
+            if (operation.lastSql != null) {
+                lastSql = operation.lastSql;
+            }
+        }
+
+        private Map<String, Object> summary() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("calls", calls.sum());
+            summary.put("meanMillis", duration.mean(TimeUnit.MILLISECONDS));
+            summary.put("maxMillis", duration.max(TimeUnit.MILLISECONDS));
+            summary.put("statements", statements.sum());
+            summary.put("maxStatementsPerCall", maxStatements.get());
+            summary.put("queries", (long) queries.count());
+            summary.put("entityLoads", (long) entityLoads.count());
+            summary.put("secondLevelCacheHits", (long) cacheHits.count());
+            summary.put("secondLevelCacheMisses", (long) cacheMisses.count());
+            summary.put("flushes", (long) flushes.count());
+            summary.put("lastSql", lastSql);
+            return summary;
+        }
+    }
+}
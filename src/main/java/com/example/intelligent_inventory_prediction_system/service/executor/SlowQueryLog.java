@@ -0,0 +1,108 @@
+package com.example.intelligent_inventory_prediction_system.service.executor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logs statements that ran longer than {@code inventory.query.slow.threshold-ms} with their bind values inlined,
+ * and keeps the most recent ones for the query statistics endpoint.
+ */
+@Slf4j
+@Component
+public class SlowQueryLog {
+
+    private static final int RECENT_CAPACITY = 50;
+    private static final int MAX_LITERAL_LENGTH = 200;
+
+    private final MeterRegistry meterRegistry;
+    private final Deque<SlowQuery> recent = new ArrayDeque<>(RECENT_CAPACITY);
+
+    public SlowQueryLog(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(String sql, Object[] parameters, long elapsedNanos) {
+        QueryOperation operation = QueryOperation.current();
+        String description = operation == null ? null : operation.getDescription();
+        String boundSql = bind(sql, parameters);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        log.warn("Slow query ({} ms) [{}]: {}", elapsedMillis, description, boundSql);
+        Counter.builder("inventory.query.slow")
+                .description("Statements slower than the slow query threshold")
+                .tag("operation", QueryOperationMetrics.operationTag(description))
+                .register(meterRegistry)
+                .increment();
+        synchronized (recent) {
+            if (recent.size() == RECENT_CAPACITY) {
+                recent.removeLast();
+            }
+            recent.addFirst(new SlowQuery(Instant.now(), elapsedMillis, description, boundSql));
+        }
+    }
+
+    public List<SlowQuery> recent() {
+        synchronized (recent) {
+            return new ArrayList<>(recent);
+        }
+    }
+
+    public void clear() {
+        synchronized (recent) {
+            recent.clear();
+        }
+    }
+
+    /**
+     * Replaces the {@code ?} placeholders outside string literals with the bound values, 1-based as in JDBC.
+     */
+    static String bind(String sql, Object[] parameters) {
+        if (parameters == null || parameters.length == 0) {
+            return sql;
+        }
+        StringBuilder bound = new StringBuilder(sql.length() + parameters.length * 8);
+        boolean inLiteral = false;
+        int index = 1;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            }
+            if (c == '?' && !inLiteral) {
+                bound.append(index < parameters.length ? literal(parameters[index]) : "?");
+                index++;
+            } else {
+                bound.append(c);
+            }
+        }
+        return bound.toString();
+    }
+
+    private static String literal(Object value) {
+        if (value == null) {
+            return "NULL";
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return value.toString();
+        }
+        if (value instanceof byte[] bytes) {
+            return "<" + bytes.length + " bytes>";
+        }
+        String text = value.toString();
+        if (text.length() > MAX_LITERAL_LENGTH) {
+            text = text.substring(0, MAX_LITERAL_LENGTH) + "...";
+        }
+        return "'" + text.replace("'", "''") + "'";
+    }
+
+    public record SlowQuery(Instant at, long elapsedMillis, String operation, String sql) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.intelligent_inventory_prediction_system.service.export;
+
+/**
+ * Column encodings of the columnar snapshot format; the ordinal is written to the file header.
+ */
+public enum ColumnType {
+    /** Zigzag varint of the difference to the previous non-null value in the row group. */
+    INT64,
+    /** Zigzag varint. */
+    INT32,
+    /** IEEE 754 bits, big-endian. */
+    FLOAT64,
+    /** Varint byte length followed by UTF-8. */
+    STRING,
+    /** Epoch milliseconds of the UTC-interpreted local timestamp, encoded like {@link #INT64}. */
+    TIMESTAMP
+}
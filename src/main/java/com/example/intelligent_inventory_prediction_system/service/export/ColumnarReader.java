@@ -0,0 +1,102 @@
+package com.example.intelligent_inventory_prediction_system.service.export;
+
+import com.example.intelligent_inventory_prediction_system.service.export.ExportDataset.Column;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads files written by {@link ColumnarWriter} one row group at a time. Values are decoded to {@link Long},
+ * {@link Integer}, {@link Double} or {@link String}; timestamps stay epoch milliseconds.
+ */
+public class ColumnarReader implements AutoCloseable {
+
+    private final DataInputStream in;
+    private final List<Column> columns;
+    private boolean finished;
+
+    public ColumnarReader(InputStream in) throws IOException {
+        this.in = new DataInputStream(in);
+        byte[] magic = new byte[ColumnarWriter.MAGIC.length];
+        this.in.readFully(magic);
+        if (!Arrays.equals(magic, ColumnarWriter.MAGIC)) {
+            throw new IOException("Not a columnar snapshot");
+        }
+        int version = this.in.readUnsignedByte();
+        if (version != ColumnarWriter.VERSION) {
+            throw new IOException("Unsupported columnar snapshot version: " + version);
+        }
+        int count = (int) VarInts.readUnsigned(this.in);
+        List<Column> header = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            header.add(new Column(readString(this.in), ColumnType.values()[this.in.readUnsignedByte()]));
+        }
+        this.columns = List.copyOf(header);
+    }
+
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns the next row group as one array per column, or {@code null} after the last group.
+     */
+    public Object[][] nextRowGroup() throws IOException {
+        if (finished) {
+            return null;
+        }
+        int rows = (int) VarInts.readUnsigned(in);
+        if (rows == 0) {
+            finished = true;
+            return null;
+        }
+        Object[][] group = new Object[columns.size()][];
+        for (int c = 0; c < columns.size(); c++) {
+            VarInts.readUnsigned(in);
+            group[c] = readColumn(columns.get(c).type(), rows);
+        }
+        return group;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private Object[] readColumn(ColumnType type, int rows) throws IOException {
+        boolean[] isNull = new boolean[rows];
+        if (in.readUnsignedByte() == 1) {
+            for (int r = 0; r < rows; r += 8) {
+                int bits = in.readUnsignedByte();
+                for (int b = 0; b < 8 && r + b < rows; b++) {
+                    isNull[r + b] = (bits & (1 << b)) != 0;
+                }
+            }
+        }
+        Object[] values = new Object[rows];
+        long previous = 0;
+        for (int r = 0; r < rows; r++) {
+            if (isNull[r]) {
+                continue;
+            }
+            values[r] = switch (type) {
+                case INT64, TIMESTAMP -> previous += VarInts.readSigned(in);
+                case INT32 -> (int) VarInts.readSigned(in);
+                case FLOAT64 -> Double.longBitsToDouble(in.readLong());
+                case STRING -> readString(in);
+            };
+        }
+        return values;
+    }
+
+    private static String readString(DataInputStream source) throws IOException {
+        byte[] bytes = new byte[(int) VarInts.readUnsigned(source)];
+        source.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.intelligent_inventory_prediction_system.service.export;
+
+import com.example.intelligent_inventory_prediction_system.service.export.ExportDataset.Column;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Writes the compact columnar snapshot format:
+ * <pre>
+ * "INVC" version:u8 columnCount:varint (name:string type:u8)*
+ * rowGroup* 0:varint
+ * rowGroup := rowCount:varint (blockLength:varint hasNulls:u8 [nullBitmap] values)*  -- one block per column
+ * </pre>
+ * Rows are buffered into row groups so each column is encoded contiguously; the block length lets readers skip the
+ * columns they don't need. Values are set per column and committed with {@link #endRow()}.
+ */
+public class ColumnarWriter implements AutoCloseable {
+
+    static final byte[] MAGIC = {'I', 'N', 'V', 'C'};
+    static final int VERSION = 1;
+    public static final int DEFAULT_ROW_GROUP_SIZE = 65_536;
+
+    private final DataOutputStream out;
+    private final List<Column> columns;
+    private final int rowGroupSize;
+    private final long[][] numbers;
+    private final String[][] strings;
+    private final boolean[][] nulls;
+    private final ByteArrayOutputStream block = new ByteArrayOutputStream(1 << 16);
+    private final DataOutputStream blockOut = new DataOutputStream(block);
+    private int rows;
+    private long totalRows;
+
+    public ColumnarWriter(OutputStream out, List<Column> columns) throws IOException {
+        this(out, columns, DEFAULT_ROW_GROUP_SIZE);
+    }
+
+    public ColumnarWriter(OutputStream out, List<Column> columns, int rowGroupSize) throws IOException {
+        this.out = new DataOutputStream(out);
+        this.columns = columns;
+        this.rowGroupSize = rowGroupSize;
+        this.numbers = new long[columns.size()][];
+        this.strings = new String[columns.size()][];
+        this.nulls = new boolean[columns.size()][rowGroupSize];
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).type() == ColumnType.STRING) {
+                strings[i] = new String[rowGroupSize];
+            } else {
+                numbers[i] = new long[rowGroupSize];
+            }
+        }
+        writeHeader();
+    }
+
+    public void setLong(int column, long value) {
+        numbers[column][rows] = value;
+        nulls[column][rows] = false;
+    }
+
+    public void setDouble(int column, double value) {
+        setLong(column, Double.doubleToRawLongBits(value));
+    }
+
+    public void setString(int column, String value) {
+        strings[column][rows] = value;
+        nulls[column][rows] = value == null;
+    }
+
+    public void setNull(int column) {
+        nulls[column][rows] = true;
+    }
+
+    public void endRow() throws IOException {
+        rows++;
+        totalRows++;
+        if (rows == rowGroupSize) {
+            flushRowGroup();
+        }
+    }
+
+    public long getRowCount() {
+        return totalRows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        flushRowGroup();
+        VarInts.writeUnsigned(out, 0);
+        out.flush();
+    }
+
+    private void writeHeader() throws IOException {
+        out.write(MAGIC);
+        out.writeByte(VERSION);
+        VarInts.writeUnsigned(out, columns.size());
+        for (Column column : columns) {
+            writeString(out, column.name());
+            out.writeByte(column.type().ordinal());
+        }
+    }
+
+    private void flushRowGroup() throws IOException {
+        if (rows == 0) {
+            return;
+        }
+        VarInts.writeUnsigned(out, rows);
+        for (int c = 0; c < columns.size(); c++) {
+            block.reset();
+            encodeColumn(c);
+            VarInts.writeUnsigned(out, block.size());
+            block.writeTo(out);
+        }
+        rows = 0;
+    }
+
+    private void encodeColumn(int c) throws IOException {
+        boolean[] isNull = nulls[c];
+        boolean hasNulls = false;
+        for (int r = 0; r < rows && !hasNulls; r++) {
+            hasNulls = isNull[r];
+        }
+        blockOut.writeByte(hasNulls ? 1 : 0);
+        if (hasNulls) {
+            for (int r = 0; r < rows; r += 8) {
+                int bits = 0;
+                for (int b = 0; b < 8 && r + b < rows; b++) {
+                    if (isNull[r + b]) {
+                        bits |= 1 << b;
+                    }
+                }
+                blockOut.writeByte(bits);
+            }
+        }
+
+        ColumnType type = columns.get(c).type();
+        long previous = 0;
+        for (int r = 0; r < rows; r++) {
+            if (isNull[r]) {
+                continue;
+            }
+            switch (type) {
+                case INT64, TIMESTAMP -> {
+                    long value = numbers[c][r];
+                    VarInts.writeSigned(blockOut, value - previous);
+                    previous = value;
+                }
+                case INT32 -> VarInts.writeSigned(blockOut, numbers[c][r]);
+                case FLOAT64 -> blockOut.writeLong(numbers[c][r]);
+                case STRING -> writeString(blockOut, strings[c][r]);
+            }
+        }
+        blockOut.flush();
+    }
+
+    private static void writeString(DataOutputStream target, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        VarInts.writeUnsigned(target, bytes.length);
+        target.write(bytes);
+    }
+}
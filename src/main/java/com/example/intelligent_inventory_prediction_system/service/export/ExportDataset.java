@@ -0,0 +1,68 @@
+package com.example.intelligent_inventory_prediction_system.service.export;
+
+import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static com.example.intelligent_inventory_prediction_system.service.export.ColumnType.*;
+
+public enum ExportDataset {
+    PRODUCTS(
+            "SELECT id, name, description, category, price, " + statusLabel() + " AS status FROM product ORDER BY id",
+            List.of(
+                    new Column("id", INT64),
+                    new Column("name", STRING),
+                    new Column("description", STRING),
+                    new Column("category", STRING),
+                    new Column("price", FLOAT64),
+                    new Column("status", STRING))),
+    INVENTORIES(
+            "SELECT id, product_id, current_stock, reorder_threshold, last_updated FROM inventory ORDER BY id",
+            List.of(
+                    new Column("id", INT64),
+                    new Column("product_id", INT64),
+                    new Column("current_stock", INT32),
+                    new Column("reorder_threshold", INT32),
+                    new Column("last_updated", TIMESTAMP)));
+
+    private final String query;
+    private final List<Column> columns;
+
+    ExportDataset(String query, List<Column> columns) {
+        this.query = query;
+        this.columns = columns;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    public String getFileName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static ExportDataset fromName(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown export dataset: " + name);
+        }
+    }
+
+    // status is mapped as an ordinal; the export carries the enum name so consumers don't depend on the ordering.
+    private static String statusLabel() {
+        return Arrays.stream(ProductStatus.values())
+                .map(status -> "WHEN " + status.ordinal() + " THEN '" + status.name() + "'")
+                .collect(Collectors.joining(" ", "CASE status ", " END"));
+    }
+
+    public record Column(String name, ColumnType type) {
+    }
+}
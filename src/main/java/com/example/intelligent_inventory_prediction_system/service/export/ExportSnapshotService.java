@@ -0,0 +1,168 @@
+package com.example.intelligent_inventory_prediction_system.service.export;
+
+import com.example.intelligent_inventory_prediction_system.dto.response.ExportSnapshotResponseDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the latest snapshot per dataset and format. A snapshot younger than {@code inventory.export.max-age} is
+ * served as is; an older one is regenerated into a temporary file while hashing it, and only replaces the current
+ * file when the SHA-256 differs, so the file, its ETag and Last-Modified stay stable while the data is unchanged.
+ */
+@Slf4j
+@Service
+public class ExportSnapshotService {
+
+    private final SnapshotExporter snapshotExporter;
+    private final MeterRegistry meterRegistry;
+    private final Path root;
+    private final Duration maxAge;
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<String, Object> locks = new ConcurrentHashMap<>();
+
+    public ExportSnapshotService(SnapshotExporter snapshotExporter,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${inventory.export.directory:${java.io.tmpdir}/inventory-exports}") String directory,
+                                 @Value("${inventory.export.max-age-seconds:300}") long maxAgeSeconds) {
+        this.snapshotExporter = snapshotExporter;
+        this.meterRegistry = meterRegistry;
+        this.root = Path.of(directory);
+        this.maxAge = Duration.ofSeconds(maxAgeSeconds);
+    }
+
+    public Snapshot getSnapshot(ExportDataset dataset, ExportFormat format) {
+        Snapshot current = snapshots.get(key(dataset, format));
+        if (current != null && isFresh(current)) {
+            return current;
+        }
+        return refresh(dataset, format, false);
+    }
+
+    public ExportSnapshotResponseDTO refreshSnapshot(ExportDataset dataset, ExportFormat format) {
+        Snapshot previous = snapshots.get(key(dataset, format));
+        Snapshot snapshot = refresh(dataset, format, true);
+        return ExportSnapshotResponseDTO.builder()
+                .dataset(dataset.getFileName())
+                .format(format.name().toLowerCase(Locale.ROOT))
+                .hash(snapshot.hash())
+                .sizeBytes(snapshot.size())
+                .rowCount(snapshot.rowCount())
+                .generatedAt(snapshot.generatedAt())
+                .checkedAt(snapshot.checkedAt())
+                .changed(previous == null || !previous.hash().equals(snapshot.hash()))
+                .build();
+    }
+
+    private Snapshot refresh(ExportDataset dataset, ExportFormat format, boolean force) {
+        String key = key(dataset, format);
+        synchronized (locks.computeIfAbsent(key, k -> new Object())) {
+            Snapshot current = snapshots.get(key);
+            if (!force && current != null && isFresh(current)) {
+                return current;
+            }
+            Snapshot snapshot = generate(dataset, format, current);
+            snapshots.put(key, snapshot);
+            return snapshot;
+        }
+    }
+
+    private Snapshot generate(ExportDataset dataset, ExportFormat format, Snapshot current) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Path temporary = null;
+        try {
+            Files.createDirectories(root);
+            temporary = Files.createTempFile(root, dataset.getFileName() + "-", ".tmp");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long rows;
+            try (OutputStream out = new DigestOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporary), 1 << 16), digest)) {
+                rows = snapshotExporter.export(dataset, format, out);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Instant now = Instant.now();
+
+            if (current != null && current.hash().equals(hash) && Files.exists(current.file())) {
+                Files.delete(temporary);
+                sample.stop(timer(dataset, format, "unchanged"));
+                log.debug("Snapshot {} unchanged ({})", current.fileName(), hash);
+                return current.checked(now);
+            }
+
+            Path target = root.resolve(dataset.getFileName() + "-" + hash.substring(0, 16) + "." + format.getExtension());
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            deleteStale(dataset, format, target);
+            sample.stop(timer(dataset, format, "regenerated"));
+            log.info("Generated {} snapshot of {}: {} rows, {} bytes", format, dataset, rows, Files.size(target));
+            return new Snapshot(dataset, format, target, hash, Files.size(target), rows, now, now);
+        } catch (IOException e) {
+            deleteQuietly(temporary);
+            throw new UncheckedIOException("Could not write " + format + " snapshot of " + dataset, e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (RuntimeException e) {
+            deleteQuietly(temporary);
+            throw e;
+        }
+    }
+
+    // Files already opened for a download stay readable after deletion, so old snapshots can go immediately.
+    private void deleteStale(ExportDataset dataset, ExportFormat format, Path keep) throws IOException {
+        String glob = dataset.getFileName() + "-*." + format.getExtension();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(root, glob)) {
+            for (Path file : files) {
+                if (!file.equals(keep)) {
+                    deleteQuietly(file);
+                }
+            }
+        }
+    }
+
+    private boolean isFresh(Snapshot snapshot) {
+        return snapshot.checkedAt().plus(maxAge).isAfter(Instant.now()) && Files.exists(snapshot.file());
+    }
+
+    private Timer timer(ExportDataset dataset, ExportFormat format, String result) {
+        return Timer.builder("inventory.export.generation")
+                .description("Time to generate and hash a snapshot")
+                .tag("dataset", dataset.getFileName())
+                .tag("format", format.name().toLowerCase(Locale.ROOT))
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static String key(ExportDataset dataset, ExportFormat format) {
+        return dataset.name() + '/' + format.name();
+    }
+}
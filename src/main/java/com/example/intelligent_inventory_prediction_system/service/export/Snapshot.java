@@ -0,0 +1,28 @@
+package com.example.intelligent_inventory_prediction_system.service.export;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * A generated snapshot file. {@code generatedAt} only moves when the content hash changes; {@code checkedAt} records
+ * the last time the content was regenerated and compared.
+ */
+public record Snapshot(
+        ExportDataset dataset,
+        ExportFormat format,
+        Path file,
+        String hash,
+        long size,
+        long rowCount,
+        Instant generatedAt,
+        Instant checkedAt
+) {
+
+    Snapshot checked(Instant now) {
+        return new Snapshot(dataset, format, file, hash, size, rowCount, generatedAt, now);
+    }
+
+    public String fileName() {
+        return dataset.getFileName() + "." + format.getExtension();
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.intelligent_inventory_prediction_system.service.export;
+
+import com.example.intelligent_inventory_prediction_system.model.Inventory;
+import com.example.intelligent_inventory_prediction_system.service.export.ExportDataset.Column;
+import com.example.intelligent_inventory_prediction_system.service.importer.CsvWriter;
+import com.example.intelligent_inventory_prediction_system.service.shard.InventoryShardQuery;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.util.List;
+
+/**
+ * Streams a dataset into a snapshot file without materialising it: CSV goes through {@code COPY ... TO STDOUT}
+ * on PostgreSQL, everything else is read through a forward-only cursor with a large fetch size inside a read-only
+ * transaction (PostgreSQL only honours the fetch size with auto-commit off).
+ * <p>
+ * With sharding enabled the primary's inventory table is empty, so {@link ExportDataset#INVENTORIES} is paged out
+ * of the shards by id instead, one fetch size at a time.
+ */
+@Component
+public class SnapshotExporter {
+
+    // Same text form PostgreSQL's COPY uses for timestamps, so both CSV paths produce identical files.
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = new DateTimeFormatterBuilder()
+            .append(DateTimeFormatter.ISO_LOCAL_DATE)
+            .appendLiteral(' ')
+            .append(DateTimeFormatter.ISO_LOCAL_TIME)
+            .toFormatter();
+
+    private final DataSource dataSource;
+    private final ShardedInventoryStore shardedInventoryStore;
+    private final JdbcTemplate cursorTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int fetchSize;
+
+    public SnapshotExporter(DataSource dataSource,
+                            ShardedInventoryStore shardedInventoryStore,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${inventory.export.fetch-size:10000}") int fetchSize) {
+        this.dataSource = dataSource;
+        this.shardedInventoryStore = shardedInventoryStore;
+        this.fetchSize = fetchSize;
+        this.cursorTemplate = new JdbcTemplate(dataSource);
+        this.cursorTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Writes the dataset to {@code out} and returns the number of rows written.
+     */
+    public long export(ExportDataset dataset, ExportFormat format, OutputStream out) {
+        if (dataset == ExportDataset.INVENTORIES && shardedInventoryStore.isEnabled()) {
+            try {
+                return exportShardedInventories(format, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        Long rows = readOnlyTransaction.execute(status -> {
+            try {
+                return switch (format) {
+                    case CSV -> exportCsv(dataset, out);
+                    case COLUMNAR -> exportColumnar(dataset, out);
+                };
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return rows == null ? 0 : rows;
+    }
+
+    private long exportCsv(ExportDataset dataset, OutputStream out) throws IOException {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            if (connection.isWrapperFor(PGConnection.class)) {
+                String sql = "COPY (" + dataset.getQuery() + ") TO STDOUT WITH (FORMAT csv, HEADER)";
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyOut(sql, out);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("COPY of " + dataset + " failed: " + e.getMessage(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+        CsvWriter csv = new CsvWriter(writer);
+        List<Column> columns = dataset.getColumns();
+        csv.writeRecord(columns.stream().map(Column::name).toList());
+        long[] rows = {0};
+        Object[] record = new Object[columns.size()];
+        cursorTemplate.query(dataset.getQuery(), resultSet -> {
+            for (int i = 0; i < record.length; i++) {
+                record[i] = csvValue(resultSet, i + 1, columns.get(i).type());
+            }
+            try {
+                csv.writeRecord(record);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            rows[0]++;
+        });
+        writer.flush();
+        return rows[0];
+    }
+
+    private long exportColumnar(ExportDataset dataset, OutputStream out) throws IOException {
+        List<Column> columns = dataset.getColumns();
+        ColumnarWriter writer = new ColumnarWriter(out, columns);
+        cursorTemplate.query(dataset.getQuery(), resultSet -> {
+            for (int i = 0; i < columns.size(); i++) {
+                setColumnarValue(writer, resultSet, i, columns.get(i).type());
+            }
+            try {
+                writer.endRow();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.close();
+        return writer.getRowCount();
+    }
+
+    private long exportShardedInventories(ExportFormat format, OutputStream out) throws IOException {
+        List<Column> columns = ExportDataset.INVENTORIES.getColumns();
+        BufferedWriter writer = null;
+        CsvWriter csv = null;
+        ColumnarWriter columnar = null;
+        if (format == ExportFormat.CSV) {
+            writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+            csv = new CsvWriter(writer);
+            csv.writeRecord(columns.stream().map(Column::name).toList());
+        } else {
+            columnar = new ColumnarWriter(out, columns);
+        }
+
+        long rows = 0;
+        long afterId = 0;
+        List<Inventory> page;
+        do {
+            page = shardedInventoryStore.findOrderedById(InventoryShardQuery.hasIdAfter(afterId), fetchSize);
+            for (Inventory inventory : page) {
+                Object[] record = {inventory.getId(), inventory.getProduct().getId(), inventory.getCurrentStock(),
+                        inventory.getReorderThreshold(), inventory.getLastUpdated()};
+                if (csv != null) {
+                    if (inventory.getLastUpdated() != null) {
+                        record[4] = TIMESTAMP_FORMAT.format(inventory.getLastUpdated());
+                    }
+                    csv.writeRecord(record);
+                } else {
+                    for (int i = 0; i < record.length; i++) {
+                        setColumnarValue(columnar, i, record[i]);
+                    }
+                    columnar.endRow();
+                }
+                afterId = inventory.getId();
+                rows++;
+            }
+        } while (page.size() == fetchSize);
+
+        if (csv != null) {
+            writer.flush();
+        } else {
+            columnar.close();
+        }
+        return rows;
+    }
+
+    private static Object csvValue(ResultSet resultSet, int index, ColumnType type) throws SQLException {
+        if (type == ColumnType.TIMESTAMP) {
+            Timestamp timestamp = resultSet.getTimestamp(index);
+            return timestamp == null ? null : TIMESTAMP_FORMAT.format(timestamp.toLocalDateTime());
+        }
+        return resultSet.getObject(index);
+    }
+
+    private static void setColumnarValue(ColumnarWriter writer, ResultSet resultSet, int column, ColumnType type)
+            throws SQLException {
+        int index = column + 1;
+        switch (type) {
+            case INT64, INT32 -> {
+                long value = resultSet.getLong(index);
+                if (resultSet.wasNull()) {
+                    writer.setNull(column);
+                } else {
+                    writer.setLong(column, value);
+                }
+            }
+            case FLOAT64 -> {
+                double value = resultSet.getDouble(index);
+                if (resultSet.wasNull()) {
+                    writer.setNull(column);
+                } else {
+                    writer.setDouble(column, value);
+                }
+            }
+            case STRING -> writer.setString(column, resultSet.getString(index));
+            case TIMESTAMP -> {
+                Timestamp timestamp = resultSet.getTimestamp(index);
+                if (timestamp == null) {
+                    writer.setNull(column);
+                } else {
+                    writer.setLong(column, timestamp.toLocalDateTime().toInstant(ZoneOffset.UTC).toEpochMilli());
+                }
+            }
+        }
+    }
+
+    private static void setColumnarValue(ColumnarWriter writer, int column, Object value) {
+        if (value == null) {
+            writer.setNull(column);
+        } else if (value instanceof LocalDateTime timestamp) {
+            writer.setLong(column, timestamp.toInstant(ZoneOffset.UTC).toEpochMilli());
+        } else {
+            writer.setLong(column, ((Number) value).longValue());
+        }
+    }
+}
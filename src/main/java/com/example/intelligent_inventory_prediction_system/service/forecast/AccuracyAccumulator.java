@@ -0,0 +1,89 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+/**
+ * Running error sums for one model, so folds, products and categories aggregate by adding sums instead of keeping
+ * per-point errors. Percentage errors skip the points they are undefined for: MAPE zero actuals, sMAPE points where
+ * both actual and forecast are zero.
+ */
+final class AccuracyAccumulator {
+
+    private long points;
+    private double absoluteErrorSum;
+    private double absolutePercentSum;
+    private long percentPoints;
+    private double symmetricPercentSum;
+    private long symmetricPoints;
+    private double scaledErrorSum;
+    private long scaledPoints;
+    private double errorSum;
+    private double actualSum;
+
+    /**
+     * Adds one forecast point. {@code scale} is the in-sample naive error MASE divides by; 0 leaves the point out of
+     * MASE.
+     */
+    void add(double actual, double forecast, double scale) {
+        double error = forecast - actual;
+        double absoluteError = Math.abs(error);
+        points++;
+        absoluteErrorSum += absoluteError;
+        errorSum += error;
+        actualSum += actual;
+        if (actual != 0) {
+            absolutePercentSum += absoluteError / Math.abs(actual);
+            percentPoints++;
+        }
+        double magnitude = Math.abs(actual) + Math.abs(forecast);
+        if (magnitude != 0) {
+            symmetricPercentSum += 2 * absoluteError / magnitude;
+            symmetricPoints++;
+        }
+        if (scale > 0) {
+            scaledErrorSum += absoluteError / scale;
+            scaledPoints++;
+        }
+    }
+
+    void merge(AccuracyAccumulator other) {
+        points += other.points;
+        absoluteErrorSum += other.absoluteErrorSum;
+        absolutePercentSum += other.absolutePercentSum;
+        percentPoints += other.percentPoints;
+        symmetricPercentSum += other.symmetricPercentSum;
+        symmetricPoints += other.symmetricPoints;
+        scaledErrorSum += other.scaledErrorSum;
+        scaledPoints += other.scaledPoints;
+        errorSum += other.errorSum;
+        actualSum += other.actualSum;
+    }
+
+    long points() {
+        return points;
+    }
+
+    /**
+     * Mean absolute error in units, the one metric defined for every point; only comparable on the same series.
+     */
+    Double mae() {
+        return points == 0 ? null : absoluteErrorSum / points;
+    }
+
+    Double mape() {
+        return percentPoints == 0 ? null : 100 * absolutePercentSum / percentPoints;
+    }
+
+    Double smape() {
+        return symmetricPoints == 0 ? null : 100 * symmetricPercentSum / symmetricPoints;
+    }
+
+    Double mase() {
+        return scaledPoints == 0 ? null : scaledErrorSum / scaledPoints;
+    }
+
+    /**
+     * Total over-forecast as a percentage of total demand; negative when the model under-forecasts.
+     */
+    Double bias() {
+        return actualSum == 0 ? null : 100 * errorSum / actualSum;
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import com.example.intelligent_inventory_prediction_system.model.AccuracyScope;
+import com.example.intelligent_inventory_prediction_system.service.forecast.DemandSeriesReader.DailySeries;
+import com.example.intelligent_inventory_prediction_system.service.importer.BulkInsertWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Rolling-origin backtest of every {@link Forecaster} over each product's daily demand history. The last
+ * {@code folds} windows of {@code horizon} days are forecast from the history before them, skipping windows with
+ * less than {@code min-training} days before them, and the errors go straight into one {@link AccuracyAccumulator}
+ * per product and model. Category totals are pooled from the product sums.
+ * <p>
+ * Histories are streamed by the {@link DemandSeriesReader} and evaluated in chunks on the {@link ForecastExecutor}.
+ * The summaries of a run replace the previous ones in a single transaction.
+ */
+@Slf4j
+@Component
+public class BacktestEngine {
+
+    static final String UNCATEGORIZED = "uncategorized";
+
+    private static final String HISTORY_SQL = "SELECT d.product_id, p.category, d.demand_date, SUM(d.quantity) "
+            + "FROM demand_history d JOIN product p ON p.id = d.product_id "
+            + "GROUP BY d.product_id, p.category, d.demand_date ORDER BY d.product_id, d.demand_date";
+    private static final List<String> COLUMNS = List.of("scope", "scope_key", "model", "folds", "horizon", "points",
+            "mape", "smape", "mase", "bias", "evaluated_at");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BulkInsertWriter bulkInsertWriter;
+    private final DemandSeriesReader demandSeriesReader;
+    private final TransactionTemplate writeTransaction;
+    private final ForecastExecutor forecastExecutor;
+    private final List<Forecaster> forecasters;
+    private final int horizon;
+    private final int folds;
+    private final int minTraining;
+    private final int chunkSize;
+
+    public BacktestEngine(
+            JdbcTemplate jdbcTemplate,
+            BulkInsertWriter bulkInsertWriter,
+            DemandSeriesReader demandSeriesReader,
+            PlatformTransactionManager transactionManager,
+            ForecastExecutor forecastExecutor,
+            List<Forecaster> forecasters,
+            @Value("${inventory.backtest.horizon:28}") int horizon,
+            @Value("${inventory.backtest.folds:4}") int folds,
+            @Value("${inventory.backtest.min-training:56}") int minTraining,
+            @Value("${inventory.backtest.chunk-size:1000}") int chunkSize
+    ) {
+        if (horizon < 1 || folds < 1 || minTraining < 2 || chunkSize < 1) {
+            throw new IllegalArgumentException("Backtest horizon, folds and chunk size must be positive and "
+                    + "min-training at least 2");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.bulkInsertWriter = bulkInsertWriter;
+        this.demandSeriesReader = demandSeriesReader;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.forecastExecutor = forecastExecutor;
+        this.forecasters = List.copyOf(forecasters);
+        this.horizon = horizon;
+        this.folds = folds;
+        this.minTraining = minTraining;
+        this.chunkSize = chunkSize;
+    }
+
+    public List<String> modelNames() {
+        return forecasters.stream().map(Forecaster::name).toList();
+    }
+
+    /**
+     * Backtests every product with demand history and replaces the stored accuracy summaries. Runs one at a time.
+     */
+    public synchronized BacktestResult run() {
+        long start = System.nanoTime();
+        LocalDateTime evaluatedAt = LocalDateTime.now();
+        Run run = new Run(evaluatedAt);
+        demandSeriesReader.read(HISTORY_SQL, chunkSize, run::evaluateChunk);
+
+        for (Map.Entry<String, AccuracyAccumulator[]> category : run.categories.entrySet()) {
+            addRows(run.rows, AccuracyScope.CATEGORY, category.getKey(), category.getValue(), evaluatedAt);
+        }
+        writeTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM forecast_accuracy");
+            bulkInsertWriter.insert("forecast_accuracy", COLUMNS, run.rows);
+        });
+
+        BacktestResult result = new BacktestResult(run.evaluated, run.skipped, run.failed, run.categories.size(),
+                modelNames(), horizon, folds, (System.nanoTime() - start) / 1_000_000);
+        log.info("Backtested {} products ({} too short, {} failed) in {} categories with {} in {} ms",
+                result.products(), result.skipped(), result.failed(), result.categories(), result.models(),
+                result.millis());
+        return result;
+    }
+
+    /**
+     * The accuracy of every model on one daily history, or null when no window has enough history before it.
+     */
+    AccuracyAccumulator[] evaluate(double[] series) {
+        return evaluate(series, forecasters);
+    }
+
+    /**
+     * The accuracy of {@code models} on one daily history, in their order, or null when no window has enough
+     * history before it.
+     */
+    AccuracyAccumulator[] evaluate(double[] series, List<Forecaster> models) {
+        AccuracyAccumulator[] accuracy = newAccumulators(models.size());
+        boolean evaluated = false;
+        for (int fold = folds; fold >= 1; fold--) {
+            int origin = series.length - fold * horizon;
+            if (origin < minTraining) {
+                continue;
+            }
+            evaluated = true;
+            double[] history = Arrays.copyOf(series, origin);
+            double scale = naiveError(history);
+            for (int m = 0; m < accuracy.length; m++) {
+                double[] forecast = models.get(m).forecast(history, horizon);
+                for (int h = 0; h < horizon; h++) {
+                    accuracy[m].add(series[origin + h], forecast[h], scale);
+                }
+            }
+        }
+        return evaluated ? accuracy : null;
+    }
+
+    private static AccuracyAccumulator[] newAccumulators(int models) {
+        AccuracyAccumulator[] accumulators = new AccuracyAccumulator[models];
+        for (int m = 0; m < accumulators.length; m++) {
+            accumulators[m] = new AccuracyAccumulator();
+        }
+        return accumulators;
+    }
+
+    // Mean absolute error of the seasonal naive forecast within the history: the MASE denominator.
+    private static double naiveError(double[] history) {
+        int lag = history.length > 2 * SeasonalNaiveForecaster.WEEK ? SeasonalNaiveForecaster.WEEK : 1;
+        double sum = 0;
+        for (int t = lag; t < history.length; t++) {
+            sum += Math.abs(history[t] - history[t - lag]);
+        }
+        return sum / (history.length - lag);
+    }
+
+    private void addRows(List<Object[]> rows, AccuracyScope scope, String key, AccuracyAccumulator[] accuracy,
+                         LocalDateTime evaluatedAt) {
+        Timestamp timestamp = Timestamp.valueOf(evaluatedAt);
+        for (int m = 0; m < accuracy.length; m++) {
+            AccuracyAccumulator model = accuracy[m];
+            rows.add(new Object[]{scope.name(), key, forecasters.get(m).name(), folds, horizon, model.points(),
+                    model.mape(), model.smape(), model.mase(), model.bias(), timestamp});
+        }
+    }
+
+    private record Evaluation(DailySeries product, AccuracyAccumulator[] accuracy, boolean failed) {
+    }
+
+    /**
+     * Totals of one run.
+     */
+    private final class Run {
+
+        private final LocalDateTime evaluatedAt;
+        private final Map<String, AccuracyAccumulator[]> categories = new TreeMap<>();
+        private final List<Object[]> rows = new ArrayList<>();
+        private int evaluated;
+        private int skipped;
+        private int failed;
+
+        private Run(LocalDateTime evaluatedAt) {
+            this.evaluatedAt = evaluatedAt;
+        }
+
+        private void evaluateChunk(List<DailySeries> chunk) {
+            List<Evaluation> evaluations = forecastExecutor.map(chunk, product -> {
+                try {
+                    return new Evaluation(product, evaluate(product.values()), false);
+                } catch (RuntimeException e) {
+                    log.warn("Backtest of product {} failed: {}", product.id(), e.getMessage());
+                    return new Evaluation(product, null, true);
+                }
+            });
+            for (Evaluation evaluation : evaluations) {
+                if (evaluation.failed()) {
+                    failed++;
+                } else if (evaluation.accuracy() == null) {
+                    skipped++;
+                } else {
+                    evaluated++;
+                    DailySeries product = evaluation.product();
+                    addRows(rows, AccuracyScope.PRODUCT, String.valueOf(product.id()), evaluation.accuracy(),
+                            evaluatedAt);
+                    String category = product.label() == null ? UNCATEGORIZED : product.label();
+                    AccuracyAccumulator[] total = categories.computeIfAbsent(category,
+                            key -> newAccumulators(forecasters.size()));
+                    for (int m = 0; m < total.length; m++) {
+                        total[m].merge(evaluation.accuracy()[m]);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import java.util.List;
+
+/**
+ * Outcome of a backtest run: products evaluated, products with too little history, products whose models failed.
+ */
+public record BacktestResult(
+        int products,
+        int skipped,
+        int failed,
+        int categories,
+        List<String> models,
+        int horizon,
+        int folds,
+        long millis
+) {
+}
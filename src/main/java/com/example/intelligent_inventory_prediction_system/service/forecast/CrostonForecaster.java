@@ -0,0 +1,51 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import com.example.intelligent_inventory_prediction_system.model.DemandPattern;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * Croston's method with the Syntetos-Boylan bias correction for intermittent demand: demand sizes and the intervals
+ * between them are smoothed separately, and the forecast is a flat rate of size over interval.
+ */
+@Component
+public class CrostonForecaster implements Forecaster {
+
+    static final double ALPHA = 0.1;
+
+    @Override
+    public String name() {
+        return "croston";
+    }
+
+    @Override
+    public boolean suits(DemandPattern pattern) {
+        return pattern == DemandPattern.INTERMITTENT || pattern == DemandPattern.LUMPY;
+    }
+
+    @Override
+    public double[] forecast(double[] history, int horizon) {
+        double size = 0;
+        double interval = 0;
+        int sinceDemand = 0;
+        for (double demand : history) {
+            sinceDemand++;
+            if (demand <= 0) {
+                continue;
+            }
+            if (interval == 0) {
+                size = demand;
+                interval = sinceDemand;
+            } else {
+                size += ALPHA * (demand - size);
+                interval += ALPHA * (sinceDemand - interval);
+            }
+            sinceDemand = 0;
+        }
+        double rate = interval == 0 ? 0 : (1 - ALPHA / 2) * size / interval;
+        double[] forecast = new double[horizon];
+        Arrays.fill(forecast, rate);
+        return forecast;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import com.example.intelligent_inventory_prediction_system.model.DemandPattern;
+
+/**
+ * ADI/CV² classification of daily demand. ADI is the number of days per day with demand; CV² is the variance of the
+ * non-zero demand sizes over their squared mean. The cut-offs are the usual 1.32 and 0.49: below both the demand is
+ * smooth, above both it is lumpy.
+ */
+public final class DemandClassifier {
+
+    static final double ADI_CUTOFF = 1.32;
+    static final double CV2_CUTOFF = 0.49;
+
+    private DemandClassifier() {
+    }
+
+    /**
+     * The profile of the last {@code window} days of {@code series}, or null when none of them had demand.
+     */
+    public static DemandProfile classify(double[] series, int window) {
+        int from = Math.max(0, series.length - window);
+        int demandDays = 0;
+        double sum = 0;
+        double sumOfSquares = 0;
+        for (int t = from; t < series.length; t++) {
+            if (series[t] > 0) {
+                demandDays++;
+                sum += series[t];
+                sumOfSquares += series[t] * series[t];
+            }
+        }
+        if (demandDays == 0) {
+            return null;
+        }
+        double adi = (double) (series.length - from) / demandDays;
+        double mean = sum / demandDays;
+        double variance = Math.max(0, sumOfSquares / demandDays - mean * mean);
+        double cv2 = variance / (mean * mean);
+        return new DemandProfile(pattern(adi, cv2), adi, cv2);
+    }
+
+    static DemandPattern pattern(double adi, double cv2) {
+        if (adi < ADI_CUTOFF) {
+            return cv2 < CV2_CUTOFF ? DemandPattern.SMOOTH : DemandPattern.ERRATIC;
+        }
+        return cv2 < CV2_CUTOFF ? DemandPattern.INTERMITTENT : DemandPattern.LUMPY;
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import com.example.intelligent_inventory_prediction_system.model.DemandPattern;
+
+public record DemandProfile(DemandPattern pattern, double adi, double cv2) {
+}
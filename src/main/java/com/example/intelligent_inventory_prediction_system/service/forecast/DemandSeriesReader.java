@@ -0,0 +1,145 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static com.example.intelligent_inventory_prediction_system.constants.InventoryConstant.FORECAST_DISABLED_MESSAGE;
+import static com.example.intelligent_inventory_prediction_system.constants.InventoryConstant.FORECAST_SHARDED_MESSAGE;
+
+/**
+ * Streams daily demand series out of a query returning {@code (id, label, date, quantity)} rows ordered by id and
+ * date, one row per id and day. Days without a row count as zero demand. Series are handed over in chunks, inside the
+ * read-only transaction that keeps the cursor open, so memory is bounded by the chunk rather than the catalogue.
+ */
+@Component
+public class DemandSeriesReader {
+
+    private static final int FETCH_SIZE = 10_000;
+    private static final String INVENTORY_HISTORY_SQL = "SELECT i.id, CAST(NULL AS VARCHAR(255)), d.demand_date, "
+            + "SUM(d.quantity) FROM inventory i JOIN demand_history d ON d.product_id = i.product_id %s "
+            + "GROUP BY i.id, d.demand_date ORDER BY i.id, d.demand_date";
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate readTransaction;
+    private final boolean inventoriesAvailable;
+
+    public DemandSeriesReader(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                              ShardedInventoryStore shardedInventoryStore,
+                              @Value("${inventory.forecast.enabled:true}") boolean forecastEnabled) {
+        // Inventory series join the primary's inventory table, and predictions and model selections reference it.
+        if (forecastEnabled && shardedInventoryStore.isEnabled()) {
+            throw new IllegalStateException(FORECAST_SHARDED_MESSAGE);
+        }
+        this.streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.streamingJdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.inventoriesAvailable = forecastEnabled;
+    }
+
+    public void read(String sql, int chunkSize, Consumer<List<DailySeries>> chunks, Object... args) {
+        Reader reader = new Reader(chunkSize, chunks);
+        readTransaction.executeWithoutResult(status -> streamingJdbcTemplate.query(sql, reader::accept, args));
+        reader.flush();
+    }
+
+    /**
+     * Reads the demand of the inventories matching {@code where}, a condition on {@code i}, the inventory table, or
+     * empty for all of them. The series are keyed by inventory id and have no label.
+     */
+    public void readInventories(String where, int chunkSize, Consumer<List<DailySeries>> chunks, Object... args) {
+        checkInventoriesAvailable();
+        read(INVENTORY_HISTORY_SQL.formatted(where), chunkSize, chunks, args);
+    }
+
+    /**
+     * Whether per-inventory forecasting is enabled; it has to be turned off to shard inventories.
+     */
+    public boolean isInventoriesAvailable() {
+        return inventoriesAvailable;
+    }
+
+    public void checkInventoriesAvailable() {
+        if (!inventoriesAvailable) {
+            throw new IllegalArgumentException(FORECAST_DISABLED_MESSAGE);
+        }
+    }
+
+    /**
+     * Daily demand of one id from its first day with a row to its last, {@code lastDate}.
+     */
+    public record DailySeries(long id, String label, double[] values, LocalDate lastDate) {
+    }
+
+    private static final class Reader {
+
+        private final int chunkSize;
+        private final Consumer<List<DailySeries>> chunks;
+        private List<DailySeries> chunk;
+        private long id = -1;
+        private String label;
+        private LocalDate lastDate;
+        private double[] series = new double[1024];
+        private int length;
+
+        private Reader(int chunkSize, Consumer<List<DailySeries>> chunks) {
+            this.chunkSize = chunkSize;
+            this.chunks = chunks;
+            this.chunk = new ArrayList<>(chunkSize);
+        }
+
+        private void accept(ResultSet resultSet) throws SQLException {
+            long rowId = resultSet.getLong(1);
+            LocalDate date = resultSet.getDate(3).toLocalDate();
+            if (rowId != id) {
+                endSeries();
+                id = rowId;
+                label = resultSet.getString(2);
+                lastDate = date.minusDays(1);
+            }
+            int gap = (int) ChronoUnit.DAYS.between(lastDate, date);
+            if (length + gap > series.length) {
+                series = Arrays.copyOf(series, Math.max(series.length * 2, length + gap));
+            }
+            Arrays.fill(series, length, length + gap - 1, 0);
+            length += gap;
+            series[length - 1] = resultSet.getLong(4);
+            lastDate = date;
+        }
+
+        private void flush() {
+            endSeries();
+            handOver();
+        }
+
+        private void endSeries() {
+            if (length > 0) {
+                chunk.add(new DailySeries(id, label, Arrays.copyOf(series, length), lastDate));
+                length = 0;
+            }
+            if (chunk.size() >= chunkSize) {
+                handOver();
+            }
+        }
+
+        private void handOver() {
+            if (!chunk.isEmpty()) {
+                chunks.accept(chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import com.example.intelligent_inventory_prediction_system.repository.InventoryRepository;
+import com.example.intelligent_inventory_prediction_system.service.batch.BatchJob;
+import com.example.intelligent_inventory_prediction_system.service.batch.BatchJobRunner;
+import com.example.intelligent_inventory_prediction_system.service.batch.BatchProgress;
+import com.example.intelligent_inventory_prediction_system.service.batch.BatchThrottle;
+import com.example.intelligent_inventory_prediction_system.service.forecast.DemandSeriesReader.DailySeries;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Forecasts every inventory with its selected model and replaces its stored prediction, as a {@link BatchJob} keyed
+ * by inventory id: {@code chunk-size} inventories at a time are read by keyset, fitted on the forecast pool and written
+ * in one JDBC batch with the checkpoint.
+ * <p>
+ * When {@code enabled}, the schedule is checked every {@code poll-seconds}: the job runs when its last run is more
+ * than {@code interval-hours} old, and resumes at once when its last run did not complete, after a restart too.
+ */
+@Slf4j
+@Component
+public class ForecastBatchJob implements BatchJob<DailySeries, Prediction> {
+
+    public static final String NAME = "forecast";
+
+    private static final String MODELS_SQL = "SELECT inventory_id, model FROM model_selection "
+            + "WHERE inventory_id > ? AND inventory_id <= ?";
+
+    private final InventoryRepository inventoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final DemandSeriesReader demandSeriesReader;
+    private final ForecastExecutor forecastExecutor;
+    private final Predictor predictor;
+    private final PredictionWriter predictionWriter;
+    private final BatchJobRunner batchJobRunner;
+    private final BatchThrottle throttle;
+    private final boolean enabled;
+    private final Duration interval;
+    private final long pollSeconds;
+    private final int chunkSize;
+    private final ScheduledExecutorService scheduler;
+
+    public ForecastBatchJob(
+            InventoryRepository inventoryRepository,
+            JdbcTemplate jdbcTemplate,
+            DemandSeriesReader demandSeriesReader,
+            ForecastExecutor forecastExecutor,
+            Predictor predictor,
+            PredictionWriter predictionWriter,
+            BatchJobRunner batchJobRunner,
+            @Value("${inventory.forecast.batch.enabled:true}") boolean enabled,
+            @Value("${inventory.forecast.batch.interval-hours:24}") long intervalHours,
+            @Value("${inventory.forecast.batch.poll-seconds:60}") long pollSeconds,
+            @Value("${inventory.forecast.batch.chunk-size:1000}") int chunkSize,
+            @Value("${inventory.forecast.batch.duty-cycle:0.5}") double dutyCycle,
+            @Value("${inventory.forecast.batch.max-inventories-per-second:0}") double maxInventoriesPerSecond
+    ) {
+        if (intervalHours < 1 || pollSeconds < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("Batch interval, poll period and chunk size must be positive");
+        }
+        this.inventoryRepository = inventoryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.demandSeriesReader = demandSeriesReader;
+        this.forecastExecutor = forecastExecutor;
+        this.predictor = predictor;
+        this.predictionWriter = predictionWriter;
+        this.batchJobRunner = batchJobRunner;
+        this.throttle = new BatchThrottle(dutyCycle, maxInventoriesPerSecond);
+        this.enabled = enabled;
+        this.interval = Duration.ofHours(intervalHours);
+        this.pollSeconds = pollSeconds;
+        this.chunkSize = chunkSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "forecast-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void schedule() {
+        if (enabled && !demandSeriesReader.isInventoriesAvailable()) {
+            log.info("Forecast batch not scheduled: forecasting is disabled");
+        } else if (enabled) {
+            scheduler.scheduleWithFixedDelay(this::runIfDue, pollSeconds, pollSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    // The run in progress stops at its next chunk and resumes from its checkpoint after the restart.
+    @PreDestroy
+    public void shutdown() {
+        batchJobRunner.stop(NAME);
+        scheduler.shutdown();
+    }
+
+    /**
+     * Starts or resumes a run in the background unless one is in progress.
+     */
+    public void start() {
+        demandSeriesReader.checkInventoriesAvailable();
+        if (!batchJobRunner.isRunning(NAME)) {
+            scheduler.execute(this::run);
+        }
+    }
+
+    public void stop() {
+        batchJobRunner.stop(NAME);
+    }
+
+    public BatchProgress run() {
+        demandSeriesReader.checkInventoriesAvailable();
+        return batchJobRunner.run(this, chunkSize, throttle);
+    }
+
+    public BatchProgress progress() {
+        return batchJobRunner.progress(NAME);
+    }
+
+    // An exception escaping a scheduled task would cancel the schedule.
+    private void runIfDue() {
+        try {
+            if (batchJobRunner.isDue(NAME, interval)) {
+                run();
+            }
+        } catch (RuntimeException e) {
+            log.error("Forecast batch schedule check failed", e);
+        }
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Chunk<DailySeries> read(long afterKey, int limit) {
+        List<Long> ids = inventoryRepository.findIdsAfter(afterKey, Limit.of(limit));
+        if (ids.isEmpty()) {
+            return null;
+        }
+        long lastId = ids.get(ids.size() - 1);
+        List<DailySeries> series = new ArrayList<>(ids.size());
+        demandSeriesReader.readInventories("WHERE i.id > ? AND i.id <= ?", limit, series::addAll, afterKey, lastId);
+        return new Chunk<>(series, ids.size(), lastId);
+    }
+
+    @Override
+    public Output<Prediction> process(List<DailySeries> items) {
+        if (items.isEmpty()) {
+            return new Output<>(List.of(), 0);
+        }
+        Map<Long, String> models = new HashMap<>(items.size() * 2);
+        jdbcTemplate.query(MODELS_SQL, resultSet -> {
+            models.put(resultSet.getLong(1), resultSet.getString(2));
+        }, items.get(0).id() - 1, items.get(items.size() - 1).id());
+
+        List<Prediction> predictions = forecastExecutor.map(items, series -> {
+            try {
+                Forecaster forecaster = predictor.resolve(models.get(series.id()));
+                return new Prediction(series.id(), series.lastDate().plusDays(1), forecaster.name(),
+                        predictor.predict(series.values(), forecaster));
+            } catch (RuntimeException e) {
+                log.warn("Forecast for inventory {} failed: {}", series.id(), e.getMessage());
+                return null;
+            }
+        });
+        List<Prediction> written = predictions.stream().filter(Objects::nonNull).toList();
+        return new Output<>(written, predictions.size() - written.size());
+    }
+
+    @Override
+    public void write(List<Prediction> results) {
+        predictionWriter.replace(results);
+    }
+
+    @Override
+    public long countAfter(long afterKey) {
+        return inventoryRepository.countByIdGreaterThan(afterKey);
+    }
+}
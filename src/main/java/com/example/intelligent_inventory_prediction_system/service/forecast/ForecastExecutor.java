@@ -0,0 +1,45 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Function;
+
+/**
+ * The fork-join pool forecasting work runs on, {@code inventory.forecast.parallelism} workers and all cores by
+ * default, kept apart from the common pool so a long batch does not starve parallel streams elsewhere.
+ */
+@Component
+public class ForecastExecutor {
+
+    private final ForkJoinPool pool;
+
+    public ForecastExecutor(@Value("${inventory.forecast.parallelism:0}") int parallelism) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(threads, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("forecast-worker-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Applies {@code task} to every item in parallel; the results are in the order of the items.
+     */
+    public <T, R> List<R> map(List<T> items, Function<? super T, ? extends R> task) {
+        return pool.submit(() -> items.parallelStream().<R>map(task).toList()).join();
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import com.example.intelligent_inventory_prediction_system.model.DemandPattern;
+
+/**
+ * A forecasting model the backtest can evaluate. Implementations are stateless and called from many threads.
+ */
+public interface Forecaster {
+
+    /**
+     * Stable name the model's accuracy is stored under.
+     */
+    String name();
+
+    /**
+     * Whether the model is a candidate for demand of this pattern when models are selected per inventory.
+     */
+    default boolean suits(DemandPattern pattern) {
+        return true;
+    }
+
+    /**
+     * Daily demand for the {@code horizon} days after {@code history}.
+     */
+    double[] forecast(double[] history, int horizon);
+}
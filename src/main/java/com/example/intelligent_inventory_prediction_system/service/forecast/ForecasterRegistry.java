@@ -0,0 +1,42 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import com.example.intelligent_inventory_prediction_system.model.DemandPattern;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The forecasting models by name, and the ones suited to each demand pattern.
+ */
+@Component
+public class ForecasterRegistry {
+
+    private final Map<String, Forecaster> forecasters = new LinkedHashMap<>();
+
+    public ForecasterRegistry(List<Forecaster> forecasters) {
+        for (Forecaster forecaster : forecasters) {
+            if (this.forecasters.putIfAbsent(forecaster.name(), forecaster) != null) {
+                throw new IllegalStateException("Duplicate forecasting model name: " + forecaster.name());
+            }
+        }
+    }
+
+    public Forecaster find(String name) {
+        return forecasters.get(name);
+    }
+
+    public List<String> names() {
+        return List.copyOf(forecasters.keySet());
+    }
+
+    /**
+     * The models suited to {@code pattern}, or every model when none is.
+     */
+    public List<Forecaster> candidates(DemandPattern pattern) {
+        List<Forecaster> candidates = forecasters.values().stream().filter(forecaster -> forecaster.suits(pattern))
+                .toList();
+        return candidates.isEmpty() ? List.copyOf(forecasters.values()) : candidates;
+    }
+}
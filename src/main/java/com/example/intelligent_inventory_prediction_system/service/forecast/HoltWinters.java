@@ -0,0 +1,141 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+/**
+ * Holt-Winters exponential smoothing with a linear trend and an optional additive or multiplicative season, over
+ * primitive arrays so a parameter search can run it thousands of times without allocating.
+ * <p>
+ * The initial level and trend come from the means of the first two seasons and the initial seasonal indices from the
+ * first season's deviation from that line; without a season, from the first two points.
+ */
+public final class HoltWinters {
+
+    public enum Seasonality {
+        NONE,
+        ADDITIVE,
+        MULTIPLICATIVE
+    }
+
+    private HoltWinters() {
+    }
+
+    /**
+     * Whether {@code series} has enough points, and for a multiplicative season only positive ones, for the model.
+     */
+    public static boolean supports(double[] series, Seasonality seasonality, int period) {
+        if (seasonality == Seasonality.NONE) {
+            return series.length >= 2;
+        }
+        if (period < 2 || series.length < 2 * period) {
+            return false;
+        }
+        if (seasonality == Seasonality.MULTIPLICATIVE) {
+            for (double value : series) {
+                if (value <= 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sum of squared one-step-ahead errors, or positive infinity when the parameters drive a multiplicative model
+     * to a non-positive level. {@code seasonal} is scratch space of at least {@code period} values.
+     */
+    public static double sse(double[] series, Seasonality seasonality, int period,
+                             double alpha, double beta, double gamma, double[] seasonal) {
+        return smooth(series, seasonality, period, alpha, beta, gamma, seasonal, null);
+    }
+
+    public static HoltWintersModel model(double[] series, Seasonality seasonality, int period,
+                                         double alpha, double beta, double gamma) {
+        int m = seasonality == Seasonality.NONE ? 1 : period;
+        double[] seasonal = new double[m];
+        double[] state = new double[2];
+        double sse = smooth(series, seasonality, period, alpha, beta, gamma, seasonal, state);
+        // Rotate so that index 0 is the season of the first step after the series.
+        double[] ahead = new double[m];
+        for (int k = 0; k < m; k++) {
+            ahead[k] = seasonality == Seasonality.NONE ? 0 : seasonal[(series.length + k) % m];
+        }
+        return new HoltWintersModel(seasonality, seasonality == Seasonality.NONE ? 0 : period, alpha, beta, gamma,
+                state[0], state[1], ahead, sse, series.length);
+    }
+
+    private static double smooth(double[] y, Seasonality seasonality, int period, double alpha, double beta,
+                                 double gamma, double[] seasonal, double[] state) {
+        int n = y.length;
+        double level;
+        double trend;
+        int m = 1;
+        if (seasonality == Seasonality.NONE) {
+            trend = y[1] - y[0];
+            level = y[0] - trend;
+        } else {
+            m = period;
+            double first = 0;
+            double second = 0;
+            for (int i = 0; i < m; i++) {
+                first += y[i];
+                second += y[m + i];
+            }
+            first /= m;
+            second /= m;
+            trend = (second - first) / m;
+            double center = (m - 1) / 2.0;
+            level = first - trend * (center + 1);
+            for (int i = 0; i < m; i++) {
+                double line = first + trend * (i - center);
+                if (seasonality == Seasonality.ADDITIVE) {
+                    seasonal[i] = y[i] - line;
+                } else if (line > 0) {
+                    seasonal[i] = y[i] / line;
+                } else {
+                    return Double.POSITIVE_INFINITY;
+                }
+            }
+        }
+
+        double sse = 0;
+        for (int t = 0, season = 0; t < n; t++) {
+            double base = level + trend;
+            double value = y[t];
+            double next;
+            switch (seasonality) {
+                case ADDITIVE -> {
+                    double error = value - (base + seasonal[season]);
+                    sse += error * error;
+                    next = alpha * (value - seasonal[season]) + (1 - alpha) * base;
+                    seasonal[season] = gamma * (value - next) + (1 - gamma) * seasonal[season];
+                }
+                case MULTIPLICATIVE -> {
+                    double error = value - base * seasonal[season];
+                    sse += error * error;
+                    next = alpha * (value / seasonal[season]) + (1 - alpha) * base;
+                    if (next <= 0) {
+                        return Double.POSITIVE_INFINITY;
+                    }
+                    seasonal[season] = gamma * (value / next) + (1 - gamma) * seasonal[season];
+                    if (seasonal[season] <= 0) {
+                        return Double.POSITIVE_INFINITY;
+                    }
+                }
+                default -> {
+                    double error = value - base;
+                    sse += error * error;
+                    next = alpha * value + (1 - alpha) * base;
+                }
+            }
+            trend = beta * (next - level) + (1 - beta) * trend;
+            level = next;
+            if (++season == m) {
+                season = 0;
+            }
+        }
+        if (state != null) {
+            state[0] = level;
+            state[1] = trend;
+        }
+        return Double.isNaN(sse) ? Double.POSITIVE_INFINITY : sse;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import com.example.intelligent_inventory_prediction_system.service.forecast.HoltWinters.Seasonality;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Fits Holt-Winters models by least squares on one-step-ahead errors. The seasonal period is detected from the
+ * autocorrelation; with a season both the additive and, for strictly positive series, the multiplicative model are
+ * fitted and the one with the smaller error is kept. Parameters are searched on a coarse grid and refined with
+ * Nelder-Mead from the best grid point.
+ * <p>
+ * A single fit takes around a millisecond, too little to split, so {@link #fitAll} parallelizes across series on the
+ * {@link ForecastExecutor}.
+ */
+@Component
+public class HoltWintersFitter {
+
+    private static final double[] GRID = {0.1, 0.4, 0.7};
+    private static final double[] NO_SEASON = {0};
+    private static final double SIMPLEX_STEP = 0.1;
+    private static final double TOLERANCE = 1e-6;
+
+    private final int maxPeriod;
+    private final double minSeasonalCorrelation;
+    private final int maxEvaluations;
+    private final ForecastExecutor forecastExecutor;
+
+    public HoltWintersFitter(
+            ForecastExecutor forecastExecutor,
+            @Value("${inventory.forecast.max-period:365}") int maxPeriod,
+            @Value("${inventory.forecast.min-seasonal-correlation:0.3}") double minSeasonalCorrelation,
+            @Value("${inventory.forecast.max-evaluations:150}") int maxEvaluations
+    ) {
+        this.maxPeriod = maxPeriod;
+        this.minSeasonalCorrelation = minSeasonalCorrelation;
+        this.maxEvaluations = maxEvaluations;
+        this.forecastExecutor = forecastExecutor;
+    }
+
+    /**
+     * Fits every series in parallel; the models are in the order of the series.
+     */
+    public List<HoltWintersModel> fitAll(List<double[]> series) {
+        return forecastExecutor.map(series, this::fit);
+    }
+
+    public HoltWintersModel fit(double[] series) {
+        if (series.length < 2) {
+            throw new IllegalArgumentException("At least two observations are needed to fit a forecast");
+        }
+        int period = SeasonalityDetector.detectPeriod(series, maxPeriod, minSeasonalCorrelation);
+        if (period < 2) {
+            return fit(series, Seasonality.NONE, 0);
+        }
+        HoltWintersModel additive = fit(series, Seasonality.ADDITIVE, period);
+        if (!HoltWinters.supports(series, Seasonality.MULTIPLICATIVE, period)) {
+            return additive;
+        }
+        HoltWintersModel multiplicative = fit(series, Seasonality.MULTIPLICATIVE, period);
+        return multiplicative.sse() < additive.sse() ? multiplicative : additive;
+    }
+
+    public HoltWintersModel fit(double[] series, Seasonality seasonality, int period) {
+        if (!HoltWinters.supports(series, seasonality, period)) {
+            throw new IllegalArgumentException(seasonality + " model with period " + period
+                    + " does not fit a series of " + series.length + " points");
+        }
+        boolean seasonal = seasonality != Seasonality.NONE;
+        double[] scratch = new double[seasonal ? period : 1];
+        double[] best = new double[seasonal ? 3 : 2];
+        double bestSse = Double.POSITIVE_INFINITY;
+        double[] gammas = seasonal ? GRID : NO_SEASON;
+        for (double alpha : GRID) {
+            for (double beta : GRID) {
+                for (double gamma : gammas) {
+                    double sse = HoltWinters.sse(series, seasonality, period, alpha, beta, gamma, scratch);
+                    if (sse < bestSse) {
+                        bestSse = sse;
+                        best[0] = alpha;
+                        best[1] = beta;
+                        if (seasonal) {
+                            best[2] = gamma;
+                        }
+                    }
+                }
+            }
+        }
+        NelderMead.minimize(params -> HoltWinters.sse(series, seasonality, period,
+                        params[0], params[1], seasonal ? params[2] : 0, scratch),
+                best, SIMPLEX_STEP, maxEvaluations, TOLERANCE);
+        return HoltWinters.model(series, seasonality, period, best[0], best[1], seasonal ? best[2] : 0);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import com.example.intelligent_inventory_prediction_system.model.DemandPattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class HoltWintersForecaster implements Forecaster {
+
+    private final HoltWintersFitter holtWintersFitter;
+
+    @Override
+    public String name() {
+        return "holt-winters";
+    }
+
+    // Level, trend and season are smoothed from every day, which days without demand drag towards zero.
+    @Override
+    public boolean suits(DemandPattern pattern) {
+        return pattern == DemandPattern.SMOOTH || pattern == DemandPattern.ERRATIC;
+    }
+
+    @Override
+    public double[] forecast(double[] history, int horizon) {
+        double[] forecast = holtWintersFitter.fit(history).forecast(1, horizon);
+        for (int i = 0; i < horizon; i++) {
+            forecast[i] = Math.max(0, forecast[i]);
+        }
+        return forecast;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import com.example.intelligent_inventory_prediction_system.service.forecast.HoltWinters.Seasonality;
+
+/**
+ * Fitted Holt-Winters parameters and the smoothing state at the end of the series. {@code seasonal[k]} is the index
+ * of the season {@code k + 1} steps ahead; {@code period} is 0 without a season.
+ */
+public record HoltWintersModel(
+        Seasonality seasonality,
+        int period,
+        double alpha,
+        double beta,
+        double gamma,
+        double level,
+        double trend,
+        double[] seasonal,
+        double sse,
+        int observations
+) {
+
+    /**
+     * The forecast {@code step} periods after the last observation, starting at 1.
+     */
+    public double forecast(int step) {
+        if (step < 1) {
+            throw new IllegalArgumentException("Forecast step must be at least 1");
+        }
+        double base = level + step * trend;
+        return switch (seasonality) {
+            case ADDITIVE -> base + seasonal[(step - 1) % period];
+            case MULTIPLICATIVE -> base * seasonal[(step - 1) % period];
+            case NONE -> base;
+        };
+    }
+
+    public double[] forecast(int fromStep, int horizon) {
+        double[] values = new double[horizon];
+        for (int i = 0; i < horizon; i++) {
+            values[i] = forecast(fromStep + i);
+        }
+        return values;
+    }
+
+    public double rmse() {
+        return Math.sqrt(sse / observations);
+    }
+}
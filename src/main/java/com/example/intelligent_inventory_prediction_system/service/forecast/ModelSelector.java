@@ -0,0 +1,236 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import com.example.intelligent_inventory_prediction_system.model.DemandPattern;
+import com.example.intelligent_inventory_prediction_system.service.forecast.DemandSeriesReader.DailySeries;
+import com.example.intelligent_inventory_prediction_system.service.importer.BulkInsertWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Picks a forecasting model per inventory. Each inventory's demand over the last {@code window-days} is classified by
+ * ADI/CV², and the models suited to that pattern are backtested on its history; the one with the lowest mean
+ * absolute error wins. The current model, the champion, is only replaced when a challenger beats its error by
+ * {@code challenger-margin}, so selections do not flap between near-equal models.
+ * <p>
+ * Runs are incremental: an inventory whose pattern is unchanged keeps its model without a backtest until the choice
+ * is {@code max-age-days} old, so a nightly run only spends CPU on the inventories whose demand changed character.
+ * Choices are written chunk by chunk, each chunk in a transaction of its own.
+ */
+@Slf4j
+@Component
+public class ModelSelector {
+
+    private static final String CURRENT_SQL = "SELECT inventory_id, demand_pattern, model, selected_at "
+            + "FROM model_selection WHERE inventory_id IN (:ids)";
+    private static final List<String> COLUMNS = List.of("inventory_id", "demand_pattern", "adi", "cv2", "model",
+            "mae", "selected_at");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final BulkInsertWriter bulkInsertWriter;
+    private final DemandSeriesReader demandSeriesReader;
+    private final TransactionTemplate writeTransaction;
+    private final ForecastExecutor forecastExecutor;
+    private final ForecasterRegistry forecasterRegistry;
+    private final BacktestEngine backtestEngine;
+    private final int windowDays;
+    private final double challengerMargin;
+    private final int maxAgeDays;
+    private final int chunkSize;
+
+    public ModelSelector(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            BulkInsertWriter bulkInsertWriter,
+            DemandSeriesReader demandSeriesReader,
+            PlatformTransactionManager transactionManager,
+            ForecastExecutor forecastExecutor,
+            ForecasterRegistry forecasterRegistry,
+            BacktestEngine backtestEngine,
+            @Value("${inventory.forecast.selection.window-days:364}") int windowDays,
+            @Value("${inventory.forecast.selection.challenger-margin:0.05}") double challengerMargin,
+            @Value("${inventory.forecast.selection.max-age-days:28}") int maxAgeDays,
+            @Value("${inventory.forecast.selection.chunk-size:1000}") int chunkSize
+    ) {
+        if (windowDays < 1 || challengerMargin < 0 || challengerMargin >= 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("Selection window and chunk size must be positive and the challenger "
+                    + "margin in [0, 1)");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.bulkInsertWriter = bulkInsertWriter;
+        this.demandSeriesReader = demandSeriesReader;
+        // Chunks are written while the history cursor is still open in the read transaction.
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.forecastExecutor = forecastExecutor;
+        this.forecasterRegistry = forecasterRegistry;
+        this.backtestEngine = backtestEngine;
+        this.windowDays = windowDays;
+        this.challengerMargin = challengerMargin;
+        this.maxAgeDays = maxAgeDays;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Reselects the model of every inventory whose demand pattern changed, that has none yet or whose choice is
+     * stale. Runs one at a time.
+     */
+    public synchronized SelectionResult run() {
+        long start = System.nanoTime();
+        LocalDateTime selectedAt = LocalDateTime.now();
+        Run run = new Run(selectedAt, maxAgeDays > 0 ? selectedAt.minusDays(maxAgeDays) : null);
+        demandSeriesReader.readInventories("", chunkSize, run::selectChunk);
+
+        SelectionResult result = new SelectionResult(run.inventories, run.unchanged, run.selected, run.switched,
+                run.skipped, run.failed, (System.nanoTime() - start) / 1_000_000);
+        log.info("Model selection over {} inventories: {} unchanged, {} selected ({} switched model), {} without "
+                        + "demand, {} failed in {} ms", result.inventories(), result.unchanged(), result.selected(),
+                result.switched(), result.skipped(), result.failed(), result.millis());
+        return result;
+    }
+
+    /**
+     * Index of the model to use among {@code candidates}, given their backtest accuracy (null when the history is too
+     * short to backtest) and the current model's name (null when there is none).
+     */
+    int champion(List<Forecaster> candidates, AccuracyAccumulator[] accuracy, String incumbent) {
+        int current = -1;
+        for (int m = 0; m < candidates.size(); m++) {
+            if (candidates.get(m).name().equals(incumbent)) {
+                current = m;
+            }
+        }
+        if (accuracy == null) {
+            return Math.max(current, 0);
+        }
+        int best = -1;
+        for (int m = 0; m < accuracy.length; m++) {
+            Double mae = accuracy[m].mae();
+            if (mae != null && (best < 0 || mae < accuracy[best].mae())) {
+                best = m;
+            }
+        }
+        if (best < 0) {
+            return Math.max(current, 0);
+        }
+        if (current >= 0 && accuracy[current].mae() != null
+                && accuracy[best].mae() >= accuracy[current].mae() * (1 - challengerMargin)) {
+            return current;
+        }
+        return best;
+    }
+
+    private Decision decide(DailySeries series, Current current, LocalDateTime staleBefore) {
+        DemandProfile profile = DemandClassifier.classify(series.values(), windowDays);
+        if (profile == null) {
+            return new Decision(series.id(), Outcome.SKIPPED, null, null, null, false);
+        }
+        boolean fresh = current != null && current.pattern() == profile.pattern()
+                && forecasterRegistry.find(current.model()) != null
+                && (staleBefore == null || current.selectedAt().isAfter(staleBefore));
+        if (fresh) {
+            return new Decision(series.id(), Outcome.UNCHANGED, profile, current.model(), null, false);
+        }
+        List<Forecaster> candidates = forecasterRegistry.candidates(profile.pattern());
+        AccuracyAccumulator[] accuracy = backtestEngine.evaluate(series.values(), candidates);
+        String incumbent = current == null ? null : current.model();
+        int champion = champion(candidates, accuracy, incumbent);
+        String model = candidates.get(champion).name();
+        Double mae = accuracy == null ? null : accuracy[champion].mae();
+        return new Decision(series.id(), Outcome.SELECTED, profile, model, mae,
+                incumbent != null && !incumbent.equals(model));
+    }
+
+    private Map<Long, Current> currentSelections(List<DailySeries> chunk) {
+        List<Long> ids = chunk.stream().map(DailySeries::id).toList();
+        Map<Long, Current> current = new HashMap<>(ids.size() * 2);
+        jdbcTemplate.query(CURRENT_SQL, Map.of("ids", ids), resultSet -> {
+            Timestamp selectedAt = resultSet.getTimestamp(4);
+            current.put(resultSet.getLong(1), new Current(DemandPattern.valueOf(resultSet.getString(2)),
+                    resultSet.getString(3), selectedAt == null ? LocalDateTime.MIN : selectedAt.toLocalDateTime()));
+        });
+        return current;
+    }
+
+    private enum Outcome {
+        UNCHANGED, SELECTED, SKIPPED, FAILED
+    }
+
+    private record Current(DemandPattern pattern, String model, LocalDateTime selectedAt) {
+    }
+
+    private record Decision(long inventoryId, Outcome outcome, DemandProfile profile, String model, Double mae,
+                            boolean switched) {
+    }
+
+    /**
+     * Totals of one run.
+     */
+    private final class Run {
+
+        private final LocalDateTime selectedAt;
+        private final LocalDateTime staleBefore;
+        private int inventories;
+        private int unchanged;
+        private int selected;
+        private int switched;
+        private int skipped;
+        private int failed;
+
+        private Run(LocalDateTime selectedAt, LocalDateTime staleBefore) {
+            this.selectedAt = selectedAt;
+            this.staleBefore = staleBefore;
+        }
+
+        private void selectChunk(List<DailySeries> chunk) {
+            Map<Long, Current> current = currentSelections(chunk);
+            List<Decision> decisions = forecastExecutor.map(chunk, series -> {
+                try {
+                    return decide(series, current.get(series.id()), staleBefore);
+                } catch (RuntimeException e) {
+                    log.warn("Model selection for inventory {} failed: {}", series.id(), e.getMessage());
+                    return new Decision(series.id(), Outcome.FAILED, null, null, null, false);
+                }
+            });
+
+            List<Long> replaced = new ArrayList<>();
+            List<Object[]> rows = new ArrayList<>();
+            Timestamp timestamp = Timestamp.valueOf(selectedAt);
+            for (Decision decision : decisions) {
+                inventories++;
+                switch (decision.outcome()) {
+                    case UNCHANGED -> unchanged++;
+                    case SKIPPED -> skipped++;
+                    case FAILED -> failed++;
+                    case SELECTED -> {
+                        selected++;
+                        if (decision.switched()) {
+                            switched++;
+                        }
+                        DemandProfile profile = decision.profile();
+                        replaced.add(decision.inventoryId());
+                        rows.add(new Object[]{decision.inventoryId(), profile.pattern().name(), profile.adi(),
+                                profile.cv2(), decision.model(), decision.mae(), timestamp});
+                    }
+                }
+            }
+            if (!rows.isEmpty()) {
+                writeTransaction.executeWithoutResult(status -> {
+                    jdbcTemplate.update("DELETE FROM model_selection WHERE inventory_id IN (:ids)",
+                            Map.of("ids", replaced));
+                    bulkInsertWriter.insert("model_selection", COLUMNS, rows);
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Nelder-Mead downhill simplex over the unit cube; every point it tries is clamped into {@code [0, 1]}.
+ */
+final class NelderMead {
+
+    private static final double REFLECTION = 1;
+    private static final double EXPANSION = 2;
+    private static final double CONTRACTION = 0.5;
+    private static final double SHRINK = 0.5;
+
+    private NelderMead() {
+    }
+
+    /**
+     * Minimizes {@code objective} starting from {@code point}, which is overwritten with the best point found, and
+     * returns its value. Stops after {@code maxEvaluations} or once the simplex values agree within a relative
+     * {@code tolerance}.
+     */
+    static double minimize(ToDoubleFunction<double[]> objective, double[] point, double step, int maxEvaluations,
+                           double tolerance) {
+        int d = point.length;
+        double[][] simplex = new double[d + 1][];
+        double[] values = new double[d + 1];
+        simplex[0] = clamp(point.clone());
+        for (int i = 0; i < d; i++) {
+            double[] vertex = simplex[0].clone();
+            vertex[i] += vertex[i] + step <= 1 ? step : -step;
+            simplex[i + 1] = vertex;
+        }
+        int evaluations = 0;
+        for (int i = 0; i <= d; i++) {
+            values[i] = objective.applyAsDouble(simplex[i]);
+            evaluations++;
+        }
+
+        double[] centroid = new double[d];
+        double[] reflected = new double[d];
+        double[] candidate = new double[d];
+        while (evaluations < maxEvaluations) {
+            sort(simplex, values);
+            double best = values[0];
+            double worst = values[d];
+            if (Math.abs(worst - best) <= tolerance * (Math.abs(best) + 1e-12)) {
+                break;
+            }
+            for (int j = 0; j < d; j++) {
+                double sum = 0;
+                for (int i = 0; i < d; i++) {
+                    sum += simplex[i][j];
+                }
+                centroid[j] = sum / d;
+            }
+
+            along(centroid, simplex[d], -REFLECTION, reflected);
+            double reflectedValue = objective.applyAsDouble(reflected);
+            evaluations++;
+            if (reflectedValue < best) {
+                along(centroid, simplex[d], -EXPANSION, candidate);
+                double expandedValue = objective.applyAsDouble(candidate);
+                evaluations++;
+                if (expandedValue < reflectedValue) {
+                    replaceWorst(simplex, values, candidate, expandedValue);
+                } else {
+                    replaceWorst(simplex, values, reflected, reflectedValue);
+                }
+            } else if (reflectedValue < values[d - 1]) {
+                replaceWorst(simplex, values, reflected, reflectedValue);
+            } else {
+                boolean outside = reflectedValue < worst;
+                along(centroid, outside ? reflected : simplex[d], CONTRACTION, candidate);
+                double contractedValue = objective.applyAsDouble(candidate);
+                evaluations++;
+                if (contractedValue < Math.min(reflectedValue, worst)) {
+                    replaceWorst(simplex, values, candidate, contractedValue);
+                } else {
+                    for (int i = 1; i <= d; i++) {
+                        for (int j = 0; j < d; j++) {
+                            simplex[i][j] = simplex[0][j] + SHRINK * (simplex[i][j] - simplex[0][j]);
+                        }
+                        values[i] = objective.applyAsDouble(simplex[i]);
+                        evaluations++;
+                    }
+                }
+            }
+        }
+        sort(simplex, values);
+        System.arraycopy(simplex[0], 0, point, 0, d);
+        return values[0];
+    }
+
+    // from + coefficient * (to - from), clamped into the unit cube.
+    private static void along(double[] from, double[] to, double coefficient, double[] target) {
+        for (int j = 0; j < from.length; j++) {
+            target[j] = from[j] + coefficient * (to[j] - from[j]);
+        }
+        clamp(target);
+    }
+
+    private static void replaceWorst(double[][] simplex, double[] values, double[] point, double value) {
+        int worst = values.length - 1;
+        System.arraycopy(point, 0, simplex[worst], 0, point.length);
+        values[worst] = value;
+    }
+
+    // Insertion sort by value; the simplex has a handful of vertices.
+    private static void sort(double[][] simplex, double[] values) {
+        for (int i = 1; i < values.length; i++) {
+            double value = values[i];
+            double[] vertex = simplex[i];
+            int j = i - 1;
+            for (; j >= 0 && values[j] > value; j--) {
+                values[j + 1] = values[j];
+                simplex[j + 1] = simplex[j];
+            }
+            values[j + 1] = value;
+            simplex[j + 1] = vertex;
+        }
+    }
+
+    private static double[] clamp(double[] point) {
+        for (int j = 0; j < point.length; j++) {
+            point[j] = Math.min(1, Math.max(0, point[j]));
+        }
+        return point;
+    }
+}
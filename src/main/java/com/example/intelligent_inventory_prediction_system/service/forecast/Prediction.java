@@ -0,0 +1,9 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import java.time.LocalDate;
+
+/**
+ * An inventory's forecast from {@code startDate}, made with {@code model}.
+ */
+public record Prediction(long inventoryId, LocalDate startDate, String model, QuantileForecast quantiles) {
+}
@@ -0,0 +1,43 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the stored predictions of inventories in the current transaction. The packed quantiles go through a JDBC
+ * batch rather than {@code BulkInsertWriter}, whose CSV {@code COPY} has no encoding for binary columns.
+ */
+@Component
+@RequiredArgsConstructor
+public class PredictionWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO inventory_prediction "
+            + "(inventory_id, start_date, horizon_days, model, quantiles, generated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void replace(List<Prediction> predictions) {
+        if (predictions.isEmpty()) {
+            return;
+        }
+        Timestamp generatedAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> inventoryIds = new ArrayList<>(predictions.size());
+        List<Object[]> rows = new ArrayList<>(predictions.size());
+        for (Prediction prediction : predictions) {
+            inventoryIds.add(prediction.inventoryId());
+            rows.add(new Object[]{prediction.inventoryId(), Date.valueOf(prediction.startDate()),
+                    prediction.quantiles().horizon(), prediction.model(), prediction.quantiles().pack(), generatedAt});
+        }
+        jdbcTemplate.update("DELETE FROM inventory_prediction WHERE inventory_id IN (:ids)",
+                Map.of("ids", inventoryIds));
+        jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_SQL, rows);
+    }
+}
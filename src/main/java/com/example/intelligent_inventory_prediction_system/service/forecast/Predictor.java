@@ -0,0 +1,73 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+import static com.example.intelligent_inventory_prediction_system.constants.InventoryConstant.MAX_FORECAST_HORIZON_DAYS;
+
+/**
+ * Forecasts the next {@code inventory.forecast.horizon} days of a demand history as P10/P50/P90. The model's point
+ * forecast is the P50. The spread assumes normal errors with the root mean squared error of the same model forecasting
+ * the last horizon of the history from the days before it, or the square root of mean demand when the history is too
+ * short to hold a horizon out.
+ */
+@Component
+public class Predictor {
+
+    static final String FALLBACK_MODEL = "seasonal-naive";
+
+    private static final double Z_90 = 1.2815515655446004;
+
+    private final ForecasterRegistry forecasterRegistry;
+    private final int horizon;
+
+    public Predictor(ForecasterRegistry forecasterRegistry, @Value("${inventory.forecast.horizon:28}") int horizon) {
+        if (horizon < 1 || horizon > MAX_FORECAST_HORIZON_DAYS) {
+            throw new IllegalArgumentException("Forecast horizon must be between 1 and " + MAX_FORECAST_HORIZON_DAYS);
+        }
+        this.forecasterRegistry = forecasterRegistry;
+        this.horizon = horizon;
+    }
+
+    public int getHorizon() {
+        return horizon;
+    }
+
+    /**
+     * The registered model called {@code name}, or the seasonal naive one when there is none.
+     */
+    public Forecaster resolve(String name) {
+        Forecaster forecaster = name == null ? null : forecasterRegistry.find(name);
+        return forecaster != null ? forecaster : forecasterRegistry.find(FALLBACK_MODEL);
+    }
+
+    public QuantileForecast predict(double[] history, Forecaster forecaster) {
+        double[] point = forecaster.forecast(history, horizon);
+        double spread = Z_90 * errorDeviation(history, forecaster);
+        long[] p10 = new long[horizon];
+        long[] p50 = new long[horizon];
+        long[] p90 = new long[horizon];
+        for (int day = 0; day < horizon; day++) {
+            p50[day] = Math.max(0, Math.round(point[day]));
+            p10[day] = Math.min(p50[day], Math.max(0, Math.round(point[day] - spread)));
+            p90[day] = Math.max(p50[day], Math.round(point[day] + spread));
+        }
+        return new QuantileForecast(p10, p50, p90);
+    }
+
+    private double errorDeviation(double[] history, Forecaster forecaster) {
+        int origin = history.length - horizon;
+        if (origin < horizon) {
+            return Math.sqrt(Arrays.stream(history).average().orElse(0));
+        }
+        double[] holdout = forecaster.forecast(Arrays.copyOf(history, origin), horizon);
+        double squares = 0;
+        for (int day = 0; day < horizon; day++) {
+            double error = history[origin + day] - holdout[day];
+            squares += error * error;
+        }
+        return Math.sqrt(squares / horizon);
+    }
+}
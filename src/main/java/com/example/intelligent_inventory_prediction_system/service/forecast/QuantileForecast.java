@@ -0,0 +1,80 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import com.example.intelligent_inventory_prediction_system.service.export.VarInts;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * P10, P50 and P90 of daily demand in whole units for each day of a horizon.
+ * <p>
+ * Packed for storage as a format byte and the horizon length, then per day the P50's change from the day before and
+ * its distances down to P10 and up to P90, all varints. Neighbouring days are close, so a 28-day horizon of
+ * double-digit demand packs into about a hundred bytes instead of 28 rows.
+ */
+public record QuantileForecast(long[] p10, long[] p50, long[] p90) {
+
+    private static final int FORMAT = 1;
+
+    public QuantileForecast {
+        if (p10.length != p50.length || p90.length != p50.length) {
+            throw new IllegalArgumentException("Quantiles must cover the same horizon");
+        }
+        for (int day = 0; day < p50.length; day++) {
+            if (p10[day] < 0 || p10[day] > p50[day] || p50[day] > p90[day]) {
+                throw new IllegalArgumentException("Quantiles of day " + day + " must satisfy 0 <= P10 <= P50 <= P90");
+            }
+        }
+    }
+
+    public int horizon() {
+        return p50.length;
+    }
+
+    public byte[] pack() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(2 + 3 * p50.length);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeByte(FORMAT);
+            VarInts.writeUnsigned(out, p50.length);
+            long previous = 0;
+            for (int day = 0; day < p50.length; day++) {
+                VarInts.writeSigned(out, p50[day] - previous);
+                VarInts.writeUnsigned(out, p50[day] - p10[day]);
+                VarInts.writeUnsigned(out, p90[day] - p50[day]);
+                previous = p50[day];
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static QuantileForecast unpack(byte[] packed) {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(packed));
+        try {
+            int format = in.readUnsignedByte();
+            if (format != FORMAT) {
+                throw new IllegalArgumentException("Unknown quantile format " + format);
+            }
+            int horizon = (int) VarInts.readUnsigned(in);
+            long[] p10 = new long[horizon];
+            long[] p50 = new long[horizon];
+            long[] p90 = new long[horizon];
+            long previous = 0;
+            for (int day = 0; day < horizon; day++) {
+                p50[day] = previous + VarInts.readSigned(in);
+                p10[day] = p50[day] - VarInts.readUnsigned(in);
+                p90[day] = p50[day] + VarInts.readUnsigned(in);
+                previous = p50[day];
+            }
+            return new QuantileForecast(p10, p50, p90);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Truncated quantile forecast", e);
+        }
+    }
+}
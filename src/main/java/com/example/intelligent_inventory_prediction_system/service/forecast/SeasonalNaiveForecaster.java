@@ -0,0 +1,29 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Repeats the last week, or the last day for histories shorter than a week. The baseline any other model has to
+ * beat.
+ */
+@Component
+public class SeasonalNaiveForecaster implements Forecaster {
+
+    static final int WEEK = 7;
+
+    @Override
+    public String name() {
+        return "seasonal-naive";
+    }
+
+    @Override
+    public double[] forecast(double[] history, int horizon) {
+        int n = history.length;
+        int period = n >= WEEK ? WEEK : 1;
+        double[] forecast = new double[horizon];
+        for (int i = 0; i < horizon; i++) {
+            forecast[i] = history[n - period + i % period];
+        }
+        return forecast;
+    }
+}
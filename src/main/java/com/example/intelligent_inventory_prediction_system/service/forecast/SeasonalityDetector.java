@@ -0,0 +1,107 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+/**
+ * Finds the dominant seasonal period of a series from its autocorrelation, computed with an FFT after removing the
+ * linear trend. Candidate periods are the local maxima of the autocorrelation that reach {@code minCorrelation};
+ * the one standing highest above the trough before it wins, and a shorter period it is a multiple of is preferred
+ * when that is nearly as strong, so a weekly series reports 7 rather than 14 or 21.
+ */
+public final class SeasonalityDetector {
+
+    private static final double HARMONIC_PREFERENCE = 0.9;
+
+    private SeasonalityDetector() {
+    }
+
+    /**
+     * The seasonal period of {@code series}, at most {@code maxPeriod} and half its length, or 0 if none is strong
+     * enough.
+     */
+    public static int detectPeriod(double[] series, int maxPeriod, double minCorrelation) {
+        int upper = Math.min(maxPeriod, series.length / 2);
+        if (upper < 2) {
+            return 0;
+        }
+        double[] acf = autocorrelation(series, Math.min(upper + 1, series.length - 1));
+        // Undo the estimator's taper towards long lags, which would pull long seasons' peaks short.
+        for (int lag = 1; lag < acf.length; lag++) {
+            acf[lag] *= (double) series.length / (series.length - lag);
+        }
+        double[] prominence = new double[upper + 1];
+        int best = 0;
+        for (int lag = 2; lag <= upper; lag++) {
+            boolean peak = acf[lag] > acf[lag - 1] && (lag + 1 >= acf.length || acf[lag] >= acf[lag + 1]);
+            if (!peak || acf[lag] < minCorrelation) {
+                continue;
+            }
+            double trough = acf[lag];
+            for (int k = lag / 2; k < lag; k++) {
+                trough = Math.min(trough, acf[k]);
+            }
+            prominence[lag] = acf[lag] - trough;
+            if (best == 0 || prominence[lag] > prominence[best]) {
+                best = lag;
+            }
+        }
+        for (int lag = 2; lag < best; lag++) {
+            int remainder = best % lag;
+            boolean divides = remainder <= 1 || lag - remainder <= 1;
+            if (divides && prominence[lag] >= HARMONIC_PREFERENCE * prominence[best]) {
+                return lag;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Autocorrelation of the detrended series for lags {@code 0..maxLag}; all zero when nothing is left after
+     * detrending.
+     */
+    public static double[] autocorrelation(double[] series, int maxLag) {
+        int n = series.length;
+        if (maxLag >= n) {
+            throw new IllegalArgumentException("Lag " + maxLag + " needs more than " + n + " points");
+        }
+        // Zero padding to twice the length turns the circular correlation into a linear one.
+        int padded = Fft.paddedLength(2 * n);
+        double[] re = new double[padded];
+        double[] im = new double[padded];
+        detrend(series, re);
+        Fft.transform(re, im, false);
+        for (int i = 0; i < padded; i++) {
+            re[i] = re[i] * re[i] + im[i] * im[i];
+            im[i] = 0;
+        }
+        Fft.transform(re, im, true);
+
+        double[] acf = new double[maxLag + 1];
+        if (re[0] <= 1e-12 * n) {
+            return acf;
+        }
+        for (int lag = 0; lag <= maxLag; lag++) {
+            acf[lag] = re[lag] / re[0];
+        }
+        return acf;
+    }
+
+    // Least squares line through (t, series[t]), subtracted into the first series.length slots of target.
+    private static void detrend(double[] series, double[] target) {
+        int n = series.length;
+        double meanT = (n - 1) / 2.0;
+        double meanY = 0;
+        for (double value : series) {
+            meanY += value;
+        }
+        meanY /= n;
+        double covariance = 0;
+        double variance = 0;
+        for (int t = 0; t < n; t++) {
+            covariance += (t - meanT) * (series[t] - meanY);
+            variance += (t - meanT) * (t - meanT);
+        }
+        double slope = variance == 0 ? 0 : covariance / variance;
+        for (int t = 0; t < n; t++) {
+            target[t] = series[t] - meanY - slope * (t - meanT);
+        }
+    }
+}
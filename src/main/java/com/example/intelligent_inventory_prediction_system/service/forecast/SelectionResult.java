@@ -0,0 +1,17 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+/**
+ * Outcome of a model selection run: inventories with demand history, those whose pattern and model were kept without
+ * a backtest, those backtested and (re)selected, how many of those changed model, those without demand in the
+ * classification window and those whose backtest failed.
+ */
+public record SelectionResult(
+        int inventories,
+        int unchanged,
+        int selected,
+        int switched,
+        int skipped,
+        int failed,
+        long millis
+) {
+}
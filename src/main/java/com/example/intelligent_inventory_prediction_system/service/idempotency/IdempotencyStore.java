@@ -0,0 +1,285 @@
+package com.example.intelligent_inventory_prediction_system.service.idempotency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers the outcome of requests by {@code Idempotency-Key}. A key is first claimed while its request runs, so a
+ * concurrent duplicate is turned away instead of executing twice, then completed with the response to replay.
+ * <p>
+ * Keys live in a bounded in-memory map, so the common lookup is a single hash probe; entries expire after
+ * {@code ttl-minutes} and the oldest go first once {@code max-entries} is reached. With {@code jdbc.enabled} the
+ * keys are also kept in an {@code idempotency_key} table, which lets several instances share them and survives
+ * restarts. A claim whose request never completed, e.g. because the instance died, lapses after
+ * {@code lease-seconds}.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private static final String CREATE_TABLE_SQL = "CREATE TABLE IF NOT EXISTS idempotency_key ("
+            + "idempotency_key VARCHAR(255) PRIMARY KEY, fingerprint VARCHAR(64) NOT NULL, status INT, "
+            + "content_type VARCHAR(255), body BYTEA, expires_at BIGINT NOT NULL)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean jdbcEnabled;
+    private final long ttlMillis;
+    private final long leaseMillis;
+    private final int maxEntries;
+    private final LongSupplier clock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    private Counter replayedCounter;
+    private Counter rejectedCounter;
+    private ScheduledExecutorService sweeper;
+
+    @Autowired
+    public IdempotencyStore(
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            @Value("${inventory.idempotency.jdbc.enabled:false}") boolean jdbcEnabled,
+            @Value("${inventory.idempotency.ttl-minutes:1440}") long ttlMinutes,
+            @Value("${inventory.idempotency.lease-seconds:60}") long leaseSeconds,
+            @Value("${inventory.idempotency.max-entries:10000}") int maxEntries
+    ) {
+        this(new JdbcTemplate(dataSource), jdbcEnabled, TimeUnit.MINUTES.toMillis(ttlMinutes),
+                TimeUnit.SECONDS.toMillis(leaseSeconds), maxEntries, System::currentTimeMillis);
+        this.replayedCounter = Counter.builder("inventory.idempotency.requests")
+                .description("Requests carrying an Idempotency-Key by outcome")
+                .tag("outcome", "replayed")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("inventory.idempotency.requests")
+                .description("Requests carrying an Idempotency-Key by outcome")
+                .tag("outcome", "rejected")
+                .register(meterRegistry);
+        Gauge.builder("inventory.idempotency.keys", entries, Map::size)
+                .description("Idempotency keys held in memory")
+                .register(meterRegistry);
+    }
+
+    IdempotencyStore(JdbcTemplate jdbcTemplate, boolean jdbcEnabled, long ttlMillis, long leaseMillis, int maxEntries,
+                     LongSupplier clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcEnabled = jdbcEnabled;
+        this.ttlMillis = ttlMillis;
+        this.leaseMillis = leaseMillis;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        if (jdbcEnabled) {
+            jdbcTemplate.execute(CREATE_TABLE_SQL);
+        }
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "idempotency-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::sweepQuietly, 1, 1, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sweeper != null) {
+            sweeper.shutdown();
+        }
+    }
+
+    /**
+     * Claims {@code key} for a request with the given fingerprint. Only an {@link Claim.Outcome#ACQUIRED} claim may
+     * run the request, and it must be followed by {@link #complete} or {@link #release}.
+     */
+    public Claim claim(String key, String fingerprint) {
+        long now = clock.getAsLong();
+        Entry claimed = Entry.inFlight(fingerprint, now + leaseMillis);
+        Entry current = entries.compute(key, (k, existing) ->
+                existing == null || existing.expiresAt() <= now ? claimed : existing);
+        if (current != claimed) {
+            return outcomeOf(current, fingerprint);
+        }
+        if (jdbcEnabled) {
+            Claim shared = claimShared(key, claimed, now);
+            if (shared.outcome() != Claim.Outcome.ACQUIRED) {
+                entries.remove(key, claimed);
+                if (shared.outcome() == Claim.Outcome.COMPLETED) {
+                    entries.put(key, Entry.completed(fingerprint, shared.response(), now + ttlMillis));
+                    insertionOrder.add(key);
+                    evictOverflow(now);
+                }
+                return shared;
+            }
+        }
+        insertionOrder.add(key);
+        evictOverflow(now);
+        return Claim.ACQUIRED;
+    }
+
+    public void complete(String key, String fingerprint, IdempotentResponse response) {
+        long expiresAt = clock.getAsLong() + ttlMillis;
+        entries.put(key, Entry.completed(fingerprint, response, expiresAt));
+        if (jdbcEnabled) {
+            jdbcTemplate.update("UPDATE idempotency_key SET status = ?, content_type = ?, body = ?, expires_at = ? "
+                            + "WHERE idempotency_key = ? AND fingerprint = ?",
+                    response.status(), response.contentType(), response.body(), expiresAt, key, fingerprint);
+        }
+    }
+
+    /**
+     * Gives up a claim without recording a response, e.g. after a server error, so a retry runs the request again.
+     */
+    public void release(String key, String fingerprint) {
+        Entry current = entries.get(key);
+        if (current != null && current.inFlight() && current.fingerprint().equals(fingerprint)) {
+            entries.remove(key, current);
+        }
+        if (jdbcEnabled) {
+            jdbcTemplate.update("DELETE FROM idempotency_key WHERE idempotency_key = ? AND fingerprint = ? "
+                    + "AND status IS NULL", key, fingerprint);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    void sweep() {
+        long now = clock.getAsLong();
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+        insertionOrder.removeIf(key -> !entries.containsKey(key));
+        if (jdbcEnabled) {
+            int purged = jdbcTemplate.update("DELETE FROM idempotency_key WHERE expires_at <= ?", now);
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private void sweepQuietly() {
+        try {
+            sweep();
+        } catch (RuntimeException e) {
+            log.warn("Idempotency key sweep failed", e);
+        }
+    }
+
+    private Claim claimShared(String key, Entry claimed, long now) {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                jdbcTemplate.update("INSERT INTO idempotency_key (idempotency_key, fingerprint, expires_at) VALUES (?, ?, ?)",
+                        key, claimed.fingerprint(), claimed.expiresAt());
+                return Claim.ACQUIRED;
+            } catch (DuplicateKeyException e) {
+                List<Entry> rows = jdbcTemplate.query("SELECT fingerprint, status, content_type, body, expires_at "
+                                + "FROM idempotency_key WHERE idempotency_key = ?",
+                        (rs, rowNum) -> {
+                            Integer status = (Integer) rs.getObject(2);
+                            IdempotentResponse response = status == null ? null
+                                    : new IdempotentResponse(status, rs.getString(3), rs.getBytes(4));
+                            return new Entry(rs.getString(1), response, rs.getLong(5));
+                        }, key);
+                if (rows.isEmpty()) {
+                    continue;
+                }
+                Entry existing = rows.get(0);
+                if (existing.expiresAt() > now) {
+                    return outcomeOf(existing, claimed.fingerprint());
+                }
+                // Expired, or a lapsed claim from an instance that died mid-request: take it over.
+                jdbcTemplate.update("DELETE FROM idempotency_key WHERE idempotency_key = ? AND expires_at <= ?", key, now);
+            }
+        }
+        countRejected();
+        return Claim.IN_FLIGHT;
+    }
+
+    private Claim outcomeOf(Entry existing, String fingerprint) {
+        if (!existing.fingerprint().equals(fingerprint)) {
+            countRejected();
+            return Claim.MISMATCH;
+        }
+        if (existing.inFlight()) {
+            countRejected();
+            return Claim.IN_FLIGHT;
+        }
+        if (replayedCounter != null) {
+            replayedCounter.increment();
+        }
+        return new Claim(Claim.Outcome.COMPLETED, existing.response());
+    }
+
+    private void countRejected() {
+        if (rejectedCounter != null) {
+            rejectedCounter.increment();
+        }
+    }
+
+    private void evictOverflow(long now) {
+        // Bounded by the queue length so a map full of running requests cannot spin here.
+        for (int budget = insertionOrder.size(); entries.size() > maxEntries && budget > 0; budget--) {
+            String oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            Entry entry = entries.get(oldest);
+            if (entry != null && entry.inFlight() && entry.expiresAt() > now) {
+                // Never forget a running request; it goes once it has completed.
+                insertionOrder.add(oldest);
+                continue;
+            }
+            entries.remove(oldest);
+        }
+    }
+
+    public record Claim(Outcome outcome, IdempotentResponse response) {
+
+        static final Claim ACQUIRED = new Claim(Outcome.ACQUIRED, null);
+        static final Claim IN_FLIGHT = new Claim(Outcome.IN_FLIGHT, null);
+        static final Claim MISMATCH = new Claim(Outcome.MISMATCH, null);
+
+        public enum Outcome {
+            /** The caller owns the key and runs the request. */
+            ACQUIRED,
+            /** The same request is still running elsewhere. */
+            IN_FLIGHT,
+            /** The key was used for a different request. */
+            MISMATCH,
+            /** The request already ran; replay {@link #response()}. */
+            COMPLETED
+        }
+    }
+
+    private record Entry(String fingerprint, IdempotentResponse response, long expiresAt) {
+
+        static Entry inFlight(String fingerprint, long leaseExpiresAt) {
+            return new Entry(fingerprint, null, leaseExpiresAt);
+        }
+
+        static Entry completed(String fingerprint, IdempotentResponse response, long expiresAt) {
+            return new Entry(fingerprint, response, expiresAt);
+        }
+
+        boolean inFlight() {
+            return response == null;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.intelligent_inventory_prediction_system.service.idempotency;
+
+/**
+ * The response recorded for an idempotency key, replayed verbatim to retries of the same request.
+ */
+public record IdempotentResponse(int status, String contentType, byte[] body) {
+}
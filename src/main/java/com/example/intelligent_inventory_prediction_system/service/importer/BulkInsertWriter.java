@@ -0,0 +1,74 @@
+package com.example.intelligent_inventory_prediction_system.service.importer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Inserts rows on the connection bound to the current transaction. On PostgreSQL the rows are streamed through
+ * {@code COPY ... FROM STDIN}, which skips per-statement parsing and planning entirely; any other database gets a
+ * JDBC batch insert. Either way a failure surfaces as a {@link DataAccessException}, so callers can isolate a bad row
+ * the same way on both paths.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkInsertWriter {
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insert(String table, List<String> columns, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            if (connection.isWrapperFor(PGConnection.class)) {
+                copy(connection.unwrap(PGConnection.class), table, columns, rows);
+                return;
+            }
+        } catch (SQLException e) {
+            DataAccessException translated = jdbcTemplate.getExceptionTranslator()
+                    .translate("COPY into " + table, null, e);
+            throw translated != null ? translated : new UncategorizedSQLException("COPY into " + table, null, e);
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException("COPY into " + table + " failed: " + e.getMessage(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+        jdbcTemplate.batchUpdate(insertSql(table, columns), rows);
+    }
+
+    private static void copy(PGConnection connection, String table, List<String> columns, List<Object[]> rows)
+            throws SQLException, IOException {
+        StringWriter buffer = new StringWriter(rows.size() * 64);
+        CsvWriter writer = new CsvWriter(buffer);
+        for (Object[] row : rows) {
+            writer.writeRecord(row);
+        }
+        writer.flush();
+        String sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+        connection.getCopyAPI().copyIn(sql, new StringReader(buffer.toString()));
+    }
+
+    private static String insertSql(String table, List<String> columns) {
+        return "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+    }
+}
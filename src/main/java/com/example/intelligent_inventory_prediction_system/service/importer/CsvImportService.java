@@ -0,0 +1,295 @@
+package com.example.intelligent_inventory_prediction_system.service.importer;
+
+import com.example.intelligent_inventory_prediction_system.dto.response.ImportJobResponseDTO;
+import com.example.intelligent_inventory_prediction_system.exception.ResourceNotFoundException;
+import com.example.intelligent_inventory_prediction_system.service.importer.CsvRowImporter.ParsedRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.example.intelligent_inventory_prediction_system.constants.ImportConstants.*;
+
+/**
+ * Streams a CSV upload into the database in batches of {@link
+ * com.example.intelligent_inventory_prediction_system.constants.ImportConstants#IMPORT_BATCH_SIZE} rows. Each batch
+ * commits on its own and checkpoints the job, so a failed upload can be resent with its job id and picks up after
+ * the last committed row. Rows failing validation, or failing the insert itself, are written to the job's rejected
+ * rows report instead of aborting the import.
+ */
+@Slf4j
+@Service
+public class CsvImportService {
+
+    private final ImportJobRegistry jobRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<ImportType, CsvRowImporter<?>> importers = new HashMap<>();
+
+    public CsvImportService(ImportJobRegistry jobRegistry,
+                            TransactionTemplate transactionTemplate,
+                            List<CsvRowImporter<?>> importers) {
+        this.jobRegistry = jobRegistry;
+        this.transactionTemplate = transactionTemplate;
+        importers.forEach(importer -> this.importers.put(importer.type(), importer));
+    }
+
+    public ImportJobResponseDTO importCsv(ImportType type, InputStream input, long contentLength, String jobId) {
+        importers.get(type).checkAvailable();
+        ImportJob job = jobId == null ? jobRegistry.create(type) : jobRegistry.find(jobId);
+        if (job.getType() != type) {
+            throw new IllegalArgumentException(String.format(IMPORT_TYPE_MISMATCH_MESSAGE, job.getId(), job.getType()));
+        }
+        job.begin(contentLength);
+        try {
+            run(job, importers.get(type), input);
+            job.complete();
+            log.info("Import job {} completed: {} rows imported, {} rejected",
+                    job.getId(), job.getRowsImported(), job.getRowsRejected());
+        } catch (IOException e) {
+            job.fail(e.getMessage());
+            throw new UncheckedIOException("Import job " + job.getId() + " failed reading input", e);
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+            throw e;
+        } finally {
+            jobRegistry.checkpoint(job);
+            job.release();
+        }
+        return toResponse(job);
+    }
+
+    public ImportJobResponseDTO createJob(ImportType type) {
+        importers.get(type).checkAvailable();
+        return toResponse(jobRegistry.create(type));
+    }
+
+    public ImportJobResponseDTO getJob(String jobId) {
+        return toResponse(jobRegistry.find(jobId));
+    }
+
+    public Path getRejectedRows(String jobId) {
+        Path report = jobRegistry.find(jobId).getRejectedRowsFile();
+        if (!Files.exists(report)) {
+            throw new ResourceNotFoundException("No rejected rows recorded for import job: " + jobId);
+        }
+        return report;
+    }
+
+    private <T> void run(ImportJob job, CsvRowImporter<T> importer, InputStream input) throws IOException {
+        InputStream counting = new CountingInputStream(input, job);
+        try (CsvReader reader = new CsvReader(new InputStreamReader(counting, StandardCharsets.UTF_8));
+             RejectedRowsReport report = new RejectedRowsReport(job.getRejectedRowsFile())) {
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                throw new IllegalArgumentException(IMPORT_EMPTY_INPUT_MESSAGE);
+            }
+            Map<String, Integer> columns = indexHeader(header, importer.requiredColumns());
+            report.writeHeader(header);
+
+            long skip = job.getCommittedRows();
+            long dataRow = 0;
+            List<ParsedRow<T>> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                if (++dataRow <= skip) {
+                    continue;
+                }
+                job.getRowsRead().incrementAndGet();
+                long line = reader.getRecordLine();
+                try {
+                    batch.add(new ParsedRow<>(line, record, importer.parse(new CsvRow(columns, record, line))));
+                } catch (IllegalArgumentException e) {
+                    report.reject(line, record, e.getMessage());
+                }
+                if (batch.size() + report.pending() >= IMPORT_BATCH_SIZE) {
+                    commit(job, importer, batch, report, dataRow);
+                    batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+                }
+            }
+            commit(job, importer, batch, report, dataRow);
+        }
+    }
+
+    private <T> void commit(ImportJob job, CsvRowImporter<T> importer, List<ParsedRow<T>> batch,
+                            RejectedRowsReport report, long dataRow) throws IOException {
+        List<ParsedRow<T>> written = batch.isEmpty() ? List.of() : write(importer, batch, report);
+        long rejected = report.flush();
+        job.recordCommit(dataRow, written.size(), rejected);
+        jobRegistry.checkpoint(job);
+        importer.afterCommit(written);
+        log.debug("Import job {} committed through row {}", job.getId(), dataRow);
+    }
+
+    private <T> List<ParsedRow<T>> write(CsvRowImporter<T> importer, List<ParsedRow<T>> batch,
+                                         RejectedRowsReport report) {
+        List<Rejection> rejections = new ArrayList<>();
+        try {
+            List<ParsedRow<T>> written = transactionTemplate.execute(status -> importer.write(batch,
+                    (line, values, reason) -> rejections.add(new Rejection(line, values, reason))));
+            rejections.forEach(report::reject);
+            return written;
+        } catch (DataAccessException e) {
+            log.warn("Batch insert failed, retrying {} rows individually: {}", batch.size(), e.getMessage());
+            return writeIndividually(importer, batch, report);
+        }
+    }
+
+    // A single bad row rolls back the whole batch, so the batch is replayed one row per transaction to isolate it.
+    private <T> List<ParsedRow<T>> writeIndividually(CsvRowImporter<T> importer, List<ParsedRow<T>> batch,
+                                                     RejectedRowsReport report) {
+        List<ParsedRow<T>> written = new ArrayList<>(batch.size());
+        for (ParsedRow<T> row : batch) {
+            try {
+                written.addAll(transactionTemplate.execute(status -> importer.write(List.of(row), report::reject)));
+            } catch (DataAccessException e) {
+                report.reject(row.line(), row.values(), e.getMostSpecificCause().getMessage());
+            }
+        }
+        return written;
+    }
+
+    private static Map<String, Integer> indexHeader(List<String> header, List<String> required) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).trim(), i);
+        }
+        List<String> missing = required.stream().filter(column -> !columns.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException(IMPORT_MISSING_COLUMNS_MESSAGE + String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    private static ImportJobResponseDTO toResponse(ImportJob job) {
+        long totalBytes = job.getTotalBytes();
+        Double percentComplete = null;
+        if (job.getStatus() == ImportJob.Status.COMPLETED) {
+            percentComplete = 100.0;
+        } else if (totalBytes > 0) {
+            percentComplete = Math.min(100.0, job.getBytesRead().get() * 100.0 / totalBytes);
+        }
+        return ImportJobResponseDTO.builder()
+                .jobId(job.getId())
+                .type(job.getType().name().toLowerCase(Locale.ROOT))
+                .status(job.getStatus() == null ? null : job.getStatus().name())
+                .rowsRead(job.getRowsRead().get())
+                .rowsImported(job.getRowsImported())
+                .rowsRejected(job.getRowsRejected())
+                .committedRows(job.getCommittedRows())
+                .bytesRead(job.getBytesRead().get())
+                .totalBytes(totalBytes >= 0 ? totalBytes : null)
+                .percentComplete(percentComplete)
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .error(job.getError())
+                .build();
+    }
+
+    private record Rejection(long line, List<String> values, String reason) {
+    }
+
+    /**
+     * Buffers rejections until the batch they belong to commits, so the report never lists rows of a batch that a
+     * resumed job will process again.
+     */
+    private static final class RejectedRowsReport implements AutoCloseable {
+
+        private final Path file;
+        private final List<Rejection> pending = new ArrayList<>();
+        private BufferedWriter writer;
+        private CsvWriter csv;
+
+        RejectedRowsReport(Path file) {
+            this.file = file;
+        }
+
+        void writeHeader(List<String> header) throws IOException {
+            boolean exists = Files.exists(file);
+            writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            csv = new CsvWriter(writer);
+            if (!exists) {
+                csv.writeRecord(Stream.concat(Stream.of("line", "reason"), header.stream()).toList());
+            }
+        }
+
+        void reject(long line, List<String> values, String reason) {
+            pending.add(new Rejection(line, values, reason));
+        }
+
+        void reject(Rejection rejection) {
+            pending.add(rejection);
+        }
+
+        int pending() {
+            return pending.size();
+        }
+
+        long flush() throws IOException {
+            int count = pending.size();
+            for (Rejection rejection : pending) {
+                List<Object> record = new ArrayList<>(rejection.values().size() + 2);
+                record.add(rejection.line());
+                record.add(rejection.reason());
+                record.addAll(rejection.values());
+                csv.writeRecord(record);
+            }
+            pending.clear();
+            csv.flush();
+            writer.flush();
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final ImportJob job;
+
+        CountingInputStream(InputStream in, ImportJob job) {
+            super(in);
+            this.job = job;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                job.getBytesRead().incrementAndGet();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                job.getBytesRead().addAndGet(n);
+            }
+            return n;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.intelligent_inventory_prediction_system.service.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming RFC 4180 reader: comma separated, double-quote enclosed fields with {@code ""} escapes,
+ * CR, LF or CRLF record terminators and line breaks inside quoted fields. Reads through a fixed buffer, so
+ * memory use is bounded by the largest record rather than the input size. Blank lines are skipped.
+ */
+public class CsvReader implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder field = new StringBuilder();
+    private int position;
+    private int limit;
+    private int pushback = NONE;
+    private long line = 1;
+    private long recordLine;
+    private boolean started;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the next record, or {@code null} at end of input.
+     */
+    public List<String> readRecord() throws IOException {
+        while (true) {
+            int c = next();
+            if (c == -1) {
+                return null;
+            }
+            recordLine = line;
+            List<String> fields = new ArrayList<>();
+            boolean endedByNewline = parseRecord(c, fields);
+            if (endedByNewline && fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue;
+            }
+            return fields;
+        }
+    }
+
+    /**
+     * Physical line on which the last returned record started.
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private boolean parseRecord(int c, List<String> fields) throws IOException {
+        boolean inQuotes = false;
+        field.setLength(0);
+        while (true) {
+            if (c == -1) {
+                if (inQuotes) {
+                    throw new IllegalArgumentException("Unterminated quoted field starting on line " + recordLine);
+                }
+                fields.add(field.toString());
+                return false;
+            }
+            if (inQuotes) {
+                if (c == '"') {
+                    int following = next();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        inQuotes = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                inQuotes = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    int following = next();
+                    if (following != '\n') {
+                        pushback = following;
+                    }
+                }
+                line++;
+                fields.add(field.toString());
+                return true;
+            } else {
+                field.append((char) c);
+            }
+            c = next();
+        }
+    }
+
+    private int next() throws IOException {
+        if (pushback != NONE) {
+            int c = pushback;
+            pushback = NONE;
+            return c;
+        }
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        char c = buffer[position++];
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') {
+                return next();
+            }
+        }
+        return c;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.intelligent_inventory_prediction_system.service.importer;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.example.intelligent_inventory_prediction_system.constants.ImportConstants.IMPORT_INVALID_NUMBER_MESSAGE;
+
+/**
+ * One data record addressed by header name. Blank cells read as {@code null}.
+ */
+record CsvRow(Map<String, Integer> header, List<String> values, long line) {
+
+    String get(String column) {
+        Integer index = header.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    Long getLong(String column) {
+        String value = get(column);
+        try {
+            return value == null ? null : Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format(IMPORT_INVALID_NUMBER_MESSAGE, column, value));
+        }
+    }
+
+    Integer getInteger(String column) {
+        String value = get(column);
+        try {
+            return value == null ? null : Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format(IMPORT_INVALID_NUMBER_MESSAGE, column, value));
+        }
+    }
+
+    Double getDouble(String column) {
+        String value = get(column);
+        try {
+            return value == null ? null : Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format(IMPORT_INVALID_NUMBER_MESSAGE, column, value));
+        }
+    }
+}
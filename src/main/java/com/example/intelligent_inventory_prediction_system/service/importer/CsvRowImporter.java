@@ -0,0 +1,44 @@
+package com.example.intelligent_inventory_prediction_system.service.importer;
+
+import java.util.List;
+
+/**
+ * Per-entity half of a CSV import: turns a record into a validated value and writes batches of them.
+ */
+interface CsvRowImporter<T> {
+
+    ImportType type();
+
+    List<String> requiredColumns();
+
+    /**
+     * Throws {@link IllegalArgumentException} when this import cannot run in the current configuration.
+     */
+    default void checkAvailable() {
+    }
+
+    /**
+     * Parses and validates one record, throwing {@link IllegalArgumentException} with the rejection reason.
+     */
+    T parse(CsvRow row);
+
+    /**
+     * Writes a batch inside the caller's transaction and returns the rows that were written. Rows that can only be
+     * rejected against the database state (unknown product, duplicate inventory) are reported to {@code rejects}.
+     */
+    List<ParsedRow<T>> write(List<ParsedRow<T>> rows, RejectionSink rejects);
+
+    /**
+     * Called after the batch has committed.
+     */
+    default void afterCommit(List<ParsedRow<T>> written) {
+    }
+
+    record ParsedRow<T>(long line, List<String> values, T value) {
+    }
+
+    @FunctionalInterface
+    interface RejectionSink {
+        void reject(long line, List<String> values, String reason);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.intelligent_inventory_prediction_system.service.importer;
+
+import com.example.intelligent_inventory_prediction_system.service.catalog.ProductIdFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.example.intelligent_inventory_prediction_system.constants.ImportConstants.IMPORT_INVALID_DATE_MESSAGE;
+import static com.example.intelligent_inventory_prediction_system.constants.ImportConstants.IMPORT_INVALID_QUANTITY_MESSAGE;
+import static com.example.intelligent_inventory_prediction_system.constants.InventoryConstant.PRODUCT_ID_NULL_MESSAGE;
+import static com.example.intelligent_inventory_prediction_system.constants.ProductConstants.PRODUCT_NOT_FOUND_MESSAGE;
+
+@Component
+@RequiredArgsConstructor
+class DemandCsvImporter implements CsvRowImporter<DemandCsvImporter.Demand> {
+
+    private static final List<String> COLUMNS = List.of("product_id", "demand_date", "quantity");
+
+    private final BulkInsertWriter bulkInsertWriter;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ProductIdFilter productIdFilter;
+
+    @Override
+    public ImportType type() {
+        return ImportType.DEMAND;
+    }
+
+    @Override
+    public List<String> requiredColumns() {
+        return List.of("productId", "date", "quantity");
+    }
+
+    @Override
+    public Demand parse(CsvRow row) {
+        Long productId = row.getLong("productId");
+        if (productId == null) {
+            throw new IllegalArgumentException(PRODUCT_ID_NULL_MESSAGE);
+        }
+        String date = row.get("date");
+        LocalDate demandDate;
+        try {
+            demandDate = LocalDate.parse(date == null ? "" : date);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(IMPORT_INVALID_DATE_MESSAGE + date);
+        }
+        Integer quantity = row.getInteger("quantity");
+        if (quantity == null || quantity < 0) {
+            throw new IllegalArgumentException(IMPORT_INVALID_QUANTITY_MESSAGE + quantity);
+        }
+        return new Demand(productId, demandDate, quantity);
+    }
+
+    @Override
+    public List<ParsedRow<Demand>> write(List<ParsedRow<Demand>> rows, RejectionSink rejects) {
+        List<Long> productIds = rows.stream().map(row -> row.value().productId()).distinct().toList();
+        Set<Long> knownProducts = productIdFilter.findExisting(productIds, candidates -> jdbcTemplate.queryForList(
+                "SELECT id FROM product WHERE id IN (:ids)", Map.of("ids", candidates), Long.class));
+
+        List<ParsedRow<Demand>> accepted = new ArrayList<>(rows.size());
+        List<Object[]> values = new ArrayList<>(rows.size());
+        for (ParsedRow<Demand> row : rows) {
+            Demand demand = row.value();
+            if (!knownProducts.contains(demand.productId())) {
+                rejects.reject(row.line(), row.values(), PRODUCT_NOT_FOUND_MESSAGE + demand.productId());
+                continue;
+            }
+            accepted.add(row);
+            values.add(new Object[]{demand.productId(), Date.valueOf(demand.date()), demand.quantity()});
+        }
+        bulkInsertWriter.insert("demand_history", COLUMNS, values);
+        return accepted;
+    }
+
+    record Demand(long productId, LocalDate date, int quantity) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.intelligent_inventory_prediction_system.service.importer;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one CSV import. {@code committedRows} counts data rows (after the header) whose outcome, imported
+ * or rejected, is durable; a resumed upload of the same file skips exactly that many rows.
+ */
+@Getter
+public class ImportJob {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String id;
+    private final ImportType type;
+    private final Path directory;
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile Status status;
+    private volatile long committedRows;
+    private volatile long rowsImported;
+    private volatile long rowsRejected;
+    private volatile long totalBytes = -1;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    ImportJob(String id, ImportType type, Path directory) {
+        this.id = id;
+        this.type = type;
+        this.directory = directory;
+    }
+
+    void restore(Status status, long committedRows, long rowsImported, long rowsRejected, String error) {
+        this.status = status;
+        this.committedRows = committedRows;
+        this.rowsImported = rowsImported;
+        this.rowsRejected = rowsRejected;
+        this.error = error;
+    }
+
+    void begin(long totalBytes) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalArgumentException("Import job is already running: " + id);
+        }
+        if (status == Status.COMPLETED) {
+            running.set(false);
+            throw new IllegalArgumentException("Import job has already completed: " + id);
+        }
+        this.status = Status.RUNNING;
+        this.totalBytes = totalBytes;
+        this.bytesRead.set(0);
+        this.rowsRead.set(committedRows);
+        this.startedAt = Instant.now();
+        this.finishedAt = null;
+        this.error = null;
+    }
+
+    void recordCommit(long committedRows, long imported, long rejected) {
+        this.committedRows = committedRows;
+        this.rowsImported += imported;
+        this.rowsRejected += rejected;
+    }
+
+    void complete() {
+        this.status = Status.COMPLETED;
+        this.finishedAt = Instant.now();
+    }
+
+    void fail(String error) {
+        this.status = Status.FAILED;
+        this.error = error;
+        this.finishedAt = Instant.now();
+    }
+
+    void release() {
+        running.set(false);
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public Path getRejectedRowsFile() {
+        return directory.resolve("rejected.csv");
+    }
+}
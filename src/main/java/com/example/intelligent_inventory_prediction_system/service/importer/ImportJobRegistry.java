@@ -0,0 +1,118 @@
+package com.example.intelligent_inventory_prediction_system.service.importer;
+
+import com.example.intelligent_inventory_prediction_system.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.example.intelligent_inventory_prediction_system.constants.ImportConstants.IMPORT_JOB_NOT_FOUND_MESSAGE;
+
+/**
+ * Keeps import jobs in memory and checkpoints each one to {@code <directory>/<jobId>/job.properties} after every
+ * committed batch, so a job can be resumed after a restart as well as after a dropped upload.
+ */
+@Slf4j
+@Component
+public class ImportJobRegistry {
+
+    private static final String CHECKPOINT_FILE = "job.properties";
+
+    private final Path root;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ImportJobRegistry(@Value("${inventory.import.directory:${java.io.tmpdir}/inventory-imports}") String directory) {
+        this.root = Path.of(directory);
+    }
+
+    public ImportJob create(ImportType type) {
+        String id = UUID.randomUUID().toString();
+        ImportJob job = new ImportJob(id, type, root.resolve(id));
+        try {
+            Files.createDirectories(job.getDirectory());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create import job directory " + job.getDirectory(), e);
+        }
+        jobs.put(id, job);
+        return job;
+    }
+
+    public ImportJob find(String jobId) {
+        ImportJob job = jobs.get(parseJobId(jobId));
+        if (job != null) {
+            return job;
+        }
+        ImportJob restored = restore(jobId);
+        ImportJob existing = jobs.putIfAbsent(jobId, restored);
+        return existing != null ? existing : restored;
+    }
+
+    public void checkpoint(ImportJob job) {
+        Properties properties = new Properties();
+        properties.setProperty("type", job.getType().name());
+        properties.setProperty("status", String.valueOf(job.getStatus()));
+        properties.setProperty("committedRows", Long.toString(job.getCommittedRows()));
+        properties.setProperty("rowsImported", Long.toString(job.getRowsImported()));
+        properties.setProperty("rowsRejected", Long.toString(job.getRowsRejected()));
+        if (job.getError() != null) {
+            properties.setProperty("error", job.getError());
+        }
+        Path checkpoint = job.getDirectory().resolve(CHECKPOINT_FILE);
+        Path temporary = job.getDirectory().resolve(CHECKPOINT_FILE + ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temporary)) {
+                properties.store(out, null);
+            }
+            Files.move(temporary, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not checkpoint import job " + job.getId(), e);
+        }
+    }
+
+    private ImportJob restore(String jobId) {
+        Path checkpoint = root.resolve(jobId).resolve(CHECKPOINT_FILE);
+        if (!Files.exists(checkpoint)) {
+            throw new ResourceNotFoundException(IMPORT_JOB_NOT_FOUND_MESSAGE + jobId);
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(checkpoint)) {
+            properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read import job checkpoint " + checkpoint, e);
+        }
+        ImportJob job = new ImportJob(jobId, ImportType.valueOf(properties.getProperty("type")), checkpoint.getParent());
+        String status = properties.getProperty("status");
+        job.restore(
+                "null".equals(status) ? null : ImportJob.Status.valueOf(status),
+                Long.parseLong(properties.getProperty("committedRows", "0")),
+                Long.parseLong(properties.getProperty("rowsImported", "0")),
+                Long.parseLong(properties.getProperty("rowsRejected", "0")),
+                properties.getProperty("error"));
+        log.info("Restored import job {} from checkpoint at row {}", jobId, job.getCommittedRows());
+        return job;
+    }
+
+    // Job ids are used as directory names, so only canonical UUIDs are accepted.
+    private static String parseJobId(String jobId) {
+        try {
+            UUID uuid = UUID.fromString(jobId);
+            if (uuid.toString().equals(jobId)) {
+                return jobId;
+            }
+        } catch (IllegalArgumentException ignored) {
+            // fall through to the common error below
+        }
+        throw new IllegalArgumentException("Invalid import job id: " + jobId);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.intelligent_inventory_prediction_system.service.importer;
+
+public enum ImportType {
+    PRODUCTS,
+    INVENTORIES,
+    DEMAND
+}
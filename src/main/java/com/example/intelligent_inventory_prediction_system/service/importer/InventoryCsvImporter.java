@@ -0,0 +1,147 @@
+package com.example.intelligent_inventory_prediction_system.service.importer;
+
+import com.example.intelligent_inventory_prediction_system.dto.request.InventoryRequestDTO;
+import com.example.intelligent_inventory_prediction_system.service.catalog.ProductIdFilter;
+import com.example.intelligent_inventory_prediction_system.service.change.ChangeLog;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
+import com.example.intelligent_inventory_prediction_system.service.stock.StockChangePublisher;
+import com.example.intelligent_inventory_prediction_system.validator.InventoryValidator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.example.intelligent_inventory_prediction_system.constants.ImportConstants.IMPORT_DUPLICATE_INVENTORY_MESSAGE;
+import static com.example.intelligent_inventory_prediction_system.constants.ImportConstants.IMPORT_INVENTORIES_DISABLED_MESSAGE;
+import static com.example.intelligent_inventory_prediction_system.constants.ImportConstants.IMPORT_INVENTORIES_SHARDED_MESSAGE;
+import static com.example.intelligent_inventory_prediction_system.constants.ProductConstants.PRODUCT_NOT_FOUND_MESSAGE;
+
+@Component
+class InventoryCsvImporter implements CsvRowImporter<InventoryRequestDTO> {
+
+    private static final List<String> COLUMNS = List.of("product_id", "current_stock", "reorder_threshold", "last_updated",
+            "change_seq");
+
+    private final InventoryValidator inventoryValidator;
+    private final BulkInsertWriter bulkInsertWriter;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final StockChangePublisher stockChangePublisher;
+    private final ChangeLog changeLog;
+    private final ProductIdFilter productIdFilter;
+    private final boolean enabled;
+
+    InventoryCsvImporter(
+            InventoryValidator inventoryValidator,
+            BulkInsertWriter bulkInsertWriter,
+            NamedParameterJdbcTemplate jdbcTemplate,
+            StockChangePublisher stockChangePublisher,
+            ChangeLog changeLog,
+            ProductIdFilter productIdFilter,
+            ShardedInventoryStore shardedInventoryStore,
+            @Value("${inventory.import.inventories.enabled:true}") boolean enabled
+    ) {
+        // Rows are copied straight into the primary's inventory table, which sharded reads never look at.
+        if (enabled && shardedInventoryStore.isEnabled()) {
+            throw new IllegalStateException(IMPORT_INVENTORIES_SHARDED_MESSAGE);
+        }
+        this.inventoryValidator = inventoryValidator;
+        this.bulkInsertWriter = bulkInsertWriter;
+        this.jdbcTemplate = jdbcTemplate;
+        this.stockChangePublisher = stockChangePublisher;
+        this.changeLog = changeLog;
+        this.productIdFilter = productIdFilter;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public ImportType type() {
+        return ImportType.INVENTORIES;
+    }
+
+    @Override
+    public List<String> requiredColumns() {
+        return List.of("productId", "currentStock");
+    }
+
+    @Override
+    public void checkAvailable() {
+        if (!enabled) {
+            throw new IllegalArgumentException(IMPORT_INVENTORIES_DISABLED_MESSAGE);
+        }
+    }
+
+    @Override
+    public InventoryRequestDTO parse(CsvRow row) {
+        InventoryRequestDTO request = new InventoryRequestDTO();
+        request.setProductId(row.getLong("productId"));
+        request.setCurrentStock(row.getInteger("currentStock"));
+        request.setReorderThreshold(row.getInteger("reorderThreshold"));
+        inventoryValidator.validateCreateRequest(request);
+        return request;
+    }
+
+    @Override
+    public List<ParsedRow<InventoryRequestDTO>> write(List<ParsedRow<InventoryRequestDTO>> rows, RejectionSink rejects) {
+        Set<Long> knownProducts = productIdFilter.findExisting(productIds(rows), candidates -> jdbcTemplate.queryForList(
+                "SELECT id FROM product WHERE id IN (:ids)", Map.of("ids", candidates), Long.class));
+        Set<Long> stocked = knownProducts.isEmpty() ? new HashSet<>() : new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT product_id FROM inventory WHERE product_id IN (:ids)", Map.of("ids", knownProducts), Long.class));
+
+        List<ParsedRow<InventoryRequestDTO>> accepted = new ArrayList<>(rows.size());
+        for (ParsedRow<InventoryRequestDTO> row : rows) {
+            Long productId = row.value().getProductId();
+            if (!knownProducts.contains(productId)) {
+                rejects.reject(row.line(), row.values(), PRODUCT_NOT_FOUND_MESSAGE + productId);
+            } else if (!stocked.add(productId)) {
+                rejects.reject(row.line(), row.values(), IMPORT_DUPLICATE_INVENTORY_MESSAGE + productId);
+            } else {
+                accepted.add(row);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return accepted;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long changeSeq = changeLog.next(accepted.size());
+        List<Object[]> values = new ArrayList<>(accepted.size());
+        for (ParsedRow<InventoryRequestDTO> row : accepted) {
+            values.add(new Object[]{
+                    row.value().getProductId(),
+                    row.value().getCurrentStock(),
+                    row.value().getReorderThreshold(),
+                    now,
+                    changeSeq++
+            });
+        }
+        bulkInsertWriter.insert("inventory", COLUMNS, values);
+        return accepted;
+    }
+
+    @Override
+    public void afterCommit(List<ParsedRow<InventoryRequestDTO>> written) {
+        if (written.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.query(
+                "SELECT id, current_stock, reorder_threshold FROM inventory WHERE product_id IN (:ids)",
+                Map.of("ids", productIds(written)),
+                resultSet -> {
+                    stockChangePublisher.publishStockChange(
+                            resultSet.getLong("id"),
+                            resultSet.getInt("current_stock"),
+                            resultSet.getObject("reorder_threshold", Integer.class));
+                });
+    }
+
+    private static List<Long> productIds(List<ParsedRow<InventoryRequestDTO>> rows) {
+        return rows.stream().map(row -> row.value().getProductId()).distinct().toList();
+    }
+}
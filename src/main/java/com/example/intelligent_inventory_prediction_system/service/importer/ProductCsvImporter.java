@@ -0,0 +1,97 @@
+package com.example.intelligent_inventory_prediction_system.service.importer;
+
+import com.example.intelligent_inventory_prediction_system.dto.request.ProductRequestDTO;
+import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
+import com.example.intelligent_inventory_prediction_system.service.catalog.ProductIdFilter;
+import com.example.intelligent_inventory_prediction_system.service.change.ChangeLog;
+import com.example.intelligent_inventory_prediction_system.validator.ProductValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.example.intelligent_inventory_prediction_system.constants.ImportConstants.IMPORT_INVALID_STATUS_MESSAGE;
+import static com.example.intelligent_inventory_prediction_system.constants.ImportConstants.IMPORT_PRICE_REQUIRED_MESSAGE;
+
+@Component
+@RequiredArgsConstructor
+class ProductCsvImporter implements CsvRowImporter<ProductRequestDTO> {
+
+    private static final List<String> COLUMNS = List.of("name", "description", "category", "price", "status",
+            "change_seq");
+
+    private final ProductValidator productValidator;
+    private final BulkInsertWriter bulkInsertWriter;
+    private final ChangeLog changeLog;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ProductIdFilter productIdFilter;
+
+    @Override
+    public ImportType type() {
+        return ImportType.PRODUCTS;
+    }
+
+    @Override
+    public List<String> requiredColumns() {
+        return List.of("name", "category", "price", "status");
+    }
+
+    @Override
+    public ProductRequestDTO parse(CsvRow row) {
+        ProductRequestDTO request = new ProductRequestDTO();
+        request.setName(row.get("name"));
+        request.setDescription(row.get("description"));
+        request.setCategory(row.get("category"));
+        request.setPrice(row.getDouble("price"));
+        if (request.getPrice() == null) {
+            throw new IllegalArgumentException(IMPORT_PRICE_REQUIRED_MESSAGE);
+        }
+        request.setStatus(parseStatus(row.get("status")));
+        productValidator.validateStatus(request.getStatus());
+        productValidator.validateCreateRequest(request);
+        return request;
+    }
+
+    @Override
+    public List<ParsedRow<ProductRequestDTO>> write(List<ParsedRow<ProductRequestDTO>> rows, RejectionSink rejects) {
+        long firstChangeSeq = changeLog.next(rows.size());
+        long changeSeq = firstChangeSeq;
+        List<Object[]> values = new ArrayList<>(rows.size());
+        for (ParsedRow<ProductRequestDTO> row : rows) {
+            ProductRequestDTO product = row.value();
+            values.add(new Object[]{
+                    product.getName(),
+                    product.getDescription(),
+                    product.getCategory(),
+                    product.getPrice(),
+                    product.getStatus().ordinal(),
+                    changeSeq++
+            });
+        }
+        bulkInsertWriter.insert("product", COLUMNS, values);
+        if (productIdFilter.isEnabled()) {
+            // The generated ids are not returned by the batch insert; the change sequence range identifies the rows.
+            jdbcTemplate.query("SELECT id FROM product WHERE change_seq BETWEEN :first AND :last",
+                    Map.of("first", firstChangeSeq, "last", changeSeq - 1),
+                    resultSet -> {
+                        productIdFilter.added(resultSet.getLong("id"));
+                    });
+        }
+        return rows;
+    }
+
+    private static ProductStatus parseStatus(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return ProductStatus.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(IMPORT_INVALID_STATUS_MESSAGE + value);
+        }
+    }
+}
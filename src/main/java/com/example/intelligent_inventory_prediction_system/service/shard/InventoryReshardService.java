@@ -0,0 +1,144 @@
+package com.example.intelligent_inventory_prediction_system.service.shard;
+
+import com.example.intelligent_inventory_prediction_system.model.Inventory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.intelligent_inventory_prediction_system.service.shard.InventoryShardRouter.BUCKET_COUNT;
+import static com.example.intelligent_inventory_prediction_system.service.shard.InventoryShardRouter.NOT_MIGRATING;
+
+/**
+ * Online re-sharding by moving buckets between shards while the service keeps serving:
+ * <ol>
+ *     <li>start dual writes to the target,</li>
+ *     <li>copy the bucket in id order, never overwriting a row a dual write already put there,</li>
+ *     <li>cut over under the bucket's write lock after reconciling deletes made during the copy,</li>
+ *     <li>purge the old copy.</li>
+ * </ol>
+ * Every step is idempotent, so a move interrupted by a restart is finished by running it again. The cut-over lock
+ * is in-process: with several instances writing, pause writes elsewhere while a move runs.
+ */
+@Slf4j
+@Service
+public class InventoryReshardService {
+
+    private final ShardedInventoryStore store;
+    private final int copyBatchSize;
+
+    public InventoryReshardService(
+            ShardedInventoryStore store,
+            @Value("${inventory.sharding.copy-batch-size:1000}") int copyBatchSize
+    ) {
+        this.store = store;
+        this.copyBatchSize = copyBatchSize;
+    }
+
+    public synchronized BucketMove moveBucket(int bucket, int targetShard) {
+        if (!store.isEnabled()) {
+            throw new IllegalStateException("Inventory sharding is not enabled");
+        }
+        if (bucket < 0 || bucket >= BUCKET_COUNT) {
+            throw new IllegalArgumentException("Bucket must be between 0 and " + (BUCKET_COUNT - 1));
+        }
+        if (targetShard < 0 || targetShard >= store.getShardCount()) {
+            throw new IllegalArgumentException("Shard must be between 0 and " + (store.getShardCount() - 1));
+        }
+        int source = store.ownerOf(bucket);
+        if (source == targetShard) {
+            return new BucketMove(bucket, source, targetShard, 0);
+        }
+        int migrationTarget = store.migrationTargetOf(bucket);
+        if (migrationTarget != NOT_MIGRATING && migrationTarget != targetShard) {
+            throw new IllegalStateException("Bucket " + bucket + " is already being moved to shard " + migrationTarget);
+        }
+
+        long start = System.nanoTime();
+        if (migrationTarget == NOT_MIGRATING) {
+            store.beginMigration(bucket, targetShard);
+        }
+        long copied = 0;
+        long afterId = 0;
+        List<Inventory> batch;
+        do {
+            batch = store.readBucket(source, bucket, afterId, copyBatchSize);
+            copied += store.copyIfAbsent(targetShard, batch);
+            if (!batch.isEmpty()) {
+                afterId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == copyBatchSize);
+        store.completeMigration(bucket);
+        store.purgeBucket(source, bucket);
+
+        log.info("Moved bucket {} from shard {} to shard {} ({} rows copied) in {} ms", bucket, source, targetShard,
+                copied, (System.nanoTime() - start) / 1_000_000);
+        return new BucketMove(bucket, source, targetShard, copied);
+    }
+
+    /**
+     * Evens out bucket ownership, e.g. after adding shards, moving as few buckets as possible: only shards above
+     * their fair share give buckets away, each to the shard currently furthest below it.
+     */
+    public synchronized List<BucketMove> rebalance() {
+        if (!store.isEnabled()) {
+            throw new IllegalStateException("Inventory sharding is not enabled");
+        }
+        int shardCount = store.getShardCount();
+        int[] owned = store.bucketCounts();
+        int[] fairShare = new int[shardCount];
+        for (int shard = 0; shard < shardCount; shard++) {
+            fairShare[shard] = BUCKET_COUNT / shardCount + (shard < BUCKET_COUNT % shardCount ? 1 : 0);
+        }
+
+        List<BucketMove> moves = new ArrayList<>();
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            int owner = store.ownerOf(bucket);
+            if (owned[owner] <= fairShare[owner]) {
+                continue;
+            }
+            int target = mostUnderfilled(owned, fairShare);
+            if (target < 0) {
+                break;
+            }
+            moves.add(moveBucket(bucket, target));
+            owned[owner]--;
+            owned[target]++;
+        }
+        purgeLeftovers();
+        return moves;
+    }
+
+    /**
+     * Deletes copies of buckets left on shards that no longer serve them, e.g. by a move interrupted between the
+     * cut-over and the purge.
+     */
+    public synchronized int purgeLeftovers() {
+        int purged = 0;
+        for (int shard = 0; shard < store.getShardCount(); shard++) {
+            for (int bucket : List.copyOf(store.foreignBuckets(shard))) {
+                if (store.migrationTargetOf(bucket) != shard) {
+                    purged += store.purgeBucket(shard, bucket);
+                }
+            }
+        }
+        return purged;
+    }
+
+    private static int mostUnderfilled(int[] owned, int[] fairShare) {
+        int target = -1;
+        int deficit = 0;
+        for (int shard = 0; shard < owned.length; shard++) {
+            if (fairShare[shard] - owned[shard] > deficit) {
+                deficit = fairShare[shard] - owned[shard];
+                target = shard;
+            }
+        }
+        return target;
+    }
+
+    public record BucketMove(int bucket, int fromShard, int toShard, long rowsCopied) {
+    }
+}
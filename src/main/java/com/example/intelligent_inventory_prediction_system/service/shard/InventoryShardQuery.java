@@ -0,0 +1,101 @@
+package com.example.intelligent_inventory_prediction_system.service.shard;
+
+import com.example.intelligent_inventory_prediction_system.dto.search.InventorySearchCriteria;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQL counterpart of {@code InventorySpecs} for the sharded inventory table. A query on a product id is routed to
+ * the single shard owning that product; everything else is scattered to every shard.
+ */
+public final class InventoryShardQuery {
+
+    private static final InventoryShardQuery ALL = new InventoryShardQuery("1 = 1", List.of(), null);
+
+    private final String where;
+    private final List<Object> arguments;
+    private final Long productId;
+
+    private InventoryShardQuery(String where, List<Object> arguments, Long productId) {
+        this.where = where;
+        this.arguments = List.copyOf(arguments);
+        this.productId = productId;
+    }
+
+    public static InventoryShardQuery all() {
+        return ALL;
+    }
+
+    public static InventoryShardQuery matchesCriteria(InventorySearchCriteria criteria) {
+        List<String> predicates = new ArrayList<>(3);
+        List<Object> arguments = new ArrayList<>(3);
+        if (criteria.getProductId() != null) {
+            predicates.add("product_id = ?");
+            arguments.add(criteria.getProductId());
+        }
+        if (criteria.getMinStock() != null) {
+            predicates.add("current_stock >= ?");
+            arguments.add(criteria.getMinStock());
+        }
+        if (criteria.getMaxStock() != null) {
+            predicates.add("current_stock <= ?");
+            arguments.add(criteria.getMaxStock());
+        }
+        if (predicates.isEmpty()) {
+            return ALL;
+        }
+        return new InventoryShardQuery(String.join(" AND ", predicates), arguments, criteria.getProductId());
+    }
+
+    public static InventoryShardQuery hasProductId(Long productId) {
+        if (productId == null) {
+            return ALL;
+        }
+        return new InventoryShardQuery("product_id = ?", List.of(productId), productId);
+    }
+
+    public static InventoryShardQuery hasStockBetween(Integer minStock, Integer maxStock) {
+        return matchesCriteria(InventorySearchCriteria.builder().minStock(minStock).maxStock(maxStock).build());
+    }
+
+    public static InventoryShardQuery hasStockGreaterThan(Integer minStock) {
+        if (minStock == null) {
+            return ALL;
+        }
+        return new InventoryShardQuery("current_stock > ?", List.of(minStock), null);
+    }
+
+    public static InventoryShardQuery changedBetween(long after, long upTo) {
+        return new InventoryShardQuery("change_seq > ? AND change_seq <= ?", List.of(after, upTo), null);
+    }
+
+    public static InventoryShardQuery hasIdAfter(long afterId) {
+        return new InventoryShardQuery("id > ?", List.of(afterId), null);
+    }
+
+    public static InventoryShardQuery stockedAfter(long afterId) {
+        return new InventoryShardQuery("id > ? AND current_stock IS NOT NULL", List.of(afterId), null);
+    }
+
+    public static InventoryShardQuery isBelowReorderThreshold() {
+        return new InventoryShardQuery("current_stock < reorder_threshold", List.of(), null);
+    }
+
+    String getWhere() {
+        return where;
+    }
+
+    Object[] getArguments() {
+        return arguments.toArray();
+    }
+
+    Long getProductId() {
+        return productId;
+    }
+
+    @Override
+    public String toString() {
+        return where + " " + arguments;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.intelligent_inventory_prediction_system.service.shard;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Maps products to a fixed set of virtual buckets and buckets to shards. Inventory ids carry their bucket in the
+ * low bits, so a lookup by id finds its shard without a directory, and re-sharding moves whole buckets instead of
+ * rehashing every row.
+ * <p>
+ * Id layout: {@code sequence << 16 | allocatingShard << 10 | bucket}. The allocating shard keeps ids unique after a
+ * bucket has moved to a shard with its own sequence.
+ */
+final class InventoryShardRouter {
+
+    static final int BUCKET_BITS = 10;
+    static final int BUCKET_COUNT = 1 << BUCKET_BITS;
+    static final int SHARD_BITS = 6;
+    static final int MAX_SHARDS = 1 << SHARD_BITS;
+    static final int NOT_MIGRATING = -1;
+
+    private final AtomicIntegerArray owners = new AtomicIntegerArray(BUCKET_COUNT);
+    private final AtomicIntegerArray migrationTargets = new AtomicIntegerArray(BUCKET_COUNT);
+    private final ReadWriteLock[] bucketLocks = new ReadWriteLock[BUCKET_COUNT];
+
+    InventoryShardRouter() {
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            migrationTargets.set(bucket, NOT_MIGRATING);
+            bucketLocks[bucket] = new ReentrantReadWriteLock();
+        }
+    }
+
+    // Fibonacci hashing: sequential product ids spread evenly over the buckets.
+    static int bucketOfProduct(long productId) {
+        return (int) ((productId * 0x9E3779B97F4A7C15L) >>> (Long.SIZE - BUCKET_BITS));
+    }
+
+    static int bucketOfId(long inventoryId) {
+        return (int) (inventoryId & (BUCKET_COUNT - 1));
+    }
+
+    static long composeId(long sequence, int allocatingShard, int bucket) {
+        return (sequence << (SHARD_BITS + BUCKET_BITS)) | ((long) allocatingShard << BUCKET_BITS) | bucket;
+    }
+
+    int ownerOf(int bucket) {
+        return owners.get(bucket);
+    }
+
+    int migrationTargetOf(int bucket) {
+        return migrationTargets.get(bucket);
+    }
+
+    void assign(int bucket, int shard, int migrationTarget) {
+        owners.set(bucket, shard);
+        migrationTargets.set(bucket, migrationTarget);
+    }
+
+    /** Held by writers; the migration cut-over takes the write side so no write is in flight while it flips. */
+    ReadWriteLock lockOf(int bucket) {
+        return bucketLocks[bucket];
+    }
+
+    int[] bucketCounts(int shardCount) {
+        int[] counts = new int[shardCount];
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            counts[owners.get(bucket)]++;
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.intelligent_inventory_prediction_system.service.shard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * K-way merge of per-shard results that are each already sorted by the same comparator.
+ */
+final class ShardMerge {
+
+    private ShardMerge() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Returns elements {@code [offset, offset + limit)} of the merged order, reading only as far into each shard's
+     * list as needed.
+     */
+    static <T> List<T> merge(List<List<T>> sortedRuns, Comparator<? super T> comparator, long offset, int limit) {
+        PriorityQueue<Cursor<T>> heads = new PriorityQueue<>(Math.max(1, sortedRuns.size()),
+                (a, b) -> comparator.compare(a.head(), b.head()));
+        for (List<T> run : sortedRuns) {
+            if (!run.isEmpty()) {
+                heads.add(new Cursor<>(run));
+            }
+        }
+        List<T> merged = new ArrayList<>(Math.max(0, Math.min(limit, 1024)));
+        long skipped = 0;
+        while (!heads.isEmpty() && merged.size() < limit) {
+            Cursor<T> cursor = heads.poll();
+            T element = cursor.next();
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                merged.add(element);
+            }
+            if (cursor.hasNext()) {
+                heads.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    private static final class Cursor<T> {
+
+        private final List<T> run;
+        private int position;
+
+        Cursor(List<T> run) {
+            this.run = run;
+        }
+
+        T head() {
+            return run.get(position);
+        }
+
+        T next() {
+            return run.get(position++);
+        }
+
+        boolean hasNext() {
+            return position < run.size();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.intelligent_inventory_prediction_system.service.shard;
+
+import com.example.intelligent_inventory_prediction_system.model.Inventory;
+import com.example.intelligent_inventory_prediction_system.model.Product;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Carries inventory writes from the primary's transactions to the shards. A write is queued in
+ * {@code inventory_shard_outbox} on the primary as part of the caller's transaction and applied to the shards once
+ * that transaction commits, so a shard sees exactly the writes whose transaction committed. A write that cannot be
+ * applied then, because a shard is down or the instance stops, stays queued and is retried in change order every
+ * {@code outbox-retry-seconds}; applying twice is harmless.
+ * <p>
+ * Until a queued write is applied, reads still see the shard row as it was, and the inventory change feed waits
+ * below its change sequence.
+ */
+@Slf4j
+@Component
+public class ShardWriteOutbox {
+
+    public static final String TABLE = "inventory_shard_outbox";
+    private static final String CREATE_TABLE_SQL = "CREATE TABLE IF NOT EXISTS " + TABLE + " ("
+            + "change_seq BIGINT PRIMARY KEY, operation VARCHAR(8) NOT NULL, inventory_id BIGINT NOT NULL, "
+            + "product_id BIGINT, current_stock INT, reorder_threshold INT, last_updated TIMESTAMP, "
+            + "queued_at BIGINT NOT NULL)";
+    private static final String QUEUE_SQL = "INSERT INTO " + TABLE + " (change_seq, operation, inventory_id, "
+            + "product_id, current_stock, reorder_threshold, last_updated, queued_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String DEQUEUE_SQL = "DELETE FROM " + TABLE + " WHERE change_seq = ?";
+    private static final int RETRY_BATCH_SIZE = 1_000;
+    private static final RowMapper<QueuedWrite> ROW_MAPPER = (resultSet, rowNum) -> {
+        Product product = new Product();
+        product.setId(resultSet.getObject("product_id", Long.class));
+        Inventory inventory = new Inventory();
+        inventory.setId(resultSet.getLong("inventory_id"));
+        inventory.setProduct(product);
+        inventory.setCurrentStock(resultSet.getObject("current_stock", Integer.class));
+        inventory.setReorderThreshold(resultSet.getObject("reorder_threshold", Integer.class));
+        inventory.setLastUpdated(resultSet.getObject("last_updated", LocalDateTime.class));
+        inventory.setChangeSeq(resultSet.getLong("change_seq"));
+        return new QueuedWrite(resultSet.getLong("change_seq"), Operation.valueOf(resultSet.getString("operation")),
+                inventory);
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate separateTransaction;
+    private final ShardedInventoryStore shardedInventoryStore;
+    private final long retryDelayMillis;
+    private final LongSupplier clock;
+    private ScheduledExecutorService retrier;
+
+    @Autowired
+    public ShardWriteOutbox(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            ShardedInventoryStore shardedInventoryStore,
+            @Value("${inventory.sharding.outbox-retry-seconds:30}") long retrySeconds
+    ) {
+        this(dataSource, transactionManager, shardedInventoryStore, TimeUnit.SECONDS.toMillis(retrySeconds),
+                System::currentTimeMillis);
+    }
+
+    ShardWriteOutbox(DataSource dataSource, PlatformTransactionManager transactionManager,
+                     ShardedInventoryStore shardedInventoryStore, long retryDelayMillis, LongSupplier clock) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // Writes made after a commit would otherwise join the finished transaction and never commit.
+        this.separateTransaction = new TransactionTemplate(transactionManager);
+        this.separateTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.shardedInventoryStore = shardedInventoryStore;
+        this.retryDelayMillis = retryDelayMillis;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        if (!isEnabled()) {
+            return;
+        }
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+        retrier = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "inventory-shard-outbox");
+            thread.setDaemon(true);
+            return thread;
+        });
+        retrier.scheduleWithFixedDelay(this::retryQuietly, retryDelayMillis, retryDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (retrier != null) {
+            retrier.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return shardedInventoryStore.isEnabled();
+    }
+
+    /**
+     * Queues the insert of a new inventory, or the update of an existing one, in the current transaction. A new
+     * inventory gets its id here. The inventory must carry its change sequence.
+     */
+    public Inventory save(Inventory inventory) {
+        boolean created = inventory.getId() == null;
+        shardedInventoryStore.assignId(inventory);
+        queue(new QueuedWrite(inventory.getChangeSeq(), created ? Operation.INSERT : Operation.UPDATE, inventory));
+        return inventory;
+    }
+
+    /**
+     * Queues the removal of an inventory in the current transaction, under the change sequence of its tombstone.
+     */
+    public void deleteById(long id, long changeSeq) {
+        Inventory inventory = new Inventory();
+        inventory.setId(id);
+        queue(new QueuedWrite(changeSeq, Operation.DELETE, inventory));
+    }
+
+    /**
+     * Applies the writes queued for longer than the retry delay, oldest change first, and stops at the first one
+     * that fails so that later writes to the same row never overtake it.
+     */
+    int retry() {
+        List<QueuedWrite> queued = jdbcTemplate.query("SELECT * FROM " + TABLE
+                        + " WHERE queued_at <= ? ORDER BY change_seq LIMIT ?", ROW_MAPPER,
+                clock.getAsLong() - retryDelayMillis, RETRY_BATCH_SIZE);
+        for (QueuedWrite write : queued) {
+            apply(write);
+        }
+        if (!queued.isEmpty()) {
+            log.info("Applied {} queued shard write(s)", queued.size());
+        }
+        return queued.size();
+    }
+
+    private void queue(QueuedWrite write) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Shard writes can only be queued inside a transaction");
+        }
+        Inventory inventory = write.inventory();
+        jdbcTemplate.update(QUEUE_SQL, write.changeSeq(), write.operation().name(), inventory.getId(),
+                inventory.getProduct() == null ? null : inventory.getProduct().getId(), inventory.getCurrentStock(),
+                inventory.getReorderThreshold(), inventory.getLastUpdated(), clock.getAsLong());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    apply(write);
+                } catch (RuntimeException e) {
+                    log.warn("Shard write of inventory {} stays queued for retry", inventory.getId(), e);
+                }
+            }
+        });
+    }
+
+    private void apply(QueuedWrite write) {
+        switch (write.operation()) {
+            case INSERT -> shardedInventoryStore.write(write.inventory(), true);
+            case UPDATE -> shardedInventoryStore.write(write.inventory(), false);
+            case DELETE -> shardedInventoryStore.deleteById(write.inventory().getId());
+        }
+        separateTransaction.executeWithoutResult(status -> jdbcTemplate.update(DEQUEUE_SQL, write.changeSeq()));
+    }
+
+    private void retryQuietly() {
+        try {
+            retry();
+        } catch (RuntimeException e) {
+            log.warn("Retrying queued shard writes failed", e);
+        }
+    }
+
+    private enum Operation {
+        INSERT, UPDATE, DELETE
+    }
+
+    private record QueuedWrite(long changeSeq, Operation operation, Inventory inventory) {
+    }
+}
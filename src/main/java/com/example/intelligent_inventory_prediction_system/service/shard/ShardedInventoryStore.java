@@ -0,0 +1,732 @@
+package com.example.intelligent_inventory_prediction_system.service.shard;
+
+import com.example.intelligent_inventory_prediction_system.model.Inventory;
+import com.example.intelligent_inventory_prediction_system.model.Product;
+import com.example.intelligent_inventory_prediction_system.repository.projection.StockLevel;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import static com.example.intelligent_inventory_prediction_system.service.shard.InventoryShardRouter.BUCKET_COUNT;
+import static com.example.intelligent_inventory_prediction_system.service.shard.InventoryShardRouter.NOT_MIGRATING;
+
+/**
+ * Inventory persistence over N shard databases, enabled by listing them in {@code inventory.sharding.urls}. Rows
+ * live on the shard owning the bucket of their product id; lookups by id or product go to one shard, everything
+ * else is scattered to all shards in parallel and merged in sort order.
+ * <p>
+ * While a bucket is being moved, writes go to both the owner and the target, and reads only see the owner's
+ * copy: each shard filters out the foreign buckets it is receiving or has just handed off.
+ * <p>
+ * Writes reach the shards through {@link ShardWriteOutbox}, which applies them once the primary transaction they
+ * belong to has committed. Applying a write is idempotent: an update never overwrites a row carrying a later change
+ * sequence, and an insert or delete that already happened does nothing.
+ */
+@Slf4j
+@Component
+public class ShardedInventoryStore {
+
+    private static final String TABLE = "inventory_shard";
+    private static final String COLUMNS = "id, bucket, product_id, current_stock, reorder_threshold, last_updated, change_seq";
+    private static final String INSERT_SQL = "INSERT INTO " + TABLE + " (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_IF_ABSENT_SQL = "INSERT INTO " + TABLE + " (" + COLUMNS + ") "
+            + "SELECT ?, ?, ?, ?, ?, ?, ? WHERE NOT EXISTS (SELECT 1 FROM " + TABLE + " WHERE id = ?)";
+    private static final String UPDATE_SQL = "UPDATE " + TABLE
+            + " SET product_id = ?, current_stock = ?, reorder_threshold = ?, last_updated = ?, change_seq = ? "
+            + "WHERE id = ? AND (change_seq IS NULL OR change_seq < ?)";
+    private static final int ID_BATCH_SIZE = 1_000;
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "productId", "product_id",
+            "product.id", "product_id",
+            "currentStock", "current_stock",
+            "reorderThreshold", "reorder_threshold",
+            "lastUpdated", "last_updated",
+            "changeSeq", "change_seq");
+    private static final RowMapper<Inventory> ROW_MAPPER = (resultSet, rowNum) -> {
+        Product product = new Product();
+        product.setId(resultSet.getLong("product_id"));
+        Inventory inventory = new Inventory();
+        inventory.setId(resultSet.getLong("id"));
+        inventory.setProduct(product);
+        inventory.setCurrentStock(resultSet.getObject("current_stock", Integer.class));
+        inventory.setReorderThreshold(resultSet.getObject("reorder_threshold", Integer.class));
+        inventory.setLastUpdated(resultSet.getObject("last_updated", LocalDateTime.class));
+        inventory.setChangeSeq(resultSet.getObject("change_seq", Long.class));
+        return inventory;
+    };
+
+    private final List<Shard> shards;
+    private final int idBlockSize;
+    private final InventoryShardRouter router = new InventoryShardRouter();
+    private ExecutorService scatterExecutor;
+
+    @Autowired
+    public ShardedInventoryStore(
+            @Value("${inventory.sharding.urls:}") String urls,
+            @Value("${inventory.sharding.username:${spring.datasource.username:}}") String username,
+            @Value("${inventory.sharding.password:${spring.datasource.password:}}") String password,
+            @Value("${inventory.sharding.pool-size:10}") int poolSize,
+            @Value("${inventory.sharding.id-block-size:1000}") int idBlockSize
+    ) {
+        this(shardDataSources(urls, username, password, poolSize), idBlockSize);
+    }
+
+    ShardedInventoryStore(List<DataSource> dataSources, int idBlockSize) {
+        if (dataSources.size() > InventoryShardRouter.MAX_SHARDS) {
+            throw new IllegalArgumentException("At most " + InventoryShardRouter.MAX_SHARDS + " shards are supported");
+        }
+        List<Shard> configured = new ArrayList<>(dataSources.size());
+        for (DataSource dataSource : dataSources) {
+            configured.add(new Shard(configured.size(), dataSource));
+        }
+        this.shards = List.copyOf(configured);
+        this.idBlockSize = idBlockSize;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        if (!isEnabled()) {
+            return;
+        }
+        for (Shard shard : shards) {
+            createSchema(shard.jdbcTemplate);
+        }
+        loadBucketMap();
+        for (Shard shard : shards) {
+            for (Integer bucket : shard.jdbcTemplate.queryForList("SELECT DISTINCT bucket FROM " + TABLE, Integer.class)) {
+                if (router.ownerOf(bucket) != shard.index) {
+                    shard.foreignBuckets.add(bucket);
+                }
+            }
+            if (!shard.foreignBuckets.isEmpty()) {
+                log.warn("Shard {} holds rows of {} bucket(s) it does not own; they are hidden until moved or purged",
+                        shard.index, shard.foreignBuckets.size());
+            }
+        }
+        AtomicInteger threads = new AtomicInteger();
+        scatterExecutor = Executors.newFixedThreadPool(shards.size(), runnable -> {
+            Thread thread = new Thread(runnable, "inventory-shard-query-" + threads.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("Inventory sharded over {} shard(s), buckets per shard {}", shards.size(),
+                Arrays.toString(router.bucketCounts(shards.size())));
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (scatterExecutor != null) {
+            scatterExecutor.shutdownNow();
+        }
+        for (Shard shard : shards) {
+            if (shard.dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return !shards.isEmpty();
+    }
+
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    public Optional<Inventory> findById(long id) {
+        Shard shard = shards.get(router.ownerOf(InventoryShardRouter.bucketOfId(id)));
+        return shard.jdbcTemplate.query("SELECT " + COLUMNS + " FROM " + TABLE + " WHERE id = ?", ROW_MAPPER, id)
+                .stream().findFirst();
+    }
+
+    public List<Inventory> findAllById(long[] ids) {
+        Map<Integer, List<Long>> idsByShard = Arrays.stream(ids).boxed()
+                .collect(Collectors.groupingBy(id -> router.ownerOf(InventoryShardRouter.bucketOfId(id))));
+        List<Integer> targets = new ArrayList<>(idsByShard.keySet());
+        List<List<Inventory>> runs = scatter(targets, shardIndex -> {
+            List<Long> shardIds = idsByShard.get(shardIndex);
+            List<Inventory> found = new ArrayList<>(shardIds.size());
+            for (int from = 0; from < shardIds.size(); from += ID_BATCH_SIZE) {
+                List<Long> batch = shardIds.subList(from, Math.min(shardIds.size(), from + ID_BATCH_SIZE));
+                found.addAll(shards.get(shardIndex).jdbcTemplate.query("SELECT " + COLUMNS + " FROM " + TABLE
+                        + " WHERE id IN (" + placeholders(batch.size()) + ")", ROW_MAPPER, batch.toArray()));
+            }
+            found.sort(Comparator.comparing(Inventory::getId));
+            return found;
+        });
+        return ShardMerge.merge(runs, Comparator.comparing(Inventory::getId), 0, Integer.MAX_VALUE);
+    }
+
+    public List<Inventory> find(InventoryShardQuery query) {
+        return find(query, Pageable.unpaged()).getContent();
+    }
+
+    public Page<Inventory> find(InventoryShardQuery query, Pageable pageable) {
+        List<Integer> targets = targetsOf(query);
+        String orderBy = orderBy(pageable.getSort());
+        Comparator<Inventory> comparator = comparator(pageable.getSort());
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        int limit = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+
+        // Every shard has to supply offset + limit rows: any of them may hold the whole requested page.
+        List<List<Inventory>> runs = scatter(targets, shardIndex -> {
+            Shard shard = shards.get(shardIndex);
+            StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNS).append(" FROM ").append(TABLE)
+                    .append(" WHERE ").append(visibleRows(shard, query)).append(" ORDER BY ").append(orderBy);
+            Object[] arguments = query.getArguments();
+            if (pageable.isPaged()) {
+                sql.append(" LIMIT ?");
+                arguments = Arrays.copyOf(arguments, arguments.length + 1);
+                arguments[arguments.length - 1] = offset + limit;
+            }
+            return shard.jdbcTemplate.query(sql.toString(), ROW_MAPPER, arguments);
+        });
+        List<Inventory> content = ShardMerge.merge(runs, comparator, offset, limit);
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(content);
+        }
+        return new PageImpl<>(content, pageable, count(query, targets));
+    }
+
+    public long count(InventoryShardQuery query) {
+        return count(query, targetsOf(query));
+    }
+
+    /**
+     * Up to {@code limit} rows with a change sequence in {@code (after, upTo]}, in sequence order across all shards.
+     */
+    public List<Inventory> findChangedBetween(long after, long upTo, int limit) {
+        InventoryShardQuery query = InventoryShardQuery.changedBetween(after, upTo);
+        List<List<Inventory>> runs = scatter(allShards(), shardIndex -> {
+            Shard shard = shards.get(shardIndex);
+            Object[] arguments = Arrays.copyOf(query.getArguments(), query.getArguments().length + 1);
+            arguments[arguments.length - 1] = limit;
+            return shard.jdbcTemplate.query("SELECT " + COLUMNS + " FROM " + TABLE + " WHERE "
+                    + visibleRows(shard, query) + " ORDER BY change_seq LIMIT ?", ROW_MAPPER, arguments);
+        });
+        return ShardMerge.merge(runs, Comparator.comparing(Inventory::getChangeSeq), 0, limit);
+    }
+
+    /**
+     * The first {@code limit} matches in id order across all shards; combined with {@link InventoryShardQuery#hasIdAfter}
+     * this pages through the table by keyset.
+     */
+    public List<Inventory> findOrderedById(InventoryShardQuery query, int limit) {
+        List<List<Inventory>> runs = scatter(targetsOf(query), shardIndex -> {
+            Shard shard = shards.get(shardIndex);
+            Object[] arguments = Arrays.copyOf(query.getArguments(), query.getArguments().length + 1);
+            arguments[arguments.length - 1] = limit;
+            return shard.jdbcTemplate.query("SELECT " + COLUMNS + " FROM " + TABLE + " WHERE "
+                    + visibleRows(shard, query) + " ORDER BY id LIMIT ?", ROW_MAPPER, arguments);
+        });
+        return ShardMerge.merge(runs, Comparator.comparing(Inventory::getId), 0, limit);
+    }
+
+    public List<StockLevel> findStockLevelsAfter(long afterId, int limit) {
+        return findOrderedById(InventoryShardQuery.stockedAfter(afterId), limit).stream()
+                .map(inventory -> new StockLevel(inventory.getId(), inventory.getCurrentStock(),
+                        inventory.getReorderThreshold()))
+                .toList();
+    }
+
+    public long maxChangeSequence() {
+        return scatter(allShards(), shardIndex -> shards.get(shardIndex).jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(change_seq), 0) FROM " + TABLE, Long.class))
+                .stream().mapToLong(Long::longValue).max().orElse(0);
+    }
+
+    /**
+     * Stamps rows written before the change sequence existed, on every shard including hidden copies.
+     */
+    public int assignChangeSequences(LongSupplier sequence) {
+        int assigned = 0;
+        for (Shard shard : shards) {
+            List<Long> ids;
+            do {
+                ids = shard.jdbcTemplate.queryForList("SELECT id FROM " + TABLE
+                        + " WHERE change_seq IS NULL ORDER BY id LIMIT ?", Long.class, ID_BATCH_SIZE);
+                List<Object[]> arguments = new ArrayList<>(ids.size());
+                for (Long id : ids) {
+                    arguments.add(new Object[]{sequence.getAsLong(), id});
+                }
+                shard.jdbcTemplate.batchUpdate("UPDATE " + TABLE + " SET change_seq = ? WHERE id = ?", arguments);
+                assigned += ids.size();
+            } while (ids.size() == ID_BATCH_SIZE);
+        }
+        return assigned;
+    }
+
+    /**
+     * Validates an inventory for writing and gives a new one its id, which encodes the bucket of its product.
+     */
+    public void assignId(Inventory inventory) {
+        if (inventory.getProduct() == null || inventory.getProduct().getId() == null) {
+            throw new IllegalArgumentException("Inventory must reference a product");
+        }
+        long productId = inventory.getProduct().getId();
+        if (inventory.getId() == null) {
+            int bucket = InventoryShardRouter.bucketOfProduct(productId);
+            int owner = router.ownerOf(bucket);
+            inventory.setId(InventoryShardRouter.composeId(shards.get(owner).nextSequence(), owner, bucket));
+        } else if (InventoryShardRouter.bucketOfProduct(productId) != InventoryShardRouter.bucketOfId(inventory.getId())) {
+            throw new IllegalArgumentException("An inventory cannot be moved to another product while inventories are sharded");
+        }
+    }
+
+    /**
+     * Writes an inventory that already has its id to the owner of its bucket, and to the target while the bucket is
+     * being moved. {@code created} inserts the row unless it exists; otherwise an existing row is updated.
+     */
+    public void write(Inventory inventory, boolean created) {
+        int bucket = InventoryShardRouter.bucketOfId(inventory.getId());
+        Lock lock = router.lockOf(bucket).readLock();
+        lock.lock();
+        try {
+            JdbcTemplate owner = shards.get(router.ownerOf(bucket)).jdbcTemplate;
+            if (created) {
+                insertIfAbsent(owner, inventory);
+            } else {
+                owner.update(UPDATE_SQL, updateArguments(inventory));
+            }
+            int target = router.migrationTargetOf(bucket);
+            if (target != NOT_MIGRATING) {
+                upsert(shards.get(target), inventory);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void deleteById(long id) {
+        int bucket = InventoryShardRouter.bucketOfId(id);
+        Lock lock = router.lockOf(bucket).readLock();
+        lock.lock();
+        try {
+            shards.get(router.ownerOf(bucket)).jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE id = ?", id);
+            int target = router.migrationTargetOf(bucket);
+            if (target != NOT_MIGRATING) {
+                shards.get(target).jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE id = ?", id);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("enabled", isEnabled());
+        if (!isEnabled()) {
+            return description;
+        }
+        int[] buckets = bucketCounts();
+        long[] rows = rowCounts();
+        List<Map<String, Object>> shardDescriptions = new ArrayList<>(shards.size());
+        for (Shard shard : shards) {
+            Map<String, Object> shardDescription = new LinkedHashMap<>();
+            shardDescription.put("shard", shard.index);
+            shardDescription.put("buckets", buckets[shard.index]);
+            shardDescription.put("rows", rows[shard.index]);
+            shardDescription.put("hiddenBuckets", shard.foreignBuckets.size());
+            shardDescriptions.add(shardDescription);
+        }
+        description.put("bucketCount", BUCKET_COUNT);
+        description.put("shards", shardDescriptions);
+        description.put("migrations", migrations());
+        return description;
+    }
+
+    int ownerOf(int bucket) {
+        return router.ownerOf(bucket);
+    }
+
+    int migrationTargetOf(int bucket) {
+        return router.migrationTargetOf(bucket);
+    }
+
+    int[] bucketCounts() {
+        return router.bucketCounts(shards.size());
+    }
+
+    long[] rowCounts() {
+        return scatter(allShards(), shardIndex -> count(InventoryShardQuery.all(), List.of(shardIndex)))
+                .stream().mapToLong(Long::longValue).toArray();
+    }
+
+    Map<Integer, Integer> migrations() {
+        Map<Integer, Integer> migrations = new HashMap<>();
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            if (router.migrationTargetOf(bucket) != NOT_MIGRATING) {
+                migrations.put(bucket, router.migrationTargetOf(bucket));
+            }
+        }
+        return migrations;
+    }
+
+    /**
+     * Starts dual writes to {@code target}. Taking the bucket's write lock waits out writes that started before,
+     * so nothing the copy misses can have been written to the owner only.
+     */
+    void beginMigration(int bucket, int target) {
+        Lock lock = router.lockOf(bucket).writeLock();
+        lock.lock();
+        try {
+            persistAssignment(bucket, router.ownerOf(bucket), target);
+            shards.get(target).foreignBuckets.add(bucket);
+            router.assign(bucket, router.ownerOf(bucket), target);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    List<Inventory> readBucket(int shardIndex, int bucket, long afterId, int limit) {
+        return shards.get(shardIndex).jdbcTemplate.query("SELECT " + COLUMNS + " FROM " + TABLE
+                + " WHERE bucket = ? AND id > ? ORDER BY id LIMIT ?", ROW_MAPPER, bucket, afterId, limit);
+    }
+
+    int copyIfAbsent(int shardIndex, List<Inventory> rows) {
+        JdbcTemplate jdbcTemplate = shards.get(shardIndex).jdbcTemplate;
+        int copied = 0;
+        for (Inventory row : rows) {
+            copied += insertIfAbsent(jdbcTemplate, row);
+        }
+        return copied;
+    }
+
+    /**
+     * Cut-over under the bucket's write lock: deletes the target rows that were deleted on the owner while the copy
+     * was running, fills in anything still missing, then makes the target the owner.
+     */
+    void completeMigration(int bucket) {
+        Lock lock = router.lockOf(bucket).writeLock();
+        lock.lock();
+        try {
+            int source = router.ownerOf(bucket);
+            int target = router.migrationTargetOf(bucket);
+            if (target == NOT_MIGRATING) {
+                throw new IllegalStateException("Bucket " + bucket + " is not being migrated");
+            }
+            JdbcTemplate targetJdbc = shards.get(target).jdbcTemplate;
+            Set<Long> sourceIds = Set.copyOf(shards.get(source).jdbcTemplate.queryForList(
+                    "SELECT id FROM " + TABLE + " WHERE bucket = ?", Long.class, bucket));
+            for (Long id : targetJdbc.queryForList("SELECT id FROM " + TABLE + " WHERE bucket = ?", Long.class, bucket)) {
+                if (!sourceIds.contains(id)) {
+                    targetJdbc.update("DELETE FROM " + TABLE + " WHERE id = ?", id);
+                }
+            }
+            long afterId = 0;
+            List<Inventory> batch;
+            do {
+                batch = readBucket(source, bucket, afterId, ID_BATCH_SIZE);
+                copyIfAbsent(target, batch);
+                afterId = batch.isEmpty() ? afterId : batch.get(batch.size() - 1).getId();
+            } while (batch.size() == ID_BATCH_SIZE);
+
+            persistAssignment(bucket, target, NOT_MIGRATING);
+            shards.get(source).foreignBuckets.add(bucket);
+            shards.get(target).foreignBuckets.remove(bucket);
+            router.assign(bucket, target, NOT_MIGRATING);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int purgeBucket(int shardIndex, int bucket) {
+        if (router.ownerOf(bucket) == shardIndex || router.migrationTargetOf(bucket) == shardIndex) {
+            throw new IllegalStateException("Shard " + shardIndex + " still serves bucket " + bucket);
+        }
+        Shard shard = shards.get(shardIndex);
+        int deleted = shard.jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE bucket = ?", bucket);
+        shard.foreignBuckets.remove(bucket);
+        return deleted;
+    }
+
+    Set<Integer> foreignBuckets(int shardIndex) {
+        return Collections.unmodifiableSet(shards.get(shardIndex).foreignBuckets);
+    }
+
+    private void createSchema(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " (id BIGINT PRIMARY KEY, bucket INT NOT NULL, "
+                + "product_id BIGINT NOT NULL, current_stock INT, reorder_threshold INT, last_updated TIMESTAMP, "
+                + "change_seq BIGINT)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD COLUMN IF NOT EXISTS change_seq BIGINT");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS inventory_shard_product_idx ON " + TABLE + " (product_id)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS inventory_shard_stock_idx ON " + TABLE + " (current_stock, id)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS inventory_shard_bucket_idx ON " + TABLE + " (bucket, id)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS inventory_shard_change_idx ON " + TABLE + " (change_seq)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS inventory_shard_sequence (id INT PRIMARY KEY, next_value BIGINT NOT NULL)");
+        jdbcTemplate.update("INSERT INTO inventory_shard_sequence (id, next_value) "
+                + "SELECT 1, 1 WHERE NOT EXISTS (SELECT 1 FROM inventory_shard_sequence)");
+    }
+
+    // The bucket map lives on the first shard, which therefore can never be removed.
+    private void loadBucketMap() {
+        JdbcTemplate jdbcTemplate = shards.get(0).jdbcTemplate;
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS inventory_shard_map "
+                + "(bucket INT PRIMARY KEY, shard INT NOT NULL, migrating_to INT)");
+        boolean[] assigned = new boolean[BUCKET_COUNT];
+        jdbcTemplate.query("SELECT bucket, shard, migrating_to FROM inventory_shard_map", resultSet -> {
+            int bucket = resultSet.getInt("bucket");
+            int shard = resultSet.getInt("shard");
+            Integer target = resultSet.getObject("migrating_to", Integer.class);
+            if (shard >= shards.size() || (target != null && target >= shards.size())) {
+                throw new IllegalStateException("Bucket " + bucket + " is assigned to a shard that is not configured");
+            }
+            router.assign(bucket, shard, target == null ? NOT_MIGRATING : target);
+            if (target != null) {
+                shards.get(target).foreignBuckets.add(bucket);
+                log.warn("Bucket {} was being moved to shard {}; dual writes resume until the move is re-run", bucket, target);
+            }
+            assigned[bucket] = true;
+        });
+        List<Object[]> missing = new ArrayList<>();
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            if (!assigned[bucket]) {
+                router.assign(bucket, bucket % shards.size(), NOT_MIGRATING);
+                missing.add(new Object[]{bucket, bucket % shards.size()});
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO inventory_shard_map (bucket, shard) VALUES (?, ?)", missing);
+        }
+    }
+
+    private void persistAssignment(int bucket, int shard, int migrationTarget) {
+        shards.get(0).jdbcTemplate.update("UPDATE inventory_shard_map SET shard = ?, migrating_to = ? WHERE bucket = ?",
+                shard, migrationTarget == NOT_MIGRATING ? null : migrationTarget, bucket);
+    }
+
+    // A concurrent write may insert the row between the check and the insert; its copy is at least as new.
+    private static int insertIfAbsent(JdbcTemplate jdbcTemplate, Inventory inventory) {
+        Object[] insert = insertArguments(inventory);
+        Object[] arguments = Arrays.copyOf(insert, insert.length + 1);
+        arguments[insert.length] = inventory.getId();
+        try {
+            return jdbcTemplate.update(INSERT_IF_ABSENT_SQL, arguments);
+        } catch (DuplicateKeyException e) {
+            return 0;
+        }
+    }
+
+    private void upsert(Shard shard, Inventory inventory) {
+        if (shard.jdbcTemplate.update(UPDATE_SQL, updateArguments(inventory)) > 0) {
+            return;
+        }
+        try {
+            shard.jdbcTemplate.update(INSERT_SQL, insertArguments(inventory));
+        } catch (DuplicateKeyException e) {
+            // The migration copy got there first; the update still only replaces an older version.
+            shard.jdbcTemplate.update(UPDATE_SQL, updateArguments(inventory));
+        }
+    }
+
+    private long count(InventoryShardQuery query, List<Integer> targets) {
+        return scatter(targets, shardIndex -> {
+            Shard shard = shards.get(shardIndex);
+            return shard.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + TABLE + " WHERE "
+                    + visibleRows(shard, query), Long.class, query.getArguments());
+        }).stream().mapToLong(Long::longValue).sum();
+    }
+
+    private List<Integer> targetsOf(InventoryShardQuery query) {
+        if (query.getProductId() != null) {
+            return List.of(router.ownerOf(InventoryShardRouter.bucketOfProduct(query.getProductId())));
+        }
+        return allShards();
+    }
+
+    private List<Integer> allShards() {
+        List<Integer> all = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            all.add(i);
+        }
+        return all;
+    }
+
+    private static String visibleRows(Shard shard, InventoryShardQuery query) {
+        if (shard.foreignBuckets.isEmpty()) {
+            return query.getWhere();
+        }
+        String hidden = shard.foreignBuckets.stream().map(String::valueOf).collect(Collectors.joining(", "));
+        return "(" + query.getWhere() + ") AND bucket NOT IN (" + hidden + ")";
+    }
+
+    private <T> List<T> scatter(List<Integer> shardIndexes, IntFunction<T> query) {
+        if (shardIndexes.size() == 1) {
+            return List.of(query.apply(shardIndexes.get(0)));
+        }
+        List<CompletableFuture<T>> futures = shardIndexes.stream()
+                .map(shardIndex -> CompletableFuture.supplyAsync(() -> query.apply(shardIndex), scatterExecutor))
+                .toList();
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static String orderBy(Sort sort) {
+        List<String> columns = new ArrayList<>();
+        boolean hasId = false;
+        for (Sort.Order order : sort) {
+            String column = sortColumn(order.getProperty());
+            hasId |= column.equals("id");
+            columns.add(column + (order.isAscending() ? " ASC" : " DESC") + " NULLS LAST");
+        }
+        if (!hasId) {
+            columns.add("id ASC");
+        }
+        return String.join(", ", columns);
+    }
+
+    private static Comparator<Inventory> comparator(Sort sort) {
+        Comparator<Inventory> comparator = null;
+        boolean hasId = false;
+        for (Sort.Order order : sort) {
+            String column = sortColumn(order.getProperty());
+            hasId |= column.equals("id");
+            Comparator<Inventory> next = columnComparator(column, order.isAscending());
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        Comparator<Inventory> byId = Comparator.comparing(Inventory::getId);
+        if (comparator == null) {
+            return byId;
+        }
+        return hasId ? comparator : comparator.thenComparing(byId);
+    }
+
+    private static String sortColumn(String property) {
+        String column = SORT_COLUMNS.get(property);
+        if (column == null) {
+            throw new IllegalArgumentException("Unsupported sort property for sharded inventories: " + property);
+        }
+        return column;
+    }
+
+    private static Comparator<Inventory> columnComparator(String column, boolean ascending) {
+        return switch (column) {
+            case "id" -> by(Inventory::getId, ascending);
+            case "product_id" -> by(inventory -> inventory.getProduct().getId(), ascending);
+            case "current_stock" -> by(Inventory::getCurrentStock, ascending);
+            case "reorder_threshold" -> by(Inventory::getReorderThreshold, ascending);
+            case "change_seq" -> by(Inventory::getChangeSeq, ascending);
+            default -> by(Inventory::getLastUpdated, ascending);
+        };
+    }
+
+    // Nulls last in both directions, matching the NULLS LAST in the per-shard ORDER BY.
+    private static <T extends Comparable<? super T>> Comparator<Inventory> by(Function<Inventory, T> value,
+                                                                               boolean ascending) {
+        Comparator<T> order = ascending ? Comparator.naturalOrder() : Comparator.reverseOrder();
+        return Comparator.comparing(value, Comparator.nullsLast(order));
+    }
+
+    private static Object[] insertArguments(Inventory inventory) {
+        return new Object[]{inventory.getId(), InventoryShardRouter.bucketOfId(inventory.getId()),
+                inventory.getProduct().getId(), inventory.getCurrentStock(), inventory.getReorderThreshold(),
+                inventory.getLastUpdated(), inventory.getChangeSeq()};
+    }
+
+    private static Object[] updateArguments(Inventory inventory) {
+        return new Object[]{inventory.getProduct().getId(), inventory.getCurrentStock(),
+                inventory.getReorderThreshold(), inventory.getLastUpdated(), inventory.getChangeSeq(), inventory.getId(),
+                inventory.getChangeSeq()};
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static List<DataSource> shardDataSources(String urls, String username, String password, int poolSize) {
+        if (!StringUtils.hasText(urls)) {
+            return List.of();
+        }
+        List<DataSource> dataSources = new ArrayList<>();
+        for (String url : StringUtils.commaDelimitedListToStringArray(urls)) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("inventory-shard-" + dataSources.size());
+            dataSource.setJdbcUrl(url.trim());
+            dataSource.setUsername(username);
+            dataSource.setPassword(password);
+            dataSource.setMaximumPoolSize(poolSize);
+            dataSources.add(dataSource);
+        }
+        return dataSources;
+    }
+
+    private final class Shard {
+
+        private final int index;
+        private final DataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate transactionTemplate;
+        private final Set<Integer> foreignBuckets = ConcurrentHashMap.newKeySet();
+        private long nextSequence;
+        private long sequenceLimit;
+
+        Shard(int index, DataSource dataSource) {
+            this.index = index;
+            this.dataSource = dataSource;
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        }
+
+        // Hi/lo: one round trip reserves a block of idBlockSize sequence values.
+        synchronized long nextSequence() {
+            if (nextSequence == sequenceLimit) {
+                Long blockEnd = transactionTemplate.execute(status -> {
+                    jdbcTemplate.update("UPDATE inventory_shard_sequence SET next_value = next_value + ? WHERE id = 1",
+                            idBlockSize);
+                    return jdbcTemplate.queryForObject("SELECT next_value FROM inventory_shard_sequence WHERE id = 1",
+                            Long.class);
+                });
+                sequenceLimit = blockEnd;
+                nextSequence = blockEnd - idBlockSize;
+            }
+            return nextSequence++;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.intelligent_inventory_prediction_system.service.stock;
+
+/**
+ * A stock update waiting in the {@link StockWriteBehindBuffer}: either an absolute stock level or a delta to add.
+ */
+public record BufferedStockUpdate(boolean absolute, int value) {
+
+    public static BufferedStockUpdate absolute(int stockLevel) {
+        return new BufferedStockUpdate(true, stockLevel);
+    }
+
+    public static BufferedStockUpdate delta(int delta) {
+        return new BufferedStockUpdate(false, delta);
+    }
+
+    /**
+     * Coalesces this update with a later one: a later absolute level wins outright, a later delta is added to
+     * whatever this update would have produced.
+     */
+    public BufferedStockUpdate then(BufferedStockUpdate later) {
+        if (later.absolute) {
+            return later;
+        }
+        return new BufferedStockUpdate(absolute, saturatedAdd(value, later.value));
+    }
+
+    private static int saturatedAdd(int a, int b) {
+        long sum = (long) a + b;
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, sum));
+    }
+
+    record Record(long inventoryId, BufferedStockUpdate update) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.intelligent_inventory_prediction_system.service.stock;
+
+import com.example.intelligent_inventory_prediction_system.repository.InventoryRepository;
+import com.example.intelligent_inventory_prediction_system.repository.projection.StockLevel;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * In-process copy of every inventory's stock level, loaded once the application is ready and kept coherent
+ * by applying committed writes published through {@link StockChangePublisher}. Callers must fall back to the
+ * database while {@link #isLoaded()} is false.
+ */
+@Slf4j
+@Component
+public class InventoryStockCache implements StockChangeListener {
+
+    private final InventoryRepository inventoryRepository;
+    private final ShardedInventoryStore shardedInventoryStore;
+    private final StockTable stockTable = new StockTable();
+    private final boolean enabled;
+    private final int loadBatchSize;
+    private final int maxRangeIds;
+    private volatile boolean loaded;
+
+    public InventoryStockCache(
+            InventoryRepository inventoryRepository,
+            ShardedInventoryStore shardedInventoryStore,
+            MeterRegistry meterRegistry,
+            @Value("${inventory.stock-table.enabled:true}") boolean enabled,
+            @Value("${inventory.stock-table.load-batch-size:10000}") int loadBatchSize,
+            @Value("${inventory.stock-table.max-range-ids:1000}") int maxRangeIds
+    ) {
+        this.inventoryRepository = inventoryRepository;
+        this.shardedInventoryStore = shardedInventoryStore;
+        this.enabled = enabled;
+        this.loadBatchSize = loadBatchSize;
+        this.maxRangeIds = maxRangeIds;
+        Gauge.builder("inventory.stock.table.size", stockTable, StockTable::size)
+                .description("Number of inventory records held in the in-memory stock table")
+                .register(meterRegistry);
+        Gauge.builder("inventory.stock.table.bytes", stockTable, StockTable::footprintBytes)
+                .description("Heap used by the in-memory stock table arrays")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            log.info("In-memory stock table disabled");
+            return;
+        }
+        long start = System.nanoTime();
+        long[] ids = new long[loadBatchSize];
+        int[] stocks = new int[loadBatchSize];
+        int count = 0;
+        long afterId = 0;
+        List<StockLevel> batch;
+        do {
+            batch = findStockLevelsAfter(afterId);
+            for (StockLevel level : batch) {
+                if (count == ids.length) {
+                    ids = Arrays.copyOf(ids, count * 2);
+                    stocks = Arrays.copyOf(stocks, count * 2);
+                }
+                ids[count] = level.inventoryId();
+                stocks[count++] = level.currentStock();
+                afterId = level.inventoryId();
+            }
+        } while (batch.size() == loadBatchSize);
+        // Writes committed while loading are newer than the snapshot, so they win.
+        stockTable.putAllIfAbsent(ids, stocks, count);
+        loaded = true;
+
+        int size = stockTable.size();
+        log.info("Loaded {} stock levels in {} ms ({} bytes per SKU)", size, (System.nanoTime() - start) / 1_000_000,
+                size == 0 ? 0 : stockTable.footprintBytes() / size);
+    }
+
+    private List<StockLevel> findStockLevelsAfter(long afterId) {
+        return shardedInventoryStore.isEnabled()
+                ? shardedInventoryStore.findStockLevelsAfter(afterId, loadBatchSize)
+                : inventoryRepository.findStockLevelsAfter(afterId, Limit.of(loadBatchSize));
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int findStock(long inventoryId) {
+        return stockTable.get(inventoryId);
+    }
+
+    /**
+     * Ids whose stock lies in the range, or {@code null} when there are more than {@code max-range-ids} of them: the
+     * rows are still fetched by id, and past one {@code IN} batch a single indexed range query is cheaper.
+     */
+    public long[] findIdsByStockRange(int minStock, int maxStock) {
+        if (stockTable.countInRange(minStock, maxStock) > maxRangeIds) {
+            return null;
+        }
+        return stockTable.idsInRange(minStock, maxStock);
+    }
+
+    @Override
+    public void onStockChanged(StockChange change) {
+        if (!enabled) {
+            return;
+        }
+        if (change.currentStock() == null) {
+            stockTable.remove(change.inventoryId());
+        } else {
+            stockTable.put(change.inventoryId(), change.currentStock());
+        }
+    }
+
+    @Override
+    public void onInventoryRemoved(long inventoryId) {
+        if (enabled) {
+            stockTable.remove(inventoryId);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.intelligent_inventory_prediction_system.service.stock;
+
+import com.example.intelligent_inventory_prediction_system.model.Inventory;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
+
+/**
+ * Validator of one inventory's representation: {@code tag} changes whenever any of its fields does, and
+ * {@code lastModified} is {@code lastUpdated} in epoch milliseconds, or {@code -1} when unknown.
+ */
+public record InventoryVersion(String tag, long lastModified) {
+
+    public static InventoryVersion of(Inventory inventory) {
+        LocalDateTime lastUpdated = inventory.getLastUpdated();
+        long hash = 17;
+        hash = mix(hash, Objects.hashCode(inventory.getId()));
+        hash = mix(hash, inventory.getProduct() == null ? 0 : Objects.hashCode(inventory.getProduct().getId()));
+        hash = mix(hash, Objects.hashCode(inventory.getCurrentStock()));
+        hash = mix(hash, Objects.hashCode(inventory.getReorderThreshold()));
+        hash = mix(hash, Objects.hashCode(lastUpdated));
+        long lastModified = lastUpdated == null ? -1
+                : lastUpdated.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new InventoryVersion(Long.toHexString(hash), lastModified);
+    }
+
+    /**
+     * Version of a representation holding only the id and stock level, which the stock table answers on its own.
+     */
+    public static InventoryVersion ofStock(long id, int stock) {
+        long hash = 31;
+        hash = mix(hash, Long.hashCode(id));
+        hash = mix(hash, stock);
+        return new InventoryVersion(Long.toHexString(hash), -1);
+    }
+
+    private static long mix(long hash, int value) {
+        return (hash ^ value) * 0x9E3779B97F4A7C15L;
+    }
+}
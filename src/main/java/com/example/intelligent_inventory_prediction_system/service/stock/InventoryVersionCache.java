@@ -0,0 +1,172 @@
+package com.example.intelligent_inventory_prediction_system.service.stock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Versions of inventory representations for conditional GETs, so a poll whose {@code If-None-Match} is still
+ * current is answered without touching the database. Every committed write reaches it through
+ * {@link StockChangePublisher} and evicts the inventory's version and bumps the collection generation.
+ * <p>
+ * Read-only transactions may be served by a lagging replica, so a version is only cached, and a collection
+ * version only handed out, once the last write to it is older than {@code fill-delay-ms}. A cached version expires
+ * after {@code ttl-ms} regardless, and so does the collection version, which bounds how long a write that bypassed the
+ * publisher, such as one made by another instance, can go unnoticed.
+ */
+@Component
+public class InventoryVersionCache implements StockChangeListener {
+
+    private static final Object NO_SLOT = new Object();
+
+    private final boolean enabled;
+    private final long fillDelayMillis;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final Map<Long, Slot> versions = new ConcurrentHashMap<>();
+    private final String instance = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long lastChangeAt;
+    private Counter hitCounter;
+    private Counter missCounter;
+
+    @Autowired
+    public InventoryVersionCache(
+            MeterRegistry meterRegistry,
+            @Value("${inventory.etag.enabled:true}") boolean enabled,
+            @Value("${inventory.etag.fill-delay-ms:1000}") long fillDelayMillis,
+            @Value("${inventory.etag.ttl-ms:60000}") long ttlMillis
+    ) {
+        this(enabled, fillDelayMillis, ttlMillis, System::currentTimeMillis);
+        this.hitCounter = Counter.builder("inventory.etag.version.lookups")
+                .description("Inventory version lookups by cache outcome")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("inventory.etag.version.lookups")
+                .description("Inventory version lookups by cache outcome")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("inventory.etag.versions", versions, Map::size)
+                .description("Inventory versions and pending invalidations held for conditional requests")
+                .register(meterRegistry);
+    }
+
+    InventoryVersionCache(boolean enabled, long fillDelayMillis, long ttlMillis, LongSupplier clock) {
+        this.enabled = enabled;
+        this.fillDelayMillis = fillDelayMillis;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.lastChangeAt = clock.getAsLong() - fillDelayMillis;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the cached version, or {@code null} when there is none or it has expired, after which the caller loads
+     * the inventory and offers its version back with {@link #store}, passing the {@code token} obtained beforehand.
+     */
+    public InventoryVersion find(long inventoryId) {
+        Slot slot = versions.get(inventoryId);
+        if (slot != null && slot.version != null) {
+            if (clock.getAsLong() < slot.expiresAt) {
+                count(hitCounter);
+                return slot.version;
+            }
+            versions.remove(inventoryId, slot);
+        }
+        count(missCounter);
+        return null;
+    }
+
+    /**
+     * Snapshot to pass to {@link #store}; taken before the load so a write committed meanwhile wins.
+     */
+    public Object token(long inventoryId) {
+        Slot slot = versions.get(inventoryId);
+        return slot == null ? NO_SLOT : slot;
+    }
+
+    public void store(long inventoryId, Object token, InventoryVersion version) {
+        if (!enabled) {
+            return;
+        }
+        Slot loaded = new Slot(version, 0, clock.getAsLong() + ttlMillis);
+        if (token == NO_SLOT) {
+            versions.putIfAbsent(inventoryId, loaded);
+        } else if (token instanceof Slot slot && clock.getAsLong() - slot.changedAt >= fillDelayMillis) {
+            versions.replace(inventoryId, slot, loaded);
+        }
+    }
+
+    /**
+     * Version of every inventory list held by this instance, or {@code null} while a recent write may not have
+     * reached the replicas yet. It also moves on every {@code ttl-ms} window, so like a cached version it cannot hide
+     * a write this instance did not see for longer than that.
+     */
+    public String collectionVersion() {
+        long now = clock.getAsLong();
+        if (!enabled || ttlMillis <= 0 || now - lastChangeAt < fillDelayMillis) {
+            return null;
+        }
+        return instance + "-" + Long.toHexString(generation.get()) + "-" + Long.toHexString(now / ttlMillis);
+    }
+
+    public int size() {
+        return versions.size();
+    }
+
+    @Override
+    public void onStockChanged(StockChange change) {
+        invalidate(change.inventoryId());
+    }
+
+    @Override
+    public void onInventoryRemoved(long inventoryId) {
+        invalidate(inventoryId);
+    }
+
+    private void invalidate(long inventoryId) {
+        if (!enabled) {
+            return;
+        }
+        long now = clock.getAsLong();
+        // A fresh slot per write, so a load that started before it can no longer replace it.
+        versions.put(inventoryId, new Slot(null, now, 0));
+        generation.incrementAndGet();
+        lastChangeAt = now;
+    }
+
+    private static void count(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    /**
+     * Identity matters: {@link ConcurrentHashMap#replace(Object, Object, Object)} must only succeed for the exact
+     * slot seen before the load, so this deliberately keeps {@link Object#equals}.
+     */
+    private static final class Slot {
+
+        final InventoryVersion version;
+        final long changedAt;
+        final long expiresAt;
+
+        Slot(InventoryVersion version, long changedAt, long expiresAt) {
+            this.version = version;
+            this.changedAt = changedAt;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
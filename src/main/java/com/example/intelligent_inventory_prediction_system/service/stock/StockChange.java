@@ -0,0 +1,4 @@
+package com.example.intelligent_inventory_prediction_system.service.stock;
+
+public record StockChange(long inventoryId, Integer currentStock, Integer reorderThreshold) {
+}
@@ -0,0 +1,12 @@
+package com.example.intelligent_inventory_prediction_system.service.stock;
+
+/**
+ * Receives committed inventory writes. Called on the committing thread, so implementations must be cheap and
+ * must not touch the database.
+ */
+public interface StockChangeListener {
+
+    void onStockChanged(StockChange change);
+
+    void onInventoryRemoved(long inventoryId);
+}
@@ -0,0 +1,61 @@
+package com.example.intelligent_inventory_prediction_system.service.stock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Fans inventory writes out to every {@link StockChangeListener} once the surrounding transaction commits,
+ * so listeners never observe a change that is later rolled back.
+ */
+@Slf4j
+@Component
+public class StockChangePublisher {
+
+    private final List<StockChangeListener> listeners;
+
+    public StockChangePublisher(List<StockChangeListener> listeners) {
+        this.listeners = List.copyOf(listeners);
+    }
+
+    public void publishStockChange(Long inventoryId, Integer currentStock, Integer reorderThreshold) {
+        StockChange change = new StockChange(inventoryId, currentStock, reorderThreshold);
+        afterCommit(() -> {
+            for (StockChangeListener listener : listeners) {
+                try {
+                    listener.onStockChanged(change);
+                } catch (RuntimeException e) {
+                    log.error("Stock change listener {} failed for inventory id: {}", listener.getClass().getSimpleName(), inventoryId, e);
+                }
+            }
+        });
+    }
+
+    public void publishRemoval(Long inventoryId) {
+        afterCommit(() -> {
+            for (StockChangeListener listener : listeners) {
+                try {
+                    listener.onInventoryRemoved(inventoryId);
+                } catch (RuntimeException e) {
+                    log.error("Stock change listener {} failed for removed inventory id: {}", listener.getClass().getSimpleName(), inventoryId, e);
+                }
+            }
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
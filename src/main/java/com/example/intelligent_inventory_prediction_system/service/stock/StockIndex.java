@@ -0,0 +1,338 @@
+package com.example.intelligent_inventory_prediction_system.service.stock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Secondary index of {@link StockTable}: a B+-tree of table slots ordered by (stock, id). Leaves are {@code int[]}
+ * pages of slots and inner nodes keep a copy of each separator key, so the tree never depends on a slot that has
+ * since moved. Every node knows how many entries it holds, which turns "position of a key" into a rank lookup.
+ * Inserts, removals and rank lookups touch one node per level and shift at most one page, so they cost O(log n)
+ * whatever the catalogue size.
+ * <p>
+ * Pages are not merged when they run low; an emptied page is dropped, and the table rebuilds the index packed
+ * whenever it rehashes, which churn triggers through its tombstones. Not thread-safe: the table calls it under
+ * its lock.
+ */
+final class StockIndex {
+
+    static final int LEAF_CAPACITY = 256;
+    static final int INNER_CAPACITY = 64;
+
+    private long[] keys;
+    private int[] values;
+    private Node root = new Leaf();
+    private int leafPages = 1;
+    private int innerPages;
+    // Key of the node a split just produced, handed to the parent.
+    private int splitStock;
+    private long splitId;
+
+    StockIndex(long[] keys, int[] values) {
+        attach(keys, values);
+    }
+
+    /**
+     * Points the index at the table's current arrays; slots must keep their (stock, id) across the switch.
+     */
+    void attach(long[] keys, int[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    int size() {
+        return root.entries;
+    }
+
+    void insert(int slot) {
+        int stock = values[slot];
+        long id = keys[slot];
+        Node right = insert(root, slot, stock, id);
+        if (right != null) {
+            Inner newRoot = new Inner();
+            innerPages++;
+            newRoot.children[0] = root;
+            newRoot.children[1] = right;
+            newRoot.sepStock[1] = splitStock;
+            newRoot.sepId[1] = splitId;
+            newRoot.length = 2;
+            newRoot.entries = root.entries + right.entries;
+            root = newRoot;
+        }
+    }
+
+    /**
+     * Removes {@code slot}, which must still hold the (stock, id) it was inserted with.
+     */
+    void remove(int slot) {
+        int stock = values[slot];
+        long id = keys[slot];
+        remove(root, slot, stock, id);
+        while (root instanceof Inner inner && inner.length <= 1) {
+            innerPages--;
+            if (inner.length == 0) {
+                root = new Leaf();
+                leafPages++;
+            } else {
+                root = inner.children[0];
+            }
+        }
+    }
+
+    /**
+     * Number of entries ordered before (stock, id).
+     */
+    int rank(int stock, long id) {
+        int rank = 0;
+        Node node = root;
+        while (node instanceof Inner inner) {
+            int child = route(inner, stock, id);
+            for (int i = 0; i < child; i++) {
+                rank += inner.children[i].entries;
+            }
+            node = inner.children[child];
+        }
+        return rank + lowerBound((Leaf) node, stock, id);
+    }
+
+    /**
+     * Ids of the entries ranked {@code [from, to)}, in index order.
+     */
+    long[] ids(int from, int to) {
+        long[] ids = new long[to - from];
+        copyIds(root, from, to, ids, 0);
+        return ids;
+    }
+
+    /**
+     * Every slot in index order.
+     */
+    int[] slots() {
+        int[] slots = new int[root.entries];
+        copySlots(root, slots, 0);
+        return slots;
+    }
+
+    /**
+     * Replaces the whole index with {@code count} slots already in (stock, id) order, packing every page full.
+     */
+    void build(int[] sortedSlots, int count) {
+        List<Node> level = new ArrayList<>((count + LEAF_CAPACITY - 1) / LEAF_CAPACITY);
+        for (int from = 0; from < count; from += LEAF_CAPACITY) {
+            Leaf leaf = new Leaf();
+            leaf.entries = Math.min(LEAF_CAPACITY, count - from);
+            System.arraycopy(sortedSlots, from, leaf.slots, 0, leaf.entries);
+            level.add(leaf);
+        }
+        leafPages = Math.max(1, level.size());
+        innerPages = 0;
+        while (level.size() > 1) {
+            List<Node> parents = new ArrayList<>((level.size() + INNER_CAPACITY - 1) / INNER_CAPACITY);
+            for (int from = 0; from < level.size(); from += INNER_CAPACITY) {
+                Inner inner = new Inner();
+                inner.length = Math.min(INNER_CAPACITY, level.size() - from);
+                for (int i = 0; i < inner.length; i++) {
+                    Node child = level.get(from + i);
+                    inner.children[i] = child;
+                    inner.entries += child.entries;
+                    if (i > 0) {
+                        int first = firstSlot(child);
+                        inner.sepStock[i] = values[first];
+                        inner.sepId[i] = keys[first];
+                    }
+                }
+                parents.add(inner);
+            }
+            innerPages += parents.size();
+            level = parents;
+        }
+        root = level.isEmpty() ? new Leaf() : level.get(0);
+    }
+
+    long footprintBytes() {
+        return (long) leafPages * (LEAF_CAPACITY + 1) * Integer.BYTES
+                + (long) innerPages * (INNER_CAPACITY + 1) * (Long.BYTES + Integer.BYTES + Integer.BYTES);
+    }
+
+    // Returns the new right sibling when the node split, with its first key in splitStock and splitId.
+    private Node insert(Node node, int slot, int stock, long id) {
+        if (node instanceof Leaf leaf) {
+            int position = lowerBound(leaf, stock, id);
+            System.arraycopy(leaf.slots, position, leaf.slots, position + 1, leaf.entries - position);
+            leaf.slots[position] = slot;
+            leaf.entries++;
+            return leaf.entries > LEAF_CAPACITY ? split(leaf) : null;
+        }
+        Inner inner = (Inner) node;
+        int child = route(inner, stock, id);
+        Node right = insert(inner.children[child], slot, stock, id);
+        inner.entries++;
+        if (right == null) {
+            return null;
+        }
+        int at = child + 1;
+        int moved = inner.length - at;
+        System.arraycopy(inner.children, at, inner.children, at + 1, moved);
+        System.arraycopy(inner.sepStock, at, inner.sepStock, at + 1, moved);
+        System.arraycopy(inner.sepId, at, inner.sepId, at + 1, moved);
+        inner.children[at] = right;
+        inner.sepStock[at] = splitStock;
+        inner.sepId[at] = splitId;
+        inner.length++;
+        return inner.length > INNER_CAPACITY ? split(inner) : null;
+    }
+
+    private Leaf split(Leaf leaf) {
+        Leaf right = new Leaf();
+        leafPages++;
+        int half = leaf.entries >>> 1;
+        right.entries = leaf.entries - half;
+        System.arraycopy(leaf.slots, half, right.slots, 0, right.entries);
+        leaf.entries = half;
+        splitStock = values[right.slots[0]];
+        splitId = keys[right.slots[0]];
+        return right;
+    }
+
+    private Inner split(Inner inner) {
+        Inner right = new Inner();
+        innerPages++;
+        int half = inner.length >>> 1;
+        right.length = inner.length - half;
+        System.arraycopy(inner.children, half, right.children, 0, right.length);
+        System.arraycopy(inner.sepStock, half, right.sepStock, 0, right.length);
+        System.arraycopy(inner.sepId, half, right.sepId, 0, right.length);
+        Arrays.fill(inner.children, half, inner.length, null);
+        inner.length = half;
+        for (int i = 0; i < right.length; i++) {
+            right.entries += right.children[i].entries;
+        }
+        inner.entries -= right.entries;
+        splitStock = right.sepStock[0];
+        splitId = right.sepId[0];
+        return right;
+    }
+
+    // Returns whether the node is now empty, so the parent drops it.
+    private boolean remove(Node node, int slot, int stock, long id) {
+        if (node instanceof Leaf leaf) {
+            int position = lowerBound(leaf, stock, id);
+            if (position >= leaf.entries || leaf.slots[position] != slot) {
+                throw new IllegalStateException("Stock index out of sync for id " + id);
+            }
+            System.arraycopy(leaf.slots, position + 1, leaf.slots, position, leaf.entries - position - 1);
+            leaf.entries--;
+            return leaf.entries == 0;
+        }
+        Inner inner = (Inner) node;
+        int child = route(inner, stock, id);
+        boolean emptied = remove(inner.children[child], slot, stock, id);
+        inner.entries--;
+        if (emptied) {
+            if (inner.children[child] instanceof Leaf) {
+                leafPages--;
+            } else {
+                innerPages--;
+            }
+            // The first child has no separator of its own, so dropping it drops the one after it instead.
+            int separator = Math.max(child, 1);
+            System.arraycopy(inner.children, child + 1, inner.children, child, inner.length - child - 1);
+            System.arraycopy(inner.sepStock, separator + 1, inner.sepStock, separator, inner.length - separator - 1);
+            System.arraycopy(inner.sepId, separator + 1, inner.sepId, separator, inner.length - separator - 1);
+            inner.length--;
+            inner.children[inner.length] = null;
+        }
+        return inner.length == 0;
+    }
+
+    // The child whose separator is the greatest one not above (stock, id); child 0 takes everything below.
+    private static int route(Inner inner, int stock, long id) {
+        int low = 1;
+        int high = inner.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(inner.sepStock[mid], inner.sepId[mid], stock, id) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+
+    private int lowerBound(Leaf leaf, int stock, long id) {
+        int low = 0;
+        int high = leaf.entries;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int slot = leaf.slots[mid];
+            if (compare(values[slot], keys[slot], stock, id) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void copyIds(Node node, int from, int to, long[] ids, int at) {
+        if (node instanceof Leaf leaf) {
+            for (int i = from; i < to; i++) {
+                ids[at++] = keys[leaf.slots[i]];
+            }
+            return;
+        }
+        Inner inner = (Inner) node;
+        int base = 0;
+        for (int i = 0; i < inner.length && base < to; i++) {
+            Node child = inner.children[i];
+            int low = Math.max(from, base);
+            int high = Math.min(to, base + child.entries);
+            if (low < high) {
+                copyIds(child, low - base, high - base, ids, at + low - from);
+            }
+            base += child.entries;
+        }
+    }
+
+    private static int copySlots(Node node, int[] slots, int at) {
+        if (node instanceof Leaf leaf) {
+            System.arraycopy(leaf.slots, 0, slots, at, leaf.entries);
+            return at + leaf.entries;
+        }
+        Inner inner = (Inner) node;
+        for (int i = 0; i < inner.length; i++) {
+            at = copySlots(inner.children[i], slots, at);
+        }
+        return at;
+    }
+
+    private static int firstSlot(Node node) {
+        while (node instanceof Inner inner) {
+            node = inner.children[0];
+        }
+        return ((Leaf) node).slots[0];
+    }
+
+    static int compare(int stockA, long idA, int stockB, long idB) {
+        int byStock = Integer.compare(stockA, stockB);
+        return byStock != 0 ? byStock : Long.compare(idA, idB);
+    }
+
+    private abstract static class Node {
+        int entries;
+    }
+
+    // One spare slot, so an insert can land before the page splits.
+    private static final class Leaf extends Node {
+        final int[] slots = new int[LEAF_CAPACITY + 1];
+    }
+
+    private static final class Inner extends Node {
+        final Node[] children = new Node[INNER_CAPACITY + 1];
+        final int[] sepStock = new int[INNER_CAPACITY + 1];
+        final long[] sepId = new long[INNER_CAPACITY + 1];
+        int length;
+    }
+}
@@ -0,0 +1,322 @@
+package com.example.intelligent_inventory_prediction_system.service.stock;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Primitive inventory id to stock level table with a secondary index sorted by stock.
+ * <p>
+ * Ids live in a linear-probing open-addressing table ({@code long[]} keys, {@code int[]} values) whose
+ * capacity grows by half and is kept between 50% and 75% full, so the table itself costs 16-24 bytes per SKU.
+ * The secondary index is a {@link StockIndex} B+-tree of table slots ordered by (stock, id), adding 4-8 bytes per
+ * SKU, so a write costs O(log n) under the lock. {@link #putAllIfAbsent} fills the table first and sorts the index
+ * once, for loading a whole catalogue. Nothing is boxed and lookups never allocate.
+ * <p>
+ * Point lookups use an optimistic read; range scans and writes take the lock.
+ */
+public final class StockTable {
+
+    public static final int MISSING = -1;
+
+    private static final long EMPTY = 0L;
+    private static final long TOMBSTONE = -1L;
+    private static final int MIN_CAPACITY = 16;
+    private static final double MAX_LOAD = 0.75;
+    private static final double TARGET_LOAD = 0.5;
+
+    private final StampedLock lock = new StampedLock();
+
+    private long[] keys;
+    private int[] values;
+    private StockIndex index;
+    private int size;
+    private int tombstones;
+
+    public StockTable() {
+        this(0);
+    }
+
+    public StockTable(int expectedSize) {
+        int capacity = capacityFor(expectedSize);
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.index = new StockIndex(keys, values);
+    }
+
+    public int get(long id) {
+        long stamp = lock.tryOptimisticRead();
+        int stock = find(keys, values, id);
+        if (lock.validate(stamp)) {
+            return stock;
+        }
+        stamp = lock.readLock();
+        try {
+            return find(keys, values, id);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public boolean contains(long id) {
+        return get(id) != MISSING;
+    }
+
+    public void put(long id, int stock) {
+        write(id, stock, true);
+    }
+
+    public boolean putIfAbsent(long id, int stock) {
+        return write(id, stock, false);
+    }
+
+    /**
+     * Adds the first {@code count} ids that are not in the table yet, then rebuilds the index with a single sort
+     * instead of placing each id on its own. Meant for loading a catalogue; returns the ids that were added.
+     */
+    public long[] putAllIfAbsent(long[] ids, int[] stocks, int count) {
+        for (int i = 0; i < count; i++) {
+            checkId(ids[i]);
+            checkStock(stocks[i]);
+        }
+        long stamp = lock.writeLock();
+        try {
+            if (size + tombstones + count > keys.length * MAX_LOAD) {
+                rehash(capacityFor(size + count));
+            }
+            long[] added = new long[count];
+            int addedCount = 0;
+            for (int i = 0; i < count; i++) {
+                if (slotOf(ids[i]) >= 0) {
+                    continue;
+                }
+                int slot = insertSlot(keys, ids[i]);
+                if (keys[slot] == TOMBSTONE) {
+                    tombstones--;
+                }
+                keys[slot] = ids[i];
+                values[slot] = stocks[i];
+                size++;
+                added[addedCount++] = ids[i];
+            }
+            if (addedCount > 0) {
+                index.build(sortedSlots(), size);
+            }
+            return Arrays.copyOf(added, addedCount);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean remove(long id) {
+        checkId(id);
+        long stamp = lock.writeLock();
+        try {
+            int slot = slotOf(id);
+            if (slot < 0) {
+                return false;
+            }
+            index.remove(slot);
+            keys[slot] = TOMBSTONE;
+            size--;
+            tombstones++;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            keys = new long[MIN_CAPACITY];
+            values = new int[MIN_CAPACITY];
+            index = new StockIndex(keys, values);
+            size = 0;
+            tombstones = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Ids whose stock lies within {@code [minStock, maxStock]}, ordered by stock and then id.
+     */
+    public long[] idsInRange(int minStock, int maxStock) {
+        if (minStock > maxStock) {
+            return new long[0];
+        }
+        long stamp = lock.readLock();
+        try {
+            return index.ids(index.rank(minStock, Long.MIN_VALUE), index.rank(maxStock, Long.MAX_VALUE));
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int countInRange(int minStock, int maxStock) {
+        if (minStock > maxStock) {
+            return 0;
+        }
+        long stamp = lock.readLock();
+        try {
+            return index.rank(maxStock, Long.MAX_VALUE) - index.rank(minStock, Long.MIN_VALUE);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public long footprintBytes() {
+        long stamp = lock.readLock();
+        try {
+            return (long) keys.length * Long.BYTES + (long) values.length * Integer.BYTES + index.footprintBytes();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private boolean write(long id, int stock, boolean overwrite) {
+        checkId(id);
+        checkStock(stock);
+        long stamp = lock.writeLock();
+        try {
+            int slot = slotOf(id);
+            if (slot >= 0) {
+                if (overwrite && values[slot] != stock) {
+                    index.remove(slot);
+                    values[slot] = stock;
+                    index.insert(slot);
+                }
+                return overwrite;
+            }
+            if (size + tombstones + 1 > keys.length * MAX_LOAD) {
+                rehash(capacityFor(size + 1));
+            }
+            slot = insertSlot(keys, id);
+            if (keys[slot] == TOMBSTONE) {
+                tombstones--;
+            }
+            keys[slot] = id;
+            values[slot] = stock;
+            index.insert(slot);
+            size++;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // Rebuilds the table and repacks the index in its existing order, so no re-sort is needed.
+    private void rehash(int capacity) {
+        int[] order = index.slots();
+        long[] newKeys = new long[capacity];
+        int[] newValues = new int[capacity];
+        for (int i = 0; i < order.length; i++) {
+            int oldSlot = order[i];
+            int newSlot = insertSlot(newKeys, keys[oldSlot]);
+            newKeys[newSlot] = keys[oldSlot];
+            newValues[newSlot] = values[oldSlot];
+            order[i] = newSlot;
+        }
+        keys = newKeys;
+        values = newValues;
+        tombstones = 0;
+        index.attach(keys, values);
+        index.build(order, order.length);
+    }
+
+    // Orders every live slot by (stock, id) with two primitive sorts: ids first, then stock packed with the id's rank.
+    private int[] sortedSlots() {
+        long[] ids = new long[size];
+        int count = 0;
+        for (long key : keys) {
+            if (key != EMPTY && key != TOMBSTONE) {
+                ids[count++] = key;
+            }
+        }
+        Arrays.sort(ids);
+        long[] order = new long[size];
+        for (int rank = 0; rank < size; rank++) {
+            order[rank] = (long) values[slotOf(ids[rank])] << 32 | rank;
+        }
+        Arrays.sort(order);
+        int[] slots = new int[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = slotOf(ids[(int) order[i]]);
+        }
+        return slots;
+    }
+
+    private int slotOf(long id) {
+        long[] table = keys;
+        int capacity = table.length;
+        for (int slot = home(id, capacity), probes = 0; probes < capacity; probes++) {
+            long key = table[slot];
+            if (key == id) {
+                return slot;
+            }
+            if (key == EMPTY) {
+                return -1;
+            }
+            slot = slot + 1 == capacity ? 0 : slot + 1;
+        }
+        return -1;
+    }
+
+    private static int find(long[] table, int[] stock, long id) {
+        int capacity = Math.min(table.length, stock.length);
+        if (capacity == 0) {
+            return MISSING;
+        }
+        for (int slot = home(id, capacity), probes = 0; probes < capacity; probes++) {
+            long key = table[slot];
+            if (key == id) {
+                return stock[slot];
+            }
+            if (key == EMPTY) {
+                return MISSING;
+            }
+            slot = slot + 1 == capacity ? 0 : slot + 1;
+        }
+        return MISSING;
+    }
+
+    private static int insertSlot(long[] table, long id) {
+        int capacity = table.length;
+        int slot = home(id, capacity);
+        while (table[slot] != EMPTY && table[slot] != TOMBSTONE) {
+            slot = slot + 1 == capacity ? 0 : slot + 1;
+        }
+        return slot;
+    }
+
+    // Maps a mixed hash onto [0, capacity) without requiring a power-of-two capacity.
+    private static int home(long id, int capacity) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (((hash >>> 32) * capacity) >>> 32);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        return Math.max(MIN_CAPACITY, (int) Math.ceil(expectedSize / TARGET_LOAD));
+    }
+
+    private static void checkId(long id) {
+        if (id <= 0) {
+            throw new IllegalArgumentException("Inventory id must be positive: " + id);
+        }
+    }
+
+    private static void checkStock(int stock) {
+        if (stock < 0) {
+            throw new IllegalArgumentException("Stock level cannot be negative: " + stock);
+        }
+    }
+}
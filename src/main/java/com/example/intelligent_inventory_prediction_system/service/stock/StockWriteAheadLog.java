@@ -0,0 +1,223 @@
+package com.example.intelligent_inventory_prediction_system.service.stock;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of buffered stock updates, split into segments that are rotated at every flush and deleted
+ * once the flush that covered them has committed. The flush records the last segment it covered in its own
+ * transaction, so segments at or below that number are known to be written even if deleting them did not happen.
+ * <p>
+ * Records are fixed-size and checksummed. Durability uses group commit: appends only copy into a buffer, and
+ * the first caller of {@link #sync(long)} writes and fsyncs everything appended so far on behalf of all the
+ * callers waiting behind it.
+ */
+@Slf4j
+final class StockWriteAheadLog implements Closeable {
+
+    static final int RECORD_BYTES = Long.BYTES + 1 + Integer.BYTES + Integer.BYTES;
+
+    private static final String SEGMENT_PREFIX = "stock-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+
+    private final Path directory;
+    private final boolean fsync;
+    private final Object syncMonitor = new Object();
+    private ByteBuffer unwritten = ByteBuffer.allocate(RECORD_BYTES * 1024);
+    private FileChannel channel;
+    private long segment;
+    private long appended;
+    private volatile long durable;
+
+    StockWriteAheadLog(Path directory, boolean fsync) {
+        this.directory = directory;
+        this.fsync = fsync;
+    }
+
+    /**
+     * Replays every record left by a previous run in write order, stopping at the first torn or corrupt record,
+     * then opens a fresh segment numbered above both. Segments up to {@code flushedSegment} were already written
+     * to the database and are deleted instead of replayed. The replayed segments stay on disk until
+     * {@link #deleteSegmentsBefore(long)}.
+     */
+    synchronized int open(long flushedSegment, Consumer<BufferedStockUpdate.Record> replay) {
+        try {
+            Files.createDirectories(directory);
+            int replayed = 0;
+            long last = flushedSegment;
+            for (Path path : segments()) {
+                long number = segmentNumber(path);
+                last = Math.max(last, number);
+                if (number <= flushedSegment) {
+                    log.info("Skipping stock write-ahead log segment {}, already flushed", path);
+                    Files.deleteIfExists(path);
+                } else {
+                    replayed += replaySegment(path, replay);
+                }
+            }
+            segment = last;
+            openNextSegment();
+            return replayed;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open stock write-ahead log in " + directory, e);
+        }
+    }
+
+    /**
+     * Buffers a record and returns its sequence number for {@link #sync(long)}.
+     */
+    synchronized long append(long inventoryId, BufferedStockUpdate update) {
+        if (unwritten.remaining() < RECORD_BYTES) {
+            ByteBuffer grown = ByteBuffer.allocate(unwritten.capacity() * 2);
+            unwritten.flip();
+            grown.put(unwritten);
+            unwritten = grown;
+        }
+        int start = unwritten.position();
+        unwritten.putLong(inventoryId)
+                .put(update.absolute() ? (byte) 1 : (byte) 0)
+                .putInt(update.value());
+        CRC32 crc = new CRC32();
+        crc.update(unwritten.array(), start, RECORD_BYTES - Integer.BYTES);
+        unwritten.putInt((int) crc.getValue());
+        return ++appended;
+    }
+
+    /**
+     * Returns once the record with the given sequence number is on disk.
+     */
+    void sync(long sequence) {
+        if (durable >= sequence) {
+            return;
+        }
+        synchronized (syncMonitor) {
+            if (durable < sequence) {
+                writeUnwritten();
+            }
+        }
+    }
+
+    /**
+     * Makes everything appended so far durable and starts a new segment, returning the number of the new
+     * segment: every record appended before the call lives in a lower-numbered one.
+     */
+    long rotate() {
+        synchronized (syncMonitor) {
+            writeUnwritten();
+            synchronized (this) {
+                try {
+                    channel.close();
+                    openNextSegment();
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Cannot rotate stock write-ahead log", e);
+                }
+                return segment;
+            }
+        }
+    }
+
+    void deleteSegmentsBefore(long keepFrom) {
+        try {
+            for (Path path : segments()) {
+                if (segmentNumber(path) < keepFrom) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not delete flushed stock write-ahead log segments in {}", directory, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (syncMonitor) {
+            writeUnwritten();
+            synchronized (this) {
+                channel.close();
+            }
+        }
+    }
+
+    // Caller holds syncMonitor, so only one thread writes while appenders keep filling a fresh buffer.
+    private void writeUnwritten() {
+        ByteBuffer batch;
+        long upTo;
+        FileChannel target;
+        synchronized (this) {
+            batch = unwritten.flip();
+            unwritten = ByteBuffer.allocate(batch.capacity());
+            upTo = appended;
+            target = channel;
+        }
+        try {
+            while (batch.hasRemaining()) {
+                target.write(batch);
+            }
+            if (fsync) {
+                target.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write stock write-ahead log", e);
+        }
+        durable = upTo;
+    }
+
+    private void openNextSegment() throws IOException {
+        segment++;
+        channel = FileChannel.open(directory.resolve(SEGMENT_PREFIX + String.format("%012d", segment) + SEGMENT_SUFFIX),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return new ArrayList<>(files
+                    .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX)
+                            && path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList());
+        }
+    }
+
+    private static long segmentNumber(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static int replaySegment(Path path, Consumer<BufferedStockUpdate.Record> replay) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(path));
+        CRC32 crc = new CRC32();
+        int replayed = 0;
+        while (bytes.remaining() >= RECORD_BYTES) {
+            int start = bytes.position();
+            long inventoryId = bytes.getLong();
+            boolean absolute = bytes.get() == 1;
+            int value = bytes.getInt();
+            crc.reset();
+            crc.update(bytes.array(), start, RECORD_BYTES - Integer.BYTES);
+            if (bytes.getInt() != (int) crc.getValue()) {
+                log.warn("Stock write-ahead log segment {} is corrupt at byte {}, ignoring the rest", path, start);
+                return replayed;
+            }
+            replay.accept(new BufferedStockUpdate.Record(inventoryId,
+                    absolute ? BufferedStockUpdate.absolute(value) : BufferedStockUpdate.delta(value)));
+            replayed++;
+        }
+        if (bytes.hasRemaining()) {
+            log.warn("Stock write-ahead log segment {} ends in a torn record, ignoring it", path);
+        }
+        return replayed;
+    }
+}
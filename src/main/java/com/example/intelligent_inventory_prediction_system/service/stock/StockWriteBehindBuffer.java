@@ -0,0 +1,337 @@
+package com.example.intelligent_inventory_prediction_system.service.stock;
+
+import com.example.intelligent_inventory_prediction_system.service.change.ChangeLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.example.intelligent_inventory_prediction_system.constants.InventoryConstant.MAX_STOCK;
+
+/**
+ * Write-behind buffer for high-frequency stock updates. Each update is appended to a {@link StockWriteAheadLog}
+ * and folded into a per-inventory cell with a CAS loop, so writers to different inventories never contend and
+ * repeated writes to a hot inventory coalesce into one pending value. A flusher writes the pending values in
+ * batched {@code UPDATE}s every {@code flush-interval-ms}, or sooner once {@code max-batch} inventories are dirty.
+ * <p>
+ * An update is acknowledged only once its log record is durable, and a log segment is deleted only after the
+ * flush that covered it has committed, so a crash loses nothing acknowledged: the next start replays what is
+ * left. The flush stores the last segment it covered in {@code stock_wal_checkpoint} in the same transaction as
+ * its {@code UPDATE}s, and replay skips segments at or below it, so a crash between the commit and the deletion
+ * does not apply deltas twice. Writers share the read side of a lock with each other and only the flusher's
+ * segment rotation takes the write side, which keeps "in this segment" and "in this batch" the same set of updates.
+ * <p>
+ * Callers check a delta against the last known level with {@link #pending(long)}, but concurrent updates can still
+ * take a level out of range by the time it is written. Such a level is clamped to {@code [0, MAX_STOCK]} and counted
+ * in {@code inventory.stock.write-behind.clamped}.
+ */
+@Slf4j
+@Component
+public class StockWriteBehindBuffer implements SmartInitializingSingleton {
+
+    private static final String UPDATE_ABSOLUTE_SQL =
+            "UPDATE inventory SET current_stock = ?, last_updated = ?, change_seq = ? WHERE id = ?";
+    private static final String UPDATE_DELTA_SQL =
+            "UPDATE inventory SET current_stock = COALESCE(current_stock, 0) + ?, last_updated = ?, change_seq = ? "
+                    + "WHERE id = ? AND COALESCE(current_stock, 0) + ? BETWEEN 0 AND ?";
+    private static final String UPDATE_DELTA_CLAMPED_SQL =
+            "UPDATE inventory SET current_stock = LEAST(GREATEST(COALESCE(current_stock, 0) + ?, 0), ?), "
+                    + "last_updated = ?, change_seq = ? WHERE id = ?";
+    private static final String CREATE_CHECKPOINT_TABLE_SQL = "CREATE TABLE IF NOT EXISTS stock_wal_checkpoint ("
+            + "id INT PRIMARY KEY, flushed_segment BIGINT NOT NULL)";
+    private static final int READ_BACK_CHUNK = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StockChangePublisher stockChangePublisher;
+    private final ChangeLog changeLog;
+    private final boolean enabled;
+    private final long flushIntervalMillis;
+    private final int maxBatch;
+    private final StockWriteAheadLog writeAheadLog;
+    private final ReadWriteLock rotationLock = new ReentrantReadWriteLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Counter submittedCounter;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter clampedCounter;
+    private final Timer flushTimer;
+    private volatile Map<Long, AtomicReference<BufferedStockUpdate>> cells = new ConcurrentHashMap<>();
+    private ScheduledExecutorService flusher;
+    private volatile boolean started;
+
+    public StockWriteBehindBuffer(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            StockChangePublisher stockChangePublisher,
+            ChangeLog changeLog,
+            MeterRegistry meterRegistry,
+            @Value("${inventory.stock.write-behind.enabled:false}") boolean enabled,
+            @Value("${inventory.stock.write-behind.flush-interval-ms:5}") long flushIntervalMillis,
+            @Value("${inventory.stock.write-behind.max-batch:500}") int maxBatch,
+            @Value("${inventory.stock.write-behind.wal-directory:${java.io.tmpdir}/inventory-stock-wal}") String walDirectory,
+            @Value("${inventory.stock.write-behind.fsync:true}") boolean fsync
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.stockChangePublisher = stockChangePublisher;
+        this.changeLog = changeLog;
+        this.enabled = enabled;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxBatch = maxBatch;
+        this.writeAheadLog = new StockWriteAheadLog(Path.of(walDirectory), fsync);
+        this.submittedCounter = Counter.builder("inventory.stock.write-behind.updates")
+                .description("Stock updates accepted into the write-behind buffer")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("inventory.stock.write-behind.rows")
+                .description("Inventory rows written by write-behind flushes")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("inventory.stock.write-behind.dropped")
+                .description("Buffered stock updates for inventories deleted before the flush")
+                .register(meterRegistry);
+        this.clampedCounter = Counter.builder("inventory.stock.write-behind.clamped")
+                .description("Buffered stock updates clamped to the valid stock range when written")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("inventory.stock.write-behind.flush")
+                .description("Time to write one batch of buffered stock updates")
+                .register(meterRegistry);
+        Gauge.builder("inventory.stock.write-behind.pending", this, StockWriteBehindBuffer::pendingCount)
+                .description("Inventories with buffered stock updates not yet written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Replays the log left by a previous run and starts the flusher. Runs once every singleton, including the
+     * schema migration, is ready and before the web server accepts requests.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        jdbcTemplate.execute(CREATE_CHECKPOINT_TABLE_SQL);
+        jdbcTemplate.update("INSERT INTO stock_wal_checkpoint (id, flushed_segment) "
+                + "SELECT 1, 0 WHERE NOT EXISTS (SELECT 1 FROM stock_wal_checkpoint)");
+        long flushedSegment = jdbcTemplate.queryForObject(
+                "SELECT flushed_segment FROM stock_wal_checkpoint WHERE id = 1", Long.class);
+        int replayed = writeAheadLog.open(flushedSegment, record -> merge(record.inventoryId(), record.update()));
+        if (replayed > 0) {
+            log.info("Replayed {} buffered stock updates from the write-ahead log", replayed);
+        }
+        flush();
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stock-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        started = true;
+        log.info("Stock write-behind enabled, flushing every {} ms or {} inventories", flushIntervalMillis, maxBatch);
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        if (!started) {
+            return;
+        }
+        started = false;
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+        writeAheadLog.close();
+    }
+
+    public boolean isEnabled() {
+        return started;
+    }
+
+    /**
+     * Buffers the update and returns once it is durable in the write-ahead log; the database sees it at the next
+     * flush.
+     */
+    public void submit(long inventoryId, BufferedStockUpdate update) {
+        if (!started) {
+            throw new IllegalStateException("Stock write-behind is not enabled");
+        }
+        long sequence;
+        rotationLock.readLock().lock();
+        try {
+            sequence = writeAheadLog.append(inventoryId, update);
+            merge(inventoryId, update);
+        } finally {
+            rotationLock.readLock().unlock();
+        }
+        writeAheadLog.sync(sequence);
+        submittedCounter.increment();
+
+        if (cells.size() >= maxBatch && flushRequested.compareAndSet(false, true)) {
+            try {
+                flusher.execute(this::flushQuietly);
+            } catch (RejectedExecutionException e) {
+                // Shutting down; the final flush picks the update up.
+            }
+        }
+    }
+
+    public int pendingCount() {
+        return cells.size();
+    }
+
+    /**
+     * The update buffered for the inventory and not yet flushed, or {@code null}.
+     */
+    public BufferedStockUpdate pending(long inventoryId) {
+        AtomicReference<BufferedStockUpdate> cell = cells.get(inventoryId);
+        return cell == null ? null : cell.get();
+    }
+
+    /**
+     * Writes every buffered update in one transaction and publishes the resulting stock levels after it commits.
+     * If the write fails the batch goes back into the buffer, older than anything submitted meanwhile.
+     */
+    public synchronized void flush() {
+        flushRequested.set(false);
+        Map<Long, AtomicReference<BufferedStockUpdate>> batch;
+        long firstLiveSegment;
+        rotationLock.writeLock().lock();
+        try {
+            firstLiveSegment = writeAheadLog.rotate();
+            batch = cells;
+            cells = new ConcurrentHashMap<>();
+        } finally {
+            rotationLock.writeLock().unlock();
+        }
+        if (!batch.isEmpty()) {
+            try {
+                flushTimer.record(() -> write(batch, firstLiveSegment - 1));
+            } catch (RuntimeException e) {
+                batch.forEach((inventoryId, cell) -> requeue(inventoryId, cell.get()));
+                throw e;
+            }
+        }
+        writeAheadLog.deleteSegmentsBefore(firstLiveSegment);
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Stock write-behind flush failed, {} inventories stay buffered", pendingCount(), e);
+        }
+    }
+
+    private void write(Map<Long, AtomicReference<BufferedStockUpdate>> batch, long flushedSegment) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        transactionTemplate.executeWithoutResult(status -> {
+            long changeSeq = changeLog.next(batch.size());
+            List<Object[]> absolute = new ArrayList<>();
+            List<Object[]> delta = new ArrayList<>();
+            int clamped = 0;
+            for (Map.Entry<Long, AtomicReference<BufferedStockUpdate>> entry : batch.entrySet()) {
+                BufferedStockUpdate update = entry.getValue().get();
+                if (update.absolute()) {
+                    int level = Math.max(0, Math.min(MAX_STOCK, update.value()));
+                    if (level != update.value()) {
+                        clamped++;
+                    }
+                    absolute.add(new Object[]{level, now, changeSeq++, entry.getKey()});
+                } else {
+                    delta.add(new Object[]{update.value(), now, changeSeq++, entry.getKey(), update.value(), MAX_STOCK});
+                }
+            }
+            int[] inRange = jdbcTemplate.batchUpdate(UPDATE_DELTA_SQL, delta);
+            // Rows the in-range update skipped are either deleted or would leave the range; only the latter match here.
+            List<Object[]> outOfRange = new ArrayList<>();
+            for (int i = 0; i < inRange.length; i++) {
+                if (inRange[i] == 0) {
+                    Object[] arguments = delta.get(i);
+                    outOfRange.add(new Object[]{arguments[0], MAX_STOCK, now, arguments[2], arguments[3]});
+                }
+            }
+            int clampedDeltas = count(jdbcTemplate.batchUpdate(UPDATE_DELTA_CLAMPED_SQL, outOfRange));
+            clamped += clampedDeltas;
+            int written = count(jdbcTemplate.batchUpdate(UPDATE_ABSOLUTE_SQL, absolute)) + count(inRange) + clampedDeltas;
+            jdbcTemplate.update("UPDATE stock_wal_checkpoint SET flushed_segment = ? WHERE id = 1", flushedSegment);
+            writtenCounter.increment(written);
+            if (clamped > 0) {
+                clampedCounter.increment(clamped);
+                log.warn("Clamped {} buffered stock updates to the valid stock range", clamped);
+            }
+            if (written < batch.size()) {
+                droppedCounter.increment(batch.size() - written);
+                log.warn("Dropped buffered stock updates for {} deleted inventories", batch.size() - written);
+            }
+            publishWrittenLevels(new ArrayList<>(batch.keySet()));
+        });
+    }
+
+    private void publishWrittenLevels(List<Long> inventoryIds) {
+        Collections.sort(inventoryIds);
+        for (int from = 0; from < inventoryIds.size(); from += READ_BACK_CHUNK) {
+            List<Long> chunk = inventoryIds.subList(from, Math.min(inventoryIds.size(), from + READ_BACK_CHUNK));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query("SELECT id, current_stock, reorder_threshold FROM inventory WHERE id IN (" + placeholders + ")",
+                    resultSet -> {
+                        stockChangePublisher.publishStockChange(resultSet.getLong(1),
+                                (Integer) resultSet.getObject(2), (Integer) resultSet.getObject(3));
+                    },
+                    chunk.toArray());
+        }
+    }
+
+    private void merge(long inventoryId, BufferedStockUpdate update) {
+        AtomicReference<BufferedStockUpdate> cell = cells.computeIfAbsent(inventoryId, id -> new AtomicReference<>());
+        BufferedStockUpdate current;
+        do {
+            current = cell.get();
+        } while (!cell.compareAndSet(current, current == null ? update : current.then(update)));
+    }
+
+    private void requeue(long inventoryId, BufferedStockUpdate older) {
+        AtomicReference<BufferedStockUpdate> cell = cells.computeIfAbsent(inventoryId, id -> new AtomicReference<>());
+        BufferedStockUpdate current;
+        do {
+            current = cell.get();
+        } while (!cell.compareAndSet(current, current == null ? older : older.then(current)));
+    }
+
+    private static int count(int[] updateCounts) {
+        int total = 0;
+        for (int updated : updateCounts) {
+            total += updated == Statement.SUCCESS_NO_INFO ? 1 : Math.max(0, updated);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.intelligent_inventory_prediction_system.service.stock;
+
+/**
+ * An inventory representation together with the version of the row it was built from, so the validators sent with
+ * it always describe the body; {@code version} is {@code null} when ETags are disabled.
+ */
+public record VersionedInventory<T>(T body, InventoryVersion version) {
+}
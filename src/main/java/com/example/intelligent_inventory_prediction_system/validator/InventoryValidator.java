@@ -12,6 +12,7 @@ public class InventoryValidator {
         validateNotNull(request);
         validateProductId(request.getProductId());
         validateCurrentStock(request.getCurrentStock());
+        validateReorderThreshold(request.getReorderThreshold());
     }
 
     public void validateUpdateRequest(InventoryRequestDTO request) {
@@ -19,6 +20,7 @@ public class InventoryValidator {
         if (request.getCurrentStock() != null) {
             validateStockLevel(request.getCurrentStock());
         }
+        validateReorderThreshold(request.getReorderThreshold());
     }
 
     public void validateId(Long id) {
@@ -49,6 +51,18 @@ public class InventoryValidator {
         validateStockLevel(stock);
     }
 
+    private void validateReorderThreshold(Integer threshold) {
+        if (threshold == null) {
+            return;
+        }
+        if (threshold < MIN_STOCK) {
+            throw new IllegalArgumentException(REORDER_THRESHOLD_NEGATIVE_MESSAGE);
+        }
+        if (threshold > MAX_STOCK) {
+            throw new IllegalArgumentException(REORDER_THRESHOLD_EXCEEDS_MAX_MESSAGE);
+        }
+    }
+
     private void validateStockLevel(Integer stock) {
         if (stock < MIN_STOCK) {
             throw new IllegalArgumentException(STOCK_LEVEL_NEGATIVE_MESSAGE);
@@ -0,0 +1,76 @@
+package com.example.intelligent_inventory_prediction_system.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptiveConcurrencyLimiter Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(20);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 2, 20, 0.5, 2.0, clock::get);
+
+    @Test
+    @DisplayName("Should shed searches before reads and reads before stock writes")
+    void tryAcquire_shouldShedByPriority() {
+        for (int i = 0; i < 7; i++) {
+            assertThat(limiter.tryAcquire(EndpointGroup.PRODUCT_SEARCH)).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire(EndpointGroup.INVENTORY_SEARCH)).isFalse();
+        assertThat(limiter.tryAcquire(EndpointGroup.CRUD_READS)).isTrue();
+        assertThat(limiter.tryAcquire(EndpointGroup.CRUD_READS)).isTrue();
+        assertThat(limiter.tryAcquire(EndpointGroup.CRUD_READS)).isFalse();
+        assertThat(limiter.tryAcquire(EndpointGroup.STOCK_WRITES)).isTrue();
+        assertThat(limiter.tryAcquire(EndpointGroup.STOCK_WRITES)).isFalse();
+
+        assertThat(limiter.getInFlight()).isEqualTo(10);
+        assertThat(limiter.getRejected(EndpointGroup.INVENTORY_SEARCH)).isEqualTo(1);
+        assertThat(limiter.getRejected(EndpointGroup.CRUD_READS)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should cut the limit once per slow burst and grow it back while busy and fast")
+    void release_shouldAdaptToLatency() {
+        limiter.tryAcquire(EndpointGroup.CRUD_READS);
+        limiter.release(EndpointGroup.CRUD_READS, FAST);
+
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire(EndpointGroup.CRUD_READS);
+        }
+        limiter.release(EndpointGroup.CRUD_READS, SLOW);
+        limiter.release(EndpointGroup.CRUD_READS, SLOW);
+        assertThat(limiter.getLimit()).isEqualTo(5.0);
+
+        clock.addAndGet(SLOW);
+        limiter.release(EndpointGroup.CRUD_READS, SLOW);
+        assertThat(limiter.getLimit()).isEqualTo(2.5);
+        assertThat(limiter.getBaselineMillis(EndpointGroup.CRUD_READS)).isLessThan(21);
+
+        limiter.tryAcquire(EndpointGroup.STOCK_WRITES);
+        limiter.tryAcquire(EndpointGroup.STOCK_WRITES);
+        limiter.release(EndpointGroup.STOCK_WRITES, SLOW);
+        assertThat(limiter.getLimit()).isGreaterThan(2.5);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should classify requests into endpoint groups")
+    void classify_shouldMatchEndpointGroups() {
+        assertThat(EndpointGroup.classify("GET", "/api/products/search/keyword")).isEqualTo(EndpointGroup.PRODUCT_SEARCH);
+        assertThat(EndpointGroup.classify("POST", "/api/inventory/search/advanced")).isEqualTo(EndpointGroup.INVENTORY_SEARCH);
+        assertThat(EndpointGroup.classify("PATCH", "/api/v1/inventories/7/stock")).isEqualTo(EndpointGroup.STOCK_WRITES);
+        assertThat(EndpointGroup.classify("POST", "/api/v1/inventories/7/stock/updates")).isEqualTo(EndpointGroup.STOCK_WRITES);
+        assertThat(EndpointGroup.classify("GET", "/api/v1/inventories/7")).isEqualTo(EndpointGroup.CRUD_READS);
+        assertThat(EndpointGroup.classify("GET", "/api/products")).isEqualTo(EndpointGroup.CRUD_READS);
+        assertThat(EndpointGroup.classify("POST", "/api/products")).isNull();
+        assertThat(EndpointGroup.classify("GET", "/actuator/health")).isNull();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.intelligent_inventory_prediction_system.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConcurrencyLimitFilter Tests")
+class ConcurrencyLimitFilterTest {
+
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.9, 2.0, () -> 0);
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter,
+            new ObjectMapper().registerModule(new JavaTimeModule()), 3, System::nanoTime);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    @DisplayName("Should answer a shed request with 503 and Retry-After without running it")
+    void overLimit_shouldReturnServiceUnavailable() throws Exception {
+        limiter.tryAcquire(EndpointGroup.STOCK_WRITES);
+
+        MockHttpServletResponse response = send(new MockHttpServletRequest("GET", "/api/products/search/keyword"));
+
+        assertThat(executions).hasValue(0);
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("3");
+        assertThat(response.getContentAsString()).contains("\"status\":503");
+        assertThat(limiter.getRejected(EndpointGroup.PRODUCT_SEARCH)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should hold the slot of an asynchronous request until it completes")
+    void asyncRequest_shouldReleaseOnCompletion() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/inventory/search/advanced");
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+        assertThat(limiter.getInFlight(EndpointGroup.INVENTORY_SEARCH)).isEqualTo(1);
+
+        request.getAsyncContext().complete();
+        assertThat(limiter.getInFlight(EndpointGroup.INVENTORY_SEARCH)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should pass requests outside the endpoint groups through untouched")
+    void unlimitedRequest_shouldPassThrough() throws Exception {
+        limiter.tryAcquire(EndpointGroup.STOCK_WRITES);
+        limiter.tryAcquire(EndpointGroup.STOCK_WRITES);
+
+        MockHttpServletResponse response = send(new MockHttpServletRequest("POST", "/api/products"));
+
+        assertThat(executions).hasValue(1);
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> executions.incrementAndGet());
+        return response;
+    }
+}
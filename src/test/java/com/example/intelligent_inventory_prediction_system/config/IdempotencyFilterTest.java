@@ -0,0 +1,139 @@
+package com.example.intelligent_inventory_prediction_system.config;
+
+import com.example.intelligent_inventory_prediction_system.service.idempotency.IdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IdempotencyFilter Tests")
+class IdempotencyFilterTest {
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private IdempotencyStore store;
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyStore(new DriverManagerDataSource("jdbc:h2:mem:unused"), new SimpleMeterRegistry(),
+                false, 60, 60, 100);
+        filter = new IdempotencyFilter(store, new ObjectMapper().registerModule(new JavaTimeModule()),
+                List.of("/api/v1/inventories", "/api/v1/inventories/*/stock"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should run a request once and replay its response to a retry")
+    void retry_shouldReplayRecordedResponse() throws Exception {
+        MockHttpServletResponse first = send(post("key-1", "{\"productId\":1}"), created());
+        MockHttpServletResponse retry = send(post("key-1", "{\"productId\":1}"), created());
+
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo("{\"id\":7}");
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused for a different body")
+    void differentBody_shouldBeRejected() throws Exception {
+        send(post("key-1", "{\"productId\":1}"), created());
+
+        MockHttpServletResponse response = send(post("key-1", "{\"productId\":2}"), created());
+
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a duplicate while the first request still runs")
+    void concurrentDuplicate_shouldGetConflict() throws Exception {
+        MockHttpServletResponse[] duplicate = new MockHttpServletResponse[1];
+        send(post("key-1", "{}"), (request, response) -> {
+            executions.incrementAndGet();
+            duplicate[0] = send(post("key-1", "{}"), created());
+            ((HttpServletResponse) response).setStatus(201);
+        });
+
+        assertThat(duplicate[0].getStatus()).isEqualTo(409);
+        assertThat(duplicate[0].getHeader("Retry-After")).isEqualTo("1");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should let a retry run again after a server error")
+    void serverError_shouldNotBeRecorded() throws Exception {
+        send(post("key-1", "{}"), (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(503);
+        });
+
+        MockHttpServletResponse retry = send(post("key-1", "{}"), created());
+
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should pass through requests without a key or outside the guarded paths")
+    void unguardedRequests_shouldPassThrough() throws Exception {
+        MockHttpServletRequest withoutKey = post(null, "{}");
+        MockHttpServletRequest otherPath = post("key-1", "{}");
+        otherPath.setRequestURI("/api/v1/inventories/search");
+
+        send(withoutKey, created());
+        send(post(null, "{}"), created());
+        send(otherPath, created());
+        send(otherPath, created());
+
+        assertThat(executions).hasValue(4);
+        assertThat(store.size()).isZero();
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request, FilterChain chain)
+            throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private FilterChain created() {
+        return (request, response) -> {
+            executions.incrementAndGet();
+            request.getInputStream().readAllBytes();
+            ((HttpServletResponse) response).setStatus(201);
+            response.setContentType("application/json");
+            response.getOutputStream().write("{\"id\":7}".getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private static MockHttpServletRequest post(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/inventories");
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        }
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.intelligent_inventory_prediction_system.config;
+
+import com.example.intelligent_inventory_prediction_system.dto.projection.InventoryField;
+import com.example.intelligent_inventory_prediction_system.dto.projection.ProjectedRow;
+import com.example.intelligent_inventory_prediction_system.dto.response.InventoryResponseDTO;
+import com.example.intelligent_inventory_prediction_system.dto.response.ProductResponseDTO;
+import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
+import com.google.protobuf.CodedInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.intelligent_inventory_prediction_system.constants.MediaTypes.APPLICATION_PROTOBUF_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProtobufResponseHttpMessageConverter Tests")
+class ProtobufResponseHttpMessageConverterTest {
+
+    private static final MediaType PROTOBUF = MediaType.parseMediaType(APPLICATION_PROTOBUF_VALUE);
+
+    private final ProtobufResponseHttpMessageConverter converter = new ProtobufResponseHttpMessageConverter();
+
+    @Test
+    @DisplayName("Should only write product and inventory responses, lists and pages")
+    void canWrite_shouldMatchResponseTypes() {
+        Type products = new ParameterizedTypeReference<List<ProductResponseDTO>>() {
+        }.getType();
+        Type strings = new ParameterizedTypeReference<List<String>>() {
+        }.getType();
+
+        assertThat(converter.canWrite(products, ArrayList.class, PROTOBUF)).isTrue();
+        assertThat(converter.canWrite(InventoryResponseDTO.class, InventoryResponseDTO.class, PROTOBUF)).isTrue();
+        assertThat(converter.canWrite(strings, ArrayList.class, PROTOBUF)).isFalse();
+        assertThat(converter.canWrite(Map.class, Map.class, PROTOBUF)).isFalse();
+        assertThat(converter.canWrite(products, ArrayList.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canRead(products, null, PROTOBUF)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should encode a product list that a protobuf reader can decode, skipping null fields")
+    void write_productList_shouldFollowSchema() throws IOException {
+        ProductResponseDTO product = new ProductResponseDTO();
+        product.setId(300L);
+        product.setName("Laptop");
+        product.setPrice(999.5);
+        product.setStatus(ProductStatus.AVAILABLE);
+
+        CodedInputStream list = CodedInputStream.newInstance(write(List.of(product, new ProductResponseDTO()),
+                new ParameterizedTypeReference<List<ProductResponseDTO>>() {
+                }.getType()));
+
+        assertThat(list.readTag()).isEqualTo(tag(1, 2));
+        CodedInputStream item = CodedInputStream.newInstance(list.readByteArray());
+        assertThat(item.readTag()).isEqualTo(tag(1, 0));
+        assertThat(item.readInt64()).isEqualTo(300L);
+        assertThat(item.readTag()).isEqualTo(tag(2, 2));
+        assertThat(item.readString()).isEqualTo("Laptop");
+        assertThat(item.readTag()).isEqualTo(tag(5, 1));
+        assertThat(item.readDouble()).isEqualTo(999.5);
+        assertThat(item.readTag()).isEqualTo(tag(6, 2));
+        assertThat(item.readString()).isEqualTo("AVAILABLE");
+        assertThat(item.isAtEnd()).isTrue();
+        assertThat(list.readTag()).isEqualTo(tag(1, 2));
+        assertThat(list.readByteArray()).isEmpty();
+        assertThat(list.isAtEnd()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should encode a page with its position")
+    void write_inventoryPage_shouldCarryPosition() throws IOException {
+        InventoryResponseDTO inventory = new InventoryResponseDTO();
+        inventory.setId(1L);
+        inventory.setCurrentStock(-1);
+        inventory.setLastUpdated(LocalDateTime.of(2024, 1, 1, 0, 0));
+        PageImpl<InventoryResponseDTO> page = new PageImpl<>(List.of(inventory), PageRequest.of(2, 1), 10);
+
+        CodedInputStream in = CodedInputStream.newInstance(write(page, PageImpl.class));
+
+        assertThat(in.readTag()).isEqualTo(tag(1, 2));
+        CodedInputStream item = CodedInputStream.newInstance(in.readByteArray());
+        assertThat(item.readTag()).isEqualTo(tag(1, 0));
+        assertThat(item.readInt64()).isEqualTo(1L);
+        assertThat(item.readTag()).isEqualTo(tag(3, 0));
+        assertThat(item.readInt32()).isEqualTo(-1);
+        assertThat(item.readTag()).isEqualTo(tag(5, 0));
+        assertThat(item.readInt64()).isEqualTo(LocalDateTime.of(2024, 1, 1, 0, 0).toInstant(ZoneOffset.UTC).toEpochMilli());
+        assertThat(in.readTag()).isEqualTo(tag(2, 0));
+        assertThat(in.readInt64()).isEqualTo(10L);
+        assertThat(in.readTag()).isEqualTo(tag(3, 0));
+        assertThat(in.readInt32()).isEqualTo(2);
+        assertThat(in.readTag()).isEqualTo(tag(4, 0));
+        assertThat(in.readInt32()).isEqualTo(1);
+        assertThat(in.isAtEnd()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should encode only the selected fields of a partial response")
+    void write_projectedRows_shouldSkipUnselectedFields() throws IOException {
+        List<ProjectedRow> rows = List.of(new ProjectedRow(InventoryField.parse("currentStock,id"), new Object[]{7, 3L}));
+
+        assertThat(converter.canWrite(ArrayList.class, ArrayList.class, PROTOBUF)).isTrue();
+        CodedInputStream list = CodedInputStream.newInstance(write(rows, ArrayList.class));
+
+        assertThat(list.readTag()).isEqualTo(tag(1, 2));
+        CodedInputStream item = CodedInputStream.newInstance(list.readByteArray());
+        assertThat(item.readTag()).isEqualTo(tag(1, 0));
+        assertThat(item.readInt64()).isEqualTo(3L);
+        assertThat(item.readTag()).isEqualTo(tag(3, 0));
+        assertThat(item.readInt32()).isEqualTo(7);
+        assertThat(item.isAtEnd()).isTrue();
+        assertThat(list.isAtEnd()).isTrue();
+    }
+
+    private byte[] write(Object body, Type type) throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(body, type, PROTOBUF, message);
+        return message.getBodyAsBytes();
+    }
+
+    private static int tag(int field, int wireType) {
+        return field << 3 | wireType;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.intelligent_inventory_prediction_system.config;
+
+import com.example.intelligent_inventory_prediction_system.model.Product;
+import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
+import com.example.intelligent_inventory_prediction_system.repository.ProductRepository;
+import com.example.intelligent_inventory_prediction_system.service.executor.QueryOperation;
+import com.example.intelligent_inventory_prediction_system.service.executor.QueryOperationMetrics;
+import com.example.intelligent_inventory_prediction_system.service.executor.SlowQueryLog;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({
+        QueryInstrumentationConfig.class,
+        QueryStatisticsEndpoint.class,
+        QueryOperationMetrics.class,
+        SlowQueryLog.class,
+        QueryInstrumentationConfigTest.MetricsConfig.class
+})
+@DisplayName("QueryInstrumentationConfig Tests")
+class QueryInstrumentationConfigTest {
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private QueryOperationMetrics queryOperationMetrics;
+
+    @Autowired
+    private QueryStatisticsEndpoint queryStatisticsEndpoint;
+
+    @Autowired
+    private SlowQueryLog slowQueryLog;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.save(product("Gaming Laptop"));
+        productRepository.save(product("Desk Lamp"));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should attribute statements, queries and entity loads to the open operation")
+    void begin_shouldAttributeHibernateActivityToOperation() {
+        try (QueryOperation ignored = queryOperationMetrics.begin("find by name: laptop")) {
+            assertThat(productRepository.findAll()).hasSize(2);
+        }
+        productRepository.findAll();
+
+        Map<String, Object> operation = queryOperationMetrics.snapshot().get("find by name");
+        assertThat(operation.get("calls")).isEqualTo(1L);
+        assertThat(operation.get("statements")).isEqualTo(1L);
+        assertThat(operation.get("queries")).isEqualTo(1L);
+        assertThat(operation.get("entityLoads")).isEqualTo(2L);
+        assertThat((String) operation.get("lastSql")).containsIgnoringCase("from product");
+    }
+
+    @Test
+    @DisplayName("Should expose session factory statistics and per-operation totals on the endpoint")
+    @SuppressWarnings("unchecked")
+    void queryStatistics_shouldIncludeHibernateAndOperationSections() {
+        try (QueryOperation ignored = queryOperationMetrics.begin("advanced search")) {
+            productRepository.findAll();
+        }
+
+        Map<String, Object> statistics = queryStatisticsEndpoint.queryStatistics();
+
+        Map<String, Object> hibernate = (Map<String, Object>) statistics.get("hibernate");
+        assertThat(hibernate.get("enabled")).isEqualTo(true);
+        assertThat((Long) hibernate.get("entitiesLoaded")).isGreaterThanOrEqualTo(2L);
+        assertThat((Map<String, Object>) statistics.get("operations")).containsKey("advanced search");
+    }
+
+    @Test
+    @DisplayName("Should log statements above the threshold with bind values inlined")
+    void slowQueryDataSource_shouldRecordBoundSql() {
+        slowQueryLog.clear();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SlowQueryDataSource(dataSource, 0, () -> slowQueryLog));
+
+        try (QueryOperation ignored = queryOperationMetrics.begin("find by name: o'brien")) {
+            jdbcTemplate.queryForList("SELECT id FROM product WHERE name = ? OR name = '?' OR price > ?",
+                    Long.class, "O'Brien", 10.5);
+        }
+
+        assertThat(slowQueryLog.recent()).singleElement().satisfies(query -> {
+            assertThat(query.operation()).isEqualTo("find by name: o'brien");
+            assertThat(query.sql()).isEqualTo("SELECT id FROM product WHERE name = 'O''Brien' OR name = '?' OR price > 10.5");
+        });
+    }
+
+    private static Product product(String name) {
+        Product product = new Product();
+        product.setName(name);
+        product.setCategory("Electronics");
+        product.setPrice(100.0);
+        product.setStatus(ProductStatus.AVAILABLE);
+        return product;
+    }
+}
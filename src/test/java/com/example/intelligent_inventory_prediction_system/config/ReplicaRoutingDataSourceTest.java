@@ -0,0 +1,126 @@
+package com.example.intelligent_inventory_prediction_system.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReplicaRoutingDataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private static final long MAX_LAG_MILLIS = 60_000;
+
+    private ReplicaPool.Replica first;
+    private ReplicaPool.Replica second;
+    private ReplicaPool pool;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        first = new ReplicaPool.Replica("replica-0", database("replica-0"));
+        second = new ReplicaPool.Replica("replica-1", database("replica-1"));
+        pool = new ReplicaPool(List.of(first, second), primary, MAX_LAG_MILLIS);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, pool, MAX_LAG_MILLIS, 0);
+
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRouting.clear();
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to a replica and read-write ones to the primary")
+    void readOnlyTransaction_shouldUseReplica() {
+        assertThat(readOnlyNode()).startsWith("replica-");
+        assertThat(readWriteNode()).isEqualTo("primary");
+        assertThat(pool.getReplicaReads()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep reads on the primary right after a write on the same thread")
+    void readAfterWrite_shouldUsePrimary() {
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+
+        assertThat(readOnlyNode()).isEqualTo("primary");
+        assertThat(pool.getPrimaryReads()).isEqualTo(1);
+
+        ReplicaRouting.clear();
+        assertThat(readOnlyNode()).startsWith("replica-");
+    }
+
+    @Test
+    @DisplayName("Should prefer the replica with the lower probe latency")
+    void selection_shouldPreferLowerLatency() {
+        first.latencyNanos = 50_000_000;
+        second.latencyNanos = 1_000_000;
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(readOnlyNode()).isEqualTo("replica-1");
+        }
+    }
+
+    @Test
+    @DisplayName("Should skip unhealthy and lagging replicas and fall back to the primary when none is left")
+    void selection_shouldSkipUnhealthyAndLaggingReplicas() {
+        first.healthy = false;
+        assertThat(readOnlyNode()).isEqualTo("replica-1");
+
+        second.lagMillis = MAX_LAG_MILLIS + 1;
+        assertThat(readOnlyNode()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should mark a replica that fails its health check and read from the primary instead")
+    void failingReplica_shouldFallBackToPrimary() {
+        ReplicaPool.Replica broken = new ReplicaPool.Replica("broken",
+                new DriverManagerDataSource("jdbc:h2:mem:missing;IFEXISTS=TRUE", "sa", ""));
+        DataSource primary = database("primary-2");
+        ReplicaPool brokenPool = new ReplicaPool(List.of(broken), primary, MAX_LAG_MILLIS);
+
+        brokenPool.checkReplicas();
+
+        assertThat(broken.healthy).isFalse();
+        assertThat(new JdbcTemplate(brokenPool).queryForObject("SELECT name FROM node", String.class))
+                .isEqualTo("primary-2");
+    }
+
+    private String readOnlyNode() {
+        return readOnly.execute(status -> node());
+    }
+
+    private String readWriteNode() {
+        return readWrite.execute(status -> node());
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE node (name VARCHAR(32))");
+        template.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
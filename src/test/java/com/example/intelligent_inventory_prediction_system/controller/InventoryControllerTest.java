@@ -0,0 +1,200 @@
+package com.example.intelligent_inventory_prediction_system.controller;
+
+import com.example.intelligent_inventory_prediction_system.dto.projection.FieldSelection;
+import com.example.intelligent_inventory_prediction_system.dto.projection.InventoryField;
+import com.example.intelligent_inventory_prediction_system.dto.projection.ProjectedRow;
+import com.example.intelligent_inventory_prediction_system.dto.response.ChangeFeedResponseDTO;
+import com.example.intelligent_inventory_prediction_system.dto.response.InventoryResponseDTO;
+import com.example.intelligent_inventory_prediction_system.exception.ChangeTokenExpiredException;
+import com.example.intelligent_inventory_prediction_system.service.InventoryService;
+import com.example.intelligent_inventory_prediction_system.service.StockUpdateService;
+import com.example.intelligent_inventory_prediction_system.service.stock.InventoryVersion;
+import com.example.intelligent_inventory_prediction_system.service.stock.VersionedInventory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(
+        controllers = InventoryController.class,
+        excludeAutoConfiguration = {SecurityAutoConfiguration.class}
+)
+@DisplayName("InventoryController Tests")
+class InventoryControllerTest {
+
+    private static final String BASE_URL = "/api/v1/inventories";
+    private static final long LAST_MODIFIED = 1_700_000_000_000L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private InventoryService inventoryService;
+
+    @MockitoBean
+    private StockUpdateService stockUpdateService;
+
+    private InventoryResponseDTO inventory;
+
+    @BeforeEach
+    void setUp() {
+        inventory = new InventoryResponseDTO();
+        inventory.setId(1L);
+        inventory.setCurrentStock(12);
+        when(inventoryService.findVersionedInventoryById(1L))
+                .thenReturn(new VersionedInventory<>(inventory, new InventoryVersion("abc", LAST_MODIFIED)));
+        when(inventoryService.findVersionedInventoryById(eq(1L), any(FieldSelection.class)))
+                .thenReturn(new VersionedInventory<>(new ProjectedRow(InventoryField.parse("id"), new Object[]{1L}),
+                        new InventoryVersion("abc", LAST_MODIFIED)));
+    }
+
+    @Test
+    @DisplayName("Should send a strong ETag and Last-Modified with the inventory")
+    void getInventoryById_shouldSendValidators() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/{id}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not("W/")))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, LAST_MODIFIED))
+                .andExpect(jsonPath("$.currentStock").value(12));
+    }
+
+    @Test
+    @DisplayName("Should answer a matching If-None-Match with 304 after loading the row only once")
+    void getInventoryById_matchingEtag_shouldReturn304() throws Exception {
+        String etag = mockMvc.perform(get(BASE_URL + "/{id}", 1L))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(BASE_URL + "/{id}", 1L).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get(BASE_URL + "/{id}", 1L).param("fields", "id").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(BASE_URL + "/{id}", 1L).header(HttpHeaders.IF_MODIFIED_SINCE, LAST_MODIFIED))
+                .andExpect(status().isNotModified());
+        verify(inventoryService, times(3)).findVersionedInventoryById(1L);
+    }
+
+    @Test
+    @DisplayName("Should answer a matching If-None-Match from the cached version without loading the row")
+    void getInventoryById_cachedVersion_shouldReturn304WithoutLoading() throws Exception {
+        String etag = mockMvc.perform(get(BASE_URL + "/{id}", 1L))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        when(inventoryService.findCachedInventoryVersion(1L)).thenReturn(new InventoryVersion("abc", LAST_MODIFIED));
+
+        mockMvc.perform(get(BASE_URL + "/{id}", 1L).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        verify(inventoryService, times(1)).findVersionedInventoryById(1L);
+    }
+
+    @Test
+    @DisplayName("Should send the ETag of the loaded row when the cached version is stale")
+    void getInventoryById_staleCachedVersion_shouldSendLoadedEtag() throws Exception {
+        String etag = mockMvc.perform(get(BASE_URL + "/{id}", 1L))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        when(inventoryService.findCachedInventoryVersion(1L)).thenReturn(new InventoryVersion("old", LAST_MODIFIED));
+
+        mockMvc.perform(get(BASE_URL + "/{id}", 1L).header(HttpHeaders.IF_NONE_MATCH, "\"other\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(jsonPath("$.currentStock").value(12));
+    }
+
+    @Test
+    @DisplayName("Should answer an id and stock selection from the stock table")
+    void getInventoryById_stockOnlyFields_shouldNotLoadRow() throws Exception {
+        FieldSelection<InventoryField> selection = InventoryField.parse("id,currentStock");
+        ProjectedRow row = new ProjectedRow(selection, new Object[]{1L, 12});
+        when(inventoryService.findStockProjectionById(eq(1L), any(FieldSelection.class)))
+                .thenReturn(new VersionedInventory<>(row, InventoryVersion.ofStock(1L, 12)));
+
+        String etag = mockMvc.perform(get(BASE_URL + "/{id}", 1L).param("fields", "id,currentStock"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.currentStock").value(12))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get(BASE_URL + "/{id}", 1L).param("fields", "id,currentStock")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        verify(inventoryService, never()).findVersionedInventoryById(eq(1L), any(FieldSelection.class));
+        verify(inventoryService, never()).findCachedInventoryVersion(any());
+    }
+
+    @Test
+    @DisplayName("Should validate paged lists against the collection version")
+    void getInventoriesPageable_unchangedCollection_shouldReturn304() throws Exception {
+        when(inventoryService.findCollectionVersion()).thenReturn("1f-7");
+        when(inventoryService.findAllInventories(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(inventory)));
+
+        String etag = mockMvc.perform(get(BASE_URL + "/paged").param("page", "0"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get(BASE_URL + "/paged").param("page", "0").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        when(inventoryService.findCollectionVersion()).thenReturn("1f-8");
+        mockMvc.perform(get(BASE_URL + "/paged").param("page", "0").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should skip validation while no collection version is available")
+    void getAllInventories_noCollectionVersion_shouldNotSendEtag() throws Exception {
+        when(inventoryService.findAllInventories()).thenReturn(List.of(inventory));
+
+        mockMvc.perform(get(BASE_URL).header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+        verify(inventoryService, never()).findVersionedInventoryById(any());
+    }
+
+    @Test
+    @DisplayName("Should return the changes since a token")
+    void getInventoryChanges_shouldReturnFeedPage() throws Exception {
+        when(inventoryService.findInventoryChanges("AAAAAAAAAAU", 2)).thenReturn(
+                ChangeFeedResponseDTO.<InventoryResponseDTO>builder()
+                        .changed(List.of(inventory))
+                        .removed(List.of(4L))
+                        .nextToken("AAAAAAAAAAc")
+                        .hasMore(true)
+                        .build());
+
+        mockMvc.perform(get(BASE_URL + "/changes").param("since", "AAAAAAAAAAU").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[0].id").value(1))
+                .andExpect(jsonPath("$.removed[0]").value(4))
+                .andExpect(jsonPath("$.nextToken").value("AAAAAAAAAAc"))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
+    @Test
+    @DisplayName("Should answer an expired change token with 410")
+    void getInventoryChanges_expiredToken_shouldReturn410() throws Exception {
+        when(inventoryService.findInventoryChanges(eq("AAAAAAAAAAE"), anyInt()))
+                .thenThrow(new ChangeTokenExpiredException("Change token has expired; sync again without a token"));
+
+        mockMvc.perform(get(BASE_URL + "/changes").param("since", "AAAAAAAAAAE"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.status").value(410));
+    }
+}
@@ -2,6 +2,8 @@ package com.example.intelligent_inventory_prediction_system.controller;
 
 import com.example.intelligent_inventory_prediction_system.dto.response.InventoryResponseDTO;
 import com.example.intelligent_inventory_prediction_system.dto.search.InventorySearchCriteria;
+import com.example.intelligent_inventory_prediction_system.exception.QueryDeadlineExceededException;
+import com.example.intelligent_inventory_prediction_system.exception.QueryRejectedException;
 import com.example.intelligent_inventory_prediction_system.service.InventorySearchService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,11 +16,14 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -64,6 +69,11 @@ class InventorySearchControllerTest {
         searchCriteria.setMaxStock(MAX_STOCK);
     }
 
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult started = mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(started));
+    }
+
     private InventoryResponseDTO createInventoryDTO(Long id, Long productId, Integer currentStock) {
         InventoryResponseDTO dto = new InventoryResponseDTO();
         dto.setId(id);
@@ -82,12 +92,12 @@ class InventorySearchControllerTest {
         void searchInventories_WithValidCriteria_ShouldReturnSingleInventory() throws Exception {
             // Given
             List<InventoryResponseDTO> expectedList = List.of(firstInventoryDTO);
-            when(inventorySearchService.searchInventories(any(InventorySearchCriteria.class)))
-                    .thenReturn(expectedList);
+            when(inventorySearchService.searchInventoriesAsync(any(InventorySearchCriteria.class)))
+                    .thenReturn(CompletableFuture.completedFuture(expectedList));
             String requestJson = objectMapper.writeValueAsString(searchCriteria);
 
             // When
-            ResultActions result = mockMvc.perform(post(BASE_URL + "/advanced")
+            ResultActions result = performAsync(post(BASE_URL + "/advanced")
                     .with(csrf())  // ✅ FIX: Add CSRF token
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(requestJson));
@@ -100,7 +110,7 @@ class InventorySearchControllerTest {
                     .andExpect(jsonPath("$[0].currentStock").value(50))
                     .andExpect(jsonPath("$[0].lastUpdated").exists());
 
-            verify(inventorySearchService, times(1)).searchInventories(any(InventorySearchCriteria.class));
+            verify(inventorySearchService, times(1)).searchInventoriesAsync(any(InventorySearchCriteria.class));
         }
 
         @Test
@@ -111,12 +121,12 @@ class InventorySearchControllerTest {
             InventorySearchCriteria broadCriteria = new InventorySearchCriteria();
             broadCriteria.setMinStock(MIN_STOCK);
 
-            when(inventorySearchService.searchInventories(any(InventorySearchCriteria.class)))
-                    .thenReturn(expectedList);
+            when(inventorySearchService.searchInventoriesAsync(any(InventorySearchCriteria.class)))
+                    .thenReturn(CompletableFuture.completedFuture(expectedList));
             String requestJson = objectMapper.writeValueAsString(broadCriteria);
 
             // When
-            ResultActions result = mockMvc.perform(post(BASE_URL + "/advanced")
+            ResultActions result = performAsync(post(BASE_URL + "/advanced")
                     .with(csrf())  // ✅ FIX
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(requestJson));
@@ -129,19 +139,19 @@ class InventorySearchControllerTest {
                     .andExpect(jsonPath("$[1].productId").value(SECOND_PRODUCT_ID))
                     .andExpect(jsonPath("$[1].currentStock").value(75));
 
-            verify(inventorySearchService, times(1)).searchInventories(any(InventorySearchCriteria.class));
+            verify(inventorySearchService, times(1)).searchInventoriesAsync(any(InventorySearchCriteria.class));
         }
 
         @Test
         @DisplayName("Should return empty list when no inventory matches criteria")
         void searchInventories_WithNoMatches_ShouldReturnEmptyList() throws Exception {
             // Given
-            when(inventorySearchService.searchInventories(any(InventorySearchCriteria.class)))
-                    .thenReturn(Collections.emptyList());
+            when(inventorySearchService.searchInventoriesAsync(any(InventorySearchCriteria.class)))
+                    .thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
             String requestJson = objectMapper.writeValueAsString(searchCriteria);
 
             // When
-            ResultActions result = mockMvc.perform(post(BASE_URL + "/advanced")
+            ResultActions result = performAsync(post(BASE_URL + "/advanced")
                     .with(csrf())  // ✅ FIX
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(requestJson));
@@ -151,7 +161,7 @@ class InventorySearchControllerTest {
                     .andExpect(jsonPath("$", hasSize(0)))
                     .andExpect(jsonPath("$", empty()));
 
-            verify(inventorySearchService, times(1)).searchInventories(any(InventorySearchCriteria.class));
+            verify(inventorySearchService, times(1)).searchInventoriesAsync(any(InventorySearchCriteria.class));
         }
 
         @Test
@@ -169,7 +179,43 @@ class InventorySearchControllerTest {
             // Then
             result.andExpect(status().isBadRequest());
 
-            verify(inventorySearchService, never()).searchInventories(any());
+            verify(inventorySearchService, never()).searchInventoriesAsync(any());
+        }
+
+        @Test
+        @DisplayName("Should return 503 with Retry-After when the query queue is full")
+        void searchInventories_WhenQueueIsFull_ShouldReturnServiceUnavailable() throws Exception {
+            // Given
+            when(inventorySearchService.searchInventoriesAsync(any(InventorySearchCriteria.class)))
+                    .thenReturn(CompletableFuture.failedFuture(new QueryRejectedException("Too many queries", 2)));
+
+            // When
+            ResultActions result = performAsync(post(BASE_URL + "/advanced")
+                    .with(csrf())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(searchCriteria)));
+
+            // Then
+            result.andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "2"))
+                    .andExpect(jsonPath("$.status").value(503));
+        }
+
+        @Test
+        @DisplayName("Should return 504 when the search misses its deadline")
+        void searchInventories_WhenDeadlineExceeded_ShouldReturnGatewayTimeout() throws Exception {
+            // Given
+            when(inventorySearchService.searchInventoriesAsync(any(InventorySearchCriteria.class)))
+                    .thenReturn(CompletableFuture.failedFuture(new QueryDeadlineExceededException("Too slow")));
+
+            // When
+            ResultActions result = performAsync(post(BASE_URL + "/advanced")
+                    .with(csrf())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(searchCriteria)));
+
+            // Then
+            result.andExpect(status().isGatewayTimeout());
         }
 
         @Test
@@ -177,12 +223,12 @@ class InventorySearchControllerTest {
         void searchInventories_WithNullFields_ShouldProcessCorrectly() throws Exception {
             // Given: Criteria with null fields
             InventorySearchCriteria nullCriteria = new InventorySearchCriteria();
-            when(inventorySearchService.searchInventories(any(InventorySearchCriteria.class)))
-                    .thenReturn(List.of(firstInventoryDTO));
+            when(inventorySearchService.searchInventoriesAsync(any(InventorySearchCriteria.class)))
+                    .thenReturn(CompletableFuture.completedFuture(List.of(firstInventoryDTO)));
             String requestJson = objectMapper.writeValueAsString(nullCriteria);
 
             // When
-            ResultActions result = mockMvc.perform(post(BASE_URL + "/advanced")
+            ResultActions result = performAsync(post(BASE_URL + "/advanced")
                     .with(csrf())  // ✅ FIX
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(requestJson));
@@ -191,7 +237,7 @@ class InventorySearchControllerTest {
             result.andExpect(status().isOk())
                     .andExpect(jsonPath("$", hasSize(1)));
 
-            verify(inventorySearchService, times(1)).searchInventories(any(InventorySearchCriteria.class));
+            verify(inventorySearchService, times(1)).searchInventoriesAsync(any(InventorySearchCriteria.class));
         }
     }
 
@@ -428,6 +474,32 @@ class InventorySearchControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Find Below Reorder Threshold Tests")
+    class FindBelowReorderThresholdTests {
+
+        @Test
+        @DisplayName("Should return inventories below their reorder threshold")
+        void findBelowReorderThreshold_ShouldReturnLowStockItems() throws Exception {
+            // Given
+            InventoryResponseDTO lowStock = createInventoryDTO(3L, 3L, 3);
+            lowStock.setReorderThreshold(10);
+            when(inventorySearchService.findBelowReorderThreshold()).thenReturn(List.of(lowStock));
+
+            // When
+            ResultActions result = mockMvc.perform(get(BASE_URL + "/below-threshold")
+                    .contentType(MediaType.APPLICATION_JSON));
+
+            // Then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].currentStock").value(3))
+                    .andExpect(jsonPath("$[0].reorderThreshold").value(10));
+
+            verify(inventorySearchService, times(1)).findBelowReorderThreshold();
+        }
+    }
+
     @Nested
     @DisplayName("Response Format Validation Tests")
     class ResponseFormatValidationTests {
@@ -1,10 +1,16 @@
 package com.example.intelligent_inventory_prediction_system.controller;
 
+import com.example.intelligent_inventory_prediction_system.constants.MediaTypes;
+import com.example.intelligent_inventory_prediction_system.dto.projection.ProductField;
+import com.example.intelligent_inventory_prediction_system.dto.projection.ProjectedRow;
 import com.example.intelligent_inventory_prediction_system.dto.response.ProductResponseDTO;
 import com.example.intelligent_inventory_prediction_system.dto.search.ProductSearchCriteria;
+import com.example.intelligent_inventory_prediction_system.exception.QueryRejectedException;
 import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
 import com.example.intelligent_inventory_prediction_system.service.ProductSearchService;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,15 +19,22 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = ProductSearchController.class)
@@ -61,11 +74,16 @@ class ProductSearchControllerTest {
         ProductSearchCriteria criteria = new ProductSearchCriteria();
         criteria.setKeyword(KEYWORD);
 
-        when(productSearchService.searchProducts(any(ProductSearchCriteria.class))).thenReturn(productList);
+        when(productSearchService.searchProductsAsync(any(ProductSearchCriteria.class)))
+                .thenReturn(CompletableFuture.completedFuture(productList));
 
-        mvc.perform(get(BASE_URL + "/advanced")
+        MvcResult started = mvc.perform(get(BASE_URL + "/advanced")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(criteria)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(started))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$[0].name").value(productResponseDTO.getName()));
@@ -73,16 +91,34 @@ class ProductSearchControllerTest {
 
     @Test
     void findByKeyword_ShouldReturnProductsAndStatus200() throws Exception {
-        when(productSearchService.findByKeyword(KEYWORD)).thenReturn(productList);
+        when(productSearchService.findByKeywordAsync(KEYWORD)).thenReturn(CompletableFuture.completedFuture(productList));
 
-        mvc.perform(get(BASE_URL + "/keyword")
+        MvcResult started = mvc.perform(get(BASE_URL + "/keyword")
                         .param("value", KEYWORD)
                         .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(started))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$[0].id").value(productResponseDTO.getId()));
     }
 
+    @Test
+    void findByKeyword_WhenQueueIsFull_ShouldReturn503WithRetryAfter() throws Exception {
+        when(productSearchService.findByKeywordAsync(KEYWORD))
+                .thenReturn(CompletableFuture.failedFuture(new QueryRejectedException("Too many queries", 1)));
+
+        MvcResult started = mvc.perform(get(BASE_URL + "/keyword").param("value", KEYWORD))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(started))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
     @Test
     void findByName_ShouldReturnProductsAndStatus200() throws Exception {
         String name = "Test";
@@ -139,4 +175,59 @@ class ProductSearchControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findActiveProducts_WithCborAccept_ShouldReturnCbor() throws Exception {
+        when(productSearchService.findActiveProducts()).thenReturn(productList);
+
+        byte[] body = mvc.perform(get(BASE_URL + "/active")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<ProductResponseDTO> decoded = new CBORMapper().readValue(body, new TypeReference<>() {
+        });
+        assertEquals(List.of(productResponseDTO), decoded);
+    }
+
+    @Test
+    void findActiveProducts_WithProtobufAccept_ShouldReturnProtobuf() throws Exception {
+        when(productSearchService.findActiveProducts()).thenReturn(productList);
+
+        mvc.perform(get(BASE_URL + "/active")
+                        .accept(MediaTypes.APPLICATION_PROTOBUF_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaTypes.APPLICATION_PROTOBUF_VALUE));
+    }
+
+    @Test
+    void findActiveProducts_WithAnyAccept_ShouldReturnJson() throws Exception {
+        when(productSearchService.findActiveProducts()).thenReturn(productList);
+
+        mvc.perform(get(BASE_URL + "/active")
+                        .accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void findByCategory_WithFields_ShouldReturnOnlySelectedFields() throws Exception {
+        ProjectedRow row = new ProjectedRow(ProductField.parse("id,name"), new Object[]{1L, "Test Product"});
+        when(productSearchService.findByCategory(eq(CATEGORY), any())).thenReturn(List.of(row));
+
+        mvc.perform(get(BASE_URL + "/category")
+                        .param("value", CATEGORY)
+                        .param("fields", "id,name"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[{\"id\":1,\"name\":\"Test Product\"}]", true));
+    }
+
+    @Test
+    void findByCategory_WithUnknownField_ShouldReturn400() throws Exception {
+        mvc.perform(get(BASE_URL + "/category")
+                        .param("value", CATEGORY)
+                        .param("fields", "id,supplier"))
+                .andExpect(status().isBadRequest());
+    }
+}
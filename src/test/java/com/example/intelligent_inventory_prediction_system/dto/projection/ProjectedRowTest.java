@@ -0,0 +1,57 @@
+package com.example.intelligent_inventory_prediction_system.dto.projection;
+
+import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProjectedRow Tests")
+class ProjectedRowTest {
+
+    @Test
+    @DisplayName("Should keep request order and drop duplicates")
+    void parse_shouldKeepOrderWithoutDuplicates() {
+        FieldSelection<ProductField> selection = ProductField.parse(" price, id ,price,,name");
+
+        assertThat(selection.getFields()).containsExactly(ProductField.PRICE, ProductField.ID, ProductField.NAME);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown and empty field lists")
+    void parse_invalid_shouldThrow() {
+        assertThatThrownBy(() -> InventoryField.parse("id,supplier"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("supplier");
+        assertThatThrownBy(() -> ProductField.parse(" , "))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should write the same values Jackson writes for the full DTO")
+    void serialize_shouldMatchDtoFormat() throws Exception {
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        LocalDateTime lastUpdated = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+        String products = objectMapper.writeValueAsString(List.of(new ProjectedRow(
+                ProductField.parse("id,status,price,description"),
+                new Object[]{7L, ProductStatus.AVAILABLE, 12.5, null})));
+        String inventory = objectMapper.writeValueAsString(new ProjectedRow(
+                InventoryField.parse("currentStock,lastUpdated"), new Object[]{3, lastUpdated}));
+
+        assertThat(products).isEqualTo("[{\"id\":7,\"status\":\"AVAILABLE\",\"price\":12.5,\"description\":null}]");
+        assertThat(inventory).isEqualTo("{\"currentStock\":3,\"lastUpdated\":"
+                + objectMapper.writeValueAsString(lastUpdated) + "}");
+    }
+}
@@ -6,6 +6,8 @@ import com.example.intelligent_inventory_prediction_system.model.Inventory;
 import com.example.intelligent_inventory_prediction_system.model.Product;
 import com.example.intelligent_inventory_prediction_system.repository.InventoryRepository;
 import com.example.intelligent_inventory_prediction_system.service.executor.InventoryQueryExecutor;
+import com.example.intelligent_inventory_prediction_system.service.executor.QueryOperationMetrics;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -42,6 +44,12 @@ class InventoryQueryExecutorTest {
     @Mock
     private InventoryResponseMapper inventoryResponseMapper;
 
+    @Mock
+    private QueryOperationMetrics queryOperationMetrics;
+
+    @Mock
+    private ShardedInventoryStore shardedInventoryStore;
+
     @InjectMocks
     private InventoryQueryExecutor inventoryQueryExecutor;
 
@@ -1,5 +1,6 @@
 package com.example.intelligent_inventory_prediction_system.repository.specification;
 
+import com.example.intelligent_inventory_prediction_system.dto.search.ProductSearchCriteria;
 import com.example.intelligent_inventory_prediction_system.model.Product;
 import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
 import jakarta.persistence.criteria.*;
@@ -10,7 +11,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.jpa.domain.Specification;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -384,4 +387,35 @@ class ProductSpecsTest {
         assertSame(predicate, result);
         verify(cb).conjunction();
     }
+
+    @Test
+    void testMatchesCriteria_SameShape_ShouldReuseTemplate() {
+        ProductSearchCriteria first = ProductSearchCriteria.builder().keyword("Laptop").minPrice(10.0).build();
+        ProductSearchCriteria second = ProductSearchCriteria.builder().keyword("phone").minPrice(99.0).build();
+
+        CompiledSpecification<Product> firstSpec = ProductSpecs.matchesCriteria(first);
+        CompiledSpecification<Product> secondSpec = ProductSpecs.matchesCriteria(second);
+
+        assertSame(firstSpec.getTemplate(), secondSpec.getTemplate());
+        assertArrayEquals(new Object[]{"%laptop%", 10.0}, firstSpec.getArguments());
+        assertArrayEquals(new Object[]{"%phone%", 99.0}, secondSpec.getArguments());
+    }
+
+    @Test
+    void testMatchesCriteria_DifferentShape_ShouldUseDifferentTemplate() {
+        CompiledSpecification<Product> withMin = ProductSpecs.matchesCriteria(
+                ProductSearchCriteria.builder().minPrice(10.0).build());
+        CompiledSpecification<Product> withMax = ProductSpecs.matchesCriteria(
+                ProductSearchCriteria.builder().maxPrice(10.0).build());
+
+        assertNotSame(withMin.getTemplate(), withMax.getTemplate());
+    }
+
+    @Test
+    void testMatchesCriteria_AvailabilityFalse_ShouldBindNotAvailableStatus() {
+        CompiledSpecification<Product> spec = ProductSpecs.matchesCriteria(
+                ProductSearchCriteria.builder().availability(false).active(true).build());
+
+        assertArrayEquals(new Object[]{ProductStatus.NOT_AVAILABLE}, spec.getArguments());
+    }
 }
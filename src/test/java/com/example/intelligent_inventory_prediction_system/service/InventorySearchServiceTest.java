@@ -2,7 +2,10 @@ package com.example.intelligent_inventory_prediction_system.service;
 
 import com.example.intelligent_inventory_prediction_system.dto.response.InventoryResponseDTO;
 import com.example.intelligent_inventory_prediction_system.dto.search.InventorySearchCriteria;
+import com.example.intelligent_inventory_prediction_system.service.alert.LowStockAlertEngine;
 import com.example.intelligent_inventory_prediction_system.service.executor.InventoryQueryExecutor;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
+import com.example.intelligent_inventory_prediction_system.service.stock.InventoryStockCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -19,7 +22,9 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +34,15 @@ class InventorySearchServiceTest {
     @Mock
     private InventoryQueryExecutor queryExecutor;
 
+    @Mock
+    private InventoryStockCache inventoryStockCache;
+
+    @Mock
+    private LowStockAlertEngine lowStockAlertEngine;
+
+    @Mock
+    private ShardedInventoryStore shardedInventoryStore;
+
     @InjectMocks
     private InventorySearchService inventorySearchService;
 
@@ -195,6 +209,49 @@ class InventorySearchServiceTest {
             thenQueryExecutorWasCalledWithOperation(expectedOperation);
         }
 
+        @Test
+        @DisplayName("Should resolve ids from the stock table once loaded")
+        void findByStockRange_withLoadedStockTable_shouldQueryByIds() {
+            long[] ids = {4L, 2L};
+            List<InventoryResponseDTO> expectedInventories = testDataFactory.createMediumStockInventories();
+            String expectedOperation = "find by stock range: 50 - 200";
+
+            when(inventoryStockCache.isLoaded()).thenReturn(true);
+            when(inventoryStockCache.findIdsByStockRange(50, 200)).thenReturn(ids);
+            when(queryExecutor.executeIdQuery(ids, expectedOperation)).thenReturn(expectedInventories);
+
+            List<InventoryResponseDTO> result = whenFindingByStockRange(50, 200);
+
+            thenResultShouldContainExpectedInventories(result, expectedInventories);
+            verify(queryExecutor, never()).executeSpecificationQuery(any(Specification.class), any());
+        }
+
+        @Test
+        @DisplayName("Should run a range with too many ids for one lookup batch as a single query")
+        void findByStockRange_withLargeRange_shouldUseSpecification() {
+            String expectedOperation = "find by stock range: 0 - 1000";
+            givenQueryExecutorReturnsInventories(testDataFactory.createAllInventories(), expectedOperation);
+            when(inventoryStockCache.isLoaded()).thenReturn(true);
+            when(inventoryStockCache.findIdsByStockRange(0, 1000)).thenReturn(null);
+
+            whenFindingByStockRange(0, 1000);
+
+            verify(queryExecutor).executeSpecificationQuery(any(Specification.class), eq(expectedOperation));
+            verify(queryExecutor, never()).executeIdQuery(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should keep unbounded ranges on the database so rows without stock are included")
+        void findByStockRange_withNoBounds_shouldUseSpecification() {
+            String expectedOperation = "find by stock range: null - null";
+            givenQueryExecutorReturnsInventories(testDataFactory.createAllInventories(), expectedOperation);
+
+            whenFindingByStockRange(null, null);
+
+            thenQueryExecutorWasCalledWithOperation(expectedOperation);
+            verifyNoInteractions(inventoryStockCache);
+        }
+
         private List<InventoryResponseDTO> whenFindingByStockRange(Integer minStock, Integer maxStock) {
             return inventorySearchService.findByStockRange(minStock, maxStock);
         }
@@ -249,11 +306,60 @@ class InventorySearchServiceTest {
             thenQueryExecutorWasCalledWithOperation(expectedOperation);
         }
 
+        @Test
+        @DisplayName("Should resolve ids strictly above the threshold from the stock table once loaded")
+        void findByMinimumStock_withLoadedStockTable_shouldQueryByIds() {
+            long[] ids = {3L, 7L};
+            List<InventoryResponseDTO> expectedInventories = testDataFactory.createHighStockInventories();
+            String expectedOperation = "find inventories with minimum stock: 100";
+
+            when(inventoryStockCache.isLoaded()).thenReturn(true);
+            when(inventoryStockCache.findIdsByStockRange(101, Integer.MAX_VALUE)).thenReturn(ids);
+            when(queryExecutor.executeIdQuery(ids, expectedOperation)).thenReturn(expectedInventories);
+
+            List<InventoryResponseDTO> result = whenFindingByMinimumStock(100);
+
+            thenResultShouldContainExpectedInventories(result, expectedInventories);
+            verify(queryExecutor, never()).executeSpecificationQuery(any(Specification.class), any());
+        }
+
         private List<InventoryResponseDTO> whenFindingByMinimumStock(Integer minStock) {
             return inventorySearchService.findByMinimumStock(minStock);
         }
     }
 
+    @Nested
+    @DisplayName("Reorder Threshold Search Tests")
+    class ReorderThresholdSearchTests {
+
+        @Test
+        @DisplayName("Should resolve ids from the alert engine index once loaded and keep their severity order")
+        void findBelowReorderThreshold_withLoadedEngine_shouldQueryByIds() {
+            long[] ids = {9L, 4L};
+            List<InventoryResponseDTO> expectedInventories = testDataFactory.createLowStockInventories();
+            String expectedOperation = "find inventories below reorder threshold";
+
+            when(lowStockAlertEngine.isLoaded()).thenReturn(true);
+            when(lowStockAlertEngine.findBelowThresholdIds()).thenReturn(ids);
+            when(queryExecutor.executeOrderedIdQuery(ids, expectedOperation)).thenReturn(expectedInventories);
+
+            List<InventoryResponseDTO> result = inventorySearchService.findBelowReorderThreshold();
+
+            thenResultShouldContainExpectedInventories(result, expectedInventories);
+        }
+
+        @Test
+        @DisplayName("Should fall back to the database before the index is loaded")
+        void findBelowReorderThreshold_beforeLoad_shouldUseSpecification() {
+            String expectedOperation = "find inventories below reorder threshold";
+            givenQueryExecutorReturnsInventories(testDataFactory.createLowStockInventories(), expectedOperation);
+
+            inventorySearchService.findBelowReorderThreshold();
+
+            thenQueryExecutorWasCalledWithOperation(expectedOperation);
+        }
+    }
+
     private void givenQueryExecutorReturnsInventories(List<InventoryResponseDTO> inventories, String operation) {
         when(queryExecutor.executeSpecificationQuery(any(Specification.class), eq(operation)))
                 .thenReturn(inventories);
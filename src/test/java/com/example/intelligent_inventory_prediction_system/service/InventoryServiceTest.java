@@ -1,20 +1,36 @@
 package com.example.intelligent_inventory_prediction_system.service;
 
+import com.example.intelligent_inventory_prediction_system.dto.projection.InventoryField;
+import com.example.intelligent_inventory_prediction_system.dto.projection.ProjectedRow;
 import com.example.intelligent_inventory_prediction_system.dto.request.InventoryRequestDTO;
 import com.example.intelligent_inventory_prediction_system.dto.response.InventoryResponseDTO;
+import com.example.intelligent_inventory_prediction_system.dto.response.StockLevelResponseDTO;
 import com.example.intelligent_inventory_prediction_system.mapper.request.InventoryRequestMapper;
 import com.example.intelligent_inventory_prediction_system.mapper.response.InventoryResponseMapper;
 import com.example.intelligent_inventory_prediction_system.model.Inventory;
 import com.example.intelligent_inventory_prediction_system.model.Product;
 import com.example.intelligent_inventory_prediction_system.repository.InventoryRepository;
 import com.example.intelligent_inventory_prediction_system.repository.ProductRepository;
+import com.example.intelligent_inventory_prediction_system.service.catalog.ProductIdFilter;
+import com.example.intelligent_inventory_prediction_system.service.change.ChangeEntity;
+import com.example.intelligent_inventory_prediction_system.service.change.ChangeLog;
 import com.example.intelligent_inventory_prediction_system.service.executor.InventoryQueryExecutor;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardWriteOutbox;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
+import com.example.intelligent_inventory_prediction_system.service.stock.InventoryStockCache;
+import com.example.intelligent_inventory_prediction_system.service.stock.InventoryVersion;
+import com.example.intelligent_inventory_prediction_system.service.stock.InventoryVersionCache;
+import com.example.intelligent_inventory_prediction_system.service.stock.StockChangePublisher;
+import com.example.intelligent_inventory_prediction_system.service.stock.StockTable;
+import com.example.intelligent_inventory_prediction_system.service.stock.VersionedInventory;
 import com.example.intelligent_inventory_prediction_system.validator.InventoryValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -52,6 +68,29 @@ class InventoryServiceTest {
     @Mock
     private InventoryQueryExecutor queryExecutor;
 
+    @Mock
+    private InventoryStockCache inventoryStockCache;
+
+    @Mock
+    private StockChangePublisher stockChangePublisher;
+
+    @Mock
+    private ShardedInventoryStore shardedInventoryStore;
+
+    @Mock
+    private ShardWriteOutbox shardWriteOutbox;
+
+    @Mock
+    private InventoryVersionCache inventoryVersionCache;
+
+    @Mock
+    private ChangeLog changeLog;
+
+    // Never loaded, so every check falls through to the repository.
+    @Spy
+    private ProductIdFilter productIdFilter = new ProductIdFilter(null, null,
+            new SimpleMeterRegistry(), true, 1000, 1024, false, "");
+
     @InjectMocks
     private InventoryService inventoryService;
 
@@ -113,33 +152,16 @@ class InventoryServiceTest {
     }
 
     @Test
-    void testFindInventoryById_WithValidId_ShouldReturnInventory() {
-        when(inventoryRepository.findById(INVENTORY_ID)).thenReturn(Optional.of(inventory));
-        when(inventoryResponseMapper.toInventoryResponseDTO(inventory)).thenReturn(inventoryResponseDTO);
-
-        InventoryResponseDTO result = inventoryService.findInventoryById(INVENTORY_ID);
-
-        assertNotNull(result);
-        assertEquals(INVENTORY_ID, result.getId());
-        assertEquals(PRODUCT_ID, result.getProductId());
-        assertEquals(CURRENT_STOCK, result.getCurrentStock());
-        verify(inventoryValidator).validateId(INVENTORY_ID);
-        verify(inventoryRepository).findById(INVENTORY_ID);
-        verify(inventoryResponseMapper).toInventoryResponseDTO(inventory);
-    }
-
-    @Test
-    void testFindInventoryById_WithNonExistentId_ShouldThrowException() {
+    void testFindVersionedInventoryById_WithNonExistentId_ShouldThrowException() {
         when(inventoryRepository.findById(INVENTORY_ID)).thenReturn(Optional.empty());
 
         IllegalArgumentException exception = assertThrows(
                 IllegalArgumentException.class,
-                () -> inventoryService.findInventoryById(INVENTORY_ID)
+                () -> inventoryService.findVersionedInventoryById(INVENTORY_ID)
         );
 
         assertTrue(exception.getMessage().contains("Inventory not found"));
         verify(inventoryValidator).validateId(INVENTORY_ID);
-        verify(inventoryRepository).findById(INVENTORY_ID);
         verify(inventoryResponseMapper, never()).toInventoryResponseDTO(any());
     }
 
@@ -149,11 +171,13 @@ class InventoryServiceTest {
         when(inventoryRequestMapper.toInventory(inventoryRequestDTO)).thenReturn(inventory);
         when(inventoryRepository.save(inventory)).thenReturn(inventory);
         when(inventoryResponseMapper.toInventoryResponseDTO(inventory)).thenReturn(inventoryResponseDTO);
+        when(changeLog.next()).thenReturn(7L);
 
         InventoryResponseDTO result = inventoryService.createInventory(inventoryRequestDTO);
 
         assertNotNull(result);
         assertEquals(inventoryResponseDTO, result);
+        assertEquals(7L, inventory.getChangeSeq());
         verify(inventoryValidator).validateCreateRequest(inventoryRequestDTO);
         verify(productRepository).existsById(PRODUCT_ID);
         verify(inventoryRequestMapper).toInventory(inventoryRequestDTO);
@@ -173,6 +197,7 @@ class InventoryServiceTest {
         assertTrue(exception.getMessage().contains("Product not found"));
         verify(inventoryValidator).validateCreateRequest(inventoryRequestDTO);
         verify(productRepository).existsById(PRODUCT_ID);
+        verify(productIdFilter).exists(eq(PRODUCT_ID), any());
         verify(inventoryRequestMapper, never()).toInventory(any());
         verify(inventoryRepository, never()).save(any());
     }
@@ -243,6 +268,8 @@ class InventoryServiceTest {
         verify(inventoryValidator).validateId(INVENTORY_ID);
         verify(inventoryRepository).findById(INVENTORY_ID);
         verify(inventoryRepository).deleteById(INVENTORY_ID);
+        verify(changeLog).recordRemoval(ChangeEntity.INVENTORY, INVENTORY_ID);
+        verify(stockChangePublisher).publishRemoval(INVENTORY_ID);
     }
 
     @Test
@@ -276,6 +303,106 @@ class InventoryServiceTest {
         verify(inventoryRepository).findById(INVENTORY_ID);
         verify(inventoryRepository).save(inventory);
         verify(inventoryResponseMapper).toInventoryResponseDTO(inventory);
+        verify(stockChangePublisher).publishStockChange(INVENTORY_ID, newStockLevel, null);
+    }
+
+    @Test
+    void testAdjustStockLevel_WithDelta_ShouldAddToCurrentStock() {
+        when(inventoryRepository.findById(INVENTORY_ID)).thenReturn(Optional.of(inventory));
+        when(inventoryRepository.save(inventory)).thenReturn(inventory);
+        when(inventoryResponseMapper.toInventoryResponseDTO(inventory)).thenReturn(inventoryResponseDTO);
+
+        InventoryResponseDTO result = inventoryService.adjustStockLevel(INVENTORY_ID, -20);
+
+        assertEquals(inventoryResponseDTO, result);
+        assertEquals(CURRENT_STOCK - 20, inventory.getCurrentStock());
+        verify(stockChangePublisher).publishStockChange(INVENTORY_ID, CURRENT_STOCK - 20, null);
+    }
+
+    @Test
+    void testAdjustStockLevel_BelowZero_ShouldThrowException() {
+        when(inventoryRepository.findById(INVENTORY_ID)).thenReturn(Optional.of(inventory));
+
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> inventoryService.adjustStockLevel(INVENTORY_ID, -CURRENT_STOCK - 1)
+        );
+
+        assertTrue(exception.getMessage().contains("cannot be negative"));
+        verify(inventoryRepository, never()).save(any());
+    }
+
+    @Test
+    void testFindCachedInventoryVersion_ShouldNotQueryRepository() {
+        InventoryVersion cached = new InventoryVersion("abc", 0);
+        when(inventoryVersionCache.isEnabled()).thenReturn(true);
+        when(inventoryVersionCache.find(INVENTORY_ID)).thenReturn(cached);
+
+        assertEquals(cached, inventoryService.findCachedInventoryVersion(INVENTORY_ID));
+        verify(inventoryRepository, never()).findById(any());
+    }
+
+    @Test
+    void testFindVersionedInventoryById_ShouldVersionAndMapTheSameRow() {
+        Object token = new Object();
+        when(inventoryVersionCache.isEnabled()).thenReturn(true);
+        when(inventoryVersionCache.token(INVENTORY_ID)).thenReturn(token);
+        when(inventoryRepository.findById(INVENTORY_ID)).thenReturn(Optional.of(inventory));
+        when(inventoryResponseMapper.toInventoryResponseDTO(inventory)).thenReturn(inventoryResponseDTO);
+
+        VersionedInventory<InventoryResponseDTO> result = inventoryService.findVersionedInventoryById(INVENTORY_ID);
+
+        assertEquals(inventoryResponseDTO, result.body());
+        assertEquals(InventoryVersion.of(inventory), result.version());
+        verify(inventoryVersionCache).store(INVENTORY_ID, token, result.version());
+        verify(inventoryRepository, times(1)).findById(INVENTORY_ID);
+    }
+
+    @Test
+    void testFindStockProjectionById_StockOnlySelection_ShouldNotQueryRepository() {
+        when(inventoryStockCache.isLoaded()).thenReturn(true);
+        when(inventoryStockCache.findStock(INVENTORY_ID)).thenReturn(CURRENT_STOCK);
+        when(inventoryVersionCache.isEnabled()).thenReturn(true);
+
+        VersionedInventory<ProjectedRow> result =
+                inventoryService.findStockProjectionById(INVENTORY_ID, InventoryField.parse("currentStock,id"));
+
+        assertEquals(CURRENT_STOCK, result.body().get(InventoryField.CURRENT_STOCK));
+        assertEquals(INVENTORY_ID, result.body().get(InventoryField.ID));
+        assertEquals(InventoryVersion.ofStock(INVENTORY_ID, CURRENT_STOCK), result.version());
+        assertNull(inventoryService.findStockProjectionById(INVENTORY_ID, InventoryField.parse("id,productId")));
+        verify(inventoryRepository, never()).findById(any());
+    }
+
+    @Test
+    void testFindStockLevel_WithCachedStock_ShouldNotQueryRepository() {
+        when(inventoryStockCache.findStock(INVENTORY_ID)).thenReturn(CURRENT_STOCK);
+
+        StockLevelResponseDTO result = inventoryService.findStockLevel(INVENTORY_ID);
+
+        assertEquals(INVENTORY_ID, result.getInventoryId());
+        assertEquals(CURRENT_STOCK, result.getCurrentStock());
+        verify(inventoryValidator).validateId(INVENTORY_ID);
+        verifyNoInteractions(inventoryRepository);
+    }
+
+    @Test
+    void testFindStockLevel_WithCacheMiss_ShouldFallBackToRepository() {
+        when(inventoryStockCache.findStock(INVENTORY_ID)).thenReturn(StockTable.MISSING);
+        when(inventoryRepository.findById(INVENTORY_ID)).thenReturn(Optional.of(inventory));
+
+        StockLevelResponseDTO result = inventoryService.findStockLevel(INVENTORY_ID);
+
+        assertEquals(CURRENT_STOCK, result.getCurrentStock());
+        verify(inventoryRepository).findById(INVENTORY_ID);
+    }
+
+    @Test
+    void testFindStockLevel_WithNonExistentId_ShouldThrowException() {
+        when(inventoryStockCache.findStock(INVENTORY_ID)).thenReturn(StockTable.MISSING);
+        when(inventoryRepository.findById(INVENTORY_ID)).thenReturn(Optional.empty());
+
+        assertThrows(IllegalArgumentException.class, () -> inventoryService.findStockLevel(INVENTORY_ID));
     }
 
     @Test
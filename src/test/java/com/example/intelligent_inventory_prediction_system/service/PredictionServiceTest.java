@@ -0,0 +1,246 @@
+package com.example.intelligent_inventory_prediction_system.service;
+
+import com.example.intelligent_inventory_prediction_system.dto.response.InventoryPredictionResponseDTO;
+import com.example.intelligent_inventory_prediction_system.exception.ResourceNotFoundException;
+import com.example.intelligent_inventory_prediction_system.model.DemandHistory;
+import com.example.intelligent_inventory_prediction_system.model.Inventory;
+import com.example.intelligent_inventory_prediction_system.model.Product;
+import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
+import com.example.intelligent_inventory_prediction_system.repository.DemandHistoryRepository;
+import com.example.intelligent_inventory_prediction_system.repository.InventoryPredictionRepository;
+import com.example.intelligent_inventory_prediction_system.repository.InventoryRepository;
+import com.example.intelligent_inventory_prediction_system.repository.ProductRepository;
+import com.example.intelligent_inventory_prediction_system.service.forecast.CrostonForecaster;
+import com.example.intelligent_inventory_prediction_system.service.forecast.DemandSeriesReader;
+import com.example.intelligent_inventory_prediction_system.service.forecast.ForecasterRegistry;
+import com.example.intelligent_inventory_prediction_system.service.forecast.Prediction;
+import com.example.intelligent_inventory_prediction_system.service.forecast.PredictionWriter;
+import com.example.intelligent_inventory_prediction_system.service.forecast.Predictor;
+import com.example.intelligent_inventory_prediction_system.service.forecast.QuantileForecast;
+import com.example.intelligent_inventory_prediction_system.service.forecast.SeasonalNaiveForecaster;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.example.intelligent_inventory_prediction_system.constants.InventoryConstant.FORECAST_DISABLED_MESSAGE;
+import static com.example.intelligent_inventory_prediction_system.constants.InventoryConstant.FORECAST_SHARDED_MESSAGE;
+import static com.example.intelligent_inventory_prediction_system.constants.InventoryConstant.MAX_FORECAST_HORIZON_DAYS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = {"inventory.forecast.horizon=7", "inventory.forecast.predictions.max-ids=3"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({PredictionService.class, DemandSeriesReader.class, Predictor.class, PredictionWriter.class,
+        ForecasterRegistry.class, SeasonalNaiveForecaster.class, CrostonForecaster.class,
+        PredictionServiceTest.JacksonConfig.class})
+@DisplayName("PredictionService Tests")
+class PredictionServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 2, 2);
+
+    @TestConfiguration
+    static class JacksonConfig {
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().findAndRegisterModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        }
+    }
+
+    @MockitoBean
+    private ShardedInventoryStore shardedInventoryStore;
+
+    @Autowired
+    private PredictionService predictionService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private DemandHistoryRepository demandHistoryRepository;
+
+    @Autowired
+    private InventoryPredictionRepository inventoryPredictionRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PredictionWriter predictionWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        inventoryPredictionRepository.deleteAllInBatch();
+        demandHistoryRepository.deleteAllInBatch();
+        inventoryRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should forecast quantiles from the day after the last demand and replace the stored prediction")
+    void predict_shouldStoreQuantilesForTheHorizon() {
+        Inventory inventory = inventory("Hammer", 35);
+
+        InventoryPredictionResponseDTO first = predictionService.predict(inventory.getId());
+        InventoryPredictionResponseDTO second = predictionService.predict(inventory.getId());
+
+        assertThat(second.getStartDate()).isEqualTo(START.plusDays(35));
+        assertThat(second.getHorizonDays()).isEqualTo(7);
+        assertThat(second.getModel()).isEqualTo("seasonal-naive");
+        assertThat(second.getP50()).containsExactly(1, 2, 3, 4, 5, 6, 7);
+        assertThat(second.getP10()).containsExactly(second.getP50());
+        assertThat(first.getP50()).containsExactly(second.getP50());
+        assertThat(inventoryPredictionRepository.count()).isEqualTo(1);
+        assertThat(predictionService.findPrediction(inventory.getId()).getP90()).containsExactly(second.getP90());
+    }
+
+    @Test
+    @DisplayName("Should store and read back a forecast over the longest horizon")
+    void findPrediction_longestHorizon_shouldRoundTrip() {
+        Inventory inventory = inventory("Crowbar", 0);
+        long[] p10 = new long[MAX_FORECAST_HORIZON_DAYS];
+        long[] p50 = new long[MAX_FORECAST_HORIZON_DAYS];
+        long[] p90 = new long[MAX_FORECAST_HORIZON_DAYS];
+        for (int day = 0; day < MAX_FORECAST_HORIZON_DAYS; day++) {
+            p50[day] = day % 2 == 0 ? 1_000_000 : 3;
+            p90[day] = 2_000_000;
+        }
+
+        predictionWriter.replace(List.of(new Prediction(inventory.getId(), START, "croston",
+                new QuantileForecast(p10, p50, p90))));
+
+        InventoryPredictionResponseDTO stored = predictionService.findPrediction(inventory.getId());
+        assertThat(stored.getHorizonDays()).isEqualTo(MAX_FORECAST_HORIZON_DAYS);
+        assertThat(stored.getP10()).containsExactly(p10);
+        assertThat(stored.getP50()).containsExactly(p50);
+        assertThat(stored.getP90()).containsExactly(p90);
+    }
+
+    @Test
+    @DisplayName("Should report inventories that are unknown, have no history or have no prediction")
+    void predict_missingData_shouldThrow() {
+        Inventory inventory = inventory("Anvil", 0);
+
+        assertThatThrownBy(() -> predictionService.predict(999_999L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> predictionService.predict(inventory.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> predictionService.findPrediction(inventory.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should refuse to start forecasting alongside inventory sharding unless it is disabled")
+    void demandSeriesReader_sharded_shouldRequireForecastingDisabled() {
+        when(shardedInventoryStore.isEnabled()).thenReturn(true);
+
+        assertThatThrownBy(() -> new DemandSeriesReader(jdbcTemplate, transactionManager, shardedInventoryStore, true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage(FORECAST_SHARDED_MESSAGE);
+        DemandSeriesReader disabled = new DemandSeriesReader(jdbcTemplate, transactionManager, shardedInventoryStore, false);
+        assertThat(disabled.isInventoriesAvailable()).isFalse();
+        assertThatThrownBy(() -> disabled.readInventories("", 1, chunk -> { }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(FORECAST_DISABLED_MESSAGE);
+    }
+
+    @Test
+    @DisplayName("Should stream the predictions of an id range or an id list as one JSON array")
+    void write_shouldStreamPredictions() throws IOException {
+        List<Long> ids = new ArrayList<>();
+        for (String name : List.of("Saw", "Drill", "Level")) {
+            Inventory inventory = inventory(name, 14);
+            predictionService.predict(inventory.getId());
+            ids.add(inventory.getId());
+        }
+        Inventory unforecast = inventory("Chisel", 14);
+
+        ByteArrayOutputStream range = new ByteArrayOutputStream();
+        predictionService.writeRange(ids.get(1), unforecast.getId(), range);
+        ByteArrayOutputStream listed = new ByteArrayOutputStream();
+        predictionService.writeByIds(predictionService.checkInventoryIds(
+                List.of(ids.get(2), unforecast.getId(), ids.get(0), ids.get(2))), listed);
+
+        JsonNode rangeJson = objectMapper.readTree(range.toByteArray());
+        assertThat(rangeJson).hasSize(2);
+        assertThat(rangeJson.get(0).get("inventoryId").asLong()).isEqualTo(ids.get(1));
+        assertThat(rangeJson.get(0).get("startDate").asText()).isEqualTo(START.plusDays(14).toString());
+        assertThat(rangeJson.get(0).get("p50")).hasSize(7);
+        JsonNode listedJson = objectMapper.readTree(listed.toByteArray());
+        assertThat(listedJson).extracting(node -> node.get("inventoryId").asLong())
+                .containsExactly(ids.get(0), ids.get(2));
+    }
+
+    @Test
+    @DisplayName("Should reject empty or oversized id lists and reversed ranges")
+    void checks_shouldRejectBadRequests() {
+        assertThatThrownBy(() -> predictionService.checkInventoryIds(List.of(1L, 2L, 3L, 4L)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> predictionService.checkInventoryIds(Arrays.asList(null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> predictionService.checkRange(5, 4)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should drop an inventory's prediction when the inventory is deleted")
+    void deleteInventory_shouldCascadeToPrediction() {
+        Inventory inventory = inventory("Wrench", 14);
+        predictionService.predict(inventory.getId());
+
+        inventoryRepository.deleteById(inventory.getId());
+
+        assertThat(inventoryPredictionRepository.count()).isZero();
+    }
+
+    // Demand cycling through 1 to 7 units a day over the first days since START.
+    private Inventory inventory(String name, int days) {
+        Product product = new Product();
+        product.setName(name);
+        product.setCategory("Tools");
+        product.setPrice(10.0);
+        product.setStatus(ProductStatus.AVAILABLE);
+        Inventory inventory = new Inventory();
+        inventory.setProduct(productRepository.save(product));
+        inventory.setCurrentStock(100);
+        inventory = inventoryRepository.save(inventory);
+        List<DemandHistory> demand = new ArrayList<>();
+        for (int day = 0; day < days; day++) {
+            DemandHistory row = new DemandHistory();
+            row.setProduct(inventory.getProduct());
+            row.setDemandDate(START.plusDays(day));
+            row.setQuantity(1 + day % 7);
+            demand.add(row);
+        }
+        demandHistoryRepository.saveAll(demand);
+        return inventory;
+    }
+}
@@ -7,6 +7,9 @@ import com.example.intelligent_inventory_prediction_system.mapper.response.Produ
 import com.example.intelligent_inventory_prediction_system.model.Product;
 import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
 import com.example.intelligent_inventory_prediction_system.repository.ProductRepository;
+import com.example.intelligent_inventory_prediction_system.service.catalog.ProductIdFilter;
+import com.example.intelligent_inventory_prediction_system.service.change.ChangeEntity;
+import com.example.intelligent_inventory_prediction_system.service.change.ChangeLog;
 import com.example.intelligent_inventory_prediction_system.service.executor.ProductQueryExecutor;
 import com.example.intelligent_inventory_prediction_system.validator.ProductValidator;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +29,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -47,6 +51,12 @@ class ProductServiceTest {
     @Mock
     private ProductQueryExecutor productQueryExecutor;
 
+    @Mock
+    private ChangeLog changeLog;
+
+    @Mock
+    private ProductIdFilter productIdFilter;
+
     @InjectMocks
     private ProductService productService;
 
@@ -133,14 +143,17 @@ class ProductServiceTest {
         when(productRequestMapper.toProduct(productRequestDTO)).thenReturn(product);
         when(productRepository.save(product)).thenReturn(product);
         when(productResponseMapper.toProductResponseDTO(product)).thenReturn(productResponseDTO);
+        when(changeLog.next()).thenReturn(7L);
 
         ProductResponseDTO result = productService.createProduct(productRequestDTO);
 
         assertNotNull(result);
         assertEquals(productResponseDTO, result);
+        assertEquals(7L, product.getChangeSeq());
         verify(productValidator).validateCreateRequest(productRequestDTO);
         verify(productRequestMapper).toProduct(productRequestDTO);
         verify(productRepository).save(product);
+        verify(productIdFilter).added(PRODUCT_ID);
         verify(productResponseMapper).toProductResponseDTO(product);
     }
 
@@ -193,6 +206,8 @@ class ProductServiceTest {
         verify(productValidator).validateId(PRODUCT_ID);
         verify(productRepository).findById(PRODUCT_ID);
         verify(productRepository).deleteById(PRODUCT_ID);
+        verify(changeLog).recordRemoval(ChangeEntity.PRODUCT, PRODUCT_ID);
+        verify(productIdFilter).removed(PRODUCT_ID);
     }
 
     @Test
@@ -208,6 +223,7 @@ class ProductServiceTest {
         verify(productValidator).validateId(PRODUCT_ID);
         verify(productRepository).findById(PRODUCT_ID);
         verify(productRepository, never()).deleteById(any());
+        verify(productIdFilter, never()).removed(anyLong());
     }
 
     @Test
@@ -0,0 +1,104 @@
+package com.example.intelligent_inventory_prediction_system.service;
+
+import com.example.intelligent_inventory_prediction_system.dto.response.StockUpdateResponseDTO;
+import com.example.intelligent_inventory_prediction_system.model.Inventory;
+import com.example.intelligent_inventory_prediction_system.repository.InventoryRepository;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
+import com.example.intelligent_inventory_prediction_system.service.stock.BufferedStockUpdate;
+import com.example.intelligent_inventory_prediction_system.service.stock.InventoryStockCache;
+import com.example.intelligent_inventory_prediction_system.service.stock.StockTable;
+import com.example.intelligent_inventory_prediction_system.service.stock.StockWriteBehindBuffer;
+import com.example.intelligent_inventory_prediction_system.validator.InventoryValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static com.example.intelligent_inventory_prediction_system.constants.InventoryConstant.STOCK_LEVEL_EXCEEDS_MAX_MESSAGE;
+import static com.example.intelligent_inventory_prediction_system.constants.InventoryConstant.STOCK_LEVEL_NEGATIVE_MESSAGE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockUpdateService Tests")
+class StockUpdateServiceTest {
+
+    @Mock
+    private InventoryService inventoryService;
+
+    @Mock
+    private InventoryValidator inventoryValidator;
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @Mock
+    private InventoryStockCache inventoryStockCache;
+
+    @Mock
+    private StockWriteBehindBuffer stockWriteBehindBuffer;
+
+    @Mock
+    private ShardedInventoryStore shardedInventoryStore;
+
+    private StockUpdateService stockUpdateService;
+
+    @BeforeEach
+    void setUp() {
+        stockUpdateService = new StockUpdateService(inventoryService, inventoryValidator, inventoryRepository,
+                inventoryStockCache, stockWriteBehindBuffer, shardedInventoryStore, true);
+        when(stockWriteBehindBuffer.isEnabled()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Should buffer a delta that keeps the last known level plus pending updates in range")
+    void submit_deltaInRange_shouldBuffer() {
+        when(inventoryStockCache.findStock(1L)).thenReturn(10);
+        when(stockWriteBehindBuffer.pending(1L)).thenReturn(BufferedStockUpdate.delta(-4));
+
+        StockUpdateResponseDTO response = stockUpdateService.submit(1L, null, -6);
+
+        assertThat(response.getMode()).isEqualTo(StockUpdateService.MODE_BUFFERED);
+        verify(stockWriteBehindBuffer).submit(1L, BufferedStockUpdate.delta(-6));
+    }
+
+    @Test
+    @DisplayName("Should reject a delta that would leave the stock range, like an applied adjustment")
+    void submit_deltaOutOfRange_shouldThrow() {
+        when(inventoryStockCache.findStock(1L)).thenReturn(10);
+        when(stockWriteBehindBuffer.pending(1L)).thenReturn(BufferedStockUpdate.delta(-4));
+        when(inventoryStockCache.findStock(2L)).thenReturn(StockTable.MISSING);
+        Inventory inventory = new Inventory();
+        inventory.setCurrentStock(999_990);
+        when(inventoryRepository.findById(2L)).thenReturn(Optional.of(inventory));
+        when(stockWriteBehindBuffer.pending(2L)).thenReturn(null);
+
+        assertThatThrownBy(() -> stockUpdateService.submit(1L, null, -7))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(STOCK_LEVEL_NEGATIVE_MESSAGE);
+        assertThatThrownBy(() -> stockUpdateService.submit(2L, null, 11))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(STOCK_LEVEL_EXCEEDS_MAX_MESSAGE);
+        verify(stockWriteBehindBuffer, never()).submit(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should check a delta against a pending absolute level")
+    void submit_deltaAfterPendingAbsolute_shouldUsePendingLevel() {
+        when(inventoryStockCache.findStock(1L)).thenReturn(500);
+        when(stockWriteBehindBuffer.pending(1L)).thenReturn(BufferedStockUpdate.absolute(3));
+
+        assertThatThrownBy(() -> stockUpdateService.submit(1L, null, -4))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(STOCK_LEVEL_NEGATIVE_MESSAGE);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.intelligent_inventory_prediction_system.service.alert;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("InMemoryAlertSink Tests")
+class InMemoryAlertSinkTest {
+
+    @Test
+    @DisplayName("Should keep only the most recent alerts once full")
+    void publish_whenFull_shouldDropOldest() {
+        InMemoryAlertSink sink = new InMemoryAlertSink(2);
+
+        sink.publish(alert(1L));
+        sink.publish(alert(2L));
+        sink.publish(alert(3L));
+
+        assertThat(sink.size()).isEqualTo(2);
+        assertThat(sink.drain()).extracting(LowStockAlert::inventoryId).containsExactly(2L, 3L);
+        assertThat(sink.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should read queued alerts without removing them")
+    void peek_shouldNotRemoveAlerts() {
+        InMemoryAlertSink sink = new InMemoryAlertSink(10);
+        sink.publish(alert(1L));
+
+        assertThat(sink.peek()).extracting(LowStockAlert::inventoryId).containsExactly(1L);
+        assertThat(sink.drain()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive capacity")
+    void constructor_withZeroCapacity_shouldFail() {
+        assertThatThrownBy(() -> new InMemoryAlertSink(0)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static LowStockAlert alert(long inventoryId) {
+        return new LowStockAlert(inventoryId, LowStockAlert.Type.BELOW_THRESHOLD, 1, 10, Instant.now());
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.intelligent_inventory_prediction_system.service.alert;
+
+import com.example.intelligent_inventory_prediction_system.repository.InventoryRepository;
+import com.example.intelligent_inventory_prediction_system.repository.projection.StockLevel;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
+import com.example.intelligent_inventory_prediction_system.service.stock.StockChange;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LowStockAlertEngine Tests")
+class LowStockAlertEngineTest {
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @Mock
+    private ShardedInventoryStore shardedInventoryStore;
+
+    private InMemoryAlertSink sink;
+    private SimpleMeterRegistry meterRegistry;
+    private LowStockAlertEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        sink = new InMemoryAlertSink(100);
+        meterRegistry = new SimpleMeterRegistry();
+        engine = new LowStockAlertEngine(inventoryRepository, shardedInventoryStore, List.of(sink), meterRegistry, 60_000, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should emit one alert when stock drops below threshold and one when it recovers")
+    void onStockChanged_crossingThreshold_shouldEmitTransitions() {
+        engine.onStockChanged(new StockChange(1L, 50, 10));
+        engine.onStockChanged(new StockChange(1L, 5, 10));
+        engine.flush();
+        engine.onStockChanged(new StockChange(1L, 20, 10));
+        engine.flush();
+
+        assertThat(sink.drain()).extracting(LowStockAlert::type)
+                .containsExactly(LowStockAlert.Type.BELOW_THRESHOLD, LowStockAlert.Type.RECOVERED);
+    }
+
+    @Test
+    @DisplayName("Should not repeat alerts while stock stays below threshold")
+    void onStockChanged_stayingBelow_shouldDeduplicate() {
+        engine.onStockChanged(new StockChange(1L, 5, 10));
+        engine.flush();
+        engine.onStockChanged(new StockChange(1L, 3, 10));
+        engine.onStockChanged(new StockChange(1L, 1, 10));
+        engine.flush();
+
+        assertThat(sink.drain()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should suppress flapping inside one debounce window")
+    void onStockChanged_flappingWithinWindow_shouldBeDebounced() {
+        engine.onStockChanged(new StockChange(1L, 5, 10));
+        engine.onStockChanged(new StockChange(1L, 15, 10));
+        engine.onStockChanged(new StockChange(2L, 9, 10));
+        engine.flush();
+
+        assertThat(sink.drain()).extracting(LowStockAlert::inventoryId).containsExactly(2L);
+        assertThat(meterRegistry.counter("inventory.alerts.suppressed").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should list inventories below threshold ordered by shortfall")
+    void findBelowThresholdIds_shouldReturnMostSevereFirst() {
+        engine.onStockChanged(new StockChange(1L, 8, 10));
+        engine.onStockChanged(new StockChange(2L, 0, 50));
+        engine.onStockChanged(new StockChange(3L, 100, 10));
+        engine.onStockChanged(new StockChange(4L, 10, 10));
+        engine.onStockChanged(new StockChange(5L, 3, null));
+
+        assertThat(engine.findBelowThresholdIds()).containsExactly(2L, 1L);
+        assertThat(engine.countBelowThreshold()).isEqualTo(2);
+
+        engine.onInventoryRemoved(2L);
+        assertThat(engine.findBelowThresholdIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should index inventories already below threshold at startup without alerting")
+    void load_shouldSeedIndexWithoutAlerts() {
+        when(inventoryRepository.findStockLevelsAfter(anyLong(), any(Limit.class))).thenReturn(List.of(
+                new StockLevel(1L, 2, 10),
+                new StockLevel(2L, 40, 10),
+                new StockLevel(3L, 5, null)
+        ));
+
+        engine.load();
+        engine.onStockChanged(new StockChange(1L, 1, 10));
+        engine.flush();
+
+        assertThat(engine.isLoaded()).isTrue();
+        assertThat(engine.findBelowThresholdIds()).containsExactly(1L);
+        assertThat(sink.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should load stock levels from the shards when sharding is enabled")
+    void load_sharded_shouldReadShards() {
+        when(shardedInventoryStore.isEnabled()).thenReturn(true);
+        when(shardedInventoryStore.findStockLevelsAfter(anyLong(), anyInt())).thenReturn(List.of(
+                new StockLevel(4L, 1, 10)
+        ));
+
+        engine.load();
+
+        assertThat(engine.findBelowThresholdIds()).containsExactly(4L);
+        verifyNoInteractions(inventoryRepository);
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.intelligent_inventory_prediction_system.service.batch;
+
+import com.example.intelligent_inventory_prediction_system.model.BatchCheckpoint;
+import com.example.intelligent_inventory_prediction_system.model.Product;
+import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
+import com.example.intelligent_inventory_prediction_system.repository.BatchCheckpointRepository;
+import com.example.intelligent_inventory_prediction_system.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({BatchJobRunner.class, BatchJobRunnerTest.MetricsConfig.class})
+@DisplayName("BatchJobRunner Tests")
+class BatchJobRunnerTest {
+
+    private static final BatchThrottle UNTHROTTLED = new BatchThrottle(1, 0);
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private BatchJobRunner batchJobRunner;
+
+    @Autowired
+    private BatchCheckpointRepository batchCheckpointRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        batchCheckpointRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should process every key in chunks and checkpoint the completed run")
+    void run_shouldCompleteAndCheckpoint() {
+        ProductJob job = new ProductJob(7, -1);
+        double counted = itemsCounted();
+
+        BatchProgress progress = batchJobRunner.run(job, 3, UNTHROTTLED);
+
+        assertThat(progress.status()).isEqualTo(BatchCheckpoint.Status.COMPLETED);
+        assertThat(progress.lastKey()).isEqualTo(7);
+        assertThat(progress.processed()).isEqualTo(7);
+        assertThat(progress.failed()).isEqualTo(1);
+        assertThat(progress.itemsPerSecond()).isNull();
+        assertThat(job.reads).containsExactly(0L, 3L, 6L, 7L);
+        assertThat(productRepository.count()).isEqualTo(6);
+        assertThat(itemsCounted() - counted).isEqualTo(7);
+        assertThat(batchJobRunner.isDue("products", Duration.ofHours(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should roll back a failed chunk and resume after the last committed one")
+    void run_failedChunk_shouldResumeFromCheckpoint() {
+        ProductJob failing = new ProductJob(7, 5);
+
+        BatchProgress failed = batchJobRunner.run(failing, 3, UNTHROTTLED);
+
+        assertThat(failed.status()).isEqualTo(BatchCheckpoint.Status.FAILED);
+        assertThat(failed.lastKey()).isEqualTo(3);
+        assertThat(failed.error()).contains("write failed");
+        assertThat(productRepository.count()).isEqualTo(3);
+        assertThat(batchJobRunner.isDue("products", Duration.ofDays(1))).isTrue();
+
+        ProductJob resumed = new ProductJob(7, -1);
+        BatchProgress completed = batchJobRunner.run(resumed, 3, UNTHROTTLED);
+
+        assertThat(resumed.reads).containsExactly(3L, 6L, 7L);
+        assertThat(completed.status()).isEqualTo(BatchCheckpoint.Status.COMPLETED);
+        assertThat(completed.processed()).isEqualTo(7);
+        assertThat(productRepository.count()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should start a completed job over from the first key")
+    void run_afterCompletion_shouldStartOver() {
+        batchJobRunner.run(new ProductJob(4, -1), 10, UNTHROTTLED);
+        productRepository.deleteAllInBatch();
+
+        ProductJob again = new ProductJob(4, -1);
+        BatchProgress progress = batchJobRunner.run(again, 10, UNTHROTTLED);
+
+        assertThat(again.reads).containsExactly(0L, 4L);
+        assertThat(progress.processed()).isEqualTo(4);
+        assertThat(productRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should report no progress before a job's first run")
+    void progress_beforeFirstRun_shouldThrow() {
+        assertThat(batchJobRunner.isDue("products", Duration.ofDays(1))).isTrue();
+        assertThatThrownBy(() -> batchJobRunner.progress("products"))
+                .hasMessageContaining("has not run yet");
+    }
+
+    @Test
+    @DisplayName("Should pause for the duty cycle or the rate cap, whichever is longer")
+    void throttle_shouldPauseForDutyCycleOrRateCap() {
+        BatchThrottle halfBusy = new BatchThrottle(0.5, 0);
+        BatchThrottle capped = new BatchThrottle(0.5, 100);
+
+        assertThat(halfBusy.pauseNanos(1000, 2_000_000)).isEqualTo(2_000_000);
+        assertThat(capped.pauseNanos(1000, 2_000_000)).isEqualTo(9_998_000_000L);
+        assertThat(capped.pauseNanos(1, 20_000_000)).isEqualTo(20_000_000);
+        assertThatThrownBy(() -> new BatchThrottle(0, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private double itemsCounted() {
+        Counter counter = meterRegistry.find("inventory.batch.items").tag("job", "products").counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    /**
+     * Saves a product per key. Writing key {@code failAt} fails its chunk; without one, key 2 fails in process.
+     */
+    private final class ProductJob implements BatchJob<Long, Product> {
+
+        private final long keys;
+        private final long failAt;
+        private final List<Long> reads = new ArrayList<>();
+
+        private ProductJob(long keys, long failAt) {
+            this.keys = keys;
+            this.failAt = failAt;
+        }
+
+        @Override
+        public String name() {
+            return "products";
+        }
+
+        @Override
+        public Chunk<Long> read(long afterKey, int limit) {
+            reads.add(afterKey);
+            if (afterKey >= keys) {
+                return null;
+            }
+            List<Long> items = LongStream.rangeClosed(afterKey + 1, Math.min(keys, afterKey + limit)).boxed().toList();
+            return new Chunk<>(items, items.size(), items.get(items.size() - 1));
+        }
+
+        @Override
+        public Output<Product> process(List<Long> items) {
+            List<Product> products = new ArrayList<>();
+            for (Long key : items) {
+                if (failAt < 0 && key == 2) {
+                    continue;
+                }
+                Product product = new Product();
+                product.setName("Item " + key);
+                product.setCategory("Batch");
+                product.setPrice((double) key);
+                product.setStatus(ProductStatus.AVAILABLE);
+                products.add(product);
+            }
+            return new Output<>(products, items.size() - products.size());
+        }
+
+        @Override
+        public void write(List<Product> results) {
+            for (Product product : results) {
+                productRepository.save(product);
+                if (product.getPrice() == failAt) {
+                    throw new IllegalStateException("write failed at " + failAt);
+                }
+            }
+        }
+
+        @Override
+        public long countAfter(long afterKey) {
+            return keys - afterKey;
+        }
+    }
+}
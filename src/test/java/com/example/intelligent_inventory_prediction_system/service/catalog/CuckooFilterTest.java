@@ -0,0 +1,76 @@
+package com.example.intelligent_inventory_prediction_system.service.catalog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CuckooFilter Tests")
+class CuckooFilterTest {
+
+    @Test
+    @DisplayName("Should report every key put and rarely one that was not")
+    void mightContain_shouldNeverMissAndRarelyFalselyMatch() {
+        CuckooFilter filter = new CuckooFilter(100_000);
+        for (long key = 1; key <= 90_000; key++) {
+            assertThat(filter.put(key)).isTrue();
+        }
+
+        for (long key = 1; key <= 90_000; key++) {
+            assertThat(filter.mightContain(key)).as("key %d", key).isTrue();
+        }
+        int falsePositives = 0;
+        for (long key = 1_000_000; key < 1_100_000; key++) {
+            if (filter.mightContain(key)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(500);
+        assertThat(filter.size()).isEqualTo(90_000);
+        assertThat(filter.footprintBytes()).isEqualTo(filter.capacity() * 2L);
+    }
+
+    @Test
+    @DisplayName("Should forget a removed key and keep the others")
+    void remove_shouldDropOnlyThatKey() {
+        CuckooFilter filter = new CuckooFilter(1024);
+        for (long key = 1; key <= 500; key++) {
+            filter.put(key);
+        }
+
+        assertThat(filter.remove(42)).isTrue();
+
+        assertThat(filter.mightContain(42)).isFalse();
+        assertThat(filter.size()).isEqualTo(499);
+        for (long key = 1; key <= 500; key++) {
+            if (key != 42) {
+                assertThat(filter.mightContain(key)).as("key %d", key).isTrue();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep every key once full and refuse more until room is freed")
+    void put_whenFull_shouldKeepEveryKeyAndReportFull() {
+        CuckooFilter filter = new CuckooFilter(64);
+        long key = 0;
+        while (filter.put(++key)) {
+        }
+        long lastKey = key;
+
+        assertThat(filter.isFull()).isTrue();
+        assertThat(filter.put(lastKey + 1)).isFalse();
+        for (long k = 1; k <= lastKey; k++) {
+            assertThat(filter.mightContain(k)).as("key %d", k).isTrue();
+        }
+
+        for (long k = 1; k <= lastKey / 2; k++) {
+            filter.remove(k);
+        }
+
+        assertThat(filter.isFull()).isFalse();
+        for (long k = lastKey / 2 + 1; k <= lastKey; k++) {
+            assertThat(filter.mightContain(k)).as("key %d", k).isTrue();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.intelligent_inventory_prediction_system.service.catalog;
+
+import com.example.intelligent_inventory_prediction_system.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ProductIdFilter Tests")
+class ProductIdFilterTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ProductIdFilter productIdFilter;
+
+    @BeforeEach
+    void setUp() {
+        when(productRepository.count()).thenReturn(3L);
+        when(productRepository.findIdsAfter(0, Limit.of(2))).thenReturn(List.of(1L, 2L));
+        when(productRepository.findIdsAfter(2, Limit.of(2))).thenReturn(List.of(3L));
+        productIdFilter = filter(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        productIdFilter.shutdown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should ask the database for every product until the ids are loaded")
+    void exists_beforeLoad_shouldAskDatabase() {
+        AtomicInteger queries = new AtomicInteger();
+
+        assertThat(productIdFilter.exists(99, id -> queries.incrementAndGet() < 0)).isFalse();
+
+        assertThat(queries).hasValue(1);
+        assertThat(productIdFilter.isLoaded()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown product without the database once loaded")
+    void exists_afterLoad_shouldRejectDefiniteMisses() {
+        productIdFilter.load();
+        AtomicInteger queries = new AtomicInteger();
+
+        assertThat(productIdFilter.exists(2, id -> queries.incrementAndGet() > 0)).isTrue();
+        assertThat(productIdFilter.exists(99, id -> queries.incrementAndGet() < 0)).isFalse();
+
+        assertThat(queries).hasValue(1);
+        assertThat(lookups("present")).isEqualTo(1);
+        assertThat(lookups("absent")).isEqualTo(1);
+        assertThat(meterRegistry.get("inventory.product.filter.false.positive.rate").gauge().value()).isZero();
+        assertThat(meterRegistry.get("inventory.product.filter.size").gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should scan the ids in read-write transactions so the primary is read")
+    void load_shouldNotUseReadOnlyTransactions() {
+        productIdFilter.load();
+
+        verify(transactionManager, atLeastOnce()).getTransaction(argThat(definition -> !definition.isReadOnly()));
+        verify(transactionManager, never()).getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+
+    @Test
+    @DisplayName("Should confirm misses against the database when other instances write products")
+    void exists_sharedDatabase_shouldConfirmMisses() {
+        productIdFilter.shutdown();
+        productIdFilter = filter(true);
+        productIdFilter.load();
+
+        assertThat(productIdFilter.exists(40, id -> true)).isTrue();
+        assertThat(productIdFilter.mightExist(40)).isTrue();
+        assertThat(productIdFilter.exists(99, id -> false)).isFalse();
+        assertThat(productIdFilter.findExisting(List.of(1L, 50L, 60L), candidates -> {
+            assertThat(candidates).containsExactlyInAnyOrder(1L, 50L, 60L);
+            return List.of(1L, 50L);
+        })).containsExactlyInAnyOrder(1L, 50L);
+
+        assertThat(lookups("missed")).isEqualTo(2);
+        assertThat(lookups("absent")).isEqualTo(2);
+        assertThat(lookups("present")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should pass only ids it cannot rule out to the database")
+    void findExisting_shouldQueryOnlyCandidates() {
+        productIdFilter.load();
+
+        Set<Long> existing = productIdFilter.findExisting(List.of(1L, 3L, 99L, 100L), candidates -> {
+            assertThat(candidates).containsExactly(1L, 3L);
+            return candidates;
+        });
+
+        assertThat(existing).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(productIdFilter.findExisting(List.of(99L), candidates -> {
+            throw new AssertionError("queried " + candidates);
+        })).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should remove a deleted product only once the deleting transaction commits")
+    void removed_shouldWaitForCommit() {
+        productIdFilter.load();
+        TransactionSynchronizationManager.initSynchronization();
+
+        productIdFilter.removed(2);
+
+        assertThat(productIdFilter.mightExist(2)).isTrue();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(productIdFilter.mightExist(2)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should add a product again after commit when a reload may have scanned past it")
+    void added_whenReloadedBeforeCommit_shouldAddAgainAfterCommit() {
+        productIdFilter.load();
+        TransactionSynchronizationManager.initSynchronization();
+
+        productIdFilter.added(10);
+        assertThat(productIdFilter.mightExist(10)).isTrue();
+        productIdFilter.load();
+        assertThat(productIdFilter.mightExist(10)).isFalse();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(productIdFilter.mightExist(10)).isTrue();
+    }
+
+    private ProductIdFilter filter(boolean sharedDatabase) {
+        return new ProductIdFilter(productRepository, transactionManager, meterRegistry, true, 2, 16,
+                sharedDatabase, "");
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("inventory.product.filter.lookups").tag("result", result).counter().count();
+    }
+}
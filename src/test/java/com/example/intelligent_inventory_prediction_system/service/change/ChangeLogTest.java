@@ -0,0 +1,183 @@
+package com.example.intelligent_inventory_prediction_system.service.change;
+
+import com.example.intelligent_inventory_prediction_system.dto.response.ChangeFeedResponseDTO;
+import com.example.intelligent_inventory_prediction_system.exception.ChangeTokenExpiredException;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardWriteOutbox;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ChangeLog Tests")
+class ChangeLogTest {
+
+    private static final long IN_FLIGHT_TIMEOUT = 600_000;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private ChangeLog changeLog;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:change-log-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbcTemplate.execute("CREATE TABLE product (id BIGINT PRIMARY KEY, name VARCHAR(64), change_seq BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE inventory (id BIGINT PRIMARY KEY, change_seq BIGINT)");
+        jdbcTemplate.update("INSERT INTO product VALUES (1, 'Laptop', 4), (2, 'Lamp', NULL), (3, 'Chair', NULL)");
+        changeLog = new ChangeLog(dataSource, mock(ShardedInventoryStore.class), mock(ShardWriteOutbox.class), 60_000,
+                IN_FLIGHT_TIMEOUT, clock::get);
+        changeLog.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        changeLog.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should continue after the highest stored value and backfill rows without one behind a guard value")
+    void initialize_shouldSeedAndBackfill() {
+        assertThat(jdbcTemplate.queryForList("SELECT change_seq FROM product ORDER BY id", Long.class))
+                .containsExactly(4L, 6L, 7L);
+        assertThat(changeLog.watermark()).isEqualTo(7);
+        Long next = transactionTemplate.execute(status -> changeLog.next());
+        assertThat(next).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should hold the watermark below a value whose transaction is still open")
+    void watermark_shouldWaitForOpenTransactions() {
+        TransactionTemplate nested = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        nested.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        transactionTemplate.executeWithoutResult(outer -> {
+            assertThat(changeLog.next()).isEqualTo(8);
+            nested.executeWithoutResult(inner -> assertThat(changeLog.next(3)).isEqualTo(9));
+            assertThat(changeLog.watermark()).isEqualTo(7);
+        });
+
+        assertThat(changeLog.watermark()).isEqualTo(11);
+        assertThatThrownBy(() -> changeLog.next()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should merge rows and tombstones in change order and page with the token")
+    void read_shouldMergeRowsAndTombstones() {
+        transactionTemplate.executeWithoutResult(status -> changeLog.recordRemoval(ChangeEntity.PRODUCT, 9));
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.update("UPDATE product SET change_seq = ? WHERE id = 1", changeLog.next()));
+
+        ChangeFeedResponseDTO<String> first = read(null, 2);
+        assertThat(first.getChanged()).containsExactly("Lamp", "Chair");
+        assertThat(first.getRemoved()).isEmpty();
+        assertThat(first.isHasMore()).isTrue();
+
+        ChangeFeedResponseDTO<String> second = read(first.getNextToken(), 2);
+        assertThat(second.getChanged()).containsExactly("Laptop");
+        assertThat(second.getRemoved()).containsExactly(9L);
+        assertThat(second.isHasMore()).isFalse();
+
+        ChangeFeedResponseDTO<String> caughtUp = read(second.getNextToken(), 2);
+        assertThat(caughtUp.getChanged()).isEmpty();
+        assertThat(caughtUp.getNextToken()).isEqualTo(second.getNextToken());
+    }
+
+    @Test
+    @DisplayName("Should refuse a token older than the purged tombstones but still sync from the start")
+    void read_afterPurge_shouldExpireOldTokens() {
+        String token = read(null, 10).getNextToken();
+        transactionTemplate.executeWithoutResult(status -> changeLog.recordRemoval(ChangeEntity.PRODUCT, 9));
+        clock.addAndGet(60_000);
+
+        changeLog.purge();
+
+        assertThatThrownBy(() -> read(token, 10)).isInstanceOf(ChangeTokenExpiredException.class);
+        assertThat(read(null, 10).getRemoved()).isEmpty();
+        assertThatThrownBy(() -> read("not a token", 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should share the sequence and the watermark with another instance on the same database")
+    void secondInstance_shouldShareSequenceAndWatermark() {
+        ChangeLog second = new ChangeLog(dataSource, mock(ShardedInventoryStore.class), mock(ShardWriteOutbox.class),
+                60_000, IN_FLIGHT_TIMEOUT, clock::get);
+        second.initialize();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                assertThat(changeLog.next()).isEqualTo(8);
+                assertThat(second.watermark()).isEqualTo(7);
+            });
+            assertThat(second.watermark()).isEqualTo(8);
+            Long next = transactionTemplate.execute(status -> second.next(2));
+            assertThat(next).isEqualTo(9);
+            assertThat(changeLog.watermark()).isEqualTo(10);
+        } finally {
+            second.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should stop holding feeds back once an allocation outlives the in-flight timeout")
+    void dropAbandoned_shouldReleaseStaleAllocations() {
+        jdbcTemplate.update("UPDATE change_counter SET change_seq = 9");
+        jdbcTemplate.update("INSERT INTO change_in_flight (change_seq, taken_at) VALUES (8, ?)", clock.get());
+
+        changeLog.dropAbandoned();
+        assertThat(changeLog.watermark()).isEqualTo(7);
+
+        clock.addAndGet(IN_FLIGHT_TIMEOUT + 1);
+        changeLog.dropAbandoned();
+        assertThat(changeLog.watermark()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("Should hold the watermark below shard writes that are still queued")
+    void watermark_sharded_shouldWaitForQueuedShardWrites() {
+        ShardWriteOutbox shardWriteOutbox = mock(ShardWriteOutbox.class);
+        when(shardWriteOutbox.isEnabled()).thenReturn(true);
+        jdbcTemplate.execute("CREATE TABLE " + ShardWriteOutbox.TABLE + " (change_seq BIGINT PRIMARY KEY)");
+        ChangeLog sharded = new ChangeLog(dataSource, mock(ShardedInventoryStore.class), shardWriteOutbox, 60_000,
+                IN_FLIGHT_TIMEOUT, clock::get);
+        sharded.initialize();
+        try {
+            Long queued = transactionTemplate.execute(status -> sharded.next(3));
+            jdbcTemplate.update("INSERT INTO " + ShardWriteOutbox.TABLE + " VALUES (?)", queued + 1);
+            assertThat(sharded.watermark()).isEqualTo(queued);
+
+            jdbcTemplate.update("DELETE FROM " + ShardWriteOutbox.TABLE);
+            assertThat(sharded.watermark()).isEqualTo(queued + 2);
+        } finally {
+            sharded.shutdown();
+        }
+    }
+
+    private ChangeFeedResponseDTO<String> read(String since, int limit) {
+        return changeLog.read(ChangeEntity.PRODUCT, since, limit,
+                (after, upTo, max) -> jdbcTemplate.query("SELECT name, change_seq FROM product "
+                                + "WHERE change_seq > ? AND change_seq <= ? ORDER BY change_seq LIMIT ?",
+                        (resultSet, rowNum) -> new Row(resultSet.getString(1), resultSet.getLong(2)), after, upTo, max),
+                Row::changeSeq, Row::name);
+    }
+
+    private record Row(String name, long changeSeq) {
+    }
+}
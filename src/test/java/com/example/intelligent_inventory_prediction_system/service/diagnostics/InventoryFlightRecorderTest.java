@@ -0,0 +1,83 @@
+package com.example.intelligent_inventory_prediction_system.service.diagnostics;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("InventoryFlightRecorder Tests")
+class InventoryFlightRecorderTest {
+
+    @TempDir
+    Path dumpDirectory;
+
+    private InventoryFlightRecorder flightRecorder;
+
+    @BeforeEach
+    void setUp() {
+        flightRecorder = new InventoryFlightRecorder(true, 5, 16, dumpDirectory.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        flightRecorder.stop();
+    }
+
+    @Test
+    @DisplayName("Should layer the inventory event settings over the default profile")
+    void settings_shouldContainInventoryThresholds() {
+        assertThat(InventoryFlightRecorder.settings())
+                .containsEntry("inventory.Search#threshold", "10 ms")
+                .containsEntry("inventory.StockUpdate#enabled", "true")
+                .containsKey("jdk.GarbageCollection#enabled");
+    }
+
+    @Test
+    @DisplayName("Should dump stock update events from the continuous recording")
+    void dump_shouldContainCommittedEvents() throws Exception {
+        flightRecorder.start();
+        assertThat(flightRecorder.isRecording()).isTrue();
+
+        StockUpdateEvent stockUpdate = DiagnosticEvents.beginStockUpdate();
+        DiagnosticEvents.commitStockUpdate(stockUpdate, 42L, "stock-level", 10, 3);
+        SearchEvent fastSearch = DiagnosticEvents.beginSearch();
+        DiagnosticEvents.commitSearch(fastSearch, "product", "search", "all", 1);
+
+        Path file = flightRecorder.dump(1);
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertThat(events)
+                .filteredOn(event -> event.getEventType().getName().equals("inventory.StockUpdate"))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getLong("inventoryId")).isEqualTo(42L);
+                    assertThat(event.getString("operation")).isEqualTo("stock-level");
+                    assertThat(event.getInt("previousStock")).isEqualTo(10);
+                    assertThat(event.getInt("newStock")).isEqualTo(3);
+                });
+        assertThat(events).noneMatch(event -> event.getEventType().getName().equals("inventory.Search"));
+    }
+
+    @Test
+    @DisplayName("Should refuse to dump when no recording is running")
+    void dump_notRecording_shouldThrow() {
+        assertThatThrownBy(() -> flightRecorder.dump(null)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive dump window")
+    void dump_nonPositiveWindow_shouldThrow() {
+        flightRecorder.start();
+
+        assertThatThrownBy(() -> flightRecorder.dump(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
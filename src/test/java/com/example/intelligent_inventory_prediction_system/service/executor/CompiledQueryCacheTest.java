@@ -0,0 +1,137 @@
+package com.example.intelligent_inventory_prediction_system.service.executor;
+
+import com.example.intelligent_inventory_prediction_system.dto.search.InventorySearchCriteria;
+import com.example.intelligent_inventory_prediction_system.dto.search.ProductSearchCriteria;
+import com.example.intelligent_inventory_prediction_system.model.Inventory;
+import com.example.intelligent_inventory_prediction_system.model.Product;
+import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
+import com.example.intelligent_inventory_prediction_system.repository.InventoryRepository;
+import com.example.intelligent_inventory_prediction_system.repository.ProductRepository;
+import com.example.intelligent_inventory_prediction_system.repository.specification.CompiledSpecification;
+import com.example.intelligent_inventory_prediction_system.repository.specification.InventorySpecs;
+import com.example.intelligent_inventory_prediction_system.repository.specification.ProductSpecs;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({CompiledQueryCache.class, CompiledQueryCacheTest.MetricsConfig.class})
+@DisplayName("CompiledQueryCache Tests")
+class CompiledQueryCacheTest {
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private CompiledQueryCache compiledQueryCache;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    private Product laptop;
+    private Product lamp;
+
+    @BeforeEach
+    void setUp() {
+        laptop = productRepository.save(product("Gaming Laptop", "Electronics", 1500.0, ProductStatus.AVAILABLE));
+        productRepository.save(product("Office Laptop", "Electronics", 700.0, ProductStatus.NOT_AVAILABLE));
+        lamp = productRepository.save(product("Desk Lamp", "Furniture", 40.0, ProductStatus.AVAILABLE));
+
+        inventoryRepository.save(inventory(laptop, 50));
+        inventoryRepository.save(inventory(lamp, 5));
+    }
+
+    @Test
+    @DisplayName("Should return the same rows as the literal specification")
+    void execute_shouldMatchSpecificationFallback() {
+        ProductSearchCriteria criteria = ProductSearchCriteria.builder()
+                .keyword("LAPTOP")
+                .minPrice(100.0)
+                .build();
+        CompiledSpecification<Product> specification = ProductSpecs.matchesCriteria(criteria);
+
+        List<Product> compiled = compiledQueryCache.execute(specification);
+        List<Product> fallback = productRepository.findAll(specification);
+
+        assertThat(compiled).extracting(Product::getName)
+                .containsExactlyInAnyOrder("Gaming Laptop", "Office Laptop")
+                .containsExactlyInAnyOrderElementsOf(fallback.stream().map(Product::getName).toList());
+    }
+
+    @Test
+    @DisplayName("Should reuse one compiled query per shape with fresh parameter values")
+    void execute_sameShapeDifferentValues_shouldReuseCompiledQuery() {
+        int before = compiledQueryCache.size();
+
+        List<Product> available = compiledQueryCache.execute(ProductSpecs.matchesCriteria(
+                ProductSearchCriteria.builder().category("electronics").availability(true).build()));
+        List<Product> unavailable = compiledQueryCache.execute(ProductSpecs.matchesCriteria(
+                ProductSearchCriteria.builder().category("Electronics").availability(false).build()));
+
+        assertThat(available).extracting(Product::getName).containsExactly("Gaming Laptop");
+        assertThat(unavailable).extracting(Product::getName).containsExactly("Office Laptop");
+        assertThat(compiledQueryCache.size()).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("Should apply inventory product and stock range filters")
+    void execute_inventoryCriteria_shouldFilterByProductAndStock() {
+        InventorySearchCriteria criteria = InventorySearchCriteria.builder()
+                .productId(laptop.getId())
+                .minStock(10)
+                .maxStock(100)
+                .build();
+
+        List<Inventory> result = compiledQueryCache.execute(InventorySpecs.matchesCriteria(criteria));
+
+        assertThat(result).extracting(Inventory::getCurrentStock).containsExactly(50);
+        assertThat(compiledQueryCache.execute(InventorySpecs.matchesCriteria(
+                InventorySearchCriteria.builder().productId(lamp.getId()).minStock(10).build()))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return everything for empty criteria")
+    void execute_emptyCriteria_shouldReturnAllRows() {
+        List<Product> result = compiledQueryCache.execute(ProductSpecs.matchesCriteria(new ProductSearchCriteria()));
+
+        assertThat(result).hasSize(3);
+    }
+
+    private static Product product(String name, String category, double price, ProductStatus status) {
+        Product product = new Product();
+        product.setName(name);
+        product.setCategory(category);
+        product.setDescription(name + " description");
+        product.setPrice(price);
+        product.setStatus(status);
+        return product;
+    }
+
+    private static Inventory inventory(Product product, int stock) {
+        Inventory inventory = new Inventory();
+        inventory.setProduct(product);
+        inventory.setCurrentStock(stock);
+        inventory.setLastUpdated(LocalDateTime.now());
+        return inventory;
+    }
+}
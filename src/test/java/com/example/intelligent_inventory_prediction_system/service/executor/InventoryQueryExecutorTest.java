@@ -5,6 +5,7 @@ import com.example.intelligent_inventory_prediction_system.mapper.response.Inven
 import com.example.intelligent_inventory_prediction_system.model.Inventory;
 import com.example.intelligent_inventory_prediction_system.model.Product;
 import com.example.intelligent_inventory_prediction_system.repository.InventoryRepository;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -41,6 +42,12 @@ class InventoryQueryExecutorTest {
     @Mock
     private InventoryResponseMapper inventoryResponseMapper;
 
+    @Mock
+    private QueryOperationMetrics queryOperationMetrics;
+
+    @Mock
+    private ShardedInventoryStore shardedInventoryStore;
+
     @InjectMocks
     private InventoryQueryExecutor inventoryQueryExecutor;
 
@@ -189,6 +196,28 @@ class InventoryQueryExecutorTest {
         }
     }
 
+    @Nested
+    @DisplayName("Ordered Id Query Tests")
+    class OrderedIdQueryTests {
+
+        @Test
+        @DisplayName("Should return rows in the order of the given ids and skip ids that no longer exist")
+        void executeOrderedIdQuery_shouldKeepGivenOrder() {
+            List<Inventory> inventories = testDataFactory.createInventoryList();
+            List<InventoryResponseDTO> expectedDtos = testDataFactory.createInventoryResponseDTOList();
+            List<Inventory> reordered = List.of(inventories.get(2), inventories.get(0), inventories.get(1));
+
+            when(inventoryRepository.findAllById(List.of(1L, 2L, 3L, 9L))).thenReturn(inventories);
+            givenMapperMapsInventoryList(reordered, expectedDtos);
+
+            List<InventoryResponseDTO> result = inventoryQueryExecutor.executeOrderedIdQuery(
+                    new long[]{3L, 1L, 9L, 2L}, OPERATION_DESCRIPTION);
+
+            assertThat(result).isEqualTo(expectedDtos);
+            verifyMapperCalledWithInventoryList(reordered);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private Specification<Inventory> givenAnySpecification() {
         return mock(Specification.class);
@@ -37,6 +37,9 @@ class ProductQueryExecutorTest {
     @Mock
     private ProductResponseMapper productResponseMapper;
 
+    @Mock
+    private QueryOperationMetrics queryOperationMetrics;
+
     @InjectMocks
     private ProductQueryExecutor productQueryExecutor;
 
@@ -0,0 +1,108 @@
+package com.example.intelligent_inventory_prediction_system.service.executor;
+
+import com.example.intelligent_inventory_prediction_system.dto.projection.InventoryField;
+import com.example.intelligent_inventory_prediction_system.dto.projection.ProductField;
+import com.example.intelligent_inventory_prediction_system.dto.projection.ProjectedRow;
+import com.example.intelligent_inventory_prediction_system.dto.search.ProductSearchCriteria;
+import com.example.intelligent_inventory_prediction_system.model.Inventory;
+import com.example.intelligent_inventory_prediction_system.model.Product;
+import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
+import com.example.intelligent_inventory_prediction_system.repository.InventoryRepository;
+import com.example.intelligent_inventory_prediction_system.repository.ProductRepository;
+import com.example.intelligent_inventory_prediction_system.repository.specification.InventorySpecs;
+import com.example.intelligent_inventory_prediction_system.repository.specification.ProductSpecs;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import(ProjectionQueryExecutor.class)
+@DisplayName("ProjectionQueryExecutor Tests")
+class ProjectionQueryExecutorTest {
+
+    @Autowired
+    private ProjectionQueryExecutor projectionQueryExecutor;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    private Product laptop;
+    private Product lamp;
+
+    @BeforeEach
+    void setUp() {
+        laptop = productRepository.save(product("Gaming Laptop", "Electronics", 1500.0));
+        productRepository.save(product("Office Laptop", "Electronics", 700.0));
+        lamp = productRepository.save(product("Desk Lamp", "Furniture", 40.0));
+
+        inventoryRepository.save(inventory(laptop, 50));
+        inventoryRepository.save(inventory(lamp, 5));
+    }
+
+    @Test
+    @DisplayName("Should select only the requested product columns in request order")
+    void select_shouldReturnSelectedColumns() {
+        List<ProjectedRow> rows = projectionQueryExecutor.select(Product.class,
+                ProductSpecs.matchesCriteria(ProductSearchCriteria.builder().keyword("laptop").build()),
+                ProductField.parse("price,name"));
+
+        assertThat(rows).extracting(row -> row.get(ProductField.NAME))
+                .containsExactlyInAnyOrder("Gaming Laptop", "Office Laptop");
+        assertThat(rows).extracting(row -> row.get(ProductField.PRICE)).containsExactlyInAnyOrder(1500.0, 700.0);
+        assertThatThrownBy(() -> rows.get(0).get(ProductField.DESCRIPTION))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should read the product id of an inventory and filter with its specification")
+    void select_inventoryProductId_shouldReadForeignKey() {
+        List<ProjectedRow> rows = projectionQueryExecutor.select(Inventory.class,
+                InventorySpecs.hasStockGreaterThan(10), InventoryField.parse("productId"));
+
+        assertThat(rows).extracting(row -> row.get(InventoryField.PRODUCT_ID)).containsExactly(laptop.getId());
+    }
+
+    @Test
+    @DisplayName("Should page and sort the projection and count the total")
+    void select_paged_shouldSortAndCount() {
+        Page<ProjectedRow> page = projectionQueryExecutor.select(Product.class, null, ProductField.parse("id,name"),
+                PageRequest.of(0, 2, Sort.by("price")));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(row -> row.get(ProductField.NAME))
+                .containsExactly("Desk Lamp", "Office Laptop");
+    }
+
+    private static Product product(String name, String category, double price) {
+        Product product = new Product();
+        product.setName(name);
+        product.setCategory(category);
+        product.setDescription(name + " description");
+        product.setPrice(price);
+        product.setStatus(ProductStatus.AVAILABLE);
+        return product;
+    }
+
+    private static Inventory inventory(Product product, int stock) {
+        Inventory inventory = new Inventory();
+        inventory.setProduct(product);
+        inventory.setCurrentStock(stock);
+        inventory.setLastUpdated(LocalDateTime.now());
+        return inventory;
+    }
+}
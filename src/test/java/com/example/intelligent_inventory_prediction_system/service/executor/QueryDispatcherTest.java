@@ -0,0 +1,124 @@
+package com.example.intelligent_inventory_prediction_system.service.executor;
+
+import com.example.intelligent_inventory_prediction_system.exception.QueryDeadlineExceededException;
+import com.example.intelligent_inventory_prediction_system.exception.QueryRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("QueryDispatcher Tests")
+class QueryDispatcherTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DataSource dataSource;
+    private QueryDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:query-dispatcher-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        dispatcher = new QueryDispatcher(new DataSourceTransactionManager(dataSource), meterRegistry,
+                task -> task, 1, 1, 3_000, 2, clock::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should run the query in a read-only transaction bounded by the remaining time")
+    void submit_shouldRunInReadOnlyTransactionWithTimeout() throws Exception {
+        CompletableFuture<Integer> result = dispatcher.submit("count", () -> {
+            assertThat(TransactionSynchronizationManager.isCurrentTransactionReadOnly()).isTrue();
+            ConnectionHolder holder = (ConnectionHolder) TransactionSynchronizationManager.getResource(dataSource);
+            assertThat(holder.hasTimeout()).isTrue();
+            assertThat(holder.getTimeToLiveInSeconds()).isBetween(1, 3);
+            return new JdbcTemplate(dataSource).queryForObject("SELECT 42", Integer.class);
+        });
+
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("Should turn a query away at once when the queue is full")
+    void submit_whenQueueIsFull_shouldReject() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = dispatcher.submit("slow", () -> {
+            running.countDown();
+            await(release);
+            return "first";
+        });
+        running.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = dispatcher.submit("queued", () -> "queued");
+
+        CompletableFuture<String> rejected = dispatcher.submit("rejected", () -> "rejected");
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::get).isInstanceOf(ExecutionException.class)
+                .cause().isInstanceOf(QueryRejectedException.class)
+                .extracting(cause -> ((QueryRejectedException) cause).getRetryAfterSeconds()).isEqualTo(2L);
+        assertThat(dispatcher.queueDepth()).isEqualTo(1);
+        assertThat(meterRegistry.get("inventory.query.async.queue.depth").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("inventory.query.async.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+    }
+
+    @Test
+    @DisplayName("Should fail a query whose deadline passed while it was queued without running it")
+    void submit_whenDeadlinePassesInQueue_shouldNotRun() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        dispatcher.submit("slow", () -> {
+            running.countDown();
+            await(release);
+            return "first";
+        });
+        running.await(5, TimeUnit.SECONDS);
+        AtomicBoolean ran = new AtomicBoolean();
+        CompletableFuture<String> late = dispatcher.submit("late", () -> {
+            ran.set(true);
+            return "late";
+        });
+
+        clock.addAndGet(3_000);
+        release.countDown();
+
+        assertThatThrownBy(() -> late.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                .cause().isInstanceOf(QueryDeadlineExceededException.class);
+        assertThat(ran).isFalse();
+        assertThat(meterRegistry.get("inventory.query.async.deadline.exceeded").counter().count()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.intelligent_inventory_prediction_system.service.export;
+
+import com.example.intelligent_inventory_prediction_system.service.export.ExportDataset.Column;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ColumnarWriter Tests")
+class ColumnarWriterTest {
+
+    private static final List<Column> COLUMNS = List.of(
+            new Column("id", ColumnType.INT64),
+            new Column("stock", ColumnType.INT32),
+            new Column("price", ColumnType.FLOAT64),
+            new Column("name", ColumnType.STRING),
+            new Column("updated", ColumnType.TIMESTAMP));
+
+    @Test
+    @DisplayName("Should round trip values and nulls across several row groups")
+    void write_multipleRowGroups_shouldRoundTrip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ColumnarWriter writer = new ColumnarWriter(out, COLUMNS, 4)) {
+            for (int i = 0; i < 10; i++) {
+                writer.setLong(0, 1_000L + i * 3);
+                if (i % 3 == 0) {
+                    writer.setNull(1);
+                } else {
+                    writer.setLong(1, -i);
+                }
+                writer.setDouble(2, i * 1.5);
+                writer.setString(3, i == 5 ? null : "ÿ-" + i);
+                writer.setLong(4, 1_700_000_000_000L - i);
+                writer.endRow();
+            }
+            assertThat(writer.getRowCount()).isEqualTo(10);
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        try (ColumnarReader reader = new ColumnarReader(new ByteArrayInputStream(out.toByteArray()))) {
+            assertThat(reader.getColumns()).isEqualTo(COLUMNS);
+            Object[][] group;
+            int groups = 0;
+            while ((group = reader.nextRowGroup()) != null) {
+                groups++;
+                for (int r = 0; r < group[0].length; r++) {
+                    rows.add(new Object[]{group[0][r], group[1][r], group[2][r], group[3][r], group[4][r]});
+                }
+            }
+            assertThat(groups).isEqualTo(3);
+        }
+
+        assertThat(rows).hasSize(10);
+        assertThat(rows.get(0)).containsExactly(1_000L, null, 0.0, "ÿ-0", 1_700_000_000_000L);
+        assertThat(rows.get(5)).containsExactly(1_015L, -5, 7.5, null, 1_699_999_999_995L);
+        assertThat(rows.get(9)).containsExactly(1_027L, null, 13.5, "ÿ-9", 1_699_999_999_991L);
+    }
+
+    @Test
+    @DisplayName("Should write an empty file that reads back without row groups")
+    void write_noRows_shouldProduceHeaderOnly() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new ColumnarWriter(out, COLUMNS).close();
+
+        try (ColumnarReader reader = new ColumnarReader(new ByteArrayInputStream(out.toByteArray()))) {
+            assertThat(reader.nextRowGroup()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject input that is not a columnar snapshot")
+    void read_wrongMagic_shouldThrow() {
+        assertThatThrownBy(() -> new ColumnarReader(new ByteArrayInputStream("id,name\n".getBytes())))
+                .isInstanceOf(IOException.class);
+    }
+}
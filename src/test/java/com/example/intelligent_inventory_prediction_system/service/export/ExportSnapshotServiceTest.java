@@ -0,0 +1,167 @@
+package com.example.intelligent_inventory_prediction_system.service.export;
+
+import com.example.intelligent_inventory_prediction_system.dto.response.ExportSnapshotResponseDTO;
+import com.example.intelligent_inventory_prediction_system.model.Inventory;
+import com.example.intelligent_inventory_prediction_system.model.Product;
+import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
+import com.example.intelligent_inventory_prediction_system.repository.InventoryRepository;
+import com.example.intelligent_inventory_prediction_system.repository.ProductRepository;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = {
+        "inventory.export.directory=target/test-exports",
+        "inventory.export.max-age-seconds=0"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ExportSnapshotService.class, SnapshotExporter.class, ExportSnapshotServiceTest.MetricsConfig.class})
+@DisplayName("ExportSnapshotService Tests")
+class ExportSnapshotServiceTest {
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2026, 3, 1, 12, 30, 15);
+
+    @Autowired
+    private ExportSnapshotService exportSnapshotService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @MockitoBean
+    private ShardedInventoryStore shardedInventoryStore;
+
+    private Product laptop;
+
+    @BeforeEach
+    void setUp() {
+        laptop = productRepository.save(product("Gaming Laptop", "Fast, light", ProductStatus.AVAILABLE));
+        productRepository.save(product("Desk Lamp", null, ProductStatus.NOT_AVAILABLE));
+        Inventory inventory = new Inventory();
+        inventory.setProduct(laptop);
+        inventory.setCurrentStock(50);
+        inventory.setLastUpdated(UPDATED);
+        inventoryRepository.save(inventory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        inventoryRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should write products as CSV with status names")
+    void getSnapshot_productsCsv_shouldWriteAllRows() throws IOException {
+        Snapshot snapshot = exportSnapshotService.getSnapshot(ExportDataset.PRODUCTS, ExportFormat.CSV);
+
+        List<String> lines = Files.readAllLines(snapshot.file());
+        assertThat(snapshot.rowCount()).isEqualTo(2);
+        assertThat(snapshot.size()).isEqualTo(Files.size(snapshot.file()));
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).isEqualTo("id,name,description,category,price,status");
+        assertThat(lines.get(1)).endsWith(",Gaming Laptop,\"Fast, light\",Electronics,100.0,AVAILABLE");
+        assertThat(lines.get(2)).endsWith(",Desk Lamp,,Electronics,100.0,NOT_AVAILABLE");
+    }
+
+    @Test
+    @DisplayName("Should write inventories in the columnar format")
+    void getSnapshot_inventoriesColumnar_shouldRoundTrip() throws IOException {
+        Snapshot snapshot = exportSnapshotService.getSnapshot(ExportDataset.INVENTORIES, ExportFormat.COLUMNAR);
+
+        try (InputStream in = Files.newInputStream(snapshot.file());
+             ColumnarReader reader = new ColumnarReader(in)) {
+            Object[][] group = reader.nextRowGroup();
+            assertThat(group[1]).containsExactly(laptop.getId());
+            assertThat(group[2]).containsExactly(50);
+            assertThat(group[3]).containsExactly((Object) null);
+            assertThat(group[4]).containsExactly(UPDATED.toInstant(ZoneOffset.UTC).toEpochMilli());
+            assertThat(reader.nextRowGroup()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should export inventories from the shards when sharding is enabled")
+    void getSnapshot_inventoriesSharded_shouldReadShards() throws IOException {
+        Product shardedProduct = new Product();
+        shardedProduct.setId(7L);
+        Inventory sharded = new Inventory();
+        sharded.setId(901L);
+        sharded.setProduct(shardedProduct);
+        sharded.setCurrentStock(12);
+        sharded.setLastUpdated(UPDATED);
+        when(shardedInventoryStore.isEnabled()).thenReturn(true);
+        when(shardedInventoryStore.findOrderedById(any(), anyInt())).thenReturn(List.of(sharded));
+
+        Snapshot snapshot = exportSnapshotService.getSnapshot(ExportDataset.INVENTORIES, ExportFormat.CSV);
+
+        assertThat(snapshot.rowCount()).isEqualTo(1);
+        assertThat(Files.readAllLines(snapshot.file())).containsExactly(
+                "id,product_id,current_stock,reorder_threshold,last_updated",
+                "901,7,12,,2026-03-01 12:30:15");
+    }
+
+    @Test
+    @DisplayName("Should keep the snapshot while the content hash is unchanged and replace it when data changes")
+    void refreshSnapshot_shouldOnlyReplaceChangedContent() {
+        Snapshot first = exportSnapshotService.getSnapshot(ExportDataset.PRODUCTS, ExportFormat.CSV);
+
+        ExportSnapshotResponseDTO unchanged = exportSnapshotService.refreshSnapshot(ExportDataset.PRODUCTS, ExportFormat.CSV);
+        assertThat(unchanged.isChanged()).isFalse();
+        assertThat(unchanged.getHash()).isEqualTo(first.hash());
+        assertThat(unchanged.getGeneratedAt()).isEqualTo(first.generatedAt());
+        assertThat(exportSnapshotService.getSnapshot(ExportDataset.PRODUCTS, ExportFormat.CSV).file())
+                .isEqualTo(first.file());
+
+        productRepository.save(product("Office Chair", null, ProductStatus.AVAILABLE));
+        ExportSnapshotResponseDTO changed = exportSnapshotService.refreshSnapshot(ExportDataset.PRODUCTS, ExportFormat.CSV);
+
+        assertThat(changed.isChanged()).isTrue();
+        assertThat(changed.getRowCount()).isEqualTo(3);
+        assertThat(first.file()).doesNotExist();
+    }
+
+    private static Product product(String name, String description, ProductStatus status) {
+        Product product = new Product();
+        product.setName(name);
+        product.setDescription(description);
+        product.setCategory("Electronics");
+        product.setPrice(100.0);
+        product.setStatus(status);
+        return product;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.intelligent_inventory_prediction_system.service.export;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SnapshotFileSender Tests")
+class SnapshotFileSenderTest {
+
+    private static final String CONTENT = "id,name\n1,Laptop\n2,Lamp\n";
+
+    @TempDir
+    Path directory;
+
+    private final SnapshotFileSender sender = new SnapshotFileSender();
+    private Snapshot snapshot;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = Files.writeString(directory.resolve("products.csv"), CONTENT);
+        Instant now = Instant.now();
+        snapshot = new Snapshot(ExportDataset.PRODUCTS, ExportFormat.CSV, file, "abc123",
+                CONTENT.length(), 2, now, now);
+    }
+
+    @Test
+    @DisplayName("Should send the whole file with its content hash as ETag")
+    void send_noRange_shouldSendFullBody() throws IOException {
+        MockHttpServletResponse response = send(new MockHttpServletRequest("GET", "/api/export/products"));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("ETag")).isEqualTo("\"abc123\"");
+        assertThat(response.getHeader("Accept-Ranges")).isEqualTo("bytes");
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("Should answer a matching If-None-Match with 304")
+    void send_matchingEtag_shouldReturnNotModified() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/export/products");
+        request.addHeader("If-None-Match", "\"other\", \"abc123\"");
+
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should send the requested byte range")
+    void send_range_shouldReturnPartialContent() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/export/products");
+        request.addHeader("Range", "bytes=8-15");
+
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 8-15/" + CONTENT.length());
+        assertThat(response.getContentAsString()).isEqualTo("1,Laptop");
+    }
+
+    @Test
+    @DisplayName("Should send the suffix range and ignore ranges for a stale If-Range")
+    void send_suffixRangeAndStaleIfRange() throws IOException {
+        MockHttpServletRequest suffix = new MockHttpServletRequest("GET", "/api/export/products");
+        suffix.addHeader("Range", "bytes=-7");
+        assertThat(send(suffix).getContentAsString()).isEqualTo("2,Lamp\n");
+
+        MockHttpServletRequest stale = new MockHttpServletRequest("GET", "/api/export/products");
+        stale.addHeader("Range", "bytes=0-1");
+        stale.addHeader("If-Range", "\"previous\"");
+        MockHttpServletResponse response = send(stale);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("Should reject a range starting past the end with 416")
+    void send_unsatisfiableRange_shouldReturn416() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/export/products");
+        request.addHeader("Range", "bytes=1000-");
+
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */" + CONTENT.length());
+    }
+
+    @Test
+    @DisplayName("Should hand the file to the connector when sendfile is supported")
+    void send_sendfileSupported_shouldSetSendfileAttributes() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/export/products");
+        request.setAttribute(SnapshotFileSender.SENDFILE_SUPPORTED, Boolean.TRUE);
+        request.addHeader("Range", "bytes=8-");
+
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getContentLengthLong()).isEqualTo(CONTENT.length() - 8);
+        assertThat(request.getAttribute(SnapshotFileSender.SENDFILE_FILENAME))
+                .isEqualTo(snapshot.file().toAbsolutePath().toString());
+        assertThat(request.getAttribute(SnapshotFileSender.SENDFILE_START)).isEqualTo(8L);
+        assertThat(request.getAttribute(SnapshotFileSender.SENDFILE_END)).isEqualTo((long) CONTENT.length());
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sender.send(snapshot, request, response);
+        return response;
+    }
+}
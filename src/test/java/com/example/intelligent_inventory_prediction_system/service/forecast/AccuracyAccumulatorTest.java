@@ -0,0 +1,58 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("AccuracyAccumulator Tests")
+class AccuracyAccumulatorTest {
+
+    @Test
+    @DisplayName("Should compute MAPE, sMAPE, MASE and bias from the running sums")
+    void metrics_shouldMatchDefinitions() {
+        AccuracyAccumulator accuracy = new AccuracyAccumulator();
+        accuracy.add(10, 12, 2);
+        accuracy.add(20, 15, 2);
+        accuracy.add(0, 3, 0);
+
+        assertThat(accuracy.points()).isEqualTo(3);
+        assertThat(accuracy.mape()).isCloseTo(100 * (0.2 + 0.25) / 2, within(1e-9));
+        assertThat(accuracy.smape()).isCloseTo(100 * (4.0 / 22 + 10.0 / 35 + 2.0) / 3, within(1e-9));
+        assertThat(accuracy.mase()).isCloseTo((1.0 + 2.5) / 2, within(1e-9));
+        assertThat(accuracy.bias()).isCloseTo(0.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Should pool merged sums as if every point had been added to one accumulator")
+    void merge_shouldEqualAddingAllPoints() {
+        AccuracyAccumulator first = new AccuracyAccumulator();
+        first.add(10, 5, 1);
+        AccuracyAccumulator second = new AccuracyAccumulator();
+        second.add(30, 45, 3);
+        AccuracyAccumulator all = new AccuracyAccumulator();
+        all.add(10, 5, 1);
+        all.add(30, 45, 3);
+
+        first.merge(second);
+
+        assertThat(first.points()).isEqualTo(all.points());
+        assertThat(first.mape()).isEqualTo(all.mape());
+        assertThat(first.mase()).isEqualTo(all.mase());
+        assertThat(first.bias()).isCloseTo(25.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Should leave metrics undefined when no point qualifies")
+    void metrics_allZero_shouldBeNull() {
+        AccuracyAccumulator accuracy = new AccuracyAccumulator();
+        accuracy.add(0, 0, 0);
+
+        assertThat(accuracy.points()).isEqualTo(1);
+        assertThat(accuracy.mape()).isNull();
+        assertThat(accuracy.smape()).isNull();
+        assertThat(accuracy.mase()).isNull();
+        assertThat(accuracy.bias()).isNull();
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import com.example.intelligent_inventory_prediction_system.model.AccuracyScope;
+import com.example.intelligent_inventory_prediction_system.model.DemandHistory;
+import com.example.intelligent_inventory_prediction_system.model.ForecastAccuracy;
+import com.example.intelligent_inventory_prediction_system.model.Product;
+import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
+import com.example.intelligent_inventory_prediction_system.repository.DemandHistoryRepository;
+import com.example.intelligent_inventory_prediction_system.repository.ForecastAccuracyRepository;
+import com.example.intelligent_inventory_prediction_system.repository.ProductRepository;
+import com.example.intelligent_inventory_prediction_system.service.importer.BulkInsertWriter;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest(properties = {"inventory.forecast.parallelism=2", "inventory.backtest.horizon=7",
+        "inventory.backtest.folds=2", "inventory.backtest.min-training=21", "inventory.backtest.chunk-size=2"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({BacktestEngine.class, DemandSeriesReader.class, BulkInsertWriter.class, ForecastExecutor.class,
+        SeasonalNaiveForecaster.class, BacktestEngineTest.ZeroConfig.class})
+@DisplayName("BacktestEngine Tests")
+class BacktestEngineTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 1, 5);
+    private static final int[] WEEK = {10, 20, 30, 40, 50, 60, 0};
+
+    @TestConfiguration
+    static class ZeroConfig {
+        @Bean
+        Forecaster zeroForecaster() {
+            return new Forecaster() {
+                @Override
+                public String name() {
+                    return "zero";
+                }
+
+                @Override
+                public double[] forecast(double[] history, int horizon) {
+                    return new double[horizon];
+                }
+            };
+        }
+    }
+
+    @MockitoBean
+    private ShardedInventoryStore shardedInventoryStore;
+
+    @Autowired
+    private BacktestEngine backtestEngine;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DemandHistoryRepository demandHistoryRepository;
+
+    @Autowired
+    private ForecastAccuracyRepository forecastAccuracyRepository;
+
+    @AfterEach
+    void tearDown() {
+        forecastAccuracyRepository.deleteAllInBatch();
+        demandHistoryRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should score every model per product and category, treating missing days as zero demand")
+    void run_shouldStoreProductAndCategoryAccuracy() {
+        Product weekly = productRepository.save(product("Hammer", "Tools"));
+        Product flat = productRepository.save(product("Wrench", "Tools"));
+        Product young = productRepository.save(product("Rake", "Garden"));
+        List<DemandHistory> demand = new ArrayList<>();
+        for (int day = 0; day < 42; day++) {
+            // Sundays have no rows at all, so the weekly pattern only holds if the gaps count as zero.
+            if (WEEK[day % 7] > 0) {
+                demand.add(demand(weekly, day, WEEK[day % 7] / 2));
+                demand.add(demand(weekly, day, WEEK[day % 7] / 2));
+            }
+            demand.add(demand(flat, day, 5));
+            if (day < 20) {
+                demand.add(demand(young, day, 3));
+            }
+        }
+        demandHistoryRepository.saveAll(demand);
+
+        BacktestResult result = backtestEngine.run();
+
+        assertThat(result.products()).isEqualTo(2);
+        assertThat(result.skipped()).isEqualTo(1);
+        assertThat(result.failed()).isZero();
+        assertThat(result.categories()).isEqualTo(1);
+        assertThat(result.models()).containsExactlyInAnyOrder("seasonal-naive", "zero");
+
+        assertThat(forecastAccuracyRepository.findByScopeAndScopeKeyOrderByModelAsc(
+                AccuracyScope.PRODUCT, String.valueOf(weekly.getId())))
+                .extracting(ForecastAccuracy::getModel, ForecastAccuracy::getPoints, ForecastAccuracy::getMape,
+                        ForecastAccuracy::getMase, ForecastAccuracy::getBias)
+                .containsExactly(
+                        tuple("seasonal-naive", 14L, 0.0, null, 0.0),
+                        tuple("zero", 14L, 100.0, null, -100.0));
+        assertThat(forecastAccuracyRepository.findByScopeOrderByScopeKeyAscModelAsc(AccuracyScope.CATEGORY))
+                .extracting(ForecastAccuracy::getScopeKey, ForecastAccuracy::getModel, ForecastAccuracy::getPoints,
+                        ForecastAccuracy::getSmape)
+                .containsExactly(
+                        tuple("Tools", "seasonal-naive", 28L, 0.0),
+                        tuple("Tools", "zero", 28L, 200.0));
+        assertThat(forecastAccuracyRepository.findByScopeAndScopeKeyOrderByModelAsc(
+                AccuracyScope.PRODUCT, String.valueOf(young.getId()))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should replace the previous run's summaries")
+    void run_twice_shouldReplaceSummaries() {
+        Product product = productRepository.save(product("Saw", null));
+        List<DemandHistory> demand = new ArrayList<>();
+        for (int day = 0; day < 35; day++) {
+            demand.add(demand(product, day, 1 + day % 3));
+        }
+        demandHistoryRepository.saveAll(demand);
+
+        backtestEngine.run();
+        backtestEngine.run();
+
+        assertThat(forecastAccuracyRepository.findAll())
+                .extracting(ForecastAccuracy::getScopeKey)
+                .containsExactlyInAnyOrder(String.valueOf(product.getId()), String.valueOf(product.getId()),
+                        BacktestEngine.UNCATEGORIZED, BacktestEngine.UNCATEGORIZED);
+    }
+
+    private static DemandHistory demand(Product product, int day, int quantity) {
+        DemandHistory demand = new DemandHistory();
+        demand.setProduct(product);
+        demand.setDemandDate(START.plusDays(day));
+        demand.setQuantity(quantity);
+        return demand;
+    }
+
+    private static Product product(String name, String category) {
+        Product product = new Product();
+        product.setName(name);
+        product.setCategory(category);
+        product.setPrice(10.0);
+        product.setStatus(ProductStatus.AVAILABLE);
+        return product;
+    }
+}
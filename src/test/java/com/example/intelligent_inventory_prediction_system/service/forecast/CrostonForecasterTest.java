@@ -0,0 +1,35 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("CrostonForecaster Tests")
+class CrostonForecasterTest {
+
+    private final CrostonForecaster forecaster = new CrostonForecaster();
+
+    @Test
+    @DisplayName("Should forecast the bias-corrected demand rate of regular intermittent demand")
+    void forecast_regularIntermittentDemand_shouldForecastRate() {
+        double[] history = new double[60];
+        for (int t = 4; t < history.length; t += 5) {
+            history[t] = 10;
+        }
+
+        double[] forecast = forecaster.forecast(history, 3);
+
+        assertThat(forecast).hasSize(3);
+        for (double value : forecast) {
+            assertThat(value).isCloseTo((1 - CrostonForecaster.ALPHA / 2) * 10 / 5, within(1e-9));
+        }
+    }
+
+    @Test
+    @DisplayName("Should forecast zero without any demand")
+    void forecast_noDemand_shouldForecastZero() {
+        assertThat(forecaster.forecast(new double[10], 2)).containsExactly(0, 0);
+    }
+}
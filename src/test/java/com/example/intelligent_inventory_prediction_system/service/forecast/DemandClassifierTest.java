@@ -0,0 +1,44 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import com.example.intelligent_inventory_prediction_system.model.DemandPattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("DemandClassifier Tests")
+class DemandClassifierTest {
+
+    @Test
+    @DisplayName("Should compute ADI and CV² of the non-zero demand")
+    void classify_shouldComputeAdiAndCv2() {
+        DemandProfile profile = DemandClassifier.classify(new double[]{2, 0, 0, 6, 0, 0}, 6);
+
+        assertThat(profile.adi()).isEqualTo(3.0);
+        assertThat(profile.cv2()).isCloseTo(4.0 / 16, within(1e-12));
+        assertThat(profile.pattern()).isEqualTo(DemandPattern.INTERMITTENT);
+    }
+
+    @Test
+    @DisplayName("Should place each quadrant of ADI and CV² in its pattern")
+    void classify_shouldCoverAllPatterns() {
+        assertThat(DemandClassifier.classify(new double[]{10, 11, 9, 10, 12, 10}, 6).pattern())
+                .isEqualTo(DemandPattern.SMOOTH);
+        assertThat(DemandClassifier.classify(new double[]{1, 30, 2, 1, 25, 1}, 6).pattern())
+                .isEqualTo(DemandPattern.ERRATIC);
+        assertThat(DemandClassifier.classify(new double[]{0, 0, 5, 0, 0, 5}, 6).pattern())
+                .isEqualTo(DemandPattern.INTERMITTENT);
+        assertThat(DemandClassifier.classify(new double[]{0, 0, 1, 0, 0, 40}, 6).pattern())
+                .isEqualTo(DemandPattern.LUMPY);
+    }
+
+    @Test
+    @DisplayName("Should only look at the window and report no profile without demand in it")
+    void classify_shouldUseTheWindow() {
+        double[] series = {0, 0, 0, 0, 7, 7, 7, 7};
+
+        assertThat(DemandClassifier.classify(series, 4).pattern()).isEqualTo(DemandPattern.SMOOTH);
+        assertThat(DemandClassifier.classify(new double[]{5, 0, 0, 0}, 3)).isNull();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import java.util.Random;
+
+/**
+ * Synthetic daily demand: a level of 100 with a slight upward trend, optional weekly and yearly seasons and gaussian
+ * noise scaled by {@code noise}.
+ */
+final class DemandSeries {
+
+    private DemandSeries() {
+    }
+
+    static double[] generate(int length, int weeklyPeriod, int yearlyPeriod, double noise, Random random) {
+        double[] series = new double[length];
+        for (int t = 0; t < length; t++) {
+            series[t] = 100 + 0.05 * t + season(t, weeklyPeriod, 20) + season(t, yearlyPeriod, 30)
+                    + noise * 10 * random.nextGaussian();
+        }
+        return series;
+    }
+
+    static double[] generateMultiplicative(int length, int period, double noise, Random random) {
+        double[] series = new double[length];
+        for (int t = 0; t < length; t++) {
+            double level = 50 + 0.2 * t;
+            series[t] = level * (1 + 0.4 * Math.sin(2 * Math.PI * t / period)) * (1 + 0.02 * noise * random.nextGaussian());
+        }
+        return series;
+    }
+
+    private static double season(int t, int period, double amplitude) {
+        return period == 0 ? 0 : amplitude * Math.sin(2 * Math.PI * t / period);
+    }
+}
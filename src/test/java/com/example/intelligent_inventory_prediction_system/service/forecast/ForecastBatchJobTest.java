@@ -0,0 +1,173 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import com.example.intelligent_inventory_prediction_system.model.BatchCheckpoint;
+import com.example.intelligent_inventory_prediction_system.model.DemandHistory;
+import com.example.intelligent_inventory_prediction_system.model.DemandPattern;
+import com.example.intelligent_inventory_prediction_system.model.Inventory;
+import com.example.intelligent_inventory_prediction_system.model.ModelSelection;
+import com.example.intelligent_inventory_prediction_system.model.Product;
+import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
+import com.example.intelligent_inventory_prediction_system.repository.BatchCheckpointRepository;
+import com.example.intelligent_inventory_prediction_system.repository.DemandHistoryRepository;
+import com.example.intelligent_inventory_prediction_system.repository.InventoryPredictionRepository;
+import com.example.intelligent_inventory_prediction_system.repository.InventoryRepository;
+import com.example.intelligent_inventory_prediction_system.repository.ModelSelectionRepository;
+import com.example.intelligent_inventory_prediction_system.repository.ProductRepository;
+import com.example.intelligent_inventory_prediction_system.repository.projection.PredictionRow;
+import com.example.intelligent_inventory_prediction_system.service.batch.BatchJobRunner;
+import com.example.intelligent_inventory_prediction_system.service.batch.BatchProgress;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {"inventory.forecast.horizon=7", "inventory.forecast.batch.enabled=false",
+        "inventory.forecast.batch.chunk-size=2", "inventory.forecast.batch.duty-cycle=1"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ForecastBatchJob.class, BatchJobRunner.class, DemandSeriesReader.class, ForecastExecutor.class,
+        Predictor.class, PredictionWriter.class, ForecasterRegistry.class, SeasonalNaiveForecaster.class,
+        CrostonForecaster.class, ForecastBatchJobTest.MetricsConfig.class})
+@DisplayName("ForecastBatchJob Tests")
+class ForecastBatchJobTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 2, 2);
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @MockitoBean
+    private ShardedInventoryStore shardedInventoryStore;
+
+    @Autowired
+    private ForecastBatchJob forecastBatchJob;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private DemandHistoryRepository demandHistoryRepository;
+
+    @Autowired
+    private ModelSelectionRepository modelSelectionRepository;
+
+    @Autowired
+    private InventoryPredictionRepository inventoryPredictionRepository;
+
+    @Autowired
+    private BatchCheckpointRepository batchCheckpointRepository;
+
+    @AfterEach
+    void tearDown() {
+        batchCheckpointRepository.deleteAllInBatch();
+        inventoryPredictionRepository.deleteAllInBatch();
+        modelSelectionRepository.deleteAllInBatch();
+        demandHistoryRepository.deleteAllInBatch();
+        inventoryRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should forecast every inventory with history using its selected model")
+    void run_shouldPredictEveryInventory() {
+        List<Inventory> inventories = inventories(14, 14, 0, 14, 14);
+        select(inventories.get(3), "croston");
+
+        BatchProgress progress = forecastBatchJob.run();
+
+        assertThat(progress.status()).isEqualTo(BatchCheckpoint.Status.COMPLETED);
+        assertThat(progress.processed()).isEqualTo(5);
+        assertThat(progress.failed()).isZero();
+        assertThat(progress.lastKey()).isEqualTo(inventories.get(4).getId());
+        List<PredictionRow> rows = inventoryPredictionRepository.findRowsByInventoryIds(
+                inventories.stream().map(Inventory::getId).toList());
+        assertThat(rows).extracting(PredictionRow::inventoryId).containsExactly(inventories.get(0).getId(),
+                inventories.get(1).getId(), inventories.get(3).getId(), inventories.get(4).getId());
+        assertThat(rows).extracting(PredictionRow::model)
+                .containsExactly("seasonal-naive", "seasonal-naive", "croston", "seasonal-naive");
+        assertThat(rows.get(0).startDate()).isEqualTo(START.plusDays(14));
+    }
+
+    @Test
+    @DisplayName("Should resume an unfinished run after its checkpoint")
+    void run_unfinished_shouldResumeAfterCheckpoint() {
+        List<Inventory> inventories = inventories(14, 14, 14, 14);
+        BatchCheckpoint checkpoint = new BatchCheckpoint();
+        checkpoint.setJob(ForecastBatchJob.NAME);
+        checkpoint.setStatus(BatchCheckpoint.Status.RUNNING);
+        checkpoint.setLastKey(inventories.get(1).getId());
+        checkpoint.setProcessed(2);
+        checkpoint.setStartedAt(LocalDateTime.of(2026, 3, 1, 2, 0));
+        checkpoint.setUpdatedAt(checkpoint.getStartedAt());
+        batchCheckpointRepository.save(checkpoint);
+
+        BatchProgress progress = forecastBatchJob.run();
+
+        assertThat(progress.status()).isEqualTo(BatchCheckpoint.Status.COMPLETED);
+        assertThat(progress.processed()).isEqualTo(4);
+        assertThat(progress.startedAt()).isEqualTo(checkpoint.getStartedAt());
+        assertThat(inventoryPredictionRepository.findAll())
+                .extracting(prediction -> prediction.getInventory().getId())
+                .containsExactlyInAnyOrder(inventories.get(2).getId(), inventories.get(3).getId());
+    }
+
+    private void select(Inventory inventory, String model) {
+        ModelSelection selection = new ModelSelection();
+        selection.setInventory(inventory);
+        selection.setDemandPattern(DemandPattern.INTERMITTENT);
+        selection.setModel(model);
+        selection.setSelectedAt(LocalDateTime.now());
+        modelSelectionRepository.save(selection);
+    }
+
+    // One inventory per entry, with demand cycling through 1 to 7 units a day over that many days since START.
+    private List<Inventory> inventories(int... days) {
+        List<Inventory> inventories = new ArrayList<>();
+        for (int i = 0; i < days.length; i++) {
+            Product product = new Product();
+            product.setName("Tool " + i);
+            product.setCategory("Tools");
+            product.setPrice(10.0);
+            product.setStatus(ProductStatus.AVAILABLE);
+            Inventory inventory = new Inventory();
+            inventory.setProduct(productRepository.save(product));
+            inventory.setCurrentStock(100);
+            inventory = inventoryRepository.save(inventory);
+            List<DemandHistory> demand = new ArrayList<>();
+            for (int day = 0; day < days[i]; day++) {
+                DemandHistory row = new DemandHistory();
+                row.setProduct(product);
+                row.setDemandDate(START.plusDays(day));
+                row.setQuantity(1 + day % 7);
+                demand.add(row);
+            }
+            demandHistoryRepository.saveAll(demand);
+            inventories.add(inventory);
+        }
+        return inventories;
+    }
+}
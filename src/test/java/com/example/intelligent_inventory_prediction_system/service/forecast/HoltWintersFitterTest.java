@@ -0,0 +1,110 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import com.example.intelligent_inventory_prediction_system.service.forecast.HoltWinters.Seasonality;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("HoltWintersFitter Tests")
+class HoltWintersFitterTest {
+
+    private final ForecastExecutor forecastExecutor = new ForecastExecutor(2);
+    private final HoltWintersFitter fitter = new HoltWintersFitter(forecastExecutor, 365, 0.3, 150);
+
+    @AfterEach
+    void tearDown() {
+        forecastExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should follow a weekly season that a flat forecast misses")
+    void fit_weeklySeries_shouldForecastTheSeason() {
+        double[] history = DemandSeries.generate(730 + 28, 7, 0, 0.2, new Random(5));
+        double[] training = Arrays.copyOf(history, 730);
+
+        HoltWintersModel model = fitter.fit(training);
+
+        assertThat(model.period()).isEqualTo(7);
+        assertThat(model.seasonality()).isNotEqualTo(Seasonality.NONE);
+        double seasonalError = 0;
+        double flatError = 0;
+        for (int step = 1; step <= 28; step++) {
+            double actual = history[730 + step - 1];
+            seasonalError += Math.abs(model.forecast(step) - actual);
+            flatError += Math.abs(model.level() + step * model.trend() - actual);
+        }
+        assertThat(seasonalError / 28).isLessThan(5);
+        assertThat(seasonalError).isLessThan(flatError / 3);
+    }
+
+    @Test
+    @DisplayName("Should pick the multiplicative model when the season grows with the level")
+    void fit_multiplicativeSeries_shouldPreferMultiplicative() {
+        double[] series = DemandSeries.generateMultiplicative(730, 7, 1, new Random(9));
+
+        HoltWintersModel model = fitter.fit(series);
+
+        assertThat(model.seasonality()).isEqualTo(Seasonality.MULTIPLICATIVE);
+        assertThat(model.sse()).isLessThan(fitter.fit(series, Seasonality.ADDITIVE, 7).sse());
+    }
+
+    @Test
+    @DisplayName("Should refine the grid optimum with Nelder-Mead")
+    void fit_shouldImproveOnTheGrid() {
+        double[] series = DemandSeries.generate(365, 7, 0, 0.5, new Random(13));
+        double[] scratch = new double[7];
+
+        HoltWintersModel model = fitter.fit(series, Seasonality.ADDITIVE, 7);
+
+        double bestGrid = Double.POSITIVE_INFINITY;
+        for (double alpha : new double[]{0.1, 0.4, 0.7}) {
+            for (double beta : new double[]{0.1, 0.4, 0.7}) {
+                for (double gamma : new double[]{0.1, 0.4, 0.7}) {
+                    bestGrid = Math.min(bestGrid, HoltWinters.sse(series, Seasonality.ADDITIVE, 7, alpha, beta, gamma,
+                            scratch));
+                }
+            }
+        }
+        assertThat(model.sse()).isLessThan(bestGrid);
+        assertThat(List.of(model.alpha(), model.beta(), model.gamma())).allSatisfy(
+                parameter -> assertThat(parameter).isBetween(0.0, 1.0));
+    }
+
+    @Test
+    @DisplayName("Should fit many series in parallel and keep their order")
+    void fitAll_shouldKeepSeriesOrder() {
+        List<double[]> series = new ArrayList<>();
+        Random random = new Random(17);
+        for (int i = 0; i < 40; i++) {
+            series.add(i % 2 == 0 ? DemandSeries.generate(200, 7, 0, 0.2, random)
+                    : DemandSeries.generate(200, 0, 0, 0.2, random));
+        }
+
+        List<HoltWintersModel> models = fitter.fitAll(series);
+
+        assertThat(models).hasSize(40);
+        for (int i = 0; i < 40; i++) {
+            assertThat(models.get(i).period()).as("series %d", i).isEqualTo(i % 2 == 0 ? 7 : 0);
+            assertThat(models.get(i).observations()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject series too short for the model")
+    void fit_whenSeriesTooShort_shouldReject() {
+        assertThatThrownBy(() -> fitter.fit(new double[]{1}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> fitter.fit(new double[10], Seasonality.ADDITIVE, 7))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> fitter.fit(new double[20], Seasonality.MULTIPLICATIVE, 7))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
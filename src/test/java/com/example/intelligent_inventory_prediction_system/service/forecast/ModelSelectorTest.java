@@ -0,0 +1,159 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import com.example.intelligent_inventory_prediction_system.model.DemandHistory;
+import com.example.intelligent_inventory_prediction_system.model.DemandPattern;
+import com.example.intelligent_inventory_prediction_system.model.Inventory;
+import com.example.intelligent_inventory_prediction_system.model.ModelSelection;
+import com.example.intelligent_inventory_prediction_system.model.Product;
+import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
+import com.example.intelligent_inventory_prediction_system.repository.DemandHistoryRepository;
+import com.example.intelligent_inventory_prediction_system.repository.InventoryRepository;
+import com.example.intelligent_inventory_prediction_system.repository.ModelSelectionRepository;
+import com.example.intelligent_inventory_prediction_system.repository.ProductRepository;
+import com.example.intelligent_inventory_prediction_system.service.importer.BulkInsertWriter;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {"inventory.forecast.parallelism=2", "inventory.backtest.horizon=7",
+        "inventory.backtest.folds=2", "inventory.backtest.min-training=21",
+        "inventory.forecast.selection.window-days=28", "inventory.forecast.selection.chunk-size=1"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ModelSelector.class, ForecasterRegistry.class, BacktestEngine.class, DemandSeriesReader.class,
+        BulkInsertWriter.class, ForecastExecutor.class, SeasonalNaiveForecaster.class, CrostonForecaster.class,
+        HoltWintersForecaster.class, HoltWintersFitter.class})
+@DisplayName("ModelSelector Tests")
+class ModelSelectorTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 1, 5);
+
+    @MockitoBean
+    private ShardedInventoryStore shardedInventoryStore;
+
+    @Autowired
+    private ModelSelector modelSelector;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private DemandHistoryRepository demandHistoryRepository;
+
+    @Autowired
+    private ModelSelectionRepository modelSelectionRepository;
+
+    @AfterEach
+    void tearDown() {
+        modelSelectionRepository.deleteAllInBatch();
+        demandHistoryRepository.deleteAllInBatch();
+        inventoryRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should pick a model suited to each pattern and only reselect inventories whose pattern changed")
+    void run_shouldSelectPerPatternAndRunIncrementally() {
+        Inventory steady = inventory("Hammer");
+        Inventory sporadic = inventory("Anvil");
+        List<DemandHistory> demand = new ArrayList<>();
+        for (int day = 0; day < 60; day++) {
+            demand.add(demand(steady, day, 20 + day % 7));
+            if (day % 5 == 4) {
+                demand.add(demand(sporadic, day, 10));
+            }
+        }
+        demandHistoryRepository.saveAll(demand);
+
+        SelectionResult first = modelSelector.run();
+
+        assertThat(first.inventories()).isEqualTo(2);
+        assertThat(first.selected()).isEqualTo(2);
+        assertThat(first.failed()).isZero();
+        ModelSelection steadyModel = modelSelectionRepository.findByInventoryId(steady.getId()).orElseThrow();
+        assertThat(steadyModel.getDemandPattern()).isEqualTo(DemandPattern.SMOOTH);
+        assertThat(steadyModel.getModel()).isIn("holt-winters", "seasonal-naive");
+        assertThat(steadyModel.getMae()).isNotNull();
+        ModelSelection sporadicModel = modelSelectionRepository.findByInventoryId(sporadic.getId()).orElseThrow();
+        assertThat(sporadicModel.getDemandPattern()).isEqualTo(DemandPattern.INTERMITTENT);
+        assertThat(sporadicModel.getModel()).isIn("croston", "seasonal-naive");
+
+        SelectionResult second = modelSelector.run();
+
+        assertThat(second.unchanged()).isEqualTo(2);
+        assertThat(second.selected()).isZero();
+
+        List<DemandHistory> daily = new ArrayList<>();
+        for (int day = 60; day < 90; day++) {
+            daily.add(demand(sporadic, day, 2));
+        }
+        demandHistoryRepository.saveAll(daily);
+
+        SelectionResult third = modelSelector.run();
+
+        assertThat(third.unchanged()).isEqualTo(1);
+        assertThat(third.selected()).isEqualTo(1);
+        assertThat(modelSelectionRepository.findByInventoryId(sporadic.getId()).orElseThrow().getDemandPattern())
+                .isEqualTo(DemandPattern.SMOOTH);
+        assertThat(modelSelectionRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep the champion unless a challenger beats it by the margin")
+    void champion_shouldRequireTheMarginToSwitch() {
+        List<Forecaster> candidates = List.of(new SeasonalNaiveForecaster(), new CrostonForecaster());
+        AccuracyAccumulator naive = accuracy(10);
+        AccuracyAccumulator slightlyBetter = accuracy(9.8);
+        AccuracyAccumulator muchBetter = accuracy(8);
+
+        assertThat(modelSelector.champion(candidates, new AccuracyAccumulator[]{naive, slightlyBetter}, null))
+                .isEqualTo(1);
+        assertThat(modelSelector.champion(candidates,
+                new AccuracyAccumulator[]{naive, slightlyBetter}, "seasonal-naive")).isZero();
+        assertThat(modelSelector.champion(candidates,
+                new AccuracyAccumulator[]{naive, muchBetter}, "seasonal-naive")).isEqualTo(1);
+        assertThat(modelSelector.champion(candidates, null, "croston")).isEqualTo(1);
+        assertThat(modelSelector.champion(candidates, null, null)).isZero();
+    }
+
+    private static AccuracyAccumulator accuracy(double absoluteError) {
+        AccuracyAccumulator accuracy = new AccuracyAccumulator();
+        accuracy.add(100, 100 + absoluteError, 1);
+        return accuracy;
+    }
+
+    private Inventory inventory(String name) {
+        Product product = new Product();
+        product.setName(name);
+        product.setCategory("Tools");
+        product.setPrice(10.0);
+        product.setStatus(ProductStatus.AVAILABLE);
+        Inventory inventory = new Inventory();
+        inventory.setProduct(productRepository.save(product));
+        inventory.setCurrentStock(100);
+        return inventoryRepository.save(inventory);
+    }
+
+    private static DemandHistory demand(Inventory inventory, int day, int quantity) {
+        DemandHistory demand = new DemandHistory();
+        demand.setProduct(inventory.getProduct());
+        demand.setDemandDate(START.plusDays(day));
+        demand.setQuantity(quantity);
+        return demand;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static com.example.intelligent_inventory_prediction_system.constants.InventoryConstant.MAX_FORECAST_HORIZON_DAYS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Predictor Tests")
+class PredictorTest {
+
+    private final Predictor predictor = new Predictor(
+            new ForecasterRegistry(List.of(new SeasonalNaiveForecaster(), new CrostonForecaster())), 14);
+
+    @Test
+    @DisplayName("Should fall back to the seasonal naive model for unknown or missing models")
+    void resolve_unknownModel_shouldFallBack() {
+        assertThat(predictor.resolve("croston").name()).isEqualTo("croston");
+        assertThat(predictor.resolve("arima").name()).isEqualTo(Predictor.FALLBACK_MODEL);
+        assertThat(predictor.resolve(null).name()).isEqualTo(Predictor.FALLBACK_MODEL);
+    }
+
+    @Test
+    @DisplayName("Should put the point forecast at P50 with no spread when the holdout is forecast exactly")
+    void predict_exactlyPeriodicHistory_shouldHaveNoSpread() {
+        double[] history = new double[56];
+        for (int t = 0; t < history.length; t++) {
+            history[t] = 10 * (1 + t % 7);
+        }
+
+        QuantileForecast forecast = predictor.predict(history, predictor.resolve("seasonal-naive"));
+
+        assertThat(forecast.horizon()).isEqualTo(14);
+        assertThat(forecast.p50()).startsWith(10, 20, 30, 40, 50, 60, 70, 10);
+        assertThat(forecast.p10()).containsExactly(forecast.p50());
+        assertThat(forecast.p90()).containsExactly(forecast.p50());
+    }
+
+    @Test
+    @DisplayName("Should widen the band with noisier history and never go below zero")
+    void predict_noisyHistory_shouldBracketTheMedian() {
+        Random random = new Random(3);
+        double[] history = new double[90];
+        for (int t = 0; t < history.length; t++) {
+            history[t] = Math.max(0, 5 + 4 * random.nextGaussian());
+        }
+
+        QuantileForecast forecast = predictor.predict(history, predictor.resolve("seasonal-naive"));
+
+        for (int day = 0; day < forecast.horizon(); day++) {
+            assertThat(forecast.p10()[day]).isBetween(0L, forecast.p50()[day]);
+            assertThat(forecast.p90()[day]).isGreaterThan(forecast.p50()[day]);
+        }
+    }
+
+    @Test
+    @DisplayName("Should refuse a horizon longer than the stored quantiles can hold")
+    void constructor_horizonTooLong_shouldThrow() {
+        ForecasterRegistry registry = new ForecasterRegistry(List.of(new SeasonalNaiveForecaster()));
+
+        assertThat(new Predictor(registry, MAX_FORECAST_HORIZON_DAYS).getHorizon()).isEqualTo(MAX_FORECAST_HORIZON_DAYS);
+        assertThatThrownBy(() -> new Predictor(registry, MAX_FORECAST_HORIZON_DAYS + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
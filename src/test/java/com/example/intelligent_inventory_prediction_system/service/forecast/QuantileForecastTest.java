@@ -0,0 +1,69 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static com.example.intelligent_inventory_prediction_system.constants.InventoryConstant.MAX_FORECAST_HORIZON_DAYS;
+import static com.example.intelligent_inventory_prediction_system.constants.InventoryConstant.MAX_PACKED_QUANTILES_BYTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("QuantileForecast Tests")
+class QuantileForecastTest {
+
+    @Test
+    @DisplayName("Should unpack exactly what was packed, in a few bytes per day")
+    void pack_shouldRoundTripCompactly() {
+        int horizon = 28;
+        long[] p10 = new long[horizon];
+        long[] p50 = new long[horizon];
+        long[] p90 = new long[horizon];
+        for (int day = 0; day < horizon; day++) {
+            p50[day] = 40 + day % 7 * 5;
+            p10[day] = p50[day] - 12;
+            p90[day] = p50[day] + 15;
+        }
+
+        byte[] packed = new QuantileForecast(p10, p50, p90).pack();
+        QuantileForecast unpacked = QuantileForecast.unpack(packed);
+
+        assertThat(unpacked.p10()).containsExactly(p10);
+        assertThat(unpacked.p50()).containsExactly(p50);
+        assertThat(unpacked.p90()).containsExactly(p90);
+        assertThat(packed.length).isLessThanOrEqualTo(2 + 3 * horizon + 1);
+    }
+
+    @Test
+    @DisplayName("Should fit the longest horizon of extreme quantiles in the stored column")
+    void pack_longestHorizon_shouldFitColumn() {
+        long[] p10 = new long[MAX_FORECAST_HORIZON_DAYS];
+        long[] p50 = new long[MAX_FORECAST_HORIZON_DAYS];
+        long[] p90 = new long[MAX_FORECAST_HORIZON_DAYS];
+        for (int day = 0; day < MAX_FORECAST_HORIZON_DAYS; day++) {
+            p50[day] = day % 2 == 0 ? Long.MAX_VALUE : 0;
+            p90[day] = Long.MAX_VALUE;
+        }
+
+        byte[] packed = new QuantileForecast(p10, p50, p90).pack();
+
+        assertThat(packed.length).isGreaterThan(255).isLessThanOrEqualTo(MAX_PACKED_QUANTILES_BYTES);
+        assertThat(QuantileForecast.unpack(packed).p50()).containsExactly(p50);
+    }
+
+    @Test
+    @DisplayName("Should reject quantiles out of order and truncated or foreign blobs")
+    void invalidInput_shouldThrow() {
+        assertThatThrownBy(() -> new QuantileForecast(new long[]{5}, new long[]{4}, new long[]{6}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new QuantileForecast(new long[]{1}, new long[]{2}, new long[0]))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        byte[] packed = new QuantileForecast(new long[]{1, 2}, new long[]{3, 4}, new long[]{5, 6}).pack();
+        byte[] truncated = Arrays.copyOf(packed, packed.length - 1);
+        assertThatThrownBy(() -> QuantileForecast.unpack(truncated)).isInstanceOf(IllegalArgumentException.class);
+        packed[0] = 9;
+        assertThatThrownBy(() -> QuantileForecast.unpack(packed)).hasMessageContaining("format");
+    }
+}
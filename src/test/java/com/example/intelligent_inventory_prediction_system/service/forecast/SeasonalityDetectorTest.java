@@ -0,0 +1,90 @@
+package com.example.intelligent_inventory_prediction_system.service.forecast;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("SeasonalityDetector Tests")
+class SeasonalityDetectorTest {
+
+    @Test
+    @DisplayName("Should match the autocorrelation computed directly")
+    void autocorrelation_shouldMatchDirectComputation() {
+        double[] series = new double[100];
+        Random random = new Random(1);
+        for (int t = 0; t < series.length; t++) {
+            series[t] = random.nextGaussian() + Math.sin(t / 3.0);
+        }
+
+        double[] acf = SeasonalityDetector.autocorrelation(series, 20);
+
+        double[] detrended = detrend(series);
+        double variance = 0;
+        for (double value : detrended) {
+            variance += value * value;
+        }
+        for (int lag = 0; lag <= 20; lag++) {
+            double sum = 0;
+            for (int t = lag; t < series.length; t++) {
+                sum += detrended[t] * detrended[t - lag];
+            }
+            assertThat(acf[lag]).as("lag %d", lag).isCloseTo(sum / variance, within(1e-9));
+        }
+    }
+
+    @Test
+    @DisplayName("Should find a weekly season under trend and noise, not its multiples")
+    void detectPeriod_shouldFindWeeklySeason() {
+        double[] series = DemandSeries.generate(730, 7, 0, 0.4, new Random(7));
+
+        assertThat(SeasonalityDetector.detectPeriod(series, 365, 0.3)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should find a yearly season when that dominates")
+    void detectPeriod_shouldFindYearlySeason() {
+        double[] series = DemandSeries.generate(730, 0, 365, 0.2, new Random(11));
+
+        assertThat(SeasonalityDetector.detectPeriod(series, 365, 0.3)).isBetween(360, 365);
+    }
+
+    @Test
+    @DisplayName("Should report no season for noise or a pure trend")
+    void detectPeriod_withoutSeason_shouldReturnZero() {
+        Random random = new Random(3);
+        double[] noise = new double[730];
+        double[] trend = new double[730];
+        for (int t = 0; t < noise.length; t++) {
+            noise[t] = 50 + random.nextGaussian();
+            trend[t] = 10 + 0.5 * t;
+        }
+
+        assertThat(SeasonalityDetector.detectPeriod(noise, 365, 0.3)).isZero();
+        assertThat(SeasonalityDetector.detectPeriod(trend, 365, 0.3)).isZero();
+    }
+
+    private static double[] detrend(double[] series) {
+        int n = series.length;
+        double meanT = (n - 1) / 2.0;
+        double meanY = 0;
+        for (double value : series) {
+            meanY += value;
+        }
+        meanY /= n;
+        double covariance = 0;
+        double variance = 0;
+        for (int t = 0; t < n; t++) {
+            covariance += (t - meanT) * (series[t] - meanY);
+            variance += (t - meanT) * (t - meanT);
+        }
+        double[] detrended = new double[n];
+        for (int t = 0; t < n; t++) {
+            detrended[t] = series[t] - meanY - covariance / variance * (t - meanT);
+        }
+        return detrended;
+    }
+}
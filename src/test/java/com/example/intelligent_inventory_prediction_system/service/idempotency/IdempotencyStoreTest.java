@@ -0,0 +1,100 @@
+package com.example.intelligent_inventory_prediction_system.service.idempotency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IdempotencyStore Tests")
+class IdempotencyStoreTest {
+
+    private static final IdempotentResponse CREATED =
+            new IdempotentResponse(201, "application/json", "{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    @Test
+    @DisplayName("Should reject duplicates while running and replay the response once completed")
+    void claim_shouldRejectInFlightAndReplayCompleted() {
+        IdempotencyStore store = memoryStore(100);
+
+        assertThat(store.claim("key-1", "a").outcome()).isEqualTo(IdempotencyStore.Claim.Outcome.ACQUIRED);
+        assertThat(store.claim("key-1", "a").outcome()).isEqualTo(IdempotencyStore.Claim.Outcome.IN_FLIGHT);
+        assertThat(store.claim("key-1", "b").outcome()).isEqualTo(IdempotencyStore.Claim.Outcome.MISMATCH);
+
+        store.complete("key-1", "a", CREATED);
+
+        IdempotencyStore.Claim replay = store.claim("key-1", "a");
+        assertThat(replay.outcome()).isEqualTo(IdempotencyStore.Claim.Outcome.COMPLETED);
+        assertThat(replay.response()).isSameAs(CREATED);
+    }
+
+    @Test
+    @DisplayName("Should let a retry run again after a released claim or an expired key")
+    void claim_afterReleaseOrExpiry_shouldAcquire() {
+        IdempotencyStore store = memoryStore(100);
+        store.claim("released", "a");
+        store.release("released", "a");
+        store.claim("expiring", "a");
+        store.complete("expiring", "a", CREATED);
+
+        assertThat(store.claim("released", "a").outcome()).isEqualTo(IdempotencyStore.Claim.Outcome.ACQUIRED);
+        now.addAndGet(60_001);
+        assertThat(store.claim("expiring", "a").outcome()).isEqualTo(IdempotencyStore.Claim.Outcome.ACQUIRED);
+    }
+
+    @Test
+    @DisplayName("Should evict the oldest completed keys beyond the bound but keep running ones")
+    void claim_overCapacity_shouldEvictOldestCompleted() {
+        IdempotencyStore store = memoryStore(3);
+        store.claim("running", "a");
+        for (int i = 0; i < 5; i++) {
+            store.claim("done-" + i, "a");
+            store.complete("done-" + i, "a", CREATED);
+        }
+
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.claim("running", "a").outcome()).isEqualTo(IdempotencyStore.Claim.Outcome.IN_FLIGHT);
+        assertThat(store.claim("done-4", "a").outcome()).isEqualTo(IdempotencyStore.Claim.Outcome.COMPLETED);
+        assertThat(store.claim("done-0", "a").outcome()).isEqualTo(IdempotencyStore.Claim.Outcome.ACQUIRED);
+    }
+
+    @Test
+    @DisplayName("Should share keys between instances through the database table")
+    void claim_withJdbc_shouldShareKeysAcrossInstances() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:idempotency-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""));
+        IdempotencyStore first = jdbcStore(jdbcTemplate);
+        IdempotencyStore second = jdbcStore(jdbcTemplate);
+
+        assertThat(first.claim("key-1", "a").outcome()).isEqualTo(IdempotencyStore.Claim.Outcome.ACQUIRED);
+        assertThat(second.claim("key-1", "a").outcome()).isEqualTo(IdempotencyStore.Claim.Outcome.IN_FLIGHT);
+        first.complete("key-1", "a", CREATED);
+
+        IdempotencyStore.Claim replay = second.claim("key-1", "a");
+        assertThat(replay.outcome()).isEqualTo(IdempotencyStore.Claim.Outcome.COMPLETED);
+        assertThat(replay.response().status()).isEqualTo(201);
+        assertThat(replay.response().body()).isEqualTo(CREATED.body());
+
+        assertThat(first.claim("key-2", "a").outcome()).isEqualTo(IdempotencyStore.Claim.Outcome.ACQUIRED);
+        now.addAndGet(5_001);
+        assertThat(second.claim("key-2", "a").outcome()).isEqualTo(IdempotencyStore.Claim.Outcome.ACQUIRED);
+    }
+
+    private IdempotencyStore memoryStore(int maxEntries) {
+        return new IdempotencyStore(null, false, 60_000, 5_000, maxEntries, now::get);
+    }
+
+    private IdempotencyStore jdbcStore(JdbcTemplate jdbcTemplate) {
+        IdempotencyStore store = new IdempotencyStore(jdbcTemplate, true, 60_000, 5_000, 100, now::get);
+        store.initialize();
+        store.shutdown();
+        return store;
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.intelligent_inventory_prediction_system.service.importer;
+
+import com.example.intelligent_inventory_prediction_system.dto.response.ImportJobResponseDTO;
+import com.example.intelligent_inventory_prediction_system.model.Product;
+import com.example.intelligent_inventory_prediction_system.repository.ProductRepository;
+import com.example.intelligent_inventory_prediction_system.service.catalog.ProductIdFilter;
+import com.example.intelligent_inventory_prediction_system.service.change.ChangeLog;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardWriteOutbox;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
+import com.example.intelligent_inventory_prediction_system.service.stock.StockChangePublisher;
+import com.example.intelligent_inventory_prediction_system.validator.InventoryValidator;
+import com.example.intelligent_inventory_prediction_system.validator.ProductValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = "inventory.import.directory=target/test-imports")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CsvImportService.class, ImportJobRegistry.class, BulkInsertWriter.class, ProductCsvImporter.class,
+        InventoryCsvImporter.class, DemandCsvImporter.class, ProductValidator.class, InventoryValidator.class,
+        ChangeLog.class, ProductIdFilter.class, BulkInsertWriterTest.CopyConfig.class})
+@DisplayName("BulkInsertWriter Tests")
+class BulkInsertWriterTest {
+
+    private static final String REJECTED_NAME = "Rejected by database";
+
+    /**
+     * Makes the test database look like PostgreSQL to the writer: its COPY inserts each CSV record with a plain
+     * INSERT, and fails the whole COPY like a check constraint would when a record names {@link #REJECTED_NAME}.
+     */
+    @TestConfiguration
+    static class CopyConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        static BeanPostProcessor copyingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return copying(super.getConnection());
+                        }
+                    };
+                }
+            };
+        }
+
+        private static Connection copying(Connection connection) throws SQLException {
+            CopyManager copyManager = mock(CopyManager.class);
+            try {
+                doAnswer(invocation -> copy(connection, invocation.getArgument(0), invocation.getArgument(1)))
+                        .when(copyManager).copyIn(anyString(), any(Reader.class));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            PGConnection pgConnection = mock(PGConnection.class);
+            when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        if (args != null && args.length == 1 && args[0] == PGConnection.class) {
+                            return method.getName().equals("isWrapperFor") ? Boolean.TRUE : pgConnection;
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+
+        private static long copy(Connection connection, String sql, Reader csv) throws IOException, SQLException {
+            String table = sql.substring("COPY ".length(), sql.indexOf(" ("));
+            String columns = sql.substring(sql.indexOf('(') + 1, sql.indexOf(')'));
+            List<List<String>> records = new ArrayList<>();
+            try (CsvReader reader = new CsvReader(csv)) {
+                List<String> record;
+                while ((record = reader.readRecord()) != null) {
+                    if (record.contains(REJECTED_NAME)) {
+                        throw new PSQLException("ERROR: new row for relation " + table
+                                + " violates check constraint", PSQLState.CHECK_VIOLATION);
+                    }
+                    records.add(record);
+                }
+            }
+            String insert = "INSERT INTO " + table + " (" + columns + ") VALUES ("
+                    + "?, ".repeat(columns.split(",").length - 1) + "?)";
+            try (PreparedStatement statement = connection.prepareStatement(insert)) {
+                for (List<String> record : records) {
+                    for (int i = 0; i < record.size(); i++) {
+                        statement.setString(i + 1, record.get(i).isEmpty() ? null : record.get(i));
+                    }
+                    statement.executeUpdate();
+                }
+            }
+            return records.size();
+        }
+    }
+
+    @Autowired
+    private CsvImportService csvImportService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @MockitoBean
+    private StockChangePublisher stockChangePublisher;
+
+    @MockitoBean
+    private ShardedInventoryStore shardedInventoryStore;
+
+    @MockitoBean
+    private ShardWriteOutbox shardWriteOutbox;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should retry a failed COPY row by row and report the row the database rejected")
+    void importCsv_copyFails_shouldRejectOnlyTheBadRow() throws IOException {
+        String csv = "name,description,category,price,status\n"
+                + "Gaming Laptop,,Electronics,1499.99,AVAILABLE\n"
+                + REJECTED_NAME + ",,Electronics,10,AVAILABLE\n"
+                + "Desk Lamp,,Furniture,25,AVAILABLE\n";
+
+        ImportJobResponseDTO job = csvImportService.importCsv(ImportType.PRODUCTS,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), csv.length(), null);
+
+        assertThat(job.getStatus()).isEqualTo("COMPLETED");
+        assertThat(job.getRowsImported()).isEqualTo(2);
+        assertThat(job.getRowsRejected()).isEqualTo(1);
+        assertThat(productRepository.findAll()).extracting(Product::getName)
+                .containsExactlyInAnyOrder("Gaming Laptop", "Desk Lamp");
+        List<String> report = Files.readAllLines(csvImportService.getRejectedRows(job.getJobId()));
+        assertThat(report).hasSize(2);
+        assertThat(report.get(1)).startsWith("3,").contains("violates check constraint", REJECTED_NAME);
+    }
+}
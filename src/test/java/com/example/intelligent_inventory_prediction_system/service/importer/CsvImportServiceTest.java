@@ -0,0 +1,250 @@
+package com.example.intelligent_inventory_prediction_system.service.importer;
+
+import com.example.intelligent_inventory_prediction_system.dto.response.ImportJobResponseDTO;
+import com.example.intelligent_inventory_prediction_system.model.DemandHistory;
+import com.example.intelligent_inventory_prediction_system.model.Product;
+import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
+import com.example.intelligent_inventory_prediction_system.repository.DemandHistoryRepository;
+import com.example.intelligent_inventory_prediction_system.repository.InventoryRepository;
+import com.example.intelligent_inventory_prediction_system.repository.ProductRepository;
+import com.example.intelligent_inventory_prediction_system.service.catalog.ProductIdFilter;
+import com.example.intelligent_inventory_prediction_system.service.change.ChangeLog;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardWriteOutbox;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
+import com.example.intelligent_inventory_prediction_system.service.stock.StockChangePublisher;
+import com.example.intelligent_inventory_prediction_system.validator.InventoryValidator;
+import com.example.intelligent_inventory_prediction_system.validator.ProductValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import static com.example.intelligent_inventory_prediction_system.constants.ImportConstants.IMPORT_BATCH_SIZE;
+import static com.example.intelligent_inventory_prediction_system.constants.ImportConstants.IMPORT_INVENTORIES_DISABLED_MESSAGE;
+import static com.example.intelligent_inventory_prediction_system.constants.ImportConstants.IMPORT_INVENTORIES_SHARDED_MESSAGE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = "inventory.import.directory=target/test-imports")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CsvImportService.class, ImportJobRegistry.class, BulkInsertWriter.class, ProductCsvImporter.class,
+        InventoryCsvImporter.class, DemandCsvImporter.class, ProductValidator.class, InventoryValidator.class, ChangeLog.class,
+        ProductIdFilter.class, CsvImportServiceTest.MetricsConfig.class})
+@DisplayName("CsvImportService Tests")
+class CsvImportServiceTest {
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private ProductIdFilter productIdFilter;
+
+    @Autowired
+    private CsvImportService csvImportService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private DemandHistoryRepository demandHistoryRepository;
+
+    @MockitoBean
+    private StockChangePublisher stockChangePublisher;
+
+    @MockitoBean
+    private ShardedInventoryStore shardedInventoryStore;
+
+    @MockitoBean
+    private ShardWriteOutbox shardWriteOutbox;
+
+    @AfterEach
+    void tearDown() {
+        demandHistoryRepository.deleteAllInBatch();
+        inventoryRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should import valid products and report invalid rows")
+    void importCsv_products_shouldImportValidRowsAndRejectInvalid() throws IOException {
+        productIdFilter.load();
+        String csv = """
+                name,description,category,price,status
+                Gaming Laptop,"Fast, light",Electronics,1499.99,AVAILABLE
+                ,No name,Electronics,10,AVAILABLE
+                Desk Lamp,,Furniture,not-a-price,available
+                Office Chair,,Furniture,120,DISCONTINUED
+                Bookshelf,,Furniture,80,not_available
+                """;
+
+        ImportJobResponseDTO job = csvImportService.importCsv(ImportType.PRODUCTS, stream(csv), csv.length(), null);
+
+        assertThat(job.getStatus()).isEqualTo("COMPLETED");
+        assertThat(job.getRowsImported()).isEqualTo(2);
+        assertThat(job.getRowsRejected()).isEqualTo(3);
+        assertThat(job.getPercentComplete()).isEqualTo(100.0);
+        assertThat(productRepository.findAll())
+                .extracting(Product::getName, Product::getStatus)
+                .containsExactlyInAnyOrder(
+                        tuple("Gaming Laptop", ProductStatus.AVAILABLE),
+                        tuple("Bookshelf", ProductStatus.NOT_AVAILABLE));
+        assertThat(productRepository.findAll())
+                .extracting(Product::getChangeSeq)
+                .doesNotContainNull()
+                .doesNotHaveDuplicates();
+        assertThat(productRepository.findAll())
+                .allSatisfy(product -> assertThat(productIdFilter.mightExist(product.getId())).isTrue());
+
+        List<String> report = Files.readAllLines(csvImportService.getRejectedRows(job.getJobId()));
+        assertThat(report).hasSize(4);
+        assertThat(report.get(0)).isEqualTo("line,reason,name,description,category,price,status");
+        assertThat(report.get(2)).startsWith("4,").contains("not-a-price");
+        assertThat(report.get(3)).startsWith("5,").contains("DISCONTINUED");
+    }
+
+    @Test
+    @DisplayName("Should import opening stock, rejecting unknown products and duplicates, and publish changes")
+    void importCsv_inventories_shouldRejectUnknownAndDuplicateProducts() {
+        Product laptop = productRepository.save(product("Gaming Laptop"));
+        Product lamp = productRepository.save(product("Desk Lamp"));
+        productIdFilter.added(laptop.getId());
+        productIdFilter.added(lamp.getId());
+        String csv = "productId,currentStock,reorderThreshold\n"
+                + laptop.getId() + ",50,10\n"
+                + lamp.getId() + ",5,\n"
+                + laptop.getId() + ",7,1\n"
+                + "999999,3,1\n"
+                + lamp.getId() + ",-1,\n";
+
+        ImportJobResponseDTO job = csvImportService.importCsv(ImportType.INVENTORIES, stream(csv), -1, null);
+
+        assertThat(job.getRowsImported()).isEqualTo(2);
+        assertThat(job.getRowsRejected()).isEqualTo(3);
+        assertThat(job.getTotalBytes()).isNull();
+        assertThat(inventoryRepository.findAll()).hasSize(2);
+        verify(stockChangePublisher).publishStockChange(any(), eq(50), eq(10));
+        verify(stockChangePublisher).publishStockChange(any(), eq(5), isNull());
+    }
+
+    @Test
+    @DisplayName("Should import daily demand, rejecting unknown products, bad dates and negative quantities")
+    void importCsv_demand_shouldRejectUnknownProductsAndInvalidRows() {
+        Product laptop = productRepository.save(product("Gaming Laptop"));
+        productIdFilter.added(laptop.getId());
+        String csv = "productId,date,quantity\n"
+                + laptop.getId() + ",2026-03-01,4\n"
+                + laptop.getId() + ",2026-03-01,2\n"
+                + laptop.getId() + ",2026-03-02,0\n"
+                + "999999,2026-03-01,1\n"
+                + laptop.getId() + ",03/01/2026,1\n"
+                + laptop.getId() + ",2026-03-03,-1\n";
+
+        ImportJobResponseDTO job = csvImportService.importCsv(ImportType.DEMAND, stream(csv), csv.length(), null);
+
+        assertThat(job.getRowsImported()).isEqualTo(3);
+        assertThat(job.getRowsRejected()).isEqualTo(3);
+        assertThat(demandHistoryRepository.findAll())
+                .extracting(demand -> demand.getProduct().getId(), DemandHistory::getQuantity)
+                .containsExactlyInAnyOrder(
+                        tuple(laptop.getId(), 4), tuple(laptop.getId(), 2), tuple(laptop.getId(), 0));
+    }
+
+    @Test
+    @DisplayName("Should resume a failed job after its last committed batch")
+    void importCsv_resume_shouldSkipCommittedRows() {
+        StringBuilder csv = new StringBuilder("name,description,category,price,status\n");
+        for (int i = 0; i < IMPORT_BATCH_SIZE + 2; i++) {
+            csv.append("Product ").append(i).append(",,Electronics,10,AVAILABLE\n");
+        }
+        String firstBatch = csv.substring(0, csv.indexOf("Product " + IMPORT_BATCH_SIZE + ","));
+        InputStream interrupted = new SequenceInputStream(stream(firstBatch), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Connection reset");
+            }
+        });
+
+        String jobId = csvImportService.createJob(ImportType.PRODUCTS).getJobId();
+
+        assertThatThrownBy(() -> csvImportService.importCsv(ImportType.PRODUCTS, interrupted, -1, jobId))
+                .isInstanceOf(UncheckedIOException.class);
+        assertThat(csvImportService.getJob(jobId).getStatus()).isEqualTo("FAILED");
+        assertThat(csvImportService.getJob(jobId).getCommittedRows()).isEqualTo(IMPORT_BATCH_SIZE);
+
+        ImportJobResponseDTO resumed = csvImportService.importCsv(
+                ImportType.PRODUCTS, stream(csv.toString()), csv.length(), jobId);
+
+        assertThat(resumed.getStatus()).isEqualTo("COMPLETED");
+        assertThat(resumed.getRowsImported()).isEqualTo(IMPORT_BATCH_SIZE + 2);
+        assertThat(productRepository.count()).isEqualTo(IMPORT_BATCH_SIZE + 2);
+    }
+
+    @Test
+    @DisplayName("Should reject a header missing required columns")
+    void importCsv_missingColumns_shouldThrow() {
+        assertThatThrownBy(() -> csvImportService.importCsv(ImportType.INVENTORIES,
+                stream("productId,stock\n1,2\n"), -1, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("currentStock");
+    }
+
+    @Test
+    @DisplayName("Should refuse to start the inventory importer alongside sharding unless it is disabled")
+    void inventoryImporter_sharded_shouldRequireImportDisabled() {
+        when(shardedInventoryStore.isEnabled()).thenReturn(true);
+
+        assertThatThrownBy(() -> new InventoryCsvImporter(null, null, null, null, null, null, shardedInventoryStore, true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage(IMPORT_INVENTORIES_SHARDED_MESSAGE);
+        InventoryCsvImporter disabled = new InventoryCsvImporter(null, null, null, null, null, null,
+                shardedInventoryStore, false);
+        assertThatThrownBy(disabled::checkAvailable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(IMPORT_INVENTORIES_DISABLED_MESSAGE);
+    }
+
+    private static InputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Product product(String name) {
+        Product product = new Product();
+        product.setName(name);
+        product.setCategory("Electronics");
+        product.setPrice(100.0);
+        product.setStatus(ProductStatus.AVAILABLE);
+        return product;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.intelligent_inventory_prediction_system.service.importer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CsvReader Tests")
+class CsvReaderTest {
+
+    @Test
+    @DisplayName("Should parse quoted fields, escaped quotes and embedded line breaks")
+    void readRecord_quotedFields_shouldUnescape() throws IOException {
+        List<List<String>> records = readAll("name,description\r\n\"Lamp, desk\",\"He said \"\"hi\"\"\nthen left\"\r\n");
+
+        assertThat(records).containsExactly(
+                List.of("name", "description"),
+                List.of("Lamp, desk", "He said \"hi\"\nthen left"));
+    }
+
+    @Test
+    @DisplayName("Should skip blank lines, strip a byte order mark and keep empty trailing fields")
+    void readRecord_blankLinesAndBom_shouldBeIgnored() throws IOException {
+        List<List<String>> records = readAll("﻿a,b\n\n1,\n\r\n2,3");
+
+        assertThat(records).containsExactly(List.of("a", "b"), List.of("1", ""), List.of("2", "3"));
+    }
+
+    @Test
+    @DisplayName("Should report the physical line a record started on")
+    void getRecordLine_multiLineRecord_shouldPointAtFirstLine() throws IOException {
+        try (CsvReader reader = new CsvReader(new StringReader("a\n\"x\ny\"\nz\n"))) {
+            reader.readRecord();
+            reader.readRecord();
+            assertThat(reader.getRecordLine()).isEqualTo(2);
+            reader.readRecord();
+            assertThat(reader.getRecordLine()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject an unterminated quoted field")
+    void readRecord_unterminatedQuote_shouldThrow() {
+        assertThatThrownBy(() -> readAll("a,\"never closed\n"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should read back what CsvWriter wrote")
+    void readRecord_writerOutput_shouldRoundTrip() throws IOException {
+        StringWriter out = new StringWriter();
+        CsvWriter writer = new CsvWriter(out);
+        writer.writeRecord("plain", "with,comma", "with \"quote\"", "multi\nline", null, 42);
+        writer.flush();
+
+        assertThat(readAll(out.toString())).containsExactly(
+                List.of("plain", "with,comma", "with \"quote\"", "multi\nline", "", "42"));
+    }
+
+    private static List<List<String>> readAll(String input) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try (CsvReader reader = new CsvReader(new StringReader(input))) {
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
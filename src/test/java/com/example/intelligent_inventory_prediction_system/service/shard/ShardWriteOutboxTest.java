@@ -0,0 +1,135 @@
+package com.example.intelligent_inventory_prediction_system.service.shard;
+
+import com.example.intelligent_inventory_prediction_system.model.Inventory;
+import com.example.intelligent_inventory_prediction_system.model.Product;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ShardWriteOutbox Tests")
+class ShardWriteOutboxTest {
+
+    private static final long RETRY_DELAY = 30_000;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private final List<DataSource> shards = new ArrayList<>();
+    private ShardedInventoryStore store;
+    private JdbcTemplate primary;
+    private TransactionTemplate transactionTemplate;
+    private ShardWriteOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 2; i++) {
+            shards.add(new DriverManagerDataSource(
+                    "jdbc:h2:mem:outbox-shard-" + i + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""));
+        }
+        store = new ShardedInventoryStore(List.copyOf(shards), 50);
+        store.initialize();
+        DataSource primaryDataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:outbox-primary-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        primary = new JdbcTemplate(primaryDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(primaryDataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        outbox = new ShardWriteOutbox(primaryDataSource, transactionManager, store, RETRY_DELAY, clock::get);
+        outbox.initialize();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        outbox.shutdown();
+        store.close();
+    }
+
+    @Test
+    @DisplayName("Should apply queued writes to the shard once the transaction commits")
+    void save_committed_shouldReachShard() {
+        Inventory saved = transactionTemplate.execute(status -> {
+            Inventory queued = outbox.save(inventory(7L, 40, 1L));
+            assertThat(store.findById(queued.getId())).isEmpty();
+            return queued;
+        });
+
+        assertThat(store.findById(saved.getId())).get().extracting(Inventory::getCurrentStock).isEqualTo(40);
+        assertThat(queuedCount()).isZero();
+
+        saved.setCurrentStock(25);
+        saved.setChangeSeq(2L);
+        transactionTemplate.executeWithoutResult(status -> outbox.save(saved));
+        assertThat(store.findById(saved.getId())).get().extracting(Inventory::getCurrentStock).isEqualTo(25);
+
+        transactionTemplate.executeWithoutResult(status -> outbox.deleteById(saved.getId(), 3L));
+        assertThat(store.findById(saved.getId())).isEmpty();
+        assertThat(queuedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should leave the shard untouched when the transaction rolls back")
+    void save_rolledBack_shouldNotReachShard() {
+        List<Long> ids = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            ids.add(outbox.save(inventory(7L, 40, 1L)).getId());
+            status.setRollbackOnly();
+        });
+
+        assertThat(store.findById(ids.get(0))).isEmpty();
+        assertThat(queuedCount()).isZero();
+        assertThatThrownBy(() -> outbox.save(inventory(8L, 1, 2L))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should keep writes a shard refused queued and apply them in change order on retry")
+    void retry_shouldApplyWritesThatFailedAfterCommit() {
+        Inventory saved = inventory(7L, 40, 1L);
+        JdbcTemplate owner = new JdbcTemplate(shards.get(store.ownerOf(InventoryShardRouter.bucketOfProduct(7L))));
+        owner.execute("ALTER TABLE inventory_shard RENAME TO inventory_shard_offline");
+
+        transactionTemplate.executeWithoutResult(status -> outbox.save(saved));
+        Inventory updated = inventory(7L, 15, 2L);
+        updated.setId(saved.getId());
+        transactionTemplate.executeWithoutResult(status -> outbox.save(updated));
+        assertThat(queuedCount()).isEqualTo(2);
+
+        owner.execute("ALTER TABLE inventory_shard_offline RENAME TO inventory_shard");
+        assertThat(outbox.retry()).isZero();
+        clock.addAndGet(RETRY_DELAY);
+        assertThat(outbox.retry()).isEqualTo(2);
+
+        assertThat(store.findById(saved.getId())).get()
+                .extracting(Inventory::getCurrentStock, Inventory::getChangeSeq)
+                .containsExactly(15, 2L);
+        assertThat(queuedCount()).isZero();
+    }
+
+    private int queuedCount() {
+        return primary.queryForObject("SELECT COUNT(*) FROM " + ShardWriteOutbox.TABLE, Integer.class);
+    }
+
+    private static Inventory inventory(long productId, int stock, long changeSeq) {
+        Product product = new Product();
+        product.setId(productId);
+        Inventory inventory = new Inventory();
+        inventory.setProduct(product);
+        inventory.setCurrentStock(stock);
+        inventory.setReorderThreshold(5);
+        inventory.setLastUpdated(LocalDateTime.now());
+        inventory.setChangeSeq(changeSeq);
+        return inventory;
+    }
+}
@@ -0,0 +1,243 @@
+package com.example.intelligent_inventory_prediction_system.service.shard;
+
+import com.example.intelligent_inventory_prediction_system.dto.search.InventorySearchCriteria;
+import com.example.intelligent_inventory_prediction_system.model.Inventory;
+import com.example.intelligent_inventory_prediction_system.model.Product;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("ShardedInventoryStore Tests")
+class ShardedInventoryStoreTest {
+
+    private final List<DataSource> databases = new ArrayList<>();
+    private final List<ShardedInventoryStore> stores = new ArrayList<>();
+    private ShardedInventoryStore store;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            databases.add(new DriverManagerDataSource(
+                    "jdbc:h2:mem:shard-" + i + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""));
+        }
+        store = open(databases.subList(0, 2));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (ShardedInventoryStore opened : stores) {
+            opened.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should store inventories on the shard of their product and find them by id and product")
+    void save_shouldRouteByProduct() {
+        Inventory saved = save(store, inventory(7L, 40, 10));
+
+        assertThat(saved.getId()).isNotNull();
+        assertThat(InventoryShardRouter.bucketOfId(saved.getId())).isEqualTo(InventoryShardRouter.bucketOfProduct(7L));
+        assertThat(store.findById(saved.getId())).get()
+                .extracting(Inventory::getCurrentStock, inventory -> inventory.getProduct().getId())
+                .containsExactly(40, 7L);
+        assertThat(store.find(InventoryShardQuery.hasProductId(7L))).extracting(Inventory::getId)
+                .containsExactly(saved.getId());
+
+        saved.setCurrentStock(5);
+        save(store, saved);
+        assertThat(store.findById(saved.getId())).get().extracting(Inventory::getCurrentStock).isEqualTo(5);
+
+        store.deleteById(saved.getId());
+        assertThat(store.findById(saved.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should ignore writes applied again or out of change order")
+    void write_replayed_shouldKeepLatestChange() {
+        Inventory saved = inventory(7L, 40, 10);
+        saved.setChangeSeq(5L);
+        store.assignId(saved);
+        store.write(saved, true);
+        store.write(saved, true);
+
+        Inventory stale = inventory(7L, 1, 10);
+        stale.setId(saved.getId());
+        stale.setChangeSeq(4L);
+        store.write(stale, false);
+        assertThat(store.findById(saved.getId())).get()
+                .extracting(Inventory::getCurrentStock, Inventory::getChangeSeq)
+                .containsExactly(40, 5L);
+
+        saved.setCurrentStock(30);
+        saved.setChangeSeq(6L);
+        store.write(saved, false);
+        assertThat(store.findById(saved.getId())).get().extracting(Inventory::getCurrentStock).isEqualTo(30);
+
+        store.deleteById(saved.getId());
+        store.deleteById(saved.getId());
+        store.write(saved, false);
+        assertThat(store.findById(saved.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should merge sorted pages from every shard")
+    void find_paged_shouldMergeShardsInSortOrder() {
+        List<Inventory> all = seed(store, 300);
+        assertThat(store.rowCounts()).doesNotContain(0L);
+
+        Page<Inventory> page = store.find(InventoryShardQuery.hasStockBetween(20, 80),
+                PageRequest.of(2, 15, Sort.by(Sort.Direction.DESC, "currentStock")));
+
+        List<Inventory> expected = all.stream()
+                .filter(inventory -> inventory.getCurrentStock() >= 20 && inventory.getCurrentStock() <= 80)
+                .sorted(Comparator.comparing(Inventory::getCurrentStock).reversed().thenComparing(Inventory::getId))
+                .toList();
+        assertThat(page.getTotalElements()).isEqualTo(expected.size());
+        assertThat(page.getContent()).extracting(Inventory::getId)
+                .containsExactlyElementsOf(expected.subList(30, 45).stream().map(Inventory::getId).toList());
+        assertThat(store.find(InventoryShardQuery.isBelowReorderThreshold())).extracting(Inventory::getId)
+                .isSorted()
+                .hasSize((int) all.stream().filter(i -> i.getCurrentStock() < i.getReorderThreshold()).count());
+        assertThat(store.find(InventoryShardQuery.matchesCriteria(InventorySearchCriteria.builder().build())))
+                .hasSize(300);
+    }
+
+    @Test
+    @DisplayName("Should refuse to move an inventory to a product in another bucket")
+    void save_productChange_shouldBeRejected() {
+        Inventory saved = save(store, inventory(1L, 10, 5));
+        long otherProduct = 2;
+        while (InventoryShardRouter.bucketOfProduct(otherProduct) == InventoryShardRouter.bucketOfProduct(1L)) {
+            otherProduct++;
+        }
+        saved.getProduct().setId(otherProduct);
+
+        assertThatThrownBy(() -> save(store, saved)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should rebalance onto an added shard without losing or duplicating rows")
+    void rebalance_addedShard_shouldKeepEveryRowOnce() {
+        List<Inventory> all = seed(store, 200);
+        ShardedInventoryStore grown = open(databases);
+        InventoryReshardService reshardService = new InventoryReshardService(grown, 7);
+
+        List<InventoryReshardService.BucketMove> moves = reshardService.rebalance();
+
+        assertThat(moves).isNotEmpty().allMatch(move -> move.toShard() == 2);
+        assertThat(grown.bucketCounts()).containsExactly(342, 341, 341);
+        assertThat(grown.find(InventoryShardQuery.all())).extracting(Inventory::getId)
+                .containsExactlyElementsOf(all.stream().map(Inventory::getId).sorted().toList());
+        assertThat(grown.rowCounts()).doesNotContain(0L);
+        for (Inventory inventory : all) {
+            assertThat(grown.findById(inventory.getId())).isPresent();
+        }
+    }
+
+    @Test
+    @DisplayName("Should carry writes made during a move over to the new shard")
+    void moveBucket_writesDuringCopy_shouldBeKept() {
+        long productId = 11;
+        int bucket = InventoryShardRouter.bucketOfProduct(productId);
+        Inventory updated = save(store, inventory(productId, 10, 1));
+        Inventory deleted = save(store, inventory(productId, 20, 1));
+        int source = store.ownerOf(bucket);
+        int target = 1 - source;
+        InventoryReshardService reshardService = new InventoryReshardService(store, 1);
+
+        store.beginMigration(bucket, target);
+        updated.setCurrentStock(99);
+        save(store, updated);
+        store.deleteById(deleted.getId());
+        Inventory inserted = save(store, inventory(productId, 30, 1));
+        assertThat(store.find(InventoryShardQuery.hasProductId(productId))).hasSize(2);
+
+        reshardService.moveBucket(bucket, target);
+
+        assertThat(store.ownerOf(bucket)).isEqualTo(target);
+        assertThat(store.find(InventoryShardQuery.hasProductId(productId)))
+                .extracting(Inventory::getId, Inventory::getCurrentStock)
+                .containsExactlyInAnyOrder(
+                        tuple(updated.getId(), 99),
+                        tuple(inserted.getId(), 30));
+        assertThat(new JdbcTemplate(databases.get(source))
+                .queryForObject("SELECT COUNT(*) FROM inventory_shard WHERE bucket = ?", Integer.class, bucket))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Should read changed rows from every shard in change order and backfill unstamped rows")
+    void findChangedBetween_shouldMergeShardsInChangeOrder() {
+        List<Inventory> saved = seed(store, 20);
+        long changeSeq = 0;
+        for (Inventory inventory : saved) {
+            inventory.setChangeSeq(++changeSeq);
+            save(store, inventory);
+        }
+        assertThat(saved).extracting(inventory -> store.ownerOf(InventoryShardRouter.bucketOfId(inventory.getId())))
+                .containsOnly(0, 1);
+
+        assertThat(store.findChangedBetween(4, 15, 5)).extracting(Inventory::getChangeSeq)
+                .containsExactly(5L, 6L, 7L, 8L, 9L);
+        assertThat(store.maxChangeSequence()).isEqualTo(20);
+
+        save(store, inventory(99L, 1, 1));
+        AtomicLong next = new AtomicLong(100);
+        assertThat(store.assignChangeSequences(next::incrementAndGet)).isEqualTo(1);
+        assertThat(store.findChangedBetween(20, 200, 5)).extracting(Inventory::getChangeSeq).containsExactly(101L);
+    }
+
+    private ShardedInventoryStore open(List<DataSource> dataSources) {
+        ShardedInventoryStore opened = new ShardedInventoryStore(List.copyOf(dataSources), 50);
+        opened.initialize();
+        stores.add(opened);
+        return opened;
+    }
+
+    private static Inventory save(ShardedInventoryStore target, Inventory inventory) {
+        boolean created = inventory.getId() == null;
+        target.assignId(inventory);
+        target.write(inventory, created);
+        return inventory;
+    }
+
+    private static List<Inventory> seed(ShardedInventoryStore target, int count) {
+        Random random = new Random(42);
+        List<Inventory> saved = new ArrayList<>(count);
+        for (long productId = 1; productId <= count; productId++) {
+            saved.add(save(target, inventory(productId, random.nextInt(100), random.nextInt(50))));
+        }
+        return saved;
+    }
+
+    private static Inventory inventory(long productId, int stock, int reorderThreshold) {
+        Product product = new Product();
+        product.setId(productId);
+        Inventory inventory = new Inventory();
+        inventory.setProduct(product);
+        inventory.setCurrentStock(stock);
+        inventory.setReorderThreshold(reorderThreshold);
+        inventory.setLastUpdated(LocalDateTime.now());
+        return inventory;
+    }
+}
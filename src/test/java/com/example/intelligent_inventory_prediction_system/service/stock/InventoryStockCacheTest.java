@@ -0,0 +1,85 @@
+package com.example.intelligent_inventory_prediction_system.service.stock;
+
+import com.example.intelligent_inventory_prediction_system.model.Inventory;
+import com.example.intelligent_inventory_prediction_system.model.Product;
+import com.example.intelligent_inventory_prediction_system.model.ProductStatus;
+import com.example.intelligent_inventory_prediction_system.repository.InventoryRepository;
+import com.example.intelligent_inventory_prediction_system.repository.ProductRepository;
+import com.example.intelligent_inventory_prediction_system.service.shard.ShardedInventoryStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest
+@DisplayName("InventoryStockCache Tests")
+class InventoryStockCacheTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Test
+    @DisplayName("Should load stock levels in keyset batches and skip rows without stock")
+    void load_shouldReadAllBatches() {
+        Inventory low = save("Cable", 3);
+        Inventory high = save("Monitor", 80);
+        Inventory mid = save("Keyboard", 25);
+        Inventory unknown = save("Mouse", null);
+        InventoryStockCache cache = new InventoryStockCache(inventoryRepository, mock(ShardedInventoryStore.class), new SimpleMeterRegistry(), true, 2, 1000);
+
+        cache.load();
+
+        assertThat(cache.isLoaded()).isTrue();
+        assertThat(cache.findStock(mid.getId())).isEqualTo(25);
+        assertThat(cache.findStock(unknown.getId())).isEqualTo(StockTable.MISSING);
+        assertThat(cache.findIdsByStockRange(0, 100)).containsExactly(low.getId(), mid.getId(), high.getId());
+    }
+
+    @Test
+    @DisplayName("Should stay unloaded when disabled")
+    void load_whenDisabled_shouldStayUnloaded() {
+        save("Cable", 3);
+        InventoryStockCache cache = new InventoryStockCache(inventoryRepository, mock(ShardedInventoryStore.class), new SimpleMeterRegistry(), false, 2, 1000);
+
+        cache.load();
+
+        assertThat(cache.isLoaded()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should leave ranges with more ids than one lookup batch to the database")
+    void findIdsByStockRange_largeRange_shouldReturnNull() {
+        Inventory low = save("Cable", 3);
+        save("Monitor", 80);
+        save("Keyboard", 25);
+        InventoryStockCache cache = new InventoryStockCache(inventoryRepository, mock(ShardedInventoryStore.class),
+                new SimpleMeterRegistry(), true, 2, 2);
+
+        cache.load();
+
+        assertThat(cache.findIdsByStockRange(0, 100)).isNull();
+        assertThat(cache.findIdsByStockRange(0, 10)).containsExactly(low.getId());
+    }
+
+    private Inventory save(String name, Integer stock) {
+        Product product = new Product();
+        product.setName(name);
+        product.setCategory("Electronics");
+        product.setPrice(10.0);
+        product.setStatus(ProductStatus.AVAILABLE);
+        Inventory inventory = new Inventory();
+        inventory.setProduct(productRepository.save(product));
+        inventory.setCurrentStock(stock);
+        inventory.setLastUpdated(LocalDateTime.now());
+        return inventoryRepository.save(inventory);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.intelligent_inventory_prediction_system.service.stock;
+
+import com.example.intelligent_inventory_prediction_system.model.Inventory;
+import com.example.intelligent_inventory_prediction_system.model.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InventoryVersionCache Tests")
+class InventoryVersionCacheTest {
+
+    private static final long FILL_DELAY = 1_000;
+    private static final long TTL = 60_000;
+
+    private final AtomicLong now = new AtomicLong(10_000);
+    private final InventoryVersionCache cache = new InventoryVersionCache(true, FILL_DELAY, TTL, now::get);
+
+    @Test
+    @DisplayName("Should derive a different version whenever the representation changes")
+    void of_shouldTrackEveryField() {
+        Inventory inventory = inventory(12);
+        InventoryVersion version = InventoryVersion.of(inventory);
+
+        assertThat(InventoryVersion.of(inventory(12))).isEqualTo(version);
+        assertThat(InventoryVersion.of(inventory(13)).tag()).isNotEqualTo(version.tag());
+        inventory.getProduct().setId(8L);
+        assertThat(InventoryVersion.of(inventory).tag()).isNotEqualTo(version.tag());
+    }
+
+    @Test
+    @DisplayName("Should serve a stored version until the inventory is written")
+    void find_shouldHitUntilInvalidated() {
+        InventoryVersion version = InventoryVersion.of(inventory(12));
+        cache.store(1L, cache.token(1L), version);
+
+        assertThat(cache.find(1L)).isEqualTo(version);
+
+        cache.onStockChanged(new StockChange(1L, 13, 5));
+        assertThat(cache.find(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should stop serving a stored version once it expires")
+    void find_afterTtl_shouldMiss() {
+        InventoryVersion version = InventoryVersion.of(inventory(12));
+        cache.store(1L, cache.token(1L), version);
+
+        now.addAndGet(TTL - 1);
+        assertThat(cache.find(1L)).isEqualTo(version);
+        now.incrementAndGet();
+        assertThat(cache.find(1L)).isNull();
+        assertThat(cache.size()).isZero();
+
+        cache.store(1L, cache.token(1L), version);
+        assertThat(cache.find(1L)).isEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("Should drop a version loaded before a concurrent write or within the replica lag window")
+    void store_racingWrite_shouldNotCacheStaleVersion() {
+        Object token = cache.token(1L);
+        cache.onStockChanged(new StockChange(1L, 13, 5));
+        cache.store(1L, token, InventoryVersion.of(inventory(12)));
+        assertThat(cache.find(1L)).isNull();
+
+        cache.store(1L, cache.token(1L), InventoryVersion.of(inventory(13)));
+        assertThat(cache.find(1L)).isNull();
+
+        now.addAndGet(FILL_DELAY);
+        InventoryVersion settled = InventoryVersion.of(inventory(13));
+        cache.store(1L, cache.token(1L), settled);
+        assertThat(cache.find(1L)).isEqualTo(settled);
+    }
+
+    @Test
+    @DisplayName("Should change the collection version on every write and withhold it while replicas may lag")
+    void collectionVersion_shouldFollowWrites() {
+        String initial = cache.collectionVersion();
+        assertThat(initial).isNotNull();
+
+        cache.onInventoryRemoved(3L);
+        assertThat(cache.collectionVersion()).isNull();
+
+        now.addAndGet(FILL_DELAY);
+        assertThat(cache.collectionVersion()).isNotNull().isNotEqualTo(initial);
+    }
+
+    @Test
+    @DisplayName("Should move the collection version on once its TTL window passes even without writes")
+    void collectionVersion_afterTtl_shouldChange() {
+        now.set(TTL);
+        String initial = cache.collectionVersion();
+
+        now.addAndGet(TTL - 1);
+        assertThat(cache.collectionVersion()).isEqualTo(initial);
+        now.incrementAndGet();
+        assertThat(cache.collectionVersion()).isNotNull().isNotEqualTo(initial);
+    }
+
+    private static Inventory inventory(int stock) {
+        Product product = new Product();
+        product.setId(7L);
+        Inventory inventory = new Inventory();
+        inventory.setId(1L);
+        inventory.setProduct(product);
+        inventory.setCurrentStock(stock);
+        inventory.setReorderThreshold(5);
+        inventory.setLastUpdated(LocalDateTime.of(2025, 1, 1, 12, 0));
+        return inventory;
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.intelligent_inventory_prediction_system.service.stock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("StockTable Tests")
+class StockTableTest {
+
+    @Test
+    @DisplayName("Should return stored stock and MISSING for unknown ids")
+    void get_shouldReturnStoredStock() {
+        StockTable table = new StockTable();
+        table.put(1L, 10);
+        table.put(2L, 0);
+
+        assertThat(table.get(1L)).isEqualTo(10);
+        assertThat(table.get(2L)).isZero();
+        assertThat(table.get(3L)).isEqualTo(StockTable.MISSING);
+        assertThat(table.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep the existing value on putIfAbsent")
+    void putIfAbsent_shouldNotOverwrite() {
+        StockTable table = new StockTable();
+        table.put(1L, 10);
+
+        assertThat(table.putIfAbsent(1L, 99)).isFalse();
+        assertThat(table.putIfAbsent(2L, 5)).isTrue();
+        assertThat(table.get(1L)).isEqualTo(10);
+        assertThat(table.get(2L)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should return range ids ordered by stock then id after updates and removals")
+    void idsInRange_shouldReflectUpdatesAndRemovals() {
+        StockTable table = new StockTable();
+        table.put(1L, 50);
+        table.put(2L, 10);
+        table.put(3L, 30);
+        table.put(4L, 30);
+        table.put(5L, 70);
+
+        table.put(5L, 20);
+        table.put(2L, 60);
+        table.remove(3L);
+
+        assertThat(table.idsInRange(20, 60)).containsExactly(5L, 4L, 1L, 2L);
+        assertThat(table.idsInRange(0, 19)).isEmpty();
+        assertThat(table.countInRange(30, 50)).isEqualTo(2);
+        assertThat(table.remove(3L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should match a reference map through growth, churn and tombstone reuse")
+    void randomOperations_shouldMatchReferenceMap() {
+        StockTable table = new StockTable();
+        Map<Long, Integer> reference = new HashMap<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 50_000; i++) {
+            long id = 1 + random.nextInt(5_000);
+            if (random.nextInt(5) == 0) {
+                assertThat(table.remove(id)).isEqualTo(reference.remove(id) != null);
+            } else {
+                int stock = random.nextInt(200);
+                table.put(id, stock);
+                reference.put(id, stock);
+            }
+        }
+
+        assertThat(table.size()).isEqualTo(reference.size());
+        reference.forEach((id, stock) -> assertThat(table.get(id)).isEqualTo(stock));
+        long[] expected = reference.entrySet().stream()
+                .filter(entry -> entry.getValue() >= 40 && entry.getValue() <= 120)
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+                .mapToLong(Map.Entry::getKey)
+                .toArray();
+        assertThat(table.idsInRange(40, 120)).containsExactly(expected);
+    }
+
+    @Test
+    @DisplayName("Should keep the index ordered through page splits, drops and rehashes on a large catalogue")
+    void randomOperations_onLargeCatalogue_shouldKeepIndexOrdered() {
+        StockTable table = new StockTable();
+        Map<Long, Integer> reference = new HashMap<>();
+        Random random = new Random(11);
+        long[] ids = new long[60_000];
+        int[] stocks = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i + 1;
+            stocks[i] = random.nextInt(500);
+            reference.put(ids[i], stocks[i]);
+        }
+        table.putAllIfAbsent(ids, stocks, ids.length);
+
+        for (int i = 0; i < 200_000; i++) {
+            long id = 1 + random.nextInt(80_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(table.remove(id)).isEqualTo(reference.remove(id) != null);
+            } else {
+                int stock = random.nextInt(500);
+                table.put(id, stock);
+                reference.put(id, stock);
+            }
+        }
+
+        assertThat(table.size()).isEqualTo(reference.size());
+        long[] expected = reference.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+                .mapToLong(Map.Entry::getKey)
+                .toArray();
+        assertThat(table.idsInRange(0, Integer.MAX_VALUE)).containsExactly(expected);
+        assertThat(table.countInRange(100, 199)).isEqualTo(
+                (int) reference.values().stream().filter(stock -> stock >= 100 && stock <= 199).count());
+    }
+
+    @Test
+    @DisplayName("Should bulk load only absent ids and leave concurrent writes in place")
+    void putAllIfAbsent_shouldSkipPresentIds() {
+        StockTable table = new StockTable();
+        table.put(2L, 99);
+
+        long[] added = table.putAllIfAbsent(new long[]{3L, 1L, 2L, 3L}, new int[]{5, 5, 7, 6}, 4);
+
+        assertThat(added).containsExactly(3L, 1L);
+        assertThat(table.get(2L)).isEqualTo(99);
+        assertThat(table.get(3L)).isEqualTo(5);
+        assertThat(table.idsInRange(0, 100)).containsExactly(1L, 3L, 2L);
+        assertThatThrownBy(() -> table.putAllIfAbsent(new long[]{4L}, new int[]{-1}, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should stay under 32 bytes per SKU")
+    void footprint_shouldStayUnderBudget() {
+        StockTable table = new StockTable();
+        for (long id = 1; id <= 100_000; id++) {
+            table.put(id, (int) (id % 1_000));
+        }
+
+        assertThat(table.footprintBytes() / table.size()).isLessThan(32);
+    }
+
+    @Test
+    @DisplayName("Should bulk load a large catalogue and stay under 32 bytes per SKU")
+    void putAllIfAbsent_largeCatalogue_shouldStayUnderBudget() {
+        int count = 500_000;
+        long[] ids = new long[count];
+        int[] stocks = new int[count];
+        Random random = new Random(3);
+        for (int i = 0; i < count; i++) {
+            ids[i] = i + 1;
+            stocks[i] = random.nextInt(1_000);
+        }
+        StockTable table = new StockTable();
+
+        assertThat(table.putAllIfAbsent(ids, stocks, count)).hasSize(count);
+
+        assertThat(table.size()).isEqualTo(count);
+        assertThat(table.countInRange(0, 999)).isEqualTo(count);
+        assertThat(table.footprintBytes() / table.size()).isLessThan(32);
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive ids and negative stock")
+    void put_withInvalidInput_shouldThrow() {
+        StockTable table = new StockTable();
+
+        assertThatThrownBy(() -> table.put(0L, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> table.put(1L, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.intelligent_inventory_prediction_system.service.stock;
+
+import com.example.intelligent_inventory_prediction_system.service.change.ChangeLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("StockWriteBehindBuffer Tests")
+class StockWriteBehindBufferTest {
+
+    @TempDir
+    Path walDirectory;
+
+    private final List<StockWriteBehindBuffer> buffers = new ArrayList<>();
+    private final List<StockChange> published = new CopyOnWriteArrayList<>();
+    private final ChangeLog changeLog = mock(ChangeLog.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:write-behind-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE inventory (id BIGINT PRIMARY KEY, product_id BIGINT, current_stock INT, "
+                + "reorder_threshold INT, last_updated TIMESTAMP, change_seq BIGINT)");
+        jdbcTemplate.update("INSERT INTO inventory VALUES (1, 1, 10, 5, NULL, 1), (2, 2, 20, 5, NULL, 2), "
+                + "(3, 3, 30, 5, NULL, 3)");
+        when(changeLog.next(anyInt())).thenReturn(100L);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (StockWriteBehindBuffer buffer : buffers) {
+            buffer.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should let a later absolute level win and add up deltas")
+    void then_shouldCoalesce() {
+        assertThat(BufferedStockUpdate.delta(4).then(BufferedStockUpdate.absolute(7)))
+                .isEqualTo(BufferedStockUpdate.absolute(7));
+        assertThat(BufferedStockUpdate.absolute(7).then(BufferedStockUpdate.delta(-2)))
+                .isEqualTo(BufferedStockUpdate.absolute(5));
+        assertThat(BufferedStockUpdate.delta(3).then(BufferedStockUpdate.delta(-5)))
+                .isEqualTo(BufferedStockUpdate.delta(-2));
+    }
+
+    @Test
+    @DisplayName("Should write coalesced updates in one flush and publish the resulting levels")
+    void flush_shouldWriteCoalescedUpdates() throws IOException {
+        StockWriteBehindBuffer buffer = start();
+        buffer.submit(1, BufferedStockUpdate.delta(5));
+        buffer.submit(1, BufferedStockUpdate.delta(-2));
+        buffer.submit(2, BufferedStockUpdate.delta(100));
+        buffer.submit(2, BufferedStockUpdate.absolute(8));
+        buffer.submit(2, BufferedStockUpdate.delta(1));
+        buffer.submit(3, BufferedStockUpdate.delta(-50));
+        assertThat(buffer.pendingCount()).isEqualTo(3);
+        assertThat(stock(1)).isEqualTo(10);
+
+        buffer.flush();
+
+        assertThat(buffer.pendingCount()).isZero();
+        assertThat(stock(1)).isEqualTo(13);
+        assertThat(stock(2)).isEqualTo(9);
+        assertThat(stock(3)).isZero();
+        assertThat(published).extracting(StockChange::inventoryId, StockChange::currentStock)
+                .containsExactlyInAnyOrder(tuple(1L, 13), tuple(2L, 9), tuple(3L, 0));
+        assertThat(segments()).hasSize(1);
+        assertThat(jdbcTemplate.queryForList("SELECT change_seq FROM inventory", Long.class))
+                .containsExactlyInAnyOrder(100L, 101L, 102L);
+    }
+
+    @Test
+    @DisplayName("Should drop updates for inventories deleted before the flush")
+    void flush_deletedInventory_shouldBeDropped() {
+        StockWriteBehindBuffer buffer = start();
+        buffer.submit(1, BufferedStockUpdate.absolute(42));
+        buffer.submit(99, BufferedStockUpdate.absolute(7));
+
+        buffer.flush();
+
+        assertThat(stock(1)).isEqualTo(42);
+        assertThat(published).extracting(StockChange::inventoryId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should replay acknowledged updates after a crash and ignore a torn record")
+    void start_afterCrash_shouldReplayLog() throws IOException {
+        StockWriteBehindBuffer crashed = start();
+        crashed.submit(1, BufferedStockUpdate.delta(7));
+        crashed.submit(2, BufferedStockUpdate.absolute(3));
+        crashed.submit(1, BufferedStockUpdate.delta(1));
+        buffers.remove(crashed);
+        Path segment = segments().get(0);
+        Files.write(segment, new byte[]{1, 2, 3}, StandardOpenOption.APPEND);
+
+        start();
+
+        assertThat(stock(1)).isEqualTo(18);
+        assertThat(stock(2)).isEqualTo(3);
+        assertThat(segments()).doesNotContain(segment);
+    }
+
+    @Test
+    @DisplayName("Should not replay segments a committed flush covered when the crash came before their deletion")
+    void start_afterCrashBeforeSegmentDeletion_shouldSkipFlushedSegments() throws IOException {
+        StockWriteBehindBuffer crashed = start();
+        crashed.submit(1, BufferedStockUpdate.delta(5));
+        Path segment = segments().get(0);
+        byte[] flushedRecords = Files.readAllBytes(segment);
+        crashed.flush();
+        buffers.remove(crashed);
+        Files.write(segment, flushedRecords);
+
+        StockWriteBehindBuffer restarted = start();
+        restarted.submit(2, BufferedStockUpdate.delta(1));
+        restarted.flush();
+
+        assertThat(stock(1)).isEqualTo(15);
+        assertThat(stock(2)).isEqualTo(21);
+        assertThat(segments()).doesNotContain(segment);
+    }
+
+    @Test
+    @DisplayName("Should clamp and count deltas that leave the stock range by the time they are written")
+    void flush_outOfRangeDelta_shouldBeClampedAndCounted() {
+        StockWriteBehindBuffer buffer = start();
+        buffer.submit(1, BufferedStockUpdate.delta(-4));
+        buffer.submit(2, BufferedStockUpdate.delta(-25));
+        buffer.submit(3, BufferedStockUpdate.absolute(5));
+        buffer.submit(3, BufferedStockUpdate.delta(-9));
+        assertThat(buffer.pending(3)).isEqualTo(BufferedStockUpdate.absolute(-4));
+
+        buffer.flush();
+
+        assertThat(stock(1)).isEqualTo(6);
+        assertThat(stock(2)).isZero();
+        assertThat(stock(3)).isZero();
+        assertThat(meterRegistry.get("inventory.stock.write-behind.clamped").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("inventory.stock.write-behind.rows").counter().count()).isEqualTo(3);
+    }
+
+    private StockWriteBehindBuffer start() {
+        StockChangePublisher publisher = new StockChangePublisher(List.of(new StockChangeListener() {
+            @Override
+            public void onStockChanged(StockChange change) {
+                published.add(change);
+            }
+
+            @Override
+            public void onInventoryRemoved(long inventoryId) {
+            }
+        }));
+        StockWriteBehindBuffer buffer = new StockWriteBehindBuffer(dataSource,
+                new DataSourceTransactionManager(dataSource), publisher, changeLog, meterRegistry,
+                true, 60_000, 1_000, walDirectory.toString(), true);
+        buffer.afterSingletonsInstantiated();
+        buffers.add(buffer);
+        return buffer;
+    }
+
+    private Integer stock(long inventoryId) {
+        return jdbcTemplate.queryForObject("SELECT current_stock FROM inventory WHERE id = ?", Integer.class, inventoryId);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(walDirectory)) {
+            return files.sorted().toList();
+        }
+    }
+}